@@ -24,10 +24,15 @@ import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.spi.command.BoundedCommandQueue;
+import org.eclipse.edc.spi.command.Command;
+import org.eclipse.edc.spi.command.CommandQueue;
+import org.eclipse.edc.spi.command.CommandQueueFactory;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -83,11 +88,26 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1)); // TODO: make configurable
     }
 
+    @Provider(isDefault = true)
+    public CommandQueueFactory commandQueueFactory() {
+        return new CommandQueueFactory() {
+            @Override
+            public <C extends Command> CommandQueue<C> create(String name, Class<C> commandType) {
+                return new BoundedCommandQueue<>(10);
+            }
+        };
+    }
+
     @Provider(isDefault = true)
     public Vault vault() {
         return new NoopVault();
     }
 
+    @Provider(isDefault = true)
+    public VaultCacheMetrics vaultCacheMetrics() {
+        return VaultCacheMetrics.noop();
+    }
+
     @Provider(isDefault = true)
     public PrivateKeyResolver privateKeyResolver() {
         return new NoopPrivateKeyResolver();
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.core;
 
 import org.eclipse.edc.connector.core.base.CommandHandlerRegistryImpl;
+import org.eclipse.edc.connector.core.base.CounterPartyDispatchGovernor;
 import org.eclipse.edc.connector.core.base.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.base.agent.ParticipantAgentServiceImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
@@ -62,10 +63,28 @@ public class CoreServicesExtension implements ServiceExtension {
     public static final String THREADPOOL_SIZE_SETTING = "edc.core.system.health.check.threadpool-size";
     @Setting
     public static final String HOSTNAME_SETTING = "edc.hostname";
+    @Setting(value = "Maximum number of messages in flight to a single counter-party", type = "int", defaultValue = DEFAULT_DISPATCH_MAX_IN_FLIGHT + "")
+    public static final String DISPATCH_MAX_IN_FLIGHT_SETTING = "edc.core.dispatch.counterparty.max-in-flight";
+    @Setting(value = "Maximum number of messages to a single counter-party that wait for a free slot before further ones are rejected", type = "int", defaultValue = DEFAULT_DISPATCH_MAX_QUEUED + "")
+    public static final String DISPATCH_MAX_QUEUED_SETTING = "edc.core.dispatch.counterparty.max-queued";
+    @Setting(value = "Time in milliseconds a message waits for a free slot before it fails and the counter-party is deferred for as long", type = "long", defaultValue = DEFAULT_DISPATCH_MAX_QUEUE_WAIT_MILLIS + "")
+    public static final String DISPATCH_MAX_QUEUE_WAIT_SETTING = "edc.core.dispatch.counterparty.max-queue-wait";
+    @Setting(value = "Number of consecutive failed messages after which a counter-party is considered unavailable", type = "int", defaultValue = DEFAULT_DISPATCH_FAILURE_THRESHOLD + "")
+    public static final String DISPATCH_FAILURE_THRESHOLD_SETTING = "edc.core.dispatch.counterparty.failure-threshold";
+    @Setting(value = "Time in milliseconds for which an unavailable counter-party is not sent any messages", type = "long", defaultValue = DEFAULT_DISPATCH_OPEN_DELAY_MILLIS + "")
+    public static final String DISPATCH_OPEN_DELAY_SETTING = "edc.core.dispatch.counterparty.open-delay";
+    @Setting(value = "Time in milliseconds without messages after which the state kept for a counter-party is dropped", type = "long", defaultValue = DEFAULT_DISPATCH_IDLE_TIMEOUT_MILLIS + "")
+    public static final String DISPATCH_IDLE_TIMEOUT_SETTING = "edc.core.dispatch.counterparty.idle-timeout";
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
     private static final String DEFAULT_HOSTNAME = "localhost";
+    private static final int DEFAULT_DISPATCH_MAX_IN_FLIGHT = 16;
+    private static final int DEFAULT_DISPATCH_MAX_QUEUED = 256;
+    private static final long DEFAULT_DISPATCH_MAX_QUEUE_WAIT_MILLIS = 30_000;
+    private static final int DEFAULT_DISPATCH_FAILURE_THRESHOLD = 5;
+    private static final long DEFAULT_DISPATCH_OPEN_DELAY_MILLIS = 30_000;
+    private static final long DEFAULT_DISPATCH_IDLE_TIMEOUT_MILLIS = 600_000;
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
@@ -119,8 +138,17 @@ public class CoreServicesExtension implements ServiceExtension {
     }
 
     @Provider
-    public RemoteMessageDispatcherRegistry remoteMessageDispatcherRegistry() {
-        return new RemoteMessageDispatcherRegistryImpl();
+    public RemoteMessageDispatcherRegistry remoteMessageDispatcherRegistry(ServiceExtensionContext context) {
+        var governor = CounterPartyDispatchGovernor.Builder.newInstance()
+                .maxInFlight(context.getSetting(DISPATCH_MAX_IN_FLIGHT_SETTING, DEFAULT_DISPATCH_MAX_IN_FLIGHT))
+                .maxQueued(context.getSetting(DISPATCH_MAX_QUEUED_SETTING, DEFAULT_DISPATCH_MAX_QUEUED))
+                .maxQueueWait(Duration.ofMillis(context.getSetting(DISPATCH_MAX_QUEUE_WAIT_SETTING, DEFAULT_DISPATCH_MAX_QUEUE_WAIT_MILLIS)))
+                .failureThreshold(context.getSetting(DISPATCH_FAILURE_THRESHOLD_SETTING, DEFAULT_DISPATCH_FAILURE_THRESHOLD))
+                .openDelay(Duration.ofMillis(context.getSetting(DISPATCH_OPEN_DELAY_SETTING, DEFAULT_DISPATCH_OPEN_DELAY_MILLIS)))
+                .idleTimeout(Duration.ofMillis(context.getSetting(DISPATCH_IDLE_TIMEOUT_SETTING, DEFAULT_DISPATCH_IDLE_TIMEOUT_MILLIS)))
+                .monitor(context.getMonitor())
+                .build();
+        return new RemoteMessageDispatcherRegistryImpl(governor);
     }
 
     @Provider
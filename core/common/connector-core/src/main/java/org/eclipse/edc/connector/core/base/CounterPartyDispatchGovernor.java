@@ -0,0 +1,329 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.base;
+
+import dev.failsafe.CircuitBreaker;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.http.EdcHttpClientException;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Governs outbound messages per counter-party address. Every counter-party gets a bulkhead, which limits the number of
+ * messages that are in flight to it and queues the ones that exceed that limit, and a circuit breaker, which rejects
+ * messages right away after a number of consecutive failures until a delay has passed. This way a single unresponsive
+ * counter-party cannot tie up connections and retries that are needed for the others.
+ * <p>
+ * Only failures that show the counter-party is unreachable or overloaded, i.e. transport errors, timeouts and 5xx
+ * responses, count towards opening the circuit breaker. A message that waits in the queue for longer than
+ * {@code maxQueueWait} is failed, and the counter-party is reported as unavailable for that long, so that callers
+ * defer further messages instead of queueing them. Counter-parties without any traffic for {@code idleTimeout} are
+ * forgotten.
+ */
+public class CounterPartyDispatchGovernor {
+
+    private final Map<String, CounterParty> counterParties = new ConcurrentHashMap<>();
+    private int maxInFlight = 16;
+    private int maxQueued = 256;
+    private Duration maxQueueWait = Duration.ofSeconds(30);
+    private int failureThreshold = 5;
+    private Duration openDelay = Duration.ofSeconds(30);
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private Monitor monitor;
+    private volatile long lastEviction = System.nanoTime();
+
+    private CounterPartyDispatchGovernor() {
+    }
+
+    /**
+     * Sends a message to the counter-party as soon as a slot is free and its circuit breaker is not open.
+     *
+     * @param connectorAddress the counter-party address
+     * @param send             sends the message when invoked
+     * @return the future returned by {@code send}, or a failed future if the message has been rejected
+     */
+    public <T> CompletableFuture<T> dispatch(String connectorAddress, Supplier<CompletableFuture<T>> send) {
+        var now = System.nanoTime();
+        evictIdle(now);
+        var counterParty = counterParties.compute(connectorAddress, (address, existing) -> {
+            var result = existing == null ? new CounterParty(address) : existing;
+            result.lastUsed = now;
+            return result;
+        });
+        if (counterParty.breaker.isOpen()) {
+            return failedFuture(unavailable(connectorAddress));
+        }
+
+        var pending = new Pending<>(counterParty, send);
+        synchronized (counterParty) {
+            if (counterParty.inFlight >= maxInFlight) {
+                if (counterParty.queue.size() >= maxQueued) {
+                    return failedFuture(new EdcException(format("Too many messages in flight to %s, %d are queued already", connectorAddress, maxQueued)));
+                }
+                counterParty.queue.add(pending);
+                delayedExecutor(maxQueueWait.toMillis(), MILLISECONDS).execute(() -> expire(pending));
+                return pending.future;
+            }
+            counterParty.inFlight++;
+        }
+
+        if (!pending.start()) {
+            release(counterParty);
+        }
+        return pending.future;
+    }
+
+    /**
+     * Returns for how long messages to the counter-party should be deferred, because its circuit breaker is open or
+     * queued messages recently expired. {@link Duration#ZERO} if messages can be sent right away.
+     */
+    public Duration unavailableFor(String connectorAddress) {
+        var counterParty = counterParties.get(connectorAddress);
+        if (counterParty == null) {
+            return Duration.ZERO;
+        }
+        long busyFor;
+        synchronized (counterParty) {
+            busyFor = Math.max(0, counterParty.busyUntil - System.nanoTime());
+        }
+        var breakerDelay = counterParty.breaker.getRemainingDelay();
+        var busyDelay = Duration.ofNanos(busyFor);
+        return breakerDelay.compareTo(busyDelay) >= 0 ? breakerDelay : busyDelay;
+    }
+
+    /**
+     * Returns true if the failure shows that the counter-party cannot be reached or cannot cope with the load, as
+     * opposed to a rejection of the particular message.
+     */
+    static boolean isCounterPartyFailure(Throwable failure) {
+        for (var cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof EdcHttpClientException) {
+                var status = ((EdcHttpClientException) cause).getStatusCode();
+                if (status != 0) {
+                    return status >= 500 || status == 408;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hands the slot of a completed message over to the next queued one, or frees it if none is queued.
+     */
+    private void release(CounterParty counterParty) {
+        while (true) {
+            Pending<?> next;
+            synchronized (counterParty) {
+                next = counterParty.queue.poll();
+                if (next == null) {
+                    counterParty.inFlight--;
+                    return;
+                }
+            }
+            if (next.start()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Fails a message that is still queued after {@code maxQueueWait} and marks the counter-party as busy.
+     */
+    private void expire(Pending<?> pending) {
+        var counterParty = pending.counterParty;
+        synchronized (counterParty) {
+            if (!counterParty.queue.remove(pending)) {
+                return;
+            }
+            counterParty.busyUntil = System.nanoTime() + maxQueueWait.toNanos();
+        }
+        pending.future.completeExceptionally(new EdcException(format("Message to %s has not been sent within %s, too many messages are in flight", counterParty.connectorAddress, maxQueueWait)));
+    }
+
+    /**
+     * Forgets counter-parties that have neither been used nor had a message in flight for {@code idleTimeout}. Runs at
+     * most once per {@code idleTimeout}.
+     */
+    private void evictIdle(long now) {
+        var timeout = idleTimeout.toNanos();
+        if (now - lastEviction < timeout) {
+            return;
+        }
+        lastEviction = now;
+        counterParties.keySet().forEach(address -> counterParties.computeIfPresent(address, (key, counterParty) -> counterParty.isIdle(now, timeout) ? null : counterParty));
+    }
+
+    private EdcException unavailable(String connectorAddress) {
+        return new EdcException(format("Counter-party %s is unavailable, circuit breaker is open", connectorAddress));
+    }
+
+    private class CounterParty {
+        private final String connectorAddress;
+        private final CircuitBreaker<Object> breaker;
+        private final Queue<Pending<?>> queue = new ArrayDeque<>();
+        private int inFlight;
+        private long busyUntil;
+        private volatile long lastUsed;
+
+        CounterParty(String connectorAddress) {
+            this.connectorAddress = connectorAddress;
+            busyUntil = System.nanoTime();
+            breaker = CircuitBreaker.builder()
+                    .withFailureThreshold(failureThreshold)
+                    .withDelay(openDelay)
+                    .onOpen(e -> monitor.warning(format("Circuit breaker for %s opened, messages will be rejected for %s", connectorAddress, openDelay)))
+                    .onClose(e -> monitor.info(format("Circuit breaker for %s closed", connectorAddress)))
+                    .build();
+        }
+
+        synchronized boolean isIdle(long now, long timeout) {
+            return inFlight == 0 && queue.isEmpty() && breaker.isClosed() && now - lastUsed >= timeout && now - busyUntil >= 0;
+        }
+    }
+
+    private class Pending<T> {
+        private final CounterParty counterParty;
+        private final Supplier<CompletableFuture<T>> send;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Pending(CounterParty counterParty, Supplier<CompletableFuture<T>> send) {
+            this.counterParty = counterParty;
+            this.send = send;
+        }
+
+        /**
+         * Sends the message if the circuit breaker permits it, returns false if it has been rejected instead.
+         */
+        boolean start() {
+            var breaker = counterParty.breaker;
+            if (!breaker.tryAcquirePermit()) {
+                future.completeExceptionally(unavailable(counterParty.connectorAddress));
+                return false;
+            }
+
+            CompletableFuture<T> sent;
+            try {
+                sent = send.get();
+            } catch (Exception e) {
+                sent = failedFuture(e);
+            }
+
+            sent.whenComplete((result, throwable) -> {
+                // a rejected message still shows that the counter-party is reachable
+                if (throwable == null || !isCounterPartyFailure(throwable)) {
+                    breaker.recordSuccess();
+                } else {
+                    breaker.recordFailure();
+                }
+                if (throwable == null) {
+                    future.complete(result);
+                } else {
+                    future.completeExceptionally(throwable);
+                }
+                release(counterParty);
+            });
+            return true;
+        }
+    }
+
+    public static class Builder {
+        private final CounterPartyDispatchGovernor governor;
+
+        private Builder() {
+            governor = new CounterPartyDispatchGovernor();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Maximum number of messages that are in flight to a single counter-party.
+         */
+        public Builder maxInFlight(int maxInFlight) {
+            governor.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * Maximum number of messages that wait for a free slot, further messages are rejected.
+         */
+        public Builder maxQueued(int maxQueued) {
+            governor.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Time after which a message that still waits for a free slot is failed.
+         */
+        public Builder maxQueueWait(Duration maxQueueWait) {
+            governor.maxQueueWait = maxQueueWait;
+            return this;
+        }
+
+        /**
+         * Number of consecutive failures that open the circuit breaker of a counter-party.
+         */
+        public Builder failureThreshold(int failureThreshold) {
+            governor.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Time after which an open circuit breaker lets a trial message through.
+         */
+        public Builder openDelay(Duration openDelay) {
+            governor.openDelay = openDelay;
+            return this;
+        }
+
+        /**
+         * Time without traffic after which the state kept for a counter-party is dropped.
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            governor.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            governor.monitor = monitor;
+            return this;
+        }
+
+        public CounterPartyDispatchGovernor build() {
+            Objects.requireNonNull(governor.monitor, "monitor");
+            return governor;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +32,18 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatcherRegistry {
 
     private final Map<String, RemoteMessageDispatcher> dispatchers = new HashMap<>();
+    private final CounterPartyDispatchGovernor governor;
+
+    public RemoteMessageDispatcherRegistryImpl() {
+        this(null);
+    }
+
+    /**
+     * Creates a registry that sends all messages through the governor, if one is given.
+     */
+    public RemoteMessageDispatcherRegistryImpl(@Nullable CounterPartyDispatchGovernor governor) {
+        this.governor = governor;
+    }
 
     @Override
     public void register(RemoteMessageDispatcher dispatcher) {
@@ -45,7 +58,16 @@ public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatc
         if (dispatcher == null) {
             return failedFuture(new EdcException("No provider dispatcher registered for protocol: " + protocol));
         }
-        return dispatcher.send(responseType, message);
+        var connectorAddress = message.getConnectorAddress();
+        if (governor == null || connectorAddress == null) {
+            return dispatcher.send(responseType, message);
+        }
+        return governor.dispatch(connectorAddress, () -> dispatcher.send(responseType, message));
+    }
+
+    @Override
+    public Duration unavailableFor(String connectorAddress) {
+        return governor == null || connectorAddress == null ? Duration.ZERO : governor.unavailableFor(connectorAddress);
     }
 
     @Nullable
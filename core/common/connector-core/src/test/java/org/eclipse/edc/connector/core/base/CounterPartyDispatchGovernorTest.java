@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.base;
+
+import org.eclipse.edc.spi.http.EdcHttpClientException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CounterPartyDispatchGovernorTest {
+
+    private static final String ADDRESS = "http://counter.party";
+
+    @Test
+    void dispatch_shouldQueueMessages_whenTooManyAreInFlight() {
+        var governor = governor().maxInFlight(1).maxQueued(1).build();
+        var inFlight = new CompletableFuture<String>();
+        Supplier<CompletableFuture<String>> queued = mock(Supplier.class);
+        when(queued.get()).thenReturn(completedFuture("queued"));
+
+        var first = governor.dispatch(ADDRESS, () -> inFlight);
+        var second = governor.dispatch(ADDRESS, queued);
+        var third = governor.dispatch(ADDRESS, () -> completedFuture("rejected"));
+
+        verify(queued, never()).get();
+        assertThat(third).failsWithin(5, SECONDS);
+
+        inFlight.complete("first");
+
+        assertThat(first).succeedsWithin(5, SECONDS).isEqualTo("first");
+        assertThat(second).succeedsWithin(5, SECONDS).isEqualTo("queued");
+    }
+
+    @Test
+    void dispatch_shouldFailQueuedMessage_whenNotSentWithinMaxQueueWait() {
+        var governor = governor().maxInFlight(1).maxQueued(1).maxQueueWait(Duration.ofMillis(50)).build();
+        Supplier<CompletableFuture<String>> queued = mock(Supplier.class);
+        governor.dispatch(ADDRESS, CompletableFuture::new);
+
+        var result = governor.dispatch(ADDRESS, queued);
+
+        assertThat(result).failsWithin(5, SECONDS);
+        verify(queued, never()).get();
+        assertThat(governor.unavailableFor(ADDRESS)).isPositive();
+    }
+
+    @Test
+    void dispatch_shouldNotLimitOtherCounterParties() {
+        var governor = governor().maxInFlight(1).maxQueued(0).build();
+        governor.dispatch(ADDRESS, CompletableFuture::new);
+
+        var result = governor.dispatch("http://another.party", () -> completedFuture("any"));
+
+        assertThat(result).succeedsWithin(5, SECONDS).isEqualTo("any");
+    }
+
+    @Test
+    void dispatch_shouldRejectMessages_whenCircuitBreakerIsOpen() {
+        var governor = governor().failureThreshold(2).build();
+        governor.dispatch(ADDRESS, () -> failedFuture(new IOException("connection refused")));
+        governor.dispatch(ADDRESS, () -> failedFuture(new CompletionException(new EdcHttpClientException("unavailable", 503))));
+        Supplier<CompletableFuture<String>> send = mock(Supplier.class);
+
+        var result = governor.dispatch(ADDRESS, send);
+
+        assertThat(result).failsWithin(5, SECONDS);
+        verify(send, never()).get();
+        assertThat(governor.unavailableFor(ADDRESS)).isPositive();
+    }
+
+    @Test
+    void dispatch_shouldNotOpenCircuitBreaker_whenMessagesAreRejected() {
+        var governor = governor().failureThreshold(2).build();
+        governor.dispatch(ADDRESS, () -> failedFuture(new EdcHttpClientException("conflict", 409)));
+        governor.dispatch(ADDRESS, () -> failedFuture(new IllegalStateException("invalid response")));
+
+        var result = governor.dispatch(ADDRESS, () -> completedFuture("any"));
+
+        assertThat(result).succeedsWithin(5, SECONDS).isEqualTo("any");
+        assertThat(governor.unavailableFor(ADDRESS)).isZero();
+    }
+
+    @Test
+    void dispatch_shouldForgetIdleCounterParties() throws InterruptedException {
+        var governor = governor().failureThreshold(2).idleTimeout(Duration.ofMillis(10)).build();
+        governor.dispatch(ADDRESS, () -> failedFuture(new IOException("connection refused")));
+        Thread.sleep(50);
+        governor.dispatch("http://another.party", () -> completedFuture("any"));
+
+        governor.dispatch(ADDRESS, () -> failedFuture(new IOException("connection refused")));
+
+        assertThat(governor.unavailableFor(ADDRESS)).describedAs("the failure before the counter-party was idle is not counted").isZero();
+    }
+
+    @Test
+    void unavailableFor_shouldReturnZero_whenCounterPartyIsAvailable() {
+        var governor = governor().failureThreshold(2).build();
+        governor.dispatch(ADDRESS, () -> failedFuture(new IOException("connection refused")));
+        governor.dispatch(ADDRESS, () -> completedFuture("any"));
+
+        assertThat(governor.unavailableFor(ADDRESS)).isZero();
+        assertThat(governor.unavailableFor("http://unknown.party")).isZero();
+    }
+
+    private CounterPartyDispatchGovernor.Builder governor() {
+        return CounterPartyDispatchGovernor.Builder.newInstance()
+                .maxInFlight(10)
+                .maxQueued(10)
+                .failureThreshold(5)
+                .openDelay(Duration.ofMinutes(1))
+                .monitor(mock(Monitor.class));
+    }
+}
@@ -156,6 +156,23 @@ class EdcHttpClientImplTest {
                 .first().asString().matches(it -> it.startsWith("Failed to connect to"));
     }
 
+    @Test
+    void executeAsync_fallback_shouldRetryIfStatusIsNotSuccessful() {
+        var client = clientWith(RetryPolicy.<Response>builder().withMaxAttempts(2).build());
+
+        var request = new Request.Builder()
+                .url("http://localhost:" + port)
+                .build();
+
+        server.when(request(), once()).respond(new HttpResponse().withStatusCode(500));
+        server.when(request(), once()).respond(new HttpResponse().withStatusCode(200).withBody(json(Map.of("message", "data"))));
+
+        var result = client.executeAsync(request, List.of(statusMustBeSuccessful()), handleResponse()).join();
+
+        assertThat(result).matches(Result::succeeded).extracting(Result::getContent).isEqualTo("data");
+        server.verify(request(), exactly(2));
+    }
+
     @NotNull
     private static EdcHttpClientImpl clientWith(RetryPolicy<Response> retryPolicy) {
         return new EdcHttpClientImpl(testOkHttpClient(), retryPolicy, mock(Monitor.class));
@@ -44,7 +44,7 @@ public class CompletableFutureRetryProcess<E extends StatefulEntity<E>, C> exten
 
     @Override
     boolean process(E entity, String description) {
-        monitor.debug(format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
+        monitor.debug(() -> format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
         process.get()
                 .whenComplete((result, throwable) -> {
                     var reloadedEntity = entityRetrieve != null ? entityRetrieve.apply(entity.getId()) : entity;
@@ -46,8 +46,8 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, T extends RetryP
     abstract boolean process(E entity, String description);
 
     /**
-     * If entity is not yet ready to be processed executes {@link #onDelay} handler and return false,
-     * otherwise processes it.
+     * If entity is not yet ready to be processed records when it will be, executes {@link #onDelay} handler and
+     * return false, otherwise processes it.
      *
      * @param description the process description.
      * @return false if process should not be run yet, the result of the process otherwise.
@@ -56,13 +56,15 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, T extends RetryP
         if (isRetry(entity)) {
             var delay = delayMillis(entity);
             if (delay > 0) {
-                monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                monitor.debug(() -> String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                // persisted by the onDelay handler, so that stores can skip the entity until it is due
+                entity.setNextAttemptAt(clock.millis() + delay);
                 if (onDelay != null) {
                     onDelay.accept(entity);
                 }
                 return false;
             } else {
-                monitor.debug(String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.getRetryLimit()));
+                monitor.debug(() -> String.format("Entity %s %s retry #%d of %d.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, configuration.getRetryLimit()));
             }
         }
 
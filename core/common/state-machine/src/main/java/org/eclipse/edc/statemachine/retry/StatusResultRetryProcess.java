@@ -44,7 +44,7 @@ public class StatusResultRetryProcess<E extends StatefulEntity<E>, C> extends Re
 
     @Override
     boolean process(E entity, String description) {
-        monitor.debug(format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
+        monitor.debug(() -> format("%s: ID %s. %s", entity.getClass().getSimpleName(), entity.getId(), description));
         var result = process.get();
 
         if (result.succeeded()) {
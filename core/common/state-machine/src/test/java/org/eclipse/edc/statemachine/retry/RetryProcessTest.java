@@ -68,6 +68,16 @@ class RetryProcessTest {
         verifyNoInteractions(process);
     }
 
+    @Test
+    void execute_shouldRecordNextAttempt_whenItShouldDelay() {
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).stateTimestamp(shouldDelayTime).stateCount(2).build();
+        var retryProcess = new TestRetryProcess(entity, configuration, monitor, clock);
+
+        retryProcess.execute("any");
+
+        assertThat(entity.getNextAttemptAt()).isEqualTo(shouldDelayTime + DELAY);
+    }
+
     @Test
     void execute_shouldProcess_whenItIsNotRetry() {
         when(process.get()).thenReturn(true);
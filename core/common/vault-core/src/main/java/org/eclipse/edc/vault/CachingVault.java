@@ -0,0 +1,344 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * {@link Vault} decorator that keeps resolved secrets in memory, so that hot paths such as data transfers do not pay
+ * the latency of a remote vault for every secret they resolve.
+ * <p>
+ * Every entry is fresh for its own time-to-live. Once that expired, the cached value is still served for a stale
+ * window while it is refreshed from the delegate in the background. After the stale window a lookup resolves the
+ * secret from the delegate again. The number of entries is bounded, the least recently used ones are evicted first.
+ * Secrets that could not be found are not cached. Storing or deleting a secret invalidates its cache entry.
+ * <p>
+ * Concurrent lookups of the same secret share a single call to the delegate. Invalidating a secret detaches the call
+ * that is running for it, so that its result is not cached, without affecting calls for other secrets.
+ */
+public class CachingVault implements Vault {
+
+    @Setting(value = "Whether secrets resolved from a remote vault are cached in memory", defaultValue = "true")
+    public static final String CACHE_ENABLED = "edc.vault.cache.enabled";
+
+    @Setting(value = "Time in seconds for which a cached secret is served without contacting the vault", defaultValue = "300")
+    public static final String CACHE_TTL = "edc.vault.cache.ttl.seconds";
+
+    @Setting(value = "Time in seconds after the expiry of a cached secret in which it is still served while it is refreshed in the background", defaultValue = "60")
+    public static final String CACHE_STALE_WINDOW = "edc.vault.cache.stale.seconds";
+
+    @Setting(value = "Maximum number of cached secrets", defaultValue = "1000")
+    public static final String CACHE_MAX_SIZE = "edc.vault.cache.max.size";
+
+    private static final boolean DEFAULT_CACHE_ENABLED = true;
+    private static final long DEFAULT_CACHE_TTL = 300;
+    private static final long DEFAULT_CACHE_STALE_WINDOW = 60;
+    private static final int DEFAULT_CACHE_MAX_SIZE = 1000;
+
+    private final Map<String, CompletableFuture<String>> loads = new HashMap<>();
+    private Vault delegate;
+    private Clock clock = Clock.systemUTC();
+    private Function<String, Duration> ttl = key -> Duration.ofSeconds(DEFAULT_CACHE_TTL);
+    private Duration staleWindow = Duration.ofSeconds(DEFAULT_CACHE_STALE_WINDOW);
+    private int maxSize = DEFAULT_CACHE_MAX_SIZE;
+    private Executor refreshExecutor;
+    private VaultCacheMetrics metrics = VaultCacheMetrics.noop();
+    private Monitor monitor;
+    private Map<String, CacheEntry> entries;
+
+    private CachingVault() {
+    }
+
+    /**
+     * Wraps the given vault into a {@link CachingVault} configured from the settings of the runtime, or returns it
+     * unchanged if caching is disabled.
+     *
+     * @param delegate        the remote vault.
+     * @param context         the context, from which the settings, clock and monitor are taken.
+     * @param metrics         receives the cache statistics, can be null.
+     * @param instrumentation instruments the executor used for background refreshes, can be null.
+     */
+    public static Vault decorate(Vault delegate, ServiceExtensionContext context, @Nullable VaultCacheMetrics metrics, @Nullable ExecutorInstrumentation instrumentation) {
+        var ttl = context.getSetting(CACHE_TTL, DEFAULT_CACHE_TTL);
+        if (!context.getSetting(CACHE_ENABLED, DEFAULT_CACHE_ENABLED) || ttl <= 0) {
+            return delegate;
+        }
+
+        var executor = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable, "vault-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        var clock = context.getClock();
+        return Builder.newInstance()
+                .delegate(delegate)
+                .clock(clock != null ? clock : Clock.systemUTC())
+                .ttl(Duration.ofSeconds(ttl))
+                .staleWindow(Duration.ofSeconds(context.getSetting(CACHE_STALE_WINDOW, DEFAULT_CACHE_STALE_WINDOW)))
+                .maxSize(context.getSetting(CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE))
+                .refreshExecutor(instrumentation != null ? instrumentation.instrument(executor, "vault-cache-refresh") : executor)
+                .metrics(metrics != null ? metrics : VaultCacheMetrics.noop())
+                .monitor(context.getMonitor())
+                .build();
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        CacheEntry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+
+        if (entry != null) {
+            var now = clock.instant();
+            if (now.isBefore(entry.expiresAt)) {
+                metrics.hit();
+                return entry.value;
+            }
+            if (now.isBefore(entry.expiresAt.plus(staleWindow))) {
+                metrics.staleHit();
+                refresh(key);
+                return entry.value;
+            }
+        }
+
+        metrics.miss();
+        return await(load(key));
+    }
+
+    @Override
+    public Result<Void> storeSecret(String key, String value) {
+        try {
+            return delegate.storeSecret(key, value);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    @Override
+    public Result<Void> deleteSecret(String key) {
+        try {
+            return delegate.deleteSecret(key);
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * Removes the cached value of a secret, the next lookup resolves it from the delegate.
+     */
+    public synchronized void invalidate(String key) {
+        // a lookup that is still running must not overwrite the invalidation, later lookups start a new one
+        loads.remove(key);
+        entries.remove(key);
+    }
+
+    /**
+     * Returns the number of cached secrets.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void refresh(String key) {
+        CompletableFuture<String> load;
+        synchronized (this) {
+            if (loads.containsKey(key)) {
+                return;
+            }
+            load = new CompletableFuture<>();
+            loads.put(key, load);
+        }
+        load.exceptionally(e -> {
+            monitor.warning("Failed to refresh cached secret " + key + ", the cached value is kept until it expires", e);
+            return null;
+        });
+        try {
+            refreshExecutor.execute(() -> resolve(key, load));
+        } catch (RejectedExecutionException e) {
+            fail(key, load, e);
+        }
+    }
+
+    /**
+     * Returns the running lookup of the secret, or resolves it from the delegate if there is none.
+     */
+    private CompletableFuture<String> load(String key) {
+        CompletableFuture<String> load;
+        synchronized (this) {
+            load = loads.get(key);
+            if (load != null) {
+                return load;
+            }
+            load = new CompletableFuture<>();
+            loads.put(key, load);
+        }
+        resolve(key, load);
+        return load;
+    }
+
+    private void resolve(String key, CompletableFuture<String> load) {
+        String value;
+        try {
+            var start = System.nanoTime();
+            value = delegate.resolveSecret(key);
+            metrics.remoteCall(Duration.ofNanos(System.nanoTime() - start), value != null);
+        } catch (RuntimeException e) {
+            fail(key, load, e);
+            return;
+        }
+
+        synchronized (this) {
+            // the lookup was detached if the secret was invalidated in the meantime
+            if (loads.remove(key, load)) {
+                if (value != null) {
+                    entries.put(key, new CacheEntry(value, clock.instant().plus(ttl.apply(key))));
+                } else {
+                    entries.remove(key);
+                }
+            }
+        }
+        load.complete(value);
+    }
+
+    private void fail(String key, CompletableFuture<String> load, RuntimeException e) {
+        synchronized (this) {
+            loads.remove(key, load);
+        }
+        load.completeExceptionally(e);
+    }
+
+    private String await(CompletableFuture<String> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class CacheEntry {
+        private final String value;
+        private final Instant expiresAt;
+
+        CacheEntry(String value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    public static class Builder {
+        private final CachingVault vault;
+
+        private Builder() {
+            vault = new CachingVault();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder delegate(Vault delegate) {
+            vault.delegate = delegate;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            vault.clock = clock;
+            return this;
+        }
+
+        /**
+         * Time-to-live of every cached secret.
+         */
+        public Builder ttl(Duration ttl) {
+            return ttl(key -> ttl);
+        }
+
+        /**
+         * Time-to-live of a cached secret, depending on its key.
+         */
+        public Builder ttl(Function<String, Duration> ttl) {
+            vault.ttl = ttl;
+            return this;
+        }
+
+        public Builder staleWindow(Duration staleWindow) {
+            vault.staleWindow = staleWindow;
+            return this;
+        }
+
+        public Builder maxSize(int maxSize) {
+            vault.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder refreshExecutor(Executor refreshExecutor) {
+            vault.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public Builder metrics(VaultCacheMetrics metrics) {
+            vault.metrics = metrics;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            vault.monitor = monitor;
+            return this;
+        }
+
+        public CachingVault build() {
+            Objects.requireNonNull(vault.delegate, "delegate");
+            Objects.requireNonNull(vault.refreshExecutor, "refreshExecutor");
+            Objects.requireNonNull(vault.monitor, "monitor");
+            if (vault.maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive");
+            }
+            var maxSize = vault.maxSize;
+            vault.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+            return vault;
+        }
+    }
+}
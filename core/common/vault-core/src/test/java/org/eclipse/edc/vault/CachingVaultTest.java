@@ -0,0 +1,254 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.vault;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingVaultTest {
+
+    private static final Instant NOW = Instant.parse("2022-01-01T00:00:00Z");
+
+    private final Vault delegate = mock(Vault.class);
+    private final Clock clock = mock(Clock.class);
+    private final VaultCacheMetrics metrics = mock(VaultCacheMetrics.class);
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private CachingVault vault;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(NOW);
+        vault = CachingVault.Builder.newInstance()
+                .delegate(delegate)
+                .clock(clock)
+                .ttl(Duration.ofSeconds(10))
+                .staleWindow(Duration.ofSeconds(5))
+                .maxSize(2)
+                .refreshExecutor(refreshes::add)
+                .metrics(metrics)
+                .monitor(mock(Monitor.class))
+                .build();
+    }
+
+    @Test
+    void resolveSecret_shouldServeFromCache_whenFresh() {
+        when(delegate.resolveSecret("key")).thenReturn("value");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+
+        verify(delegate, times(1)).resolveSecret("key");
+        verify(metrics).miss();
+        verify(metrics).hit();
+        verify(metrics).remoteCall(any(), anyBoolean());
+    }
+
+    @Test
+    void resolveSecret_shouldNotCacheMissingSecret() {
+        assertThat(vault.resolveSecret("key")).isNull();
+        assertThat(vault.resolveSecret("key")).isNull();
+
+        verify(delegate, times(2)).resolveSecret("key");
+        assertThat(vault.size()).isZero();
+    }
+
+    @Test
+    void resolveSecret_shouldServeStaleValueAndRefreshInBackground_whenExpired() {
+        when(delegate.resolveSecret("key")).thenReturn("old", "new");
+        vault.resolveSecret("key");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(12));
+        assertThat(vault.resolveSecret("key")).isEqualTo("old");
+        assertThat(vault.resolveSecret("key")).isEqualTo("old");
+
+        assertThat(refreshes).describedAs("only one refresh per key is scheduled").hasSize(1);
+        verify(metrics, times(2)).staleHit();
+
+        refreshes.get(0).run();
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("new");
+        verify(delegate, times(2)).resolveSecret("key");
+    }
+
+    @Test
+    void resolveSecret_shouldKeepStaleValue_whenRefreshFails() {
+        when(delegate.resolveSecret("key")).thenReturn("value").thenThrow(new RuntimeException("unavailable"));
+        vault.resolveSecret("key");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(12));
+        vault.resolveSecret("key");
+        refreshes.get(0).run();
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+    }
+
+    @Test
+    void resolveSecret_shouldResolveRemotely_whenStaleWindowElapsed() {
+        when(delegate.resolveSecret("key")).thenReturn("old", "new");
+        vault.resolveSecret("key");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(16));
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("new");
+        assertThat(refreshes).isEmpty();
+        verify(metrics, times(2)).miss();
+    }
+
+    @Test
+    void resolveSecret_shouldApplyPerKeyTtl() {
+        var perKey = CachingVault.Builder.newInstance()
+                .delegate(delegate)
+                .clock(clock)
+                .ttl(key -> key.startsWith("short") ? Duration.ofSeconds(1) : Duration.ofSeconds(60))
+                .staleWindow(Duration.ZERO)
+                .refreshExecutor(refreshes::add)
+                .monitor(mock(Monitor.class))
+                .build();
+        when(delegate.resolveSecret(any())).thenReturn("value");
+        perKey.resolveSecret("short-lived");
+        perKey.resolveSecret("long-lived");
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(2));
+        perKey.resolveSecret("short-lived");
+        perKey.resolveSecret("long-lived");
+
+        verify(delegate, times(2)).resolveSecret("short-lived");
+        verify(delegate, times(1)).resolveSecret("long-lived");
+    }
+
+    @Test
+    void resolveSecret_shouldEvictLeastRecentlyUsed_whenFull() {
+        when(delegate.resolveSecret(any())).thenReturn("value");
+        vault.resolveSecret("key1");
+        vault.resolveSecret("key2");
+        vault.resolveSecret("key1");
+        vault.resolveSecret("key3");
+
+        assertThat(vault.size()).isEqualTo(2);
+        vault.resolveSecret("key1");
+        vault.resolveSecret("key2");
+
+        verify(delegate, times(1)).resolveSecret("key1");
+        verify(delegate, times(2)).resolveSecret("key2");
+    }
+
+    @Test
+    void storeSecret_shouldInvalidate() {
+        when(delegate.resolveSecret("key")).thenReturn("old", "new");
+        when(delegate.storeSecret("key", "new")).thenReturn(Result.success());
+        vault.resolveSecret("key");
+
+        var result = vault.storeSecret("key", "new");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(vault.resolveSecret("key")).isEqualTo("new");
+    }
+
+    @Test
+    void deleteSecret_shouldInvalidate() {
+        when(delegate.resolveSecret("key")).thenReturn("value", (String) null);
+        when(delegate.deleteSecret("key")).thenReturn(Result.success());
+        vault.resolveSecret("key");
+
+        vault.deleteSecret("key");
+
+        assertThat(vault.resolveSecret("key")).isNull();
+    }
+
+    @Test
+    void deleteSecret_shouldDiscardRefreshStartedBefore() {
+        when(delegate.resolveSecret("key")).thenReturn("value");
+        when(delegate.deleteSecret("key")).thenReturn(Result.success());
+        vault.resolveSecret("key");
+        when(clock.instant()).thenReturn(NOW.plusSeconds(12));
+        vault.resolveSecret("key");
+
+        vault.deleteSecret("key");
+        refreshes.get(0).run();
+
+        assertThat(vault.size()).isZero();
+        verify(metrics, never()).hit();
+    }
+
+    @Test
+    void deleteSecret_shouldNotDiscardRefreshOfOtherSecret() {
+        when(delegate.resolveSecret("key")).thenReturn("old", "value");
+        when(delegate.deleteSecret("other")).thenReturn(Result.success());
+        vault.resolveSecret("key");
+        when(clock.instant()).thenReturn(NOW.plusSeconds(12));
+        vault.resolveSecret("key");
+
+        vault.deleteSecret("other");
+        refreshes.get(0).run();
+
+        when(clock.instant()).thenReturn(NOW.plusSeconds(13));
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        verify(metrics).hit();
+    }
+
+    @Test
+    void resolveSecret_shouldShareRunningLookup_whenResolvedConcurrently() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "value";
+        }).when(delegate).resolveSecret("key");
+
+        var first = CompletableFuture.supplyAsync(() -> vault.resolveSecret("key"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.supplyAsync(() -> vault.resolveSecret("key"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        verify(delegate, times(1)).resolveSecret("key");
+    }
+
+    @Test
+    void resolveSecret_shouldPropagateFailureOfSharedLookup() {
+        when(delegate.resolveSecret("key")).thenThrow(new IllegalStateException("unavailable"));
+
+        assertThatThrownBy(() -> vault.resolveSecret("key")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> vault.resolveSecret("key")).describedAs("failed lookups are not kept").isInstanceOf(IllegalStateException.class);
+        verify(delegate, times(2)).resolveSecret("key");
+    }
+}
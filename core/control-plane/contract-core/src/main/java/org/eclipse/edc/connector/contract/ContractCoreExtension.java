@@ -47,9 +47,9 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.asset.AssetIndex;
-import org.eclipse.edc.spi.command.BoundedCommandQueue;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.command.CommandQueue;
+import org.eclipse.edc.spi.command.CommandQueueFactory;
 import org.eclipse.edc.spi.command.CommandRunner;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
@@ -145,6 +145,9 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private CommandQueueFactory commandQueueFactory;
+
     @Override
     public String name() {
         return NAME;
@@ -187,7 +190,7 @@ public class ContractCoreExtension implements ServiceExtension {
         var iterationWaitMillis = context.getSetting(NEGOTIATION_STATE_MACHINE_ITERATION_WAIT_MILLIS, DEFAULT_ITERATION_WAIT);
         var waitStrategy = context.hasService(NegotiationWaitStrategy.class) ? context.getService(NegotiationWaitStrategy.class) : new ExponentialWaitStrategy(iterationWaitMillis);
 
-        CommandQueue<ContractNegotiationCommand> commandQueue = new BoundedCommandQueue<>(10);
+        CommandQueue<ContractNegotiationCommand> commandQueue = commandQueueFactory.create("contract-negotiation", ContractNegotiationCommand.class);
         CommandRunner<ContractNegotiationCommand> commandRunner = new CommandRunner<>(commandHandlerRegistry, monitor);
 
         var observable = new ContractNegotiationObservableImpl();
@@ -163,7 +163,7 @@ public abstract class AbstractContractNegotiationManager {
 
     private void update(ContractNegotiation negotiation) {
         negotiationStore.save(negotiation);
-        monitor.debug(String.format("[%s] ContractNegotiation %s is now in state %s.",
+        monitor.debug(() -> String.format("[%s] ContractNegotiation %s is now in state %s.",
                 getType(), negotiation.getId(), ContractNegotiationStates.from(negotiation.getState())));
     }
 
@@ -272,6 +272,26 @@ public abstract class AbstractContractNegotiationManager {
         negotiationStore.save(negotiation);
     }
 
+    /**
+     * Defers the negotiation without attempting to send anything if its counter-party is currently unavailable. The
+     * negotiation is not fetched again before the counter-party is expected to be reachable, and the deferral does
+     * not count as a failed attempt.
+     *
+     * @return true if the negotiation has been deferred
+     */
+    protected boolean deferIfCounterPartyUnavailable(ContractNegotiation negotiation) {
+        var unavailableFor = dispatcherRegistry.unavailableFor(negotiation.getCounterPartyAddress());
+        if (unavailableFor.isZero()) {
+            return false;
+        }
+
+        monitor.debug(() -> String.format("[%s] ContractNegotiation %s deferred for %s, counter-party %s is unavailable.",
+                getType(), negotiation.getId(), unavailableFor, negotiation.getCounterPartyAddress()));
+        negotiation.setNextAttemptAt(clock.millis() + unavailableFor.toMillis());
+        breakLease(negotiation);
+        return true;
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
@@ -214,6 +214,10 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processRequesting(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var offer = negotiation.getLastContractOffer();
         var request = ContractOfferRequest.Builder.newInstance() // TODO: should be renamed to ContractRequestMessage
                 .contractOffer(offer)
@@ -243,6 +247,10 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processConsumerApproving(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var lastOffer = negotiation.getLastContractOffer();
 
         var contractId = ContractId.parse(lastOffer.getId());
@@ -308,6 +316,10 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processConsumerVerifying(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var message = ContractAgreementVerificationMessage.Builder.newInstance()
                 .protocol(negotiation.getProtocol())
                 .connectorAddress(negotiation.getCounterPartyAddress())
@@ -332,6 +344,10 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processTerminating(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var rejection = ContractRejection.Builder.newInstance()
                 .protocol(negotiation.getProtocol())
                 .connectorId(negotiation.getCounterPartyId())
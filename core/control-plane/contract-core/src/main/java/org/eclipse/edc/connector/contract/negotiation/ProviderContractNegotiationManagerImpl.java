@@ -195,6 +195,10 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processProviderOffering(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var currentOffer = negotiation.getLastContractOffer();
 
         var contractOfferRequest = ContractOfferRequest.Builder.newInstance()
@@ -223,6 +227,10 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processTerminating(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var rejection = ContractRejection.Builder.newInstance()
                 .protocol(negotiation.getProtocol())
                 .connectorId(negotiation.getCounterPartyId())
@@ -249,6 +257,10 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processProviderAgreeing(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var retrievedAgreement = negotiation.getContractAgreement();
 
         ContractAgreement agreement;
@@ -319,6 +331,10 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
      */
     @WithSpan
     private boolean processProviderFinalizing(ContractNegotiation negotiation) {
+        if (deferIfCounterPartyUnavailable(negotiation)) {
+            return false;
+        }
+
         var message = ContractNegotiationEventMessage.Builder.newInstance()
                 .type(ContractNegotiationEventMessage.Type.FINALIZED)
                 .protocol(negotiation.getProtocol())
@@ -79,7 +79,7 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
                 .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
 
         if (accessResult.failed()) {
-            monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
+            monitor.debug(() -> format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
             return false;
         }
 
@@ -42,6 +42,7 @@ import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -71,7 +72,6 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -246,11 +246,25 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == CONSUMER_REQUESTED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
             verify(listener).requested(any());
         });
     }
 
+    @Test
+    void requesting_shouldDeferWithoutSending_whenCounterPartyIsUnavailable() {
+        var negotiation = contractNegotiationBuilder().state(CONSUMER_REQUESTING.code()).contractOffer(contractOffer()).build();
+        when(store.nextForState(eq(CONSUMER_REQUESTING.code()), anyInt())).thenReturn(List.of(negotiation)).thenReturn(emptyList());
+        when(dispatcherRegistry.unavailableFor("connectorAddress")).thenReturn(Duration.ofMinutes(1));
+
+        negotiationManager.start();
+
+        await().untilAsserted(() -> {
+            verify(store).save(argThat(p -> p.getState() == CONSUMER_REQUESTING.code() && p.getNextAttemptAt() > Instant.now().toEpochMilli()));
+            verify(dispatcherRegistry, never()).send(any(), any());
+        });
+    }
+
     @Test
     void requesting_shouldTransitionRequestingIfSendFails_andRetriesNotExhausted() {
         var negotiation = contractNegotiationBuilder().state(CONSUMER_REQUESTING.code()).stateCount(RETRIES_NOT_EXHAUSTED).contractOffer(contractOffer()).build();
@@ -262,7 +276,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == CONSUMER_REQUESTING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -277,7 +291,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -292,7 +306,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == CONSUMER_AGREED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
             verify(listener).approved(any());
         });
     }
@@ -308,7 +322,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == CONSUMER_AGREEING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -323,7 +337,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -410,7 +424,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
             verify(listener).terminated(any());
         });
     }
@@ -427,7 +441,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -443,7 +457,7 @@ class ConsumerContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -74,7 +74,6 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -217,7 +216,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == PROVIDER_OFFERED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
             verify(listener).offered(any());
         });
     }
@@ -233,7 +232,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == PROVIDER_OFFERING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -248,7 +247,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -323,7 +322,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
             verify(listener).terminated(any());
         });
     }
@@ -340,7 +339,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -356,7 +355,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATED.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -376,7 +375,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == PROVIDER_AGREED.code()));
-            verify(dispatcherRegistry, only()).send(any(), isA(ContractAgreementRequest.class));
+            verify(dispatcherRegistry).send(any(), isA(ContractAgreementRequest.class));
             verify(listener).confirmed(any());
         });
     }
@@ -395,7 +394,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == PROVIDER_AGREED.code()));
-            verify(dispatcherRegistry, only()).send(any(), isA(ContractAgreementRequest.class));
+            verify(dispatcherRegistry).send(any(), isA(ContractAgreementRequest.class));
             verify(listener).confirmed(any());
         });
     }
@@ -411,7 +410,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == PROVIDER_AGREEING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
@@ -426,7 +425,7 @@ class ProviderContractNegotiationManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(store).save(argThat(p -> p.getState() == TERMINATING.code()));
-            verify(dispatcherRegistry, only()).send(any(), any());
+            verify(dispatcherRegistry).send(any(), any());
         });
     }
 
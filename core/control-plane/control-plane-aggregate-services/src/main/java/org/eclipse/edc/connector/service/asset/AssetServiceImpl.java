@@ -21,19 +21,16 @@ import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.dataaddress.DataAddressValidator;
 import org.eclipse.edc.spi.observe.asset.AssetObservable;
-import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
-import java.util.List;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
 public class AssetServiceImpl implements AssetService {
-    private static final String ASSET_ID_QUERY = "contractAgreement.assetId";
     private final AssetIndex index;
     private final ContractNegotiationStore contractNegotiationStore;
     private final TransactionContext transactionContext;
@@ -68,6 +65,17 @@ public class AssetServiceImpl implements AssetService {
         return ServiceResult.success(transactionContext.execute(() -> index.queryAssets(query)));
     }
 
+    @Override
+    public ServiceResult<Long> count(QuerySpec query) {
+        var result = queryValidator.validate(query);
+
+        if (result.failed()) {
+            return ServiceResult.badRequest(result.getFailureMessages());
+        }
+
+        return ServiceResult.success(transactionContext.execute(() -> index.countAssets(query.getFilterExpression())));
+    }
+
     @Override
     public ServiceResult<Asset> create(Asset asset, DataAddress dataAddress) {
         var validDataAddress = dataAddressValidator.validate(dataAddress);
@@ -89,14 +97,8 @@ public class AssetServiceImpl implements AssetService {
     public ServiceResult<Asset> delete(String assetId) {
         return transactionContext.execute(() -> {
 
-            var query = QuerySpec.Builder.newInstance()
-                    .filter(List.of(new Criterion(ASSET_ID_QUERY, "=", assetId)))
-                    .build();
-
-            try (var negotiationsOnAsset = contractNegotiationStore.queryNegotiations(query)) {
-                if (negotiationsOnAsset.findAny().isPresent()) {
-                    return ServiceResult.conflict(format("Asset %s cannot be deleted as it is referenced by at least one contract agreement", assetId));
-                }
+            if (contractNegotiationStore.existsAgreementForAsset(assetId)) {
+                return ServiceResult.conflict(format("Asset %s cannot be deleted as it is referenced by at least one contract agreement", assetId));
             }
 
             var deleted = index.deleteById(assetId);
@@ -52,4 +52,15 @@ public class ContractAgreementServiceImpl implements ContractAgreementService {
 
         return ServiceResult.success(transactionContext.execute(() -> store.queryAgreements(query)));
     }
+
+    @Override
+    public ServiceResult<Long> count(QuerySpec query) {
+        var result = queryValidator.validate(query);
+
+        if (result.failed()) {
+            return ServiceResult.badRequest(format("Error validating schema: %s", result.getFailureDetail()));
+        }
+
+        return ServiceResult.success(transactionContext.execute(() -> store.countAgreements(query)));
+    }
 }
@@ -15,9 +15,6 @@
 package org.eclipse.edc.connector.service.asset;
 
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
-import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
-import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
-import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.dataaddress.DataAddressValidator;
@@ -30,12 +27,10 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
-import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -120,6 +115,33 @@ class AssetServiceImplTest {
         assertThat(result.getFailureMessages()).hasSize(1);
     }
 
+    @Test
+    void count_shouldCountOnFilterOnly() {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(Asset.PROPERTY_NAME + "=somevalue")
+                .limit(5)
+                .build();
+        when(index.countAssets(any())).thenReturn(12L);
+
+        var result = service.count(query);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).isEqualTo(12L);
+        verify(index).countAssets(query.getFilterExpression());
+    }
+
+    @Test
+    void count_invalidFilter() {
+        var query = QuerySpec.Builder.newInstance()
+                .filter("customProp=whatever")
+                .build();
+
+        var result = service.count(query);
+
+        assertThat(result.failed()).isTrue();
+        verify(index, never()).countAssets(any());
+    }
+
     @Test
     void createAsset_shouldCreateAssetIfItDoesNotAlreadyExist() {
         when(dataAddressValidator.validate(any())).thenReturn(Result.success());
@@ -167,7 +189,7 @@ class AssetServiceImplTest {
 
     @Test
     void delete_shouldDeleteAssetIfItsNotReferencedByAnyNegotiation() {
-        when(contractNegotiationStore.queryNegotiations(any())).thenReturn(Stream.empty());
+        when(contractNegotiationStore.existsAgreementForAsset("assetId")).thenReturn(false);
         when(index.deleteById("assetId")).thenReturn(StoreResult.success(createAsset("assetId")));
 
         var deleted = service.delete("assetId");
@@ -180,27 +202,15 @@ class AssetServiceImplTest {
     void delete_shouldNotDeleteIfAssetIsAlreadyPartOfAnAgreement() {
         var asset = createAsset("assetId");
         when(index.deleteById("assetId")).thenReturn(StoreResult.success(asset));
-        var contractNegotiation = ContractNegotiation.Builder.newInstance()
-                .id(UUID.randomUUID().toString())
-                .counterPartyId(UUID.randomUUID().toString())
-                .counterPartyAddress("address")
-                .protocol("protocol")
-                .contractAgreement(ContractAgreement.Builder.newInstance()
-                        .id(UUID.randomUUID().toString())
-                        .providerAgentId(UUID.randomUUID().toString())
-                        .consumerAgentId(UUID.randomUUID().toString())
-                        .assetId(asset.getId())
-                        .policy(Policy.Builder.newInstance().build())
-                        .build())
-                .build();
-        when(contractNegotiationStore.queryNegotiations(any())).thenReturn(Stream.of(contractNegotiation));
+        when(contractNegotiationStore.existsAgreementForAsset(asset.getId())).thenReturn(true);
 
         var deleted = service.delete("assetId");
 
         assertThat(deleted.failed()).isTrue();
         assertThat(deleted.getFailure().getReason()).isEqualTo(CONFLICT);
-        verify(contractNegotiationStore).queryNegotiations(any());
+        verify(contractNegotiationStore).existsAgreementForAsset("assetId");
         verifyNoMoreInteractions(contractNegotiationStore);
+        verifyNoInteractions(index);
     }
 
     @Test
@@ -214,14 +224,13 @@ class AssetServiceImplTest {
     }
 
     @Test
-    @DisplayName("Verifies that the query matches the internal data model")
-    void delete_verifyCorrectQuery() {
+    void delete_shouldNotQueryNegotiations() {
         when(index.deleteById(any())).thenReturn(StoreResult.success());
 
         var deleted = service.delete("test-asset");
         assertThat(deleted.succeeded()).isTrue();
-        verify(contractNegotiationStore).queryNegotiations(argThat(argument -> argument.getFilterExpression().size() == 1 &&
-                argument.getFilterExpression().get(0).getOperandLeft().equals("contractAgreement.assetId")));
+        verify(contractNegotiationStore).existsAgreementForAsset("test-asset");
+        verify(contractNegotiationStore, never()).queryNegotiations(any());
     }
 
 
@@ -66,6 +66,16 @@ class ContractAgreementServiceImplTest {
         assertThat(result.getContent()).hasSize(1).first().matches(it -> it.getId().equals("agreementId"));
     }
 
+    @Test
+    void count_delegatesToStore() {
+        when(store.countAgreements(isA(QuerySpec.class))).thenReturn(42L);
+
+        var result = service.count(QuerySpec.none());
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).isEqualTo(42L);
+    }
+
     private ContractAgreement createContractAgreement(String agreementId) {
         return ContractAgreement.Builder.newInstance()
                 .id(agreementId)
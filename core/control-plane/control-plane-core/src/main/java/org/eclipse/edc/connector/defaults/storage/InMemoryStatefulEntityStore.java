@@ -78,8 +78,10 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> {
 
     public @NotNull List<T> nextForState(int state, int max) {
         return lockManager.writeLock(() -> {
+            var now = clock.millis();
             var items = entitiesById.values().stream()
                     .filter(e -> e.item.getState() == state)
+                    .filter(e -> e.item.getNextAttemptAt() <= now) // skip entities that are backing off
                     .filter(e -> !isLeased(e.item.getId()))
                     .sorted(Comparator.comparingLong(e -> e.item.getStateTimestamp())) //order by state timestamp, oldest first
                     .limit(max)
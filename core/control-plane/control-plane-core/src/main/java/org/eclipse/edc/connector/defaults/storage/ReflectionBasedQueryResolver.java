@@ -15,12 +15,14 @@
 package org.eclipse.edc.connector.defaults.storage;
 
 import org.eclipse.edc.spi.query.BaseCriterionToPredicateConverter;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 
+import java.util.Comparator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -33,7 +35,11 @@ import static org.eclipse.edc.util.reflection.ReflectionUtil.propertyComparator;
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final String DEFAULT_ID_PROPERTY = "id";
+
     private final Class<T> typeParameterClass;
+    private final String idProperty;
+    private final boolean hasIdField;
 
     /**
      * Constructor for StreamQueryResolver
@@ -41,14 +47,30 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
      * @param typeParameterClass class of the type parameter. Used in reflection operation to recursively fetch a property from an object.
      */
     public ReflectionBasedQueryResolver(Class<T> typeParameterClass) {
+        this(typeParameterClass, DEFAULT_ID_PROPERTY);
+    }
+
+    /**
+     * Constructor for StreamQueryResolver
+     *
+     * @param typeParameterClass class of the type parameter. Used in reflection operation to recursively fetch a property from an object.
+     * @param idProperty the property that uniquely identifies an object, used as tiebreaker for sorting and for keyset pagination.
+     */
+    public ReflectionBasedQueryResolver(Class<T> typeParameterClass, String idProperty) {
         this.typeParameterClass = typeParameterClass;
+        this.idProperty = idProperty;
+        this.hasIdField = ReflectionUtil.getFieldRecursive(typeParameterClass, idProperty) != null;
     }
 
     /**
      * Method to query a stream by provided specification.
      * Converts the criterion into 'and' predicate.
-     * Applies sorting. When sort field is not found returns empty stream.
-     * Applies offset and limit on the query result.
+     * Applies sorting. When sort field is not found returns empty stream. If the type has an id property, results are
+     * always ordered by sort field and id, so that consecutive pages never overlap or skip elements, no matter whether
+     * they are addressed by offset or by {@link ContinuationToken}.
+     * If the specification carries a {@link ContinuationToken}, only the elements after the token are returned,
+     * otherwise the offset is applied.
+     * Applies limit on the query result.
      *
      * @param stream stream to be queried.
      * @param spec query specification.
@@ -64,20 +86,52 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
         // sort
         var sortField = spec.getSortField();
+        var token = spec.getContinuationToken();
+        var ascending = spec.getSortOrder() == SortOrder.ASC;
 
-        if (sortField != null) {
-            // if the sort field doesn't exist on the object -> return empty
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                return Stream.empty();
-            }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
-            filteredStream = filteredStream.sorted(comparator);
+        // if the sort field doesn't exist on the object -> return empty
+        if (sortField != null && ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+            return Stream.empty();
+        }
+
+        if (hasIdField) {
+            filteredStream = filteredStream.sorted(keysetComparator(sortField, ascending));
+        } else if (token != null) {
+            throw new IllegalArgumentException(String.format("Type %s has no '%s' property, continuation tokens are not supported", typeParameterClass.getName(), idProperty));
+        } else if (sortField != null) {
+            filteredStream = filteredStream.sorted(propertyComparator(ascending, sortField));
+        }
+
+        if (token != null) {
+            var keyComparator = keyComparator(ascending);
+            var tokenKey = new Object[]{ token.getSortValue(), token.getId() };
+            return filteredStream
+                    .filter(item -> keyComparator.compare(key(sortField, item), tokenKey) > 0)
+                    .limit(spec.getLimit());
         }
 
         // limit
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Comparator<T> keysetComparator(String sortField, boolean ascending) {
+        var keyComparator = keyComparator(ascending);
+        return (left, right) -> keyComparator.compare(key(sortField, left), key(sortField, right));
+    }
+
+    private Comparator<Object[]> keyComparator(boolean ascending) {
+        Comparator<Object[]> comparator = (left, right) -> {
+            var result = ContinuationToken.compareValues(left[0], right[0]);
+            return result != 0 ? result : ContinuationToken.compareValues(left[1], right[1]);
+        };
+        return ascending ? comparator : comparator.reversed();
+    }
+
+    private Object[] key(String sortField, T item) {
+        Object sortValue = sortField != null ? ReflectionUtil.getFieldValueSilent(sortField, item) : null;
+        return new Object[]{ sortValue, ReflectionUtil.getFieldValueSilent(idProperty, item) };
+    }
+
     private Predicate<T> toPredicate(Criterion criterion) {
         BaseCriterionToPredicateConverter<T> predicateConverter = new BaseCriterionToPredicateConverter<>() {
             @Override
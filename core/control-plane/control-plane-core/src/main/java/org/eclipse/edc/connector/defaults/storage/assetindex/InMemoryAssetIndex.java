@@ -16,6 +16,7 @@ package org.eclipse.edc.connector.defaults.storage.assetindex;
 
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.AssetSelectorExpression;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -71,17 +72,22 @@ public class InMemoryAssetIndex implements AssetIndex {
             // filter
             var result = filterBy(querySpec.getFilterExpression());
 
-            // ... then sort
+            // ... then sort, using the id as tiebreaker so that pages are stable, also when there is no sort field
             var sortField = querySpec.getSortField();
-            if (sortField != null) {
-                result = result.sorted((asset1, asset2) -> {
-                    var f1 = asComparable(asset1.getProperty(sortField));
-                    var f2 = asComparable(asset2.getProperty(sortField));
-                    if (f1 == null || f2 == null) {
-                        throw new IllegalArgumentException(format("Cannot sort by field %s, it does not exist on one or more Assets", sortField));
-                    }
-                    return querySpec.getSortOrder() == SortOrder.ASC ? f1.compareTo(f2) : f2.compareTo(f1);
+            var token = querySpec.getContinuationToken();
+            var ascending = querySpec.getSortOrder() == SortOrder.ASC;
+            result = result.sorted((asset1, asset2) -> {
+                var comparison = compareKeys(sortValue(asset1, sortField), asset1.getId(), sortValue(asset2, sortField), asset2.getId());
+                return ascending ? comparison : -comparison;
+            });
+
+            // ... then either continue after the token or skip the offset
+            if (token != null) {
+                result = result.filter(asset -> {
+                    var comparison = compareKeys(sortValue(asset, sortField), asset.getId(), token.getSortValue(), token.getId());
+                    return ascending ? comparison > 0 : comparison < 0;
                 });
+                return result.limit(querySpec.getLimit());
             }
 
             // ... then limit
@@ -201,6 +207,22 @@ public class InMemoryAssetIndex implements AssetIndex {
         return property instanceof Comparable ? (Comparable) property : null;
     }
 
+    private @Nullable Object sortValue(Asset asset, @Nullable String sortField) {
+        if (sortField == null) {
+            return null;
+        }
+        var value = asComparable(asset.getProperty(sortField));
+        if (value == null) {
+            throw new IllegalArgumentException(format("Cannot sort by field %s, it does not exist on one or more Assets", sortField));
+        }
+        return value;
+    }
+
+    private int compareKeys(Object sortValue1, Object id1, Object sortValue2, Object id2) {
+        var result = ContinuationToken.compareValues(sortValue1, sortValue2);
+        return result != 0 ? result : ContinuationToken.compareValues(id1, id2);
+    }
+
     private Asset delete(String assetId) {
         dataAddresses.remove(assetId);
         return cache.remove(assetId);
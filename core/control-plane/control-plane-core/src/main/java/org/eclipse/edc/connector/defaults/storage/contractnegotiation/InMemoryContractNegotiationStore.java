@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiat
 import org.eclipse.edc.connector.defaults.storage.InMemoryStatefulEntityStore;
 import org.eclipse.edc.connector.defaults.storage.ReflectionBasedQueryResolver;
 import org.eclipse.edc.spi.persistence.Lease;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
@@ -31,19 +32,29 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
 
 /**
  * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
+ * <p>
+ * Negotiations are additionally indexed by counter-party id, and negotiations with an agreement by the asset id of the
+ * agreement, so that lookups on these fields do not need to scan all negotiations.
  */
 public class InMemoryContractNegotiationStore implements ContractNegotiationStore {
 
+    private static final String COUNTER_PARTY_ID = "counterPartyId";
+    private static final String ASSET_ID = "assetId";
+
     private final QueryResolver<ContractNegotiation> negotiationQueryResolver = new ReflectionBasedQueryResolver<>(ContractNegotiation.class);
     private final QueryResolver<ContractAgreement> agreementQueryResolver = new ReflectionBasedQueryResolver<>(ContractAgreement.class);
     private final InMemoryStatefulEntityStore<ContractNegotiation> store;
+    private final Map<String, Set<String>> negotiationsByCounterParty = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> negotiationsByAgreementAsset = new ConcurrentHashMap<>();
 
     public InMemoryContractNegotiationStore() {
         this(UUID.randomUUID().toString(), Clock.systemUTC(), new HashMap<>());
@@ -74,28 +85,48 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
     }
 
     @Override
-    public void save(ContractNegotiation negotiation) {
+    public synchronized void save(ContractNegotiation negotiation) {
+        removeFromIndexes(store.find(negotiation.getId()));
         store.upsert(negotiation);
+        addToIndexes(negotiation);
     }
 
     @Override
-    public void delete(String negotiationId) {
+    public synchronized void delete(String negotiationId) {
         var negotiation = store.find(negotiationId);
         if (negotiation != null && negotiation.getContractAgreement() != null) {
             throw new IllegalStateException(format("Cannot delete ContractNegotiation [%s]: ContractAgreement already created.", negotiationId));
         }
         store.delete(negotiationId);
+        removeFromIndexes(negotiation);
     }
 
     @Override
     public @NotNull Stream<ContractNegotiation> queryNegotiations(QuerySpec querySpec) {
-        return negotiationQueryResolver.query(store.findAll(), querySpec);
+        var counterPartyId = equalsOperand(querySpec, COUNTER_PARTY_ID);
+        var negotiations = counterPartyId != null ? findAll(negotiationsByCounterParty.get(counterPartyId)) : store.findAll();
+        return negotiationQueryResolver.query(negotiations, querySpec);
     }
 
 
     @Override
     public @NotNull Stream<ContractAgreement> queryAgreements(QuerySpec querySpec) {
-        return agreementQueryResolver.query(getAgreements(), querySpec);
+        return agreementQueryResolver.query(getAgreements(querySpec), querySpec);
+    }
+
+    @Override
+    public boolean existsAgreementForAsset(String assetId) {
+        var negotiationIds = negotiationsByAgreementAsset.get(assetId);
+        return negotiationIds != null && !negotiationIds.isEmpty();
+    }
+
+    @Override
+    public long countAgreements(QuerySpec querySpec) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(querySpec.getFilterExpression())
+                .limit(Integer.MAX_VALUE)
+                .build();
+        return agreementQueryResolver.query(getAgreements(query), query).count();
     }
 
     @Override
@@ -103,10 +134,73 @@ public class InMemoryContractNegotiationStore implements ContractNegotiationStor
         return store.nextForState(state, max);
     }
 
+    /**
+     * Returns the candidates for an agreement query, which are narrowed down by the asset index if the query filters
+     * on an asset id.
+     */
     @NotNull
-    private Stream<ContractAgreement> getAgreements() {
-        return store.findAll()
+    private Stream<ContractAgreement> getAgreements(QuerySpec querySpec) {
+        var assetId = equalsOperand(querySpec, ASSET_ID);
+        var negotiations = assetId != null ? findAll(negotiationsByAgreementAsset.get(assetId)) : store.findAll();
+        return negotiations
                 .map(ContractNegotiation::getContractAgreement)
                 .filter(Objects::nonNull);
     }
+
+    private Stream<ContractNegotiation> findAll(@Nullable Set<String> negotiationIds) {
+        if (negotiationIds == null) {
+            return Stream.empty();
+        }
+        return negotiationIds.stream()
+                .map(store::find)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Returns the right operand of an equality criterion on the given field, or null if the query has none.
+     */
+    @Nullable
+    private String equalsOperand(QuerySpec querySpec, String field) {
+        return querySpec.getFilterExpression().stream()
+                .filter(criterion -> field.equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()))
+                .map(Criterion::getOperandRight)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void addToIndexes(ContractNegotiation negotiation) {
+        add(negotiationsByCounterParty, negotiation.getCounterPartyId(), negotiation.getId());
+        var agreement = negotiation.getContractAgreement();
+        if (agreement != null) {
+            add(negotiationsByAgreementAsset, agreement.getAssetId(), negotiation.getId());
+        }
+    }
+
+    private void removeFromIndexes(@Nullable ContractNegotiation negotiation) {
+        if (negotiation == null) {
+            return;
+        }
+        remove(negotiationsByCounterParty, negotiation.getCounterPartyId(), negotiation.getId());
+        var agreement = negotiation.getContractAgreement();
+        if (agreement != null) {
+            remove(negotiationsByAgreementAsset, agreement.getAssetId(), negotiation.getId());
+        }
+    }
+
+    private void add(Map<String, Set<String>> index, @Nullable String key, String negotiationId) {
+        if (key != null) {
+            index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(negotiationId);
+        }
+    }
+
+    private void remove(Map<String, Set<String>> index, @Nullable String key, String negotiationId) {
+        if (key != null) {
+            index.computeIfPresent(key, (k, ids) -> {
+                ids.remove(negotiationId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
 }
@@ -60,6 +60,16 @@ public class InMemoryTransferProcessStore implements TransferProcessStore {
                 .orElse(null);
     }
 
+    @Override
+    @Nullable
+    public Map<String, String> propertiesForDataRequestId(String dataRequestId) {
+        return store.findAll()
+                .filter(p -> dataRequestId.equals(p.getDataRequest().getId()))
+                .findFirst()
+                .map(TransferProcess::getProperties)
+                .orElse(null);
+    }
+
     @Override
     public void save(TransferProcess process) {
         store.upsert(process);
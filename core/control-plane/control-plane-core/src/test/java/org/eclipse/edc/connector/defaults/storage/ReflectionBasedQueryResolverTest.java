@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.defaults.storage;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
@@ -21,6 +22,7 @@ import org.eclipse.edc.spi.query.SortOrder;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -104,6 +106,51 @@ class ReflectionBasedQueryResolverTest {
         assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(8, 7);
     }
 
+    @Test
+    void verifyQuery_continuationToken() {
+        var items = IntStream.range(0, 10).mapToObj(i -> new FakeItem(i, i % 2 == 0 ? "Alice" : "Bob")).collect(Collectors.toList());
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(4).build();
+        assertThat(queryResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(0, 2, 4, 6);
+
+        var secondPage = QuerySpec.Builder.newInstance().sortField("name").limit(4)
+                .continuationToken(ContinuationToken.of("Alice", 6)).build();
+        assertThat(queryResolver.query(items.stream(), secondPage)).extracting(FakeItem::getId).containsExactly(8, 1, 3, 5);
+    }
+
+    @Test
+    void verifyQuery_continuationTokenDesc_ignoresOffset() {
+        var stream = IntStream.range(0, 10).mapToObj(FakeItem::new);
+
+        var spec = QuerySpec.Builder.newInstance().sortOrder(SortOrder.DESC).offset(5).limit(3)
+                .continuationToken(ContinuationToken.of(null, 7)).build();
+        assertThat(queryResolver.query(stream, spec)).extracting(FakeItem::getId).containsExactly(6, 5, 4);
+    }
+
+    @Test
+    void verifyQuery_continuationToken_withoutSortField() {
+        var items = IntStream.range(0, 10).mapToObj(FakeItem::new).collect(Collectors.toList());
+        Collections.shuffle(items);
+
+        var firstPage = QuerySpec.Builder.newInstance().limit(4).build();
+        assertThat(queryResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(0, 1, 2, 3);
+
+        var secondPage = QuerySpec.Builder.newInstance().limit(4).continuationToken(ContinuationToken.of(null, 3)).build();
+        assertThat(queryResolver.query(items.stream(), secondPage)).extracting(FakeItem::getId).containsExactly(4, 5, 6, 7);
+    }
+
+    @Test
+    void verifyQuery_continuationToken_nullSortValuesFirst() {
+        var items = IntStream.range(0, 6).mapToObj(i -> new FakeItem(i, i < 3 ? null : "Alice")).collect(Collectors.toList());
+
+        var firstPage = QuerySpec.Builder.newInstance().sortField("name").limit(2).build();
+        assertThat(queryResolver.query(items.stream(), firstPage)).extracting(FakeItem::getId).containsExactly(0, 1);
+
+        var secondPage = QuerySpec.Builder.newInstance().sortField("name").limit(2)
+                .continuationToken(ContinuationToken.of(null, 1)).build();
+        assertThat(queryResolver.query(items.stream(), secondPage)).extracting(FakeItem::getId).containsExactly(2, 3);
+    }
+
     @Test
     void verifyExceptionThrown_invalidCriterion() {
         var stream = Stream.concat(
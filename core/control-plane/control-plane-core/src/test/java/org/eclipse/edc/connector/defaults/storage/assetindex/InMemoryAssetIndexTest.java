@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.defaults.storage.assetindex;
 
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.AssetSelectorExpression;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -268,6 +269,20 @@ class InMemoryAssetIndexTest extends AssetIndexTestBase {
         assertThat(index.queryAssets(spec)).containsAll(assets);
     }
 
+    @Test
+    void findAll_withContinuationToken() {
+        IntStream.range(0, 10)
+                .mapToObj(i -> createAsset("test-asset", "id" + i))
+                .forEach(a -> index.accept(a, createDataAddress(a)));
+
+        var spec = QuerySpec.Builder.newInstance()
+                .sortField(Asset.PROPERTY_ID)
+                .limit(3)
+                .continuationToken(ContinuationToken.of("id4", "id4"))
+                .build();
+        assertThat(index.queryAssets(spec)).extracting(Asset::getId).containsExactly("id5", "id6", "id7");
+    }
+
     @Test
     void deleteById_whenExists_deletes() {
         var asset = createAsset("foobar");
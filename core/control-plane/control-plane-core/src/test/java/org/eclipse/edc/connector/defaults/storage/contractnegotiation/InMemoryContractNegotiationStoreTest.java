@@ -375,6 +375,21 @@ class InMemoryContractNegotiationStoreTest extends ContractNegotiationStoreTestB
                 .extracting(ContractNegotiation::getId).containsExactlyInAnyOrder("negotiation1", "negotiation2");
     }
 
+    @Test
+    void save_update_shouldMoveIndexEntries() {
+        var negotiation = TestFunctions.createNegotiationBuilder("negotiation1").counterPartyId("party1").build();
+        store.save(negotiation);
+
+        var agreement = TestFunctions.createAgreementBuilder().id("contract1").build();
+        store.save(TestFunctions.createNegotiationBuilder("negotiation1").counterPartyId("party2").contractAgreement(agreement).build());
+
+        var byOldParty = QuerySpec.Builder.newInstance().filter(List.of(new Criterion("counterPartyId", "=", "party1"))).build();
+        var byNewParty = QuerySpec.Builder.newInstance().filter(List.of(new Criterion("counterPartyId", "=", "party2"))).build();
+        assertThat(store.queryNegotiations(byOldParty)).isEmpty();
+        assertThat(store.queryNegotiations(byNewParty)).extracting(ContractNegotiation::getId).containsExactly("negotiation1");
+        assertThat(store.existsAgreementForAsset(agreement.getAssetId())).isTrue();
+    }
+
     @Test
     void findContractAgreement_returnsNullIfAgreementDoesNotExist() {
         store.save(TestFunctions.createNegotiationBuilder("negotiation1").build());
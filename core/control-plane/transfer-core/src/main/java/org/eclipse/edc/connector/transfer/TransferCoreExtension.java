@@ -48,8 +48,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
-import org.eclipse.edc.spi.command.BoundedCommandQueue;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
+import org.eclipse.edc.spi.command.CommandQueueFactory;
 import org.eclipse.edc.spi.command.CommandRunner;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
@@ -126,6 +126,9 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private Telemetry telemetry;
 
+    @Inject
+    private CommandQueueFactory commandQueueFactory;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -161,7 +164,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var endpointDataReferenceTransformerRegistry = new EndpointDataReferenceTransformerRegistryImpl();
         context.registerService(EndpointDataReferenceTransformerRegistry.class, endpointDataReferenceTransformerRegistry);
 
-        var commandQueue = new BoundedCommandQueue<TransferProcessCommand>(10);
+        var commandQueue = commandQueueFactory.create("transfer-process", TransferProcessCommand.class);
         var observable = new TransferProcessObservableImpl();
         context.registerService(TransferProcessObservable.class, observable);
 
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
@@ -44,8 +45,21 @@ public class EndpointDataReferenceReceiverRegistryImpl implements EndpointDataRe
         if (receivers.isEmpty()) {
             return CompletableFuture.failedFuture(new EdcException("There are no registered receivers."));
         } else {
-            return receivers.stream()
+            var deliveries = receivers.stream()
                     .map(receiver -> receiver.send(edr))
+                    .collect(Collectors.toList());
+
+            // report a rejection right away instead of waiting for the other receivers to deliver
+            var rejection = deliveries.stream()
+                    .filter(delivery -> delivery.isDone() && !delivery.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .filter(Result::failed)
+                    .findFirst();
+            if (rejection.isPresent()) {
+                return CompletableFuture.completedFuture(Result.failure(rejection.get().getFailureMessages()));
+            }
+
+            return deliveries.stream()
                     .collect(asyncAllOf())
                     .thenApply(results -> results.stream()
                             .filter(Result::failed)
@@ -25,8 +25,10 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 
 /**
@@ -42,15 +44,16 @@ public class DataFlowManagerImpl implements DataFlowManager {
 
     @WithSpan
     @Override
-    public @NotNull StatusResult<Void> initiate(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+    public @NotNull CompletableFuture<StatusResult<Void>> initiate(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
         try {
             return controllers.stream()
                     .filter(controller -> controller.canHandle(dataRequest, contentAddress))
                     .findFirst()
-                    .map(controller -> controller.initiateFlow(dataRequest, contentAddress, policy))
-                    .orElseGet(() -> StatusResult.failure(FATAL_ERROR, controllerNotFound(dataRequest.getId())));
+                    .map(controller -> controller.initiateFlow(dataRequest, contentAddress, policy)
+                            .exceptionally(throwable -> StatusResult.failure(FATAL_ERROR, runtimeException(dataRequest.getId(), throwable.getLocalizedMessage()))))
+                    .orElseGet(() -> completedFuture(StatusResult.failure(FATAL_ERROR, controllerNotFound(dataRequest.getId()))));
         } catch (Exception e) {
-            return StatusResult.failure(FATAL_ERROR, runtimeException(dataRequest.getId(), e.getLocalizedMessage()));
+            return completedFuture(StatusResult.failure(FATAL_ERROR, runtimeException(dataRequest.getId(), e.getLocalizedMessage())));
         }
     }
 
@@ -40,6 +40,8 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferCompletionM
 import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferRequestMessage;
 import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferStartMessage;
 import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTerminationMessage;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.command.CommandProcessor;
 import org.eclipse.edc.spi.command.CommandQueue;
@@ -55,6 +57,7 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.StateProcessorImpl;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
@@ -64,6 +67,7 @@ import org.jetbrains.annotations.NotNull;
 import java.time.Clock;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -376,6 +380,10 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return false; // should never happen: a provider transfer cannot be REQUESTING
         }
 
+        if (deferIfCounterPartyUnavailable(process)) {
+            return false;
+        }
+
         var dataRequest = process.getDataRequest();
 
         var message = TransferRequestMessage.Builder.newInstance()
@@ -443,15 +451,40 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
 
         var description = "Initiate data flow";
 
-        return entityRetryProcessFactory.doSyncProcess(process, () -> dataFlowManager.initiate(dataRequest, contentAddress, policy))
-                .onSuccess((t, content) -> sendTransferStartMessage(t))
-                .onFatalError((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
-                .onFailure((t, failure) -> transitToStarting(t))
-                .onRetryExhausted((p, failure) -> transitionToTerminating(p, failure.getFailureDetail()))
+        return entityRetryProcessFactory.doAsyncProcess(process, () -> initiateFlow(dataRequest, contentAddress, policy))
+                .entityRetrieve(transferProcessStore::find)
+                .onSuccess((t, result) -> {
+                    if (result.succeeded()) {
+                        sendTransferStartMessage(t);
+                    } else {
+                        transitionToTerminating(t, result.getFailureDetail());
+                    }
+                })
+                .onFailure((t, throwable) -> transitToStarting(t))
+                .onRetryExhausted((t, throwable) -> transitionToTerminating(t, throwable.getMessage(), throwable))
                 .onDelay(this::breakLease)
                 .execute(description);
     }
 
+    /**
+     * Initiates the data flow without blocking the state machine. A failure that can be retried completes the future
+     * exceptionally, so that it gets retried by the retry process, fatal errors are passed on
+     * in the result.
+     */
+    private CompletableFuture<StatusResult<Void>> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+        var future = new CompletableFuture<StatusResult<Void>>();
+        dataFlowManager.initiate(dataRequest, contentAddress, policy).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else if (result.failed() && !result.fatalError()) {
+                future.completeExceptionally(new EdcException(result.getFailureDetail()));
+            } else {
+                future.complete(result);
+            }
+        });
+        return future;
+    }
+
     @WithSpan
     private void sendTransferStartMessage(TransferProcess process) {
         var dataRequest = process.getDataRequest();
@@ -507,7 +540,7 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
                 transitionToCompleting(transferProcess);
                 return true;
             } else {
-                monitor.debug(format("Transfer process %s not COMPLETED yet. The process will stay in STARTED.", transferProcess.getId()));
+                monitor.debug(() -> format("Transfer process %s not COMPLETED yet. The process will stay in STARTED.", transferProcess.getId()));
                 breakLease(transferProcess);
                 return false;
             }
@@ -522,6 +555,10 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
      */
     @WithSpan
     private boolean processCompleting(TransferProcess process) {
+        if (deferIfCounterPartyUnavailable(process)) {
+            return false;
+        }
+
         var dataRequest = process.getDataRequest();
         var message = TransferCompletionMessage.Builder.newInstance()
                 .protocol(dataRequest.getProtocol())
@@ -552,6 +589,10 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
             return true;
         }
 
+        if (deferIfCounterPartyUnavailable(process)) {
+            return false;
+        }
+
         var dataRequest = process.getDataRequest();
         var message = TransferTerminationMessage.Builder.newInstance()
                 .connectorAddress(dataRequest.getConnectorAddress())
@@ -798,6 +839,26 @@ public class TransferProcessManagerImpl implements TransferProcessManager, Provi
         transferProcessStore.save(process);
     }
 
+    /**
+     * Defers the transfer process without attempting to send anything if its counter-party is currently unavailable.
+     * The process is not fetched again before the counter-party is expected to be reachable, and the deferral does not
+     * count as a failed attempt.
+     *
+     * @return true if the process has been deferred
+     */
+    private boolean deferIfCounterPartyUnavailable(TransferProcess process) {
+        var connectorAddress = process.getDataRequest().getConnectorAddress();
+        var unavailableFor = dispatcherRegistry.unavailableFor(connectorAddress);
+        if (unavailableFor.isZero()) {
+            return false;
+        }
+
+        monitor.debug(() -> format("Process %s deferred for %s, counter-party %s is unavailable", process.getId(), unavailableFor, connectorAddress));
+        process.setNextAttemptAt(clock.millis() + unavailableFor.toMillis());
+        breakLease(process);
+        return true;
+    }
+
     @NotNull
     private Result<Void> toFatalError(StatusResult<?> result) {
         if (result.fatalError()) {
@@ -109,6 +109,21 @@ class EndpointDataReferenceReceiverRegistryImplTest {
         });
     }
 
+    @Test
+    void receiveAll_shouldReportRejectionWithoutWaitingForPendingDeliveries() {
+        registry.registerReceiver(receiver1);
+        registry.registerReceiver(receiver2);
+        var edr = EndpointDataReferenceFixtures.createEndpointDataReference();
+
+        when(receiver1.send(any())).thenReturn(new CompletableFuture<>());
+        when(receiver2.send(any())).thenReturn(CompletableFuture.completedFuture(Result.failure("rejected")));
+
+        var future = registry.receiveAll(edr);
+
+        assertThat(future).isCompleted();
+        assertThat(future.join().getFailureMessages()).containsExactly("rejected");
+    }
+
     @Test
     void receiveAll_throwsExceptionIfNoReceiversRegistered() {
         var edr = EndpointDataReferenceFixtures.createEndpointDataReference();
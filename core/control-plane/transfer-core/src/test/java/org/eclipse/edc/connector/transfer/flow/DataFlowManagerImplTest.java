@@ -22,6 +22,8 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.Test;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 import static org.mockito.ArgumentMatchers.any;
@@ -40,10 +42,10 @@ class DataFlowManagerImplTest {
         var dataAddress = DataAddress.Builder.newInstance().type("test-type").build();
 
         when(controller.canHandle(any(), any())).thenReturn(true);
-        when(controller.initiateFlow(any(), any(), any())).thenReturn(StatusResult.success());
+        when(controller.initiateFlow(any(), any(), any())).thenReturn(completedFuture(StatusResult.success()));
         manager.register(controller);
 
-        var response = manager.initiate(dataRequest, dataAddress, policy);
+        var response = manager.initiate(dataRequest, dataAddress, policy).join();
 
         assertThat(response.succeeded()).isTrue();
     }
@@ -59,7 +61,7 @@ class DataFlowManagerImplTest {
         when(controller.canHandle(any(), any())).thenReturn(false);
         manager.register(controller);
 
-        var response = manager.initiate(dataRequest, dataAddress, policy);
+        var response = manager.initiate(dataRequest, dataAddress, policy).join();
 
         assertThat(response.succeeded()).isFalse();
         assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
@@ -78,7 +80,27 @@ class DataFlowManagerImplTest {
         when(controller.initiateFlow(any(), any(), any())).thenThrow(new EdcException(errorMsg));
         manager.register(controller);
 
-        var response = manager.initiate(dataRequest, dataAddress, policy);
+        var response = manager.initiate(dataRequest, dataAddress, policy).join();
+
+        assertThat(response.succeeded()).isFalse();
+        assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
+        assertThat(response.getFailureMessages()).hasSize(1).first().matches(message -> message.contains(errorMsg));
+    }
+
+    @Test
+    void should_return_fatal_error_if_controller_completes_exceptionally() {
+        var manager = new DataFlowManagerImpl();
+        var controller = mock(DataFlowController.class);
+        var dataRequest = DataRequest.Builder.newInstance().destinationType("test-dest-type").build();
+        var dataAddress = DataAddress.Builder.newInstance().type("test-type").build();
+        var policy = Policy.Builder.newInstance().build();
+
+        var errorMsg = "Test Error Message";
+        when(controller.canHandle(any(), any())).thenReturn(true);
+        when(controller.initiateFlow(any(), any(), any())).thenReturn(failedFuture(new EdcException(errorMsg)));
+        manager.register(controller);
+
+        var response = manager.initiate(dataRequest, dataAddress, policy).join();
 
         assertThat(response.succeeded()).isFalse();
         assertThat(response.getFailure().status()).isEqualTo(FATAL_ERROR);
@@ -64,8 +64,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -95,6 +97,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -394,6 +397,20 @@ class TransferProcessManagerImplTest {
         });
     }
 
+    @Test
+    void requesting_shouldDeferWithoutSending_whenCounterPartyIsUnavailable() {
+        var process = createTransferProcess(REQUESTING);
+        when(dispatcherRegistry.unavailableFor("http://an/address")).thenReturn(Duration.ofMinutes(1));
+        when(transferProcessStore.nextForState(eq(REQUESTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferProcessStore).save(argThat(p -> p.getState() == REQUESTING.code() && p.getNextAttemptAt() > 0));
+            verify(dispatcherRegistry, never()).send(any(), any());
+        });
+    }
+
     @Test
     void requesting_OnFailureAndRetriesNotExhausted_updatesStateCountForRetry() {
         var process = createTransferProcess(REQUESTING);
@@ -481,7 +498,7 @@ class TransferProcessManagerImplTest {
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.find(process.getId())).thenReturn(process);
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.success());
+        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(completedFuture(StatusResult.success()));
         when(dispatcherRegistry.send(any(), isA(TransferStartMessage.class))).thenReturn(completedFuture("any"));
 
         manager.start();
@@ -499,7 +516,7 @@ class TransferProcessManagerImplTest {
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.find(process.getId())).thenReturn(process);
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.success());
+        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(completedFuture(StatusResult.success()));
         when(dispatcherRegistry.send(any(), isA(TransferStartMessage.class))).thenReturn(failedFuture(new EdcException("error in sending the message")));
 
         manager.start();
@@ -510,10 +527,29 @@ class TransferProcessManagerImplTest {
         });
     }
 
+    @Test
+    void starting_shouldNotBlockOtherProcesses_whenDataFlowInitiationIsPending() {
+        var pending = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
+        var process = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
+        when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
+        when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(pending, process)).thenReturn(emptyList());
+        when(transferProcessStore.find(process.getId())).thenReturn(process);
+        when(dataFlowManager.initiate(same(pending.getDataRequest()), any(), any())).thenReturn(new CompletableFuture<>());
+        when(dataFlowManager.initiate(same(process.getDataRequest()), any(), any())).thenReturn(completedFuture(StatusResult.success()));
+        when(dispatcherRegistry.send(any(), isA(TransferStartMessage.class))).thenReturn(completedFuture("any"));
+
+        manager.start();
+
+        await().untilAsserted(() -> {
+            verify(transferProcessStore).save(argThat(p -> p.getId().equals(process.getId()) && p.getState() == STARTED.code()));
+            verify(transferProcessStore, never()).save(argThat(p -> p.getId().equals(pending.getId())));
+        });
+    }
+
     @Test
     void starting_onFailureAndRetriesNotExhausted_updatesStateCountForRetry() {
         var process = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY));
+        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY)));
         when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.find(process.getId())).thenReturn(process, process.toBuilder().state(STARTING.code()).build());
 
@@ -529,7 +565,8 @@ class TransferProcessManagerImplTest {
         var process = createTransferProcess(STARTING).toBuilder().type(PROVIDER).build();
         when(policyArchive.findPolicyForContract(anyString())).thenReturn(Policy.Builder.newInstance().build());
         when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR));
+        when(transferProcessStore.find(process.getId())).thenReturn(process);
+        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR)));
 
         manager.start();
 
@@ -541,7 +578,7 @@ class TransferProcessManagerImplTest {
     @Test
     void starting_onFailureAndRetriesExhausted_transitToTerminating() {
         var process = createTransferProcessBuilder(STARTING).type(PROVIDER).stateCount(RETRY_LIMIT + 1).build();
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY));
+        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY)));
         when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.find(process.getId())).thenReturn(process);
 
@@ -555,7 +592,7 @@ class TransferProcessManagerImplTest {
     @Test
     void starting_whenShouldWait_updatesStateCount() {
         var process = createTransferProcessBuilder(STARTING).type(PROVIDER).stateCount(2).stateTimestamp(clock.millis() + 1000L).build();
-        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(StatusResult.failure(ResponseStatus.ERROR_RETRY));
+        when(dataFlowManager.initiate(any(), any(), any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.ERROR_RETRY)));
         when(transferProcessStore.nextForState(eq(STARTING.code()), anyInt())).thenReturn(List.of(process)).thenReturn(emptyList());
         when(transferProcessStore.find(process.getId())).thenReturn(process, process.toBuilder().state(STARTING.code()).build());
 
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.time.Clock;
+import java.util.function.Predicate;
+
+/**
+ * Tells whether a {@link DataPlaneInstance} is alive. Instances that send heartbeats expire once they missed a number of
+ * consecutive heartbeats, statically registered instances never expire.
+ */
+public class DataPlaneInstanceLiveness implements Predicate<DataPlaneInstance> {
+
+    public static final int DEFAULT_MISSED_HEARTBEATS = 3;
+
+    private final Clock clock;
+    private final int missedHeartbeats;
+
+    public DataPlaneInstanceLiveness(Clock clock, int missedHeartbeats) {
+        this.clock = clock;
+        this.missedHeartbeats = missedHeartbeats;
+    }
+
+    @Override
+    public boolean test(DataPlaneInstance instance) {
+        var interval = instance.getHeartbeatInterval();
+        return interval <= 0 || clock.millis() - instance.getLastActive() <= interval * missedHeartbeats;
+    }
+}
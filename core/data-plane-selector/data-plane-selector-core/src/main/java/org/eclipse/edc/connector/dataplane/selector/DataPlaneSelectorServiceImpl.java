@@ -24,8 +24,10 @@ import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
@@ -34,17 +36,30 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final Clock clock;
+    private final Predicate<DataPlaneInstance> liveness;
 
     public DataPlaneSelectorServiceImpl(DataPlaneSelector selector, DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(selector, store, selectionStrategyRegistry, transactionContext, Clock.systemUTC(),
+                new DataPlaneInstanceLiveness(Clock.systemUTC(), DataPlaneInstanceLiveness.DEFAULT_MISSED_HEARTBEATS));
+    }
+
+    public DataPlaneSelectorServiceImpl(DataPlaneSelector selector, DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                        Clock clock, Predicate<DataPlaneInstance> liveness) {
         this.selector = selector;
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.clock = clock;
+        this.liveness = liveness;
     }
 
+    /**
+     * Returns all instances that are alive, i.e. statically registered ones and the ones that still send heartbeats.
+     */
     @Override
     public List<DataPlaneInstance> getAll() {
-        return store.getAll().collect(Collectors.toList());
+        return store.getAll().filter(liveness).collect(Collectors.toList());
     }
 
     @Override
@@ -66,14 +81,19 @@ public class DataPlaneSelectorServiceImpl implements DataPlaneSelectorService {
         return selectionStrategyRegistry.getAll();
     }
 
+    /**
+     * Creates or updates the instance. Instances that send heartbeats are stamped with the time of receipt, so that their
+     * expiry does not depend on the clock of the data plane.
+     */
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
+        var received = instance.getHeartbeatInterval() > 0 ? instance.toBuilder().lastActive(clock.millis()).build() : instance;
         return transactionContext.execute(() -> {
             StoreResult<Void> result;
-            if (store.findById(instance.getId()) == null) {
-                result = store.create(instance);
+            if (store.findById(received.getId()) == null) {
+                result = store.create(received);
             } else {
-                result = store.update(instance);
+                result = store.update(received);
             }
             return ServiceResult.from(result);
         });
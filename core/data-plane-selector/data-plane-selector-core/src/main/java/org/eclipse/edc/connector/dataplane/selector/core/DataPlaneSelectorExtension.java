@@ -14,41 +14,55 @@
 
 package org.eclipse.edc.connector.dataplane.selector.core;
 
+import org.eclipse.edc.connector.dataplane.selector.DataPlaneInstanceLiveness;
 import org.eclipse.edc.connector.dataplane.selector.DataPlaneSelectorServiceImpl;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastOutstandingTransfersSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.WeightedRoundRobinSelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.strategy.DefaultSelectionStrategyRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+
 @Provides({ DataPlaneSelector.class, SelectionStrategyRegistry.class, DataPlaneSelectorService.class })
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    @Setting(value = "Number of consecutive heartbeats a self-registered data plane instance may miss before it is no longer selected", defaultValue = "3")
+    private static final String MISSED_HEARTBEATS = "edc.dataplane.selector.heartbeat.missed";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
     @Inject
     private TransactionContext transactionContext;
 
+    @Inject
+    private Clock clock;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var selector = new DataPlaneSelectorImpl(instanceStore);
+        var liveness = new DataPlaneInstanceLiveness(clock, context.getSetting(MISSED_HEARTBEATS, DataPlaneInstanceLiveness.DEFAULT_MISSED_HEARTBEATS));
+        var selector = new DataPlaneSelectorImpl(instanceStore, liveness);
 
         var strategy = new DefaultSelectionStrategyRegistry();
         strategy.add(new RandomSelectionStrategy());
+        strategy.add(new LeastOutstandingTransfersSelectionStrategy());
+        strategy.add(new WeightedRoundRobinSelectionStrategy());
 
         context.registerService(DataPlaneSelector.class, selector);
         context.registerService(SelectionStrategyRegistry.class, strategy);
-        context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy, transactionContext));
+        context.registerService(DataPlaneSelectorService.class, new DataPlaneSelectorServiceImpl(selector, instanceStore, strategy, transactionContext, clock, liveness));
     }
 
 }
@@ -14,24 +14,36 @@
 
 package org.eclipse.edc.connector.dataplane.selector.core;
 
+import org.eclipse.edc.connector.dataplane.selector.DataPlaneInstanceLiveness;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
+import java.time.Clock;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 public class DataPlaneSelectorImpl implements DataPlaneSelector {
 
     private final DataPlaneInstanceStore instanceStore;
+    private final Predicate<DataPlaneInstance> liveness;
 
     public DataPlaneSelectorImpl(DataPlaneInstanceStore instanceStore) {
+        this(instanceStore, new DataPlaneInstanceLiveness(Clock.systemUTC(), DataPlaneInstanceLiveness.DEFAULT_MISSED_HEARTBEATS));
+    }
+
+    public DataPlaneSelectorImpl(DataPlaneInstanceStore instanceStore, Predicate<DataPlaneInstance> liveness) {
         this.instanceStore = instanceStore;
+        this.liveness = liveness;
     }
 
     @Override
     public DataPlaneInstance select(DataAddress sourceAddress, DataAddress destinationAddress, SelectionStrategy strategy) {
-        return strategy.apply(instanceStore.getAll().filter(di -> di.canHandle(sourceAddress, destinationAddress)).collect(Collectors.toList()));
+        return strategy.apply(instanceStore.getAll()
+                .filter(di -> di.canHandle(sourceAddress, destinationAddress))
+                .filter(liveness)
+                .collect(Collectors.toList()));
     }
 }
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelector;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.store.InMemoryDataPlaneInstanceStore;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DataPlaneSelectorServiceImplTest {
+
+    private static final long NOW = 100_000;
+
+    private final InMemoryDataPlaneInstanceStore store = new InMemoryDataPlaneInstanceStore();
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+    private final DataPlaneSelectorServiceImpl service = new DataPlaneSelectorServiceImpl(mock(DataPlaneSelector.class), store,
+            mock(SelectionStrategyRegistry.class), new NoopTransactionContext(), clock, new DataPlaneInstanceLiveness(clock, 3));
+
+    @Test
+    void addInstance_shouldStampHeartbeatWithTimeOfReceipt() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("dp-1").url("http://dp1/transfer")
+                .heartbeatInterval(1000).lastActive(NOW - 60_000).build();
+
+        var result = service.addInstance(instance);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(store.findById("dp-1").getLastActive()).isEqualTo(NOW);
+        assertThat(service.getAll()).extracting(DataPlaneInstance::getId).containsExactly("dp-1");
+    }
+
+    @Test
+    void addInstance_shouldKeepStaticInstanceUnchanged() {
+        var instance = DataPlaneInstance.Builder.newInstance().id("dp-1").url("http://dp1/transfer").lastActive(42).build();
+
+        service.addInstance(instance);
+
+        assertThat(store.findById("dp-1").getLastActive()).isEqualTo(42);
+    }
+}
@@ -14,12 +14,17 @@
 
 package org.eclipse.edc.connector.dataplane.selector.core;
 
+import org.eclipse.edc.connector.dataplane.selector.DataPlaneInstanceLiveness;
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -102,6 +107,27 @@ class DataPlaneSelectorImplTest {
         assertThat(result).isNotNull().extracting(DataPlaneInstance::getId).isEqualTo("instance1");
     }
 
+    @Test
+    void select_skipsExpiredInstances() {
+        var clock = Clock.fixed(Instant.ofEpochMilli(100_000), ZoneOffset.UTC);
+        var liveSelector = new DataPlaneSelectorImpl(storeMock, new DataPlaneInstanceLiveness(clock, 3));
+        var expired = createInstanceMock("expired", true);
+        when(expired.getHeartbeatInterval()).thenReturn(10_000L);
+        when(expired.getLastActive()).thenReturn(69_999L);
+        var alive = createInstanceMock("alive", true);
+        when(alive.getHeartbeatInterval()).thenReturn(10_000L);
+        when(alive.getLastActive()).thenReturn(70_000L);
+        var registeredStatically = createInstanceMock("static", true);
+        when(storeMock.getAll()).thenAnswer(i -> Stream.of(expired, alive, registeredStatically));
+
+        var selected = IntStream.range(0, 50)
+                .mapToObj(i -> liveSelector.select(createAddress("AmazonS3"), createAddress("http")))
+                .map(DataPlaneInstance::getId)
+                .collect(Collectors.toSet());
+
+        assertThat(selected).containsExactlyInAnyOrder("alive", "static");
+    }
+
     @Test
     void select_verifyDefaultRandomSelection() {
 
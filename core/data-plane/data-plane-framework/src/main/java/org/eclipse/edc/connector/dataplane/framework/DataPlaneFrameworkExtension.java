@@ -115,6 +115,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(registerStore(context))
                 .transferProcessClient(transferProcessApiClient)
+                .transferredBytes(pipelineService::transferredBytes)
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .build();
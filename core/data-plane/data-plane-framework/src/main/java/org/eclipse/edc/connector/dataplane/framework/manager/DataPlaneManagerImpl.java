@@ -37,6 +37,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 import static java.lang.String.format;
 
@@ -48,6 +50,7 @@ import static java.lang.String.format;
  */
 public class DataPlaneManagerImpl implements DataPlaneManager {
     private final AtomicBoolean active = new AtomicBoolean();
+    private final AtomicInteger activeTransfers = new AtomicInteger();
     private int queueCapacity = 10000;
     private int workers = 1;
     private long waitTimeout = 100;
@@ -61,6 +64,7 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
     private TransferServiceRegistry transferServiceRegistry;
 
     private TransferProcessApiClient transferProcessClient;
+    private LongSupplier transferredBytes = () -> 0;
 
     private DataPlaneManagerImpl() {
 
@@ -109,12 +113,12 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
 
     @Override
     public CompletableFuture<StatusResult<Void>> transfer(DataSource source, DataFlowRequest request) {
-        return pipelineService.transfer(source, request);
+        return track(pipelineService.transfer(source, request));
     }
 
     @Override
     public CompletableFuture<StatusResult<Void>> transfer(DataSink sink, DataFlowRequest request) {
-        return pipelineService.transfer(sink, request);
+        return track(pipelineService.transfer(sink, request));
     }
 
     @Override
@@ -122,6 +126,21 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         return store.getState(processId);
     }
 
+    @Override
+    public int queuedTransfers() {
+        return queue == null ? 0 : queue.size();
+    }
+
+    @Override
+    public int activeTransfers() {
+        return activeTransfers.get();
+    }
+
+    @Override
+    public long transferredBytes() {
+        return transferredBytes.getAsLong();
+    }
+
     private void run() {
         while (active.get()) {
             DataFlowRequest request = null;
@@ -156,7 +175,7 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             // TODO persist error details
             store.completed(request.getProcessId());
         } else {
-            transferService.transfer(request).whenComplete((result, exception) -> {
+            track(transferService.transfer(request)).whenComplete((result, exception) -> {
 
                 if (request.isTrackable()) {
                     // TODO persist TransferResult or error details
@@ -170,6 +189,14 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
         }
     }
 
+    /**
+     * Counts the transfer as active until it completes.
+     */
+    private CompletableFuture<StatusResult<Void>> track(CompletableFuture<StatusResult<Void>> transfer) {
+        activeTransfers.incrementAndGet();
+        return transfer.whenComplete((result, exception) -> activeTransfers.decrementAndGet());
+    }
+
     private void onTransferFinished(DataFlowRequest request, StatusResult<Void> result, Throwable exception) {
         if (exception != null) {
             transferProcessClient.failed(request, exception.getMessage());
@@ -242,6 +269,14 @@ public class DataPlaneManagerImpl implements DataPlaneManager {
             return this;
         }
 
+        /**
+         * Source of the total number of bytes transferred, reported by {@link DataPlaneManager#transferredBytes()}.
+         */
+        public Builder transferredBytes(LongSupplier transferredBytes) {
+            manager.transferredBytes = transferredBytes;
+            return this;
+        }
+
         public DataPlaneManagerImpl build() {
             Objects.requireNonNull(manager.transferProcessClient);
             return manager;
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Decorates a {@link DataSource} and adds every byte read from its parts to a counter.
+ */
+class MeteredDataSource implements DataSource {
+    private final DataSource delegate;
+    private final LongAdder bytes;
+
+    MeteredDataSource(DataSource delegate, LongAdder bytes) {
+        this.delegate = delegate;
+        this.bytes = bytes;
+    }
+
+    @Override
+    public Stream<Part> openPartStream() {
+        return delegate.openPartStream().map(MeteredPart::new);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private class MeteredPart implements Part {
+        private final Part part;
+
+        MeteredPart(Part part) {
+            this.part = part;
+        }
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new MeteredInputStream(part.openStream());
+        }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return part.supportsRandomAccess();
+        }
+
+        @Override
+        public byte[] read(long offset, long length) {
+            var content = part.read(offset, length);
+            bytes.add(content.length);
+            return content;
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
+    private class MeteredInputStream extends FilterInputStream {
+
+        MeteredInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            var read = super.read();
+            if (read != -1) {
+                bytes.increment();
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            var read = super.read(buffer, offset, length);
+            if (read > 0) {
+                bytes.add(read);
+            }
+            return read;
+        }
+    }
+}
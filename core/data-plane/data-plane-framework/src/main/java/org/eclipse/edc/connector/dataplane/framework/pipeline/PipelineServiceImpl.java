@@ -30,6 +30,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -41,6 +42,7 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
 public class PipelineServiceImpl implements PipelineService {
     private final List<DataSourceFactory> sourceFactories = new ArrayList<>();
     private final List<DataSinkFactory> sinkFactories = new ArrayList<>();
+    private final LongAdder transferredBytes = new LongAdder();
     private final Monitor monitor;
 
     public PipelineServiceImpl(Monitor monitor) {
@@ -94,7 +96,7 @@ public class PipelineServiceImpl implements PipelineService {
         var source = sourceFactory.createSource(request);
         var sink = sinkFactory.createSink(request);
         monitor.debug(() -> format("Transferring from %s to %s.", source, sink));
-        return sink.transfer(source);
+        return sink.transfer(metered(source));
     }
 
     @Override
@@ -105,7 +107,7 @@ public class PipelineServiceImpl implements PipelineService {
         }
         var sink = sinkFactory.createSink(request);
         monitor.debug(() -> format("Transferring from %s to %s.", source, sink));
-        return sink.transfer(source);
+        return sink.transfer(metered(source));
     }
 
     @Override
@@ -116,7 +118,14 @@ public class PipelineServiceImpl implements PipelineService {
         }
         var source = sourceFactory.createSource(request);
         monitor.debug(() -> format("Transferring from %s to %s.", source, sink));
-        return sink.transfer(source);
+        return sink.transfer(metered(source));
+    }
+
+    /**
+     * Returns the total number of bytes read from data sources by this service.
+     */
+    public long transferredBytes() {
+        return transferredBytes.sum();
     }
 
     @Override
@@ -129,6 +138,10 @@ public class PipelineServiceImpl implements PipelineService {
         sinkFactories.add(factory);
     }
 
+    private DataSource metered(DataSource source) {
+        return new MeteredDataSource(source, transferredBytes);
+    }
+
     @Nullable
     private DataSourceFactory getSourceFactory(DataFlowRequest request) {
         return sourceFactories.stream().filter(s -> s.canHandle(request)).findFirst().orElse(null);
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.types.domain.DataAddress;
@@ -27,7 +28,10 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
@@ -76,6 +80,23 @@ class DataPlaneManagerImplTest {
         });
     }
 
+    @Test
+    void verifyActiveTransfers() {
+        var dataPlaneManager = createDataPlaneManager();
+        var transfer = new CompletableFuture<StatusResult<Void>>();
+        when(transferService.transfer(isA(DataFlowRequest.class))).thenReturn(transfer);
+
+        dataPlaneManager.start();
+        dataPlaneManager.initiateTransfer(request);
+
+        await().untilAsserted(() -> assertThat(dataPlaneManager.activeTransfers()).isEqualTo(1));
+        assertThat(dataPlaneManager.queuedTransfers()).isZero();
+
+        transfer.complete(StatusResult.success());
+
+        await().untilAsserted(() -> assertThat(dataPlaneManager.activeTransfers()).isZero());
+    }
+
     /**
      * Verifies that the dispatch thread survives an error thrown by a worker.
      */
@@ -27,12 +27,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
 import java.util.stream.Stream;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,11 +63,34 @@ class PipelineServiceImplTest {
         when(sourceFactory.createSource(request)).thenReturn(source);
         when(sinkFactory.canHandle(request)).thenReturn(true);
         when(sinkFactory.createSink(request)).thenReturn(sink);
-        when(sink.transfer(source)).thenReturn(completedFuture(StatusResult.success()));
+        when(sink.transfer(isA(DataSource.class))).thenReturn(completedFuture(StatusResult.success()));
 
         service.transfer(request);
 
-        verify(sink).transfer(eq(source));
+        verify(sink).transfer(isA(DataSource.class));
+    }
+
+    @Test
+    void transfer_countsTransferredBytes() {
+        var part = mock(DataSource.Part.class);
+        when(part.openStream()).thenReturn(new ByteArrayInputStream(new byte[]{ 1, 2, 3 }));
+        when(part.read(0, 2)).thenReturn(new byte[]{ 1, 2 });
+        when(source.openPartStream()).thenAnswer(i -> Stream.of(part));
+        when(sinkFactory.canHandle(request)).thenReturn(true);
+        when(sinkFactory.createSink(request)).thenReturn(sink);
+        when(sink.transfer(isA(DataSource.class))).thenAnswer(i -> {
+            DataSource metered = i.getArgument(0);
+            var meteredPart = metered.openPartStream().findFirst().orElseThrow();
+            try (var stream = meteredPart.openStream()) {
+                stream.readAllBytes();
+            }
+            meteredPart.read(0, 2);
+            return completedFuture(StatusResult.success());
+        });
+
+        service.transfer(source, request);
+
+        assertThat(service.transferredBytes()).isEqualTo(5);
     }
 
     @ParameterizedTest
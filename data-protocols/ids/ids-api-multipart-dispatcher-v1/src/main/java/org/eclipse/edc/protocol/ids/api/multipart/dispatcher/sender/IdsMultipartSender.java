@@ -31,6 +31,7 @@ import org.eclipse.edc.protocol.ids.api.multipart.dispatcher.sender.response.Mul
 import org.eclipse.edc.protocol.ids.spi.service.DynamicAttributeTokenService;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.http.EdcHttpClientException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.glassfish.jersey.media.multipart.ContentDisposition;
@@ -171,7 +172,7 @@ public class IdsMultipartSender {
                     throw new RuntimeException(e);
                 }
             } else {
-                throw new EdcException(format("Received an error from connector (%s): %s %s", requestUrl, r.code(), r.message()));
+                throw new EdcHttpClientException(format("Received an error from connector (%s): %s %s", requestUrl, r.code(), r.message()), r.code());
             }
         });
     }
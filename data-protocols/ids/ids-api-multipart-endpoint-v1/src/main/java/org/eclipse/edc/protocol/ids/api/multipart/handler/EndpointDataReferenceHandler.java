@@ -24,6 +24,7 @@ import org.eclipse.edc.protocol.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.edc.protocol.ids.api.multipart.message.MultipartResponse;
 import org.eclipse.edc.protocol.ids.spi.types.IdsId;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReferenceMessage;
@@ -68,6 +69,9 @@ public class EndpointDataReferenceHandler implements Handler {
      * - decode {@link EndpointDataReference} from the request payload,
      * - apply a {@link EndpointDataReferenceTransformer} on the previous EDR,
      * - finally apply {@link EndpointDataReferenceReceiver} to the resulting EDR to dispatch it into the consumer environment.
+     * <p>
+     * The request is acknowledged as soon as the receivers have accepted the EDR, the delivery itself is not awaited and
+     * its failures are reported through the monitor. A receiver that rejects the EDR right away results in a rejection.
      */
     @Override
     public @NotNull MultipartResponse handleRequest(@NotNull MultipartRequest multipartRequest) {
@@ -82,7 +86,19 @@ public class EndpointDataReferenceHandler implements Handler {
         var transformedEdr = transformationResult.getContent();
 
         // Apply all endpoint data reference receivers to the endpoint data reference
-        var receiveResult = receiverRegistry.receiveAll(transformedEdr).join();
+        var delivery = receiverRegistry.receiveAll(transformedEdr)
+                .exceptionally(throwable -> Result.failure(throwable.getMessage()));
+        if (!delivery.isDone()) {
+            // the receivers accepted the EDR and deliver it in the background, do not hold the request until they are done
+            delivery.thenAccept(result -> {
+                if (result.failed()) {
+                    monitor.severe("EDR dispatch failed: " + String.join(", ", result.getFailureMessages()));
+                }
+            });
+            return createMultipartResponse(messageProcessedNotification(multipartRequest.getHeader(), connectorId));
+        }
+
+        var receiveResult = delivery.join();
         if (receiveResult.failed()) {
             monitor.severe("EDR dispatch failed: " + String.join(", ", receiveResult.getFailureMessages()));
             return createMultipartResponse(internalRecipientError(multipartRequest.getHeader(), connectorId));
@@ -39,7 +39,10 @@ import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,10 +54,11 @@ class EndpointDataReferenceHandlerTest {
     private EndpointDataReferenceHandler handler;
     private EndpointDataReferenceReceiverRegistry receiverRegistry;
     private EndpointDataReferenceTransformerRegistry transformerRegistry;
+    private Monitor monitor;
 
     @BeforeEach
     public void setUp() {
-        var monitor = mock(Monitor.class);
+        monitor = mock(Monitor.class);
         var connectorId = IdsId.from("urn:connector:edc").getContent();
         receiverRegistry = mock(EndpointDataReferenceReceiverRegistry.class);
         transformerRegistry = mock(EndpointDataReferenceTransformerRegistry.class);
@@ -134,6 +138,25 @@ class EndpointDataReferenceHandlerTest {
                 .satisfies(r -> assertThat(r.getHeader()).isInstanceOf(RejectionMessage.class));
     }
 
+    @Test
+    void handleRequest_pendingDelivery_shouldAcknowledgeWithoutWaiting() throws JsonProcessingException {
+        var edr = createEndpointDataReference();
+        var request = createMultipartRequest(edr);
+        var delivery = new CompletableFuture<Result<Void>>();
+
+        when(transformerRegistry.transform(any())).thenReturn(Result.success(edr));
+        when(receiverRegistry.receiveAll(edr)).thenReturn(delivery);
+
+        var response = handler.handleRequest(request);
+
+        assertThat(response.getHeader()).isInstanceOf(MessageProcessedNotificationMessage.class);
+        verify(monitor, never()).severe(anyString());
+
+        delivery.complete(Result.failure("Test failure"));
+
+        verify(monitor).severe(contains("Test failure"));
+    }
+
     private EndpointDataReference createEndpointDataReference() {
         return EndpointDataReference.Builder.newInstance()
                 .endpoint("some.endpoint.url")
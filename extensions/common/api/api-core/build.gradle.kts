@@ -14,6 +14,7 @@
  */
 plugins {
     `java-library`
+    `java-test-fixtures`
 }
 
 dependencies {
@@ -31,6 +32,8 @@ dependencies {
     testImplementation(libs.jersey.server)
 
     testImplementation(project(":core:common:junit"))
+
+    testFixturesImplementation(libs.jakarta.rsApi)
 }
 
 
@@ -51,6 +51,15 @@ public class QuerySpecDto {
     @QueryParam("sortField")
     private String sortField;
 
+    @QueryParam("continuationToken")
+    private String continuationToken;
+
+    @QueryParam("paged")
+    private boolean paged = false;
+
+    @QueryParam("count")
+    private boolean count = false;
+
     public Integer getOffset() {
         return offset;
     }
@@ -72,6 +81,25 @@ public class QuerySpecDto {
         return sortField;
     }
 
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * Whether the result array should be wrapped into an object that also carries the continuation token of the next
+     * page.
+     */
+    public boolean isPaged() {
+        return paged;
+    }
+
+    /**
+     * Whether the total number of elements matching the filter should be returned, if the queried resource supports it.
+     */
+    public boolean isCount() {
+        return count;
+    }
+
     @JsonIgnore
     @AssertTrue
     public boolean isValid() {
@@ -79,6 +107,10 @@ public class QuerySpecDto {
             return false;
         }
 
+        if (continuationToken != null && continuationToken.isBlank()) {
+            return false;
+        }
+
         return sortField == null || !sortField.isBlank();
     }
 
@@ -119,6 +151,21 @@ public class QuerySpecDto {
             return this;
         }
 
+        public Builder continuationToken(String continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
+        public Builder paged(boolean paged) {
+            querySpec.paged = paged;
+            return this;
+        }
+
+        public Builder count(boolean count) {
+            querySpec.count = count;
+            return this;
+        }
+
         @Deprecated
         public Builder filter(String filter) {
             querySpec.filter = filter;
@@ -0,0 +1,238 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.reflection.ReflectionUtil;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes the result of a query into the HTTP response while it is read from the store, so that the elements of a
+ * result never have to be held in memory all at once.
+ * <p>
+ * The body is a JSON array of the transformed elements, elements that cannot be transformed are skipped. A
+ * {@link QuerySpecDto#isPaged() paged} response wraps the array into an object that also carries the continuation
+ * token of the next page, which is only known after the last element was written. The token is {@code null} when the
+ * page was not full, i.e. there are no further elements. A total count, if supplied, is returned in the
+ * {@value #TOTAL_COUNT_HEADER} header.
+ * <p>
+ * The first element is read before the response is returned, so that a query that cannot be executed results in an
+ * error response rather than a successful one. Once the status has been sent, a failure while reading further elements
+ * can only abort the body: it is then left unterminated, so that clients fail to parse it instead of mistaking it for
+ * a complete result.
+ *
+ * @param <T> the type of the queried elements.
+ */
+public class StreamingQueryResponse<T> implements StreamingOutput {
+
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    public static final String CONTENT = "content";
+    public static final String CONTINUATION_TOKEN = "continuationToken";
+
+    private Stream<T> stream;
+    private QuerySpec querySpec;
+    private ObjectMapper mapper;
+    private Function<T, Result<?>> transformer;
+    private Function<T, Object> id;
+    private BiFunction<T, String, Object> sortValue = (element, sortField) -> ReflectionUtil.getFieldValueSilent(sortField, element);
+    private boolean paged;
+    private Long totalCount;
+    private Iterator<T> cursor;
+
+    private StreamingQueryResponse() {
+    }
+
+    /**
+     * Returns the query to run for a {@link QuerySpecDto#isPaged() paged} request. A continuation token is the position
+     * of the last element in the sort order, so a query without sort field is sorted by the id field. Otherwise a store
+     * would be free to return the first page in an arbitrary order and the token would not separate it from the next.
+     * The continuation token is positioned on the id field accordingly. The response itself is built with the query as
+     * requested, so that the tokens it issues carry the sort field the client asked for.
+     *
+     * @param querySpec the query as requested.
+     * @param idField the field that holds the id of the queried elements.
+     * @return the query sorted by the id field, or the query as requested if it already has a sort field.
+     */
+    public static QuerySpec pagedQuerySpec(QuerySpec querySpec, String idField) {
+        if (querySpec.getSortField() != null) {
+            return querySpec;
+        }
+        var token = querySpec.getContinuationToken();
+        return QuerySpec.Builder.newInstance()
+                .offset(querySpec.getOffset())
+                .limit(querySpec.getLimit())
+                .filter(querySpec.getFilterExpression())
+                .sortOrder(querySpec.getSortOrder())
+                .sortField(idField)
+                .continuationToken(token != null ? ContinuationToken.of(idField, querySpec.getSortOrder(), token.getId(), token.getId()) : null)
+                .build();
+    }
+
+    /**
+     * Returns a response that streams this query result as its entity. The first element is read beforehand, any
+     * exception raised by the query is thrown from here.
+     */
+    public Response toResponse() {
+        cursor = stream.iterator();
+        try {
+            cursor.hasNext();
+        } catch (RuntimeException e) {
+            stream.close();
+            throw e;
+        }
+        var response = Response.ok(this, MediaType.APPLICATION_JSON_TYPE);
+        if (totalCount != null) {
+            response.header(TOTAL_COUNT_HEADER, totalCount);
+        }
+        return response.build();
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (var elements = stream; var generator = mapper.getFactory().createGenerator(output)) {
+            // an aborted body must not be completed into valid JSON when the generator gets closed
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            if (paged) {
+                generator.writeStartObject();
+                generator.writeFieldName(CONTENT);
+            }
+
+            generator.writeStartArray();
+            T last = null;
+            var count = 0;
+            var iterator = cursor != null ? cursor : elements.iterator();
+            while (iterator.hasNext()) {
+                last = iterator.next();
+                count++;
+                var result = transformer.apply(last);
+                if (result.succeeded()) {
+                    generator.writeObject(result.getContent());
+                }
+            }
+            generator.writeEndArray();
+
+            if (paged) {
+                generator.writeStringField(CONTINUATION_TOKEN, count >= querySpec.getLimit() ? continuationToken(last) : null);
+                generator.writeEndObject();
+            }
+        }
+    }
+
+    @Nullable
+    private String continuationToken(@Nullable T last) {
+        if (last == null) {
+            return null;
+        }
+        var lastId = id.apply(last);
+        if (lastId == null) {
+            return null;
+        }
+        var sortField = querySpec.getSortField();
+        var lastSortValue = sortField != null ? sortValue.apply(last, sortField) : null;
+        return ContinuationToken.of(sortField, querySpec.getSortOrder(), lastSortValue, lastId).encode();
+    }
+
+    public static final class Builder<T> {
+
+        private final StreamingQueryResponse<T> response;
+
+        private Builder() {
+            response = new StreamingQueryResponse<>();
+        }
+
+        public static <T> Builder<T> newInstance() {
+            return new Builder<>();
+        }
+
+        /**
+         * The query result, it gets closed once it has been written.
+         */
+        public Builder<T> stream(Stream<T> stream) {
+            response.stream = stream;
+            return this;
+        }
+
+        /**
+         * The query that produced the result, used to tell whether the page is full and to create the continuation token.
+         */
+        public Builder<T> querySpec(QuerySpec querySpec) {
+            response.querySpec = querySpec;
+            return this;
+        }
+
+        public Builder<T> mapper(ObjectMapper mapper) {
+            response.mapper = mapper;
+            return this;
+        }
+
+        /**
+         * Transforms an element into the object that gets serialized into the response.
+         */
+        public Builder<T> transformer(Function<T, Result<?>> transformer) {
+            response.transformer = transformer;
+            return this;
+        }
+
+        /**
+         * Extracts the id an element is ordered by in keyset pagination.
+         */
+        public Builder<T> id(Function<T, Object> id) {
+            response.id = id;
+            return this;
+        }
+
+        /**
+         * Extracts the value of the sort field from an element. Defaults to reading the field via reflection.
+         */
+        public Builder<T> sortValue(BiFunction<T, String, Object> sortValue) {
+            response.sortValue = sortValue;
+            return this;
+        }
+
+        public Builder<T> paged(boolean paged) {
+            response.paged = paged;
+            return this;
+        }
+
+        public Builder<T> totalCount(@Nullable Long totalCount) {
+            response.totalCount = totalCount;
+            return this;
+        }
+
+        public StreamingQueryResponse<T> build() {
+            Objects.requireNonNull(response.stream, "stream");
+            Objects.requireNonNull(response.querySpec, "querySpec");
+            Objects.requireNonNull(response.mapper, "mapper");
+            Objects.requireNonNull(response.transformer, "transformer");
+            Objects.requireNonNull(response.id, "id");
+            return response;
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.edc.api.transformer;
 
 import org.eclipse.edc.api.model.CriterionDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
@@ -27,6 +28,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
 public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QuerySpecDto, QuerySpec> {
 
     @Override
@@ -47,6 +50,22 @@ public class QuerySpecDtoToQuerySpecTransformer implements DtoTransformer<QueryS
                 .sortField(query.getSortField())
                 .sortOrder(query.getSortOrder());
 
+        if (query.getContinuationToken() != null) {
+            ContinuationToken token;
+            try {
+                token = ContinuationToken.decode(query.getContinuationToken());
+            } catch (IllegalArgumentException e) {
+                context.reportProblem(e.getMessage());
+                return null;
+            }
+            if (!token.matches(query.getSortField(), query.getSortOrder())) {
+                context.reportProblem(format("Continuation token was issued for sort field %s in %s order, but the query sorts by %s in %s order",
+                        token.getSortField(), token.getSortOrder(), query.getSortField(), query.getSortOrder()));
+                return null;
+            }
+            builder.continuationToken(token);
+        }
+
         // use filter string
         builder.filter(query.getFilter());
 
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.api.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingQueryResponseTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void write_shouldStreamArrayAndCloseStream() throws IOException {
+        var closed = new AtomicBoolean();
+        var stream = Stream.of(new Item("a", 1), new Item("b", 2)).onClose(() -> closed.set(true));
+
+        var json = write(response(stream, QuerySpec.none()).build());
+
+        assertThat(json.isArray()).isTrue();
+        assertThat(json).extracting(node -> node.get("id").asText()).containsExactly("a", "b");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void write_shouldSkipFailedTransformations() throws IOException {
+        var response = response(Stream.of(new Item("a", 1), new Item("b", 2)), QuerySpec.none())
+                .transformer(item -> item.id.equals("a") ? Result.failure("cannot transform") : Result.success(Map.of("id", item.id)))
+                .build();
+
+        var json = write(response);
+
+        assertThat(json).extracting(node -> node.get("id").asText()).containsExactly("b");
+    }
+
+    @Test
+    void write_paged_fullPage_shouldReturnTokenOfLastElement() throws IOException {
+        var querySpec = QuerySpec.Builder.newInstance().limit(2).sortField("rank").build();
+        var response = response(Stream.of(new Item("a", 1), new Item("b", 2)), querySpec).paged(true).build();
+
+        var json = write(response);
+
+        assertThat(json.get(StreamingQueryResponse.CONTENT)).hasSize(2);
+        var token = ContinuationToken.decode(json.get(StreamingQueryResponse.CONTINUATION_TOKEN).asText());
+        assertThat(token).isEqualTo(ContinuationToken.of("rank", SortOrder.ASC, 2, "b"));
+    }
+
+    @Test
+    void write_paged_lastPage_shouldReturnNoToken() throws IOException {
+        var querySpec = QuerySpec.Builder.newInstance().limit(5).build();
+        var response = response(Stream.of(new Item("a", 1)), querySpec).paged(true).build();
+
+        var json = write(response);
+
+        assertThat(json.get(StreamingQueryResponse.CONTENT)).hasSize(1);
+        assertThat(json.get(StreamingQueryResponse.CONTINUATION_TOKEN).isNull()).isTrue();
+    }
+
+    @Test
+    void toResponse_shouldReturnTotalCountHeader() {
+        var response = response(Stream.empty(), QuerySpec.none()).totalCount(42L).build().toResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeaders().getFirst(StreamingQueryResponse.TOTAL_COUNT_HEADER)).isEqualTo(42L);
+    }
+
+    @Test
+    void toResponse_withoutTotalCount_shouldReturnNoHeader() {
+        var response = response(Stream.empty(), QuerySpec.none()).build().toResponse();
+
+        assertThat(response.getHeaders()).doesNotContainKey(StreamingQueryResponse.TOTAL_COUNT_HEADER);
+    }
+
+    @Test
+    void toResponse_shouldThrowAndCloseStream_whenQueryFails() {
+        var closed = new AtomicBoolean();
+        var stream = Stream.<Item>generate(() -> {
+            throw new IllegalStateException("query failed");
+        }).onClose(() -> closed.set(true));
+        var response = response(stream, QuerySpec.none()).build();
+
+        assertThatThrownBy(response::toResponse).isInstanceOf(IllegalStateException.class);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void write_shouldLeaveBodyUnterminated_whenStreamFailsMidway() {
+        var stream = Stream.of(new Item("a", 1), new Item("b", 2)).peek(item -> {
+            if (item.id.equals("b")) {
+                throw new IllegalStateException("cursor failed");
+            }
+        });
+        var response = response(stream, QuerySpec.none()).build();
+        response.toResponse();
+        var output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> response.write(output)).isInstanceOf(IllegalStateException.class);
+        assertThat(output.toString(UTF_8)).isEqualTo("[{\"id\":\"a\"}");
+    }
+
+    @Test
+    void pagedQuerySpec_withoutSortField_shouldSortById() {
+        var token = ContinuationToken.of(null, SortOrder.DESC, null, "a");
+        var querySpec = QuerySpec.Builder.newInstance().offset(1).limit(2).sortOrder(SortOrder.DESC).continuationToken(token).build();
+
+        var paged = StreamingQueryResponse.pagedQuerySpec(querySpec, "id");
+
+        assertThat(paged.getSortField()).isEqualTo("id");
+        assertThat(paged.getSortOrder()).isEqualTo(SortOrder.DESC);
+        assertThat(paged.getOffset()).isEqualTo(1);
+        assertThat(paged.getLimit()).isEqualTo(2);
+        assertThat(paged.getContinuationToken()).isEqualTo(ContinuationToken.of("id", SortOrder.DESC, "a", "a"));
+    }
+
+    @Test
+    void pagedQuerySpec_withSortField_shouldKeepQuery() {
+        var querySpec = QuerySpec.Builder.newInstance().sortField("rank").build();
+
+        assertThat(StreamingQueryResponse.pagedQuerySpec(querySpec, "id")).isSameAs(querySpec);
+    }
+
+    private StreamingQueryResponse.Builder<Item> response(Stream<Item> stream, QuerySpec querySpec) {
+        return StreamingQueryResponse.Builder.<Item>newInstance()
+                .stream(stream)
+                .querySpec(querySpec)
+                .mapper(mapper)
+                .transformer(item -> Result.success(Map.of("id", item.id)))
+                .id(item -> item.id);
+    }
+
+    private JsonNode write(StreamingQueryResponse<Item> response) throws IOException {
+        var output = new ByteArrayOutputStream();
+        response.write(output);
+        return mapper.readTree(output.toByteArray());
+    }
+
+    private static class Item {
+        private final String id;
+        private final int rank;
+
+        Item(String id, int rank) {
+            this.id = id;
+            this.rank = rank;
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.eclipse.edc.api.transformer;
 
 import org.eclipse.edc.api.model.CriterionDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.transform.spi.TransformerContext;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
@@ -125,4 +127,65 @@ class QuerySpecDtoToQuerySpecTransformerTest {
         assertThat(spec.getFilterExpression()).hasSize(1).usingRecursiveFieldByFieldElementComparator().containsOnly(expected);
     }
 
-}
\ No newline at end of file
+    @Test
+    void transform_shouldDecodeContinuationToken() {
+        var context = mock(TransformerContext.class);
+        var token = ContinuationToken.of(42, "id-42");
+
+        var querySpecDto = QuerySpecDto.Builder.newInstance()
+                .continuationToken(token.encode())
+                .build();
+
+        var spec = transformer.transform(querySpecDto, context);
+        assertThat(spec).isNotNull();
+        assertThat(spec.getContinuationToken()).isEqualTo(token);
+    }
+
+    @Test
+    void transform_shouldDecodeContinuationToken_withSortField() {
+        var context = mock(TransformerContext.class);
+        var token = ContinuationToken.of("createdAt", SortOrder.DESC, 42, "id-42");
+
+        var querySpecDto = QuerySpecDto.Builder.newInstance()
+                .sortField("createdAt")
+                .sortOrder(SortOrder.DESC)
+                .continuationToken(token.encode())
+                .build();
+
+        var spec = transformer.transform(querySpecDto, context);
+        assertThat(spec).isNotNull();
+        assertThat(spec.getContinuationToken()).isEqualTo(token);
+    }
+
+    @Test
+    void transform_shouldReturnNull_whenContinuationTokenIssuedForOtherSort() {
+        var context = mock(TransformerContext.class);
+        var token = ContinuationToken.of("createdAt", SortOrder.DESC, 42, "id-42");
+
+        var querySpecDto = QuerySpecDto.Builder.newInstance()
+                .sortField("createdAt")
+                .sortOrder(SortOrder.ASC)
+                .continuationToken(token.encode())
+                .build();
+
+        var spec = transformer.transform(querySpecDto, context);
+        assertThat(spec).isNull();
+
+        verify(context).reportProblem(anyString());
+    }
+
+    @Test
+    void transform_shouldReturnNull_whenContinuationTokenInvalid() {
+        var context = mock(TransformerContext.class);
+
+        var querySpecDto = QuerySpecDto.Builder.newInstance()
+                .continuationToken("not-a-token")
+                .build();
+
+        var spec = transformer.transform(querySpecDto, context);
+        assertThat(spec).isNull();
+
+        verify(context).reportProblem(anyString());
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.api.query;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Reads the body of a {@link StreamingQueryResponse} in controller tests.
+ */
+public class StreamingQueryResponseTestFunctions {
+
+    private static final ObjectMapper MAPPER = new TypeManager().getMapper();
+
+    /**
+     * Writes the streamed entity of the response and parses it into its elements.
+     */
+    public static List<JsonNode> content(Response response) {
+        var output = new ByteArrayOutputStream();
+        try {
+            ((StreamingOutput) response.getEntity()).write(output);
+            return MAPPER.readValue(output.toByteArray(), new TypeReference<>() {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the JSON representation of an object, as it would be streamed in a response.
+     */
+    public static JsonNode json(Object object) {
+        try {
+            return MAPPER.readTree(MAPPER.writeValueAsBytes(object));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.azure.blob;
 
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import org.eclipse.edc.azure.blob.api.BlobStoreApi;
 import org.eclipse.edc.azure.blob.api.BlobStoreApiImpl;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
@@ -24,17 +25,31 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Provides(BlobStoreApi.class)
 @Extension(value = BlobStoreCoreExtension.NAME)
 public class BlobStoreCoreExtension implements ServiceExtension {
 
     @Setting
     public static final String EDC_BLOBSTORE_ENDPOINT_TEMPLATE = "edc.blobstore.endpoint.template";
+    @Setting(value = "Size in bytes of the blocks staged when uploading a blob")
+    public static final String EDC_BLOBSTORE_UPLOAD_BLOCK_SIZE = "edc.blobstore.upload.block.size";
+    @Setting(value = "Maximum number of blocks of a single blob uploaded in parallel")
+    public static final String EDC_BLOBSTORE_UPLOAD_CONCURRENCY = "edc.blobstore.upload.concurrency";
+    @Setting(value = "Maximum time in seconds a client created for an account key or a SAS token is cached")
+    public static final String EDC_BLOBSTORE_CLIENT_TTL = "edc.blobstore.client.ttl.seconds";
+    public static final long DEFAULT_UPLOAD_BLOCK_SIZE = 4 * 1024 * 1024;
+    public static final int DEFAULT_UPLOAD_CONCURRENCY = 8;
     public static final String NAME = "Azure BlobStore Core";
 
     @Inject
     private Vault vault;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public String name() {
         return NAME;
@@ -45,7 +60,12 @@ public class BlobStoreCoreExtension implements ServiceExtension {
         var blobstoreEndpointTemplate = context
                 .getSetting(EDC_BLOBSTORE_ENDPOINT_TEMPLATE, "https://%s.blob.core.windows.net");
 
-        var blobStoreApi = new BlobStoreApiImpl(vault, blobstoreEndpointTemplate);
+        var uploadOptions = new ParallelTransferOptions()
+                .setBlockSizeLong(context.getSetting(EDC_BLOBSTORE_UPLOAD_BLOCK_SIZE, DEFAULT_UPLOAD_BLOCK_SIZE))
+                .setMaxConcurrency(context.getSetting(EDC_BLOBSTORE_UPLOAD_CONCURRENCY, DEFAULT_UPLOAD_CONCURRENCY));
+        var clientTtl = Duration.ofSeconds(context.getSetting(EDC_BLOBSTORE_CLIENT_TTL, BlobStoreApiImpl.DEFAULT_CLIENT_TTL.toSeconds()));
+
+        var blobStoreApi = new BlobStoreApiImpl(vault, blobstoreEndpointTemplate, uploadOptions, clientTtl, clock);
         context.registerService(BlobStoreApi.class, blobStoreApi);
     }
 }
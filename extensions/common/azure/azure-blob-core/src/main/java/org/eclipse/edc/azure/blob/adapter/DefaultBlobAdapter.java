@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.azure.blob.adapter;
 
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 
 import java.io.InputStream;
@@ -21,17 +22,27 @@ import java.io.OutputStream;
 
 /**
  * Implementation of {@link BlobAdapter} using a {@link BlockBlobClient}.
+ * <p>
+ * Data written to the output stream is staged as blocks, which are uploaded in parallel according to the given
+ * {@link ParallelTransferOptions} and committed when the stream is closed.
  */
 public class DefaultBlobAdapter implements BlobAdapter {
     private final BlockBlobClient client;
+    private final ParallelTransferOptions uploadOptions;
 
     public DefaultBlobAdapter(BlockBlobClient client) {
+        this(client, new ParallelTransferOptions());
+    }
+
+    public DefaultBlobAdapter(BlockBlobClient client, ParallelTransferOptions uploadOptions) {
         this.client = client;
+        this.uploadOptions = uploadOptions;
     }
 
     @Override
     public OutputStream getOutputStream() {
-        return client.getBlobOutputStream(/* overwrite = */ true);
+        // no request conditions means the blob gets overwritten if it exists
+        return client.getBlobOutputStream(uploadOptions, null, null, null, null);
     }
 
     @Override
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.blob.api;
+
+import com.azure.storage.blob.BlobServiceClient;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Thread-safe cache of {@link BlobServiceClient} instances, keyed by storage account and a fingerprint of the credential,
+ * so that the HTTP pipeline (and its connection pool) of a client is reused across blobs. Credentials themselves are
+ * never kept as cache keys.
+ * <p>
+ * Entries expire after the configured TTL. Entries created for a shared access signature expire with the signature
+ * itself if that comes first. Expired entries are evicted whenever the cache is accessed.
+ */
+class BlobServiceClientCache {
+
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration clientTtl;
+    private final Clock clock;
+
+    BlobServiceClientCache(Duration clientTtl, Clock clock) {
+        this.clientTtl = clientTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the client cached for an account key credential, creating it if needed.
+     */
+    BlobServiceClient getForAccountKey(String accountName, String accountKey, Supplier<BlobServiceClient> factory) {
+        return get(new CacheKey(accountName, "key", fingerprint(accountKey)), clock.instant().plus(clientTtl), factory);
+    }
+
+    /**
+     * Returns the client cached for a shared access signature, creating it if needed or if the cached one has expired.
+     */
+    BlobServiceClient getForSas(String accountName, String signature, Supplier<BlobServiceClient> factory) {
+        var ttlExpiry = clock.instant().plus(clientTtl);
+        var sasExpiry = parseSasExpiry(signature);
+        var expiry = sasExpiry != null && sasExpiry.isBefore(ttlExpiry) ? sasExpiry : ttlExpiry;
+        return get(new CacheKey(accountName, "sas", fingerprint(signature)), expiry, factory);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private BlobServiceClient get(CacheKey key, Instant expiry, Supplier<BlobServiceClient> factory) {
+        var now = clock.instant();
+        var entry = entries.compute(key, (k, existing) -> existing != null && !existing.isExpired(now) ? existing : new Entry(factory.get(), expiry));
+        evictExpired(now);
+        return entry.client;
+    }
+
+    private void evictExpired(Instant now) {
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+    }
+
+    private static String fingerprint(String credential) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(credential.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Extracts the signed expiry ({@code se}) parameter from a SAS token, if present.
+     */
+    @Nullable
+    private static Instant parseSasExpiry(String signature) {
+        return Arrays.stream(signature.replaceFirst("^\\?", "").split("&"))
+                .filter(param -> param.startsWith("se="))
+                .map(param -> URLDecoder.decode(param.substring(3), UTF_8))
+                .findFirst()
+                .map(BlobServiceClientCache::parseInstant)
+                .orElse(null);
+    }
+
+    @Nullable
+    private static Instant parseInstant(String value) {
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static class Entry {
+        private final BlobServiceClient client;
+        private final Instant expiry;
+
+        Entry(BlobServiceClient client, Instant expiry) {
+            this.client = client;
+            this.expiry = expiry;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiry);
+        }
+    }
+
+    private static class CacheKey {
+        private final String accountName;
+        private final String credentialType;
+        private final String credentialFingerprint;
+
+        CacheKey(String accountName, String credentialType, String credentialFingerprint) {
+            this.accountName = accountName;
+            this.credentialType = credentialType;
+            this.credentialFingerprint = credentialFingerprint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var that = (CacheKey) o;
+            return accountName.equals(that.accountName) && credentialType.equals(that.credentialType) && credentialFingerprint.equals(that.credentialFingerprint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountName, credentialType, credentialFingerprint);
+        }
+    }
+}
@@ -15,10 +15,12 @@
 package org.eclipse.edc.azure.blob.api;
 
 import com.azure.core.credential.AzureSasCredential;
+import com.azure.core.http.HttpClient;
 import com.azure.core.util.BinaryData;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.sas.BlobContainerSasPermission;
 import com.azure.storage.blob.sas.BlobServiceSasSignatureValues;
 import com.azure.storage.common.StorageSharedKeyCredential;
@@ -30,22 +32,36 @@ import org.eclipse.edc.azure.blob.adapter.BlobAdapter;
 import org.eclipse.edc.azure.blob.adapter.DefaultBlobAdapter;
 import org.eclipse.edc.spi.security.Vault;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public class BlobStoreApiImpl implements BlobStoreApi {
 
+    public static final Duration DEFAULT_CLIENT_TTL = Duration.ofMinutes(30);
+
     private final Vault vault;
     private final String blobstoreEndpointTemplate;
-    private final Map<String, BlobServiceClient> cache = new HashMap<>();
+    private final ParallelTransferOptions uploadOptions;
+    private final Map<String, BlobServiceClient> cache = new ConcurrentHashMap<>();
+    private final BlobServiceClientCache adapterClientCache;
+    // a single HTTP client, and thus connection pool, shared by all the BlobServiceClients
+    private final HttpClient httpClient = HttpClient.createDefault();
 
     public BlobStoreApiImpl(Vault vault, String blobstoreEndpointTemplate) {
+        this(vault, blobstoreEndpointTemplate, new ParallelTransferOptions(), DEFAULT_CLIENT_TTL, Clock.systemUTC());
+    }
+
+    public BlobStoreApiImpl(Vault vault, String blobstoreEndpointTemplate, ParallelTransferOptions uploadOptions, Duration clientTtl, Clock clock) {
         this.vault = vault;
         this.blobstoreEndpointTemplate = blobstoreEndpointTemplate;
+        this.uploadOptions = uploadOptions;
+        this.adapterClientCache = new BlobServiceClientCache(clientTtl, clock);
     }
 
     @Override
@@ -100,22 +116,18 @@ public class BlobStoreApiImpl implements BlobStoreApi {
     private BlobServiceClient getBlobServiceClient(String accountName) {
         Objects.requireNonNull(accountName, "accountName");
 
-        if (cache.containsKey(accountName)) {
-            return cache.get(accountName);
-        }
-
-        var accountKey = vault.resolveSecret(accountName + "-key1");
+        return cache.computeIfAbsent(accountName, name -> {
+            var accountKey = vault.resolveSecret(name + "-key1");
 
-        if (accountKey == null) {
-            throw new IllegalArgumentException("No Object Storage credential found in vault!");
-        }
-
-        BlobServiceClient blobServiceClient = new BlobServiceClientBuilder().credential(createCredential(accountKey, accountName))
-                .endpoint(createEndpoint(accountName))
-                .buildClient();
+            if (accountKey == null) {
+                throw new IllegalArgumentException("No Object Storage credential found in vault!");
+            }
 
-        cache.put(accountName, blobServiceClient);
-        return blobServiceClient;
+            return new BlobServiceClientBuilder().credential(createCredential(accountKey, name))
+                    .endpoint(createEndpoint(name))
+                    .httpClient(httpClient)
+                    .buildClient();
+        });
     }
 
     private StorageSharedKeyCredential createCredential(String accountKey, String accountName) {
@@ -124,27 +136,32 @@ public class BlobStoreApiImpl implements BlobStoreApi {
 
     @Override
     public BlobAdapter getBlobAdapter(String accountName, String containerName, String blobName, String sharedKey) {
-        BlobServiceClientBuilder builder = new BlobServiceClientBuilder().credential(new StorageSharedKeyCredential(accountName, sharedKey));
-        return getBlobAdapter(accountName, containerName, blobName, builder);
+        var blobServiceClient = adapterClientCache.getForAccountKey(accountName, sharedKey,
+                () -> buildClient(accountName, new BlobServiceClientBuilder().credential(new StorageSharedKeyCredential(accountName, sharedKey))));
+        return getBlobAdapter(blobServiceClient, containerName, blobName);
     }
 
     @Override
     public BlobAdapter getBlobAdapter(String accountName, String containerName, String blobName, AzureSasCredential credential) {
-        BlobServiceClientBuilder builder = new BlobServiceClientBuilder().credential(credential);
-        return getBlobAdapter(accountName, containerName, blobName, builder);
+        var blobServiceClient = adapterClientCache.getForSas(accountName, credential.getSignature(),
+                () -> buildClient(accountName, new BlobServiceClientBuilder().credential(credential)));
+        return getBlobAdapter(blobServiceClient, containerName, blobName);
     }
 
-    private BlobAdapter getBlobAdapter(String accountName, String containerName, String blobName, BlobServiceClientBuilder builder) {
-        var blobServiceClient = builder
-                .endpoint(createEndpoint(accountName))
-                .buildClient();
-
+    private BlobAdapter getBlobAdapter(BlobServiceClient blobServiceClient, String containerName, String blobName) {
         var blockBlobClient = blobServiceClient
                 .getBlobContainerClient(containerName)
                 .getBlobClient(blobName)
                 .getBlockBlobClient();
 
-        return new DefaultBlobAdapter(blockBlobClient);
+        return new DefaultBlobAdapter(blockBlobClient, uploadOptions);
+    }
+
+    private BlobServiceClient buildClient(String accountName, BlobServiceClientBuilder builder) {
+        return builder
+                .endpoint(createEndpoint(accountName))
+                .httpClient(httpClient)
+                .buildClient();
     }
 
     private String createEndpoint(String accountName) {
@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.blob.adapter;
+
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.specialized.BlockBlobClient;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DefaultBlobAdapterTest {
+
+    private final BlockBlobClient client = mock(BlockBlobClient.class);
+
+    @Test
+    void getOutputStream_shouldUseUploadOptions() {
+        var uploadOptions = new ParallelTransferOptions().setBlockSizeLong(1024L).setMaxConcurrency(4);
+
+        new DefaultBlobAdapter(client, uploadOptions).getOutputStream();
+
+        verify(client).getBlobOutputStream(same(uploadOptions), isNull(), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void getOutputStream_shouldUseDefaultUploadOptions() {
+        new DefaultBlobAdapter(client).getOutputStream();
+
+        verify(client).getBlobOutputStream(any(ParallelTransferOptions.class), isNull(), isNull(), isNull(), isNull());
+    }
+}
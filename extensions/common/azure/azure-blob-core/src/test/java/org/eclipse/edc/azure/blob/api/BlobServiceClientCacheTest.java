@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.blob.api;
+
+import com.azure.storage.blob.BlobServiceClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BlobServiceClientCacheTest {
+
+    private static final Instant NOW = Instant.parse("2022-10-01T10:00:00Z");
+
+    private final AtomicReference<Clock> clock = new AtomicReference<>(Clock.fixed(NOW, ZoneOffset.UTC));
+    private final BlobServiceClientCache cache = new BlobServiceClientCache(Duration.ofMinutes(30), new DelegatingClock());
+
+    @Test
+    void getForAccountKey_shouldReuseClient() {
+        var first = cache.getForAccountKey("account", "key", () -> mock(BlobServiceClient.class));
+        var second = cache.getForAccountKey("account", "key", () -> mock(BlobServiceClient.class));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void getForAccountKey_shouldNotShareClientsAcrossCredentials() {
+        var first = cache.getForAccountKey("account", "key1", () -> mock(BlobServiceClient.class));
+        var second = cache.getForAccountKey("account", "key2", () -> mock(BlobServiceClient.class));
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void getForAccountKey_shouldExpireAfterTtl() {
+        var first = cache.getForAccountKey("account", "key", () -> mock(BlobServiceClient.class));
+
+        clock.set(Clock.fixed(NOW.plus(Duration.ofMinutes(29)), ZoneOffset.UTC));
+        assertThat(cache.getForAccountKey("account", "key", () -> mock(BlobServiceClient.class))).isSameAs(first);
+
+        clock.set(Clock.fixed(NOW.plus(Duration.ofMinutes(30)), ZoneOffset.UTC));
+        assertThat(cache.getForAccountKey("account", "key", () -> mock(BlobServiceClient.class))).isNotSameAs(first);
+    }
+
+    @Test
+    void getForSas_shouldReuseClient() {
+        var sas = "sv=2021-04-10&sr=c&sp=w&sig=abc";
+        var first = cache.getForSas("account", sas, () -> mock(BlobServiceClient.class));
+
+        assertThat(cache.getForSas("account", sas, () -> mock(BlobServiceClient.class))).isSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getForSas_shouldExpireWithSignature() {
+        var sas = "sv=2021-04-10&se=2022-10-01T10%3A05%3A00Z&sr=c&sp=w&sig=abc";
+        var first = cache.getForSas("account", sas, () -> mock(BlobServiceClient.class));
+
+        assertThat(cache.getForSas("account", sas, () -> mock(BlobServiceClient.class))).isSameAs(first);
+
+        clock.set(Clock.fixed(NOW.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+
+        assertThat(cache.getForSas("account", sas, () -> mock(BlobServiceClient.class))).isNotSameAs(first);
+    }
+
+    @Test
+    void getForSas_shouldExpireAfterTtl() {
+        var sas = "sv=2021-04-10&sr=c&sp=w&sig=abc";
+        var first = cache.getForSas("account", sas, () -> mock(BlobServiceClient.class));
+
+        clock.set(Clock.fixed(NOW.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+
+        assertThat(cache.getForSas("account", sas, () -> mock(BlobServiceClient.class))).isNotSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldEvictExpiredEntriesOfOtherAccounts() {
+        cache.getForAccountKey("account1", "key", () -> mock(BlobServiceClient.class));
+        cache.getForSas("account2", "sv=2021-04-10&se=2022-10-01T10%3A05%3A00Z&sig=abc", () -> mock(BlobServiceClient.class));
+        assertThat(cache.size()).isEqualTo(2);
+
+        clock.set(Clock.fixed(NOW.plus(Duration.ofMinutes(10)), ZoneOffset.UTC));
+        cache.getForAccountKey("account3", "key", () -> mock(BlobServiceClient.class));
+
+        assertThat(cache.size()).isEqualTo(2);
+
+        clock.set(Clock.fixed(NOW.plus(Duration.ofMinutes(45)), ZoneOffset.UTC));
+        cache.getForAccountKey("account4", "key", () -> mock(BlobServiceClient.class));
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private class DelegatingClock extends Clock {
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return clock.get().instant();
+        }
+    }
+}
@@ -14,12 +14,19 @@
 
 package org.eclipse.edc.azure.blob.api;
 
+import com.azure.core.credential.AzureSasCredential;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.eclipse.edc.azure.blob.testfixtures.AzureStorageTestFixtures.createAccountName;
 import static org.eclipse.edc.azure.blob.testfixtures.AzureStorageTestFixtures.createBlobName;
 import static org.eclipse.edc.azure.blob.testfixtures.AzureStorageTestFixtures.createContainerName;
+import static org.eclipse.edc.azure.blob.testfixtures.AzureStorageTestFixtures.createSharedAccessSignature;
 import static org.eclipse.edc.azure.blob.testfixtures.AzureStorageTestFixtures.createSharedKey;
 
 class BlobStoreApiImplTest {
@@ -34,4 +41,17 @@ class BlobStoreApiImplTest {
                         createBlobName(),
                         createSharedKey()));
     }
+
+    @Test
+    void getBlobAdapter_withUploadOptions_succeeds() {
+        var uploadOptions = new ParallelTransferOptions().setBlockSizeLong(1024L).setMaxConcurrency(2);
+        var service = new BlobStoreApiImpl(null, "https://%s.blob.core.windows.net", uploadOptions, Duration.ofMinutes(1), Clock.systemUTC());
+        var blobName = createBlobName();
+
+        var sharedKeyAdapter = service.getBlobAdapter(createAccountName(), createContainerName(), blobName, createSharedKey());
+        var sasAdapter = service.getBlobAdapter(createAccountName(), createContainerName(), blobName, new AzureSasCredential(createSharedAccessSignature()));
+
+        assertThat(sharedKeyAdapter.getBlobName()).isEqualTo(blobName);
+        assertThat(sasAdapter.getBlobName()).isEqualTo(blobName);
+    }
 }
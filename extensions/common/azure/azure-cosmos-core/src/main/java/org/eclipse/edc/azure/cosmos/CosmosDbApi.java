@@ -47,7 +47,7 @@ public interface CosmosDbApi extends ReadinessProvider {
     String invokeStoredProcedure(String procedureName, String partitionKey, Object... args);
 
     /**
-     * Uploads stored procedure into a container.
+     * Uploads stored procedure into a container. A stored procedure with the same name is replaced if its body differs.
      *
      * @param name of stored procedure js file
      */
@@ -195,8 +195,12 @@ public class CosmosDbApiImpl implements CosmosDbApi {
         var props = new CosmosStoredProcedureProperties(name, body);
 
         var scripts = container.getScripts();
-        if (scripts.readAllStoredProcedures().stream().noneMatch(sp -> sp.getId().equals(name))) {
+        var existing = scripts.readAllStoredProcedures().stream().filter(sp -> sp.getId().equals(name)).findFirst();
+        if (existing.isEmpty()) {
             scripts.createStoredProcedure(props);
+        } else if (!body.equals(existing.get().getBody())) {
+            // replace a procedure uploaded by an older version, otherwise changes to the script would never take effect
+            scripts.getStoredProcedure(name).replace(props);
         }
     }
 
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.azure.cosmos.dialect;
+
+import com.azure.cosmos.models.SqlParameter;
+import org.eclipse.edc.spi.query.ContinuationToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Represents in a structural way the condition that selects all documents after the position of a
+ * {@link ContinuationToken}, e.g.:
+ * <pre>
+ *     (YourDocument.wrappedInstance.name > @keyset_value OR (YourDocument.wrappedInstance.name = @keyset_value AND YourDocument.id > @keyset_id))
+ * </pre>
+ * CosmosDB does not support row value comparisons, so the condition is expanded. If no token is given, the clause is
+ * empty.
+ * <p>
+ * CosmosDB sorts {@code null} before any other value, so {@code null} sort values come first in ascending and last in
+ * descending order. Comparisons with {@code null} are undefined, hence documents with a {@code null} sort value are
+ * matched explicitly.
+ */
+class KeysetClause implements Clause {
+
+    private static final String VALUE_PARAM = "@keyset_value";
+    private static final String ID_PARAM = "@keyset_id";
+
+    private final String sortPath;
+    private final String idPath;
+    private final boolean ascending;
+    private final ContinuationToken token;
+
+    KeysetClause(String sortPath, String idPath, boolean ascending, ContinuationToken token) {
+        this.sortPath = sortPath;
+        this.idPath = idPath;
+        this.ascending = ascending;
+        this.token = token;
+    }
+
+    KeysetClause() {
+        this(null, null, true, null);
+    }
+
+    @Override
+    public String asString() {
+        if (token == null) {
+            return "";
+        }
+        var operator = ascending ? ">" : "<";
+        if (sortPath == null) {
+            return format("%s %s %s", idPath, operator, ID_PARAM);
+        }
+        if (token.getSortValue() == null) {
+            // the token is within the nulls: the rest of the nulls, and in ascending order all other values, follow
+            var rest = ascending ? format(" OR NOT IS_NULL(%s)", sortPath) : "";
+            return format("((IS_NULL(%s) AND %s %s %s)%s)", sortPath, idPath, operator, ID_PARAM, rest);
+        }
+        // in descending order the nulls come after all other values
+        var nulls = ascending ? "" : format(" OR IS_NULL(%s)", sortPath);
+        return format("(%s %s %s OR (%s = %s AND %s %s %s)%s)", sortPath, operator, VALUE_PARAM, sortPath, VALUE_PARAM, idPath, operator, ID_PARAM, nulls);
+    }
+
+    @Override
+    public @NotNull List<SqlParameter> getParameters() {
+        if (token == null) {
+            return List.of();
+        }
+        if (sortPath == null || token.getSortValue() == null) {
+            return List.of(new SqlParameter(ID_PARAM, token.getId()));
+        }
+        return List.of(new SqlParameter(VALUE_PARAM, token.getSortValue()), new SqlParameter(ID_PARAM, token.getId()));
+    }
+}
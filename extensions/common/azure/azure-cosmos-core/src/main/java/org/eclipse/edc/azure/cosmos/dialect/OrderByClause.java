@@ -34,12 +34,21 @@ class OrderByClause implements Clause {
     private final String orderField;
     private final boolean sortAsc;
     private final String objectPrefix;
+    private final String tiebreakerPath;
 
-    OrderByClause(String orderField, boolean sortAsc, String objectPrefix) {
-
+    /**
+     * Creates an ORDER BY clause which additionally sorts by {@code tiebreakerPath}, which is the full path of a
+     * property that is unique for each document. Note that CosmosDB requires a composite index to sort by two properties.
+     */
+    OrderByClause(String orderField, boolean sortAsc, String objectPrefix, String tiebreakerPath) {
         this.orderField = orderField;
         this.sortAsc = sortAsc;
         this.objectPrefix = objectPrefix;
+        this.tiebreakerPath = tiebreakerPath;
+    }
+
+    OrderByClause(String orderField, boolean sortAsc, String objectPrefix) {
+        this(orderField, sortAsc, objectPrefix, null);
     }
 
     OrderByClause(String orderField, boolean sortAsc) {
@@ -52,7 +61,13 @@ class OrderByClause implements Clause {
 
     @Override
     public String asString() {
-        return orderField != null ? format("ORDER BY %s%s %s", getPrefix(), orderField, sortAsc ? "ASC" : "DESC") : "";
+        var order = sortAsc ? "ASC" : "DESC";
+        if (orderField == null) {
+            return tiebreakerPath != null ? format("ORDER BY %s %s", tiebreakerPath, order) : "";
+        }
+        var sortPath = getPrefix() + orderField;
+        var clause = format("ORDER BY %s %s", sortPath, order);
+        return tiebreakerPath != null && !tiebreakerPath.equals(sortPath) ? format("%s, %s %s", clause, tiebreakerPath, order) : clause;
     }
 
     @NotNull
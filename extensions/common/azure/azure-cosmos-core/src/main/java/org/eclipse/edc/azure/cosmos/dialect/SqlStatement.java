@@ -17,6 +17,7 @@ package org.eclipse.edc.azure.cosmos.dialect;
 import com.azure.cosmos.models.SqlParameter;
 import com.azure.cosmos.models.SqlQuerySpec;
 import org.eclipse.edc.azure.cosmos.CosmosDocument;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.jetbrains.annotations.Nullable;
 
@@ -34,6 +35,7 @@ import static java.util.stream.Collectors.toList;
 public class SqlStatement<T extends CosmosDocument<?>> {
 
     private static final String PROPERTIES_FIELD = "wrappedInstance";
+    private static final String ID_FIELD = "id";
     private final Class<T> objectType;
     private final String wrapperPrefix;
     private WhereClause whereClause = new WhereClause();
@@ -41,6 +43,10 @@ public class SqlStatement<T extends CosmosDocument<?>> {
     private LimitClause limit = new LimitClause();
     private boolean sortAscending = true;
     private OffsetClause offset = new OffsetClause();
+    private String orderField;
+    private ContinuationToken continuationToken;
+    private String idField = ID_FIELD;
+    private boolean keysetPagination;
 
     /**
      * Creates a new statement for a specific object type.
@@ -58,7 +64,7 @@ public class SqlStatement<T extends CosmosDocument<?>> {
      * @param criteria A list of criteria
      */
     public SqlStatement<T> where(List<Criterion> criteria) {
-        whereClause = new WhereClause(objectType, criteria, String.join(".", objectType.getSimpleName(), wrapperPrefix));
+        whereClause = new WhereClause(objectType, criteria, getPropertyPrefix());
         return this;
     }
 
@@ -68,7 +74,8 @@ public class SqlStatement<T extends CosmosDocument<?>> {
      * @param orderField The field to order by. This is just the field, so no prefix, no object type. Default sort order is DESC.
      */
     public SqlStatement<T> orderBy(String orderField) {
-        orderClause = new OrderByClause(orderField, sortAscending, String.join(".", objectType.getSimpleName(), wrapperPrefix));
+        this.orderField = orderField;
+        orderClause = new OrderByClause(orderField, sortAscending, getPropertyPrefix());
         return this;
     }
 
@@ -105,6 +112,37 @@ public class SqlStatement<T extends CosmosDocument<?>> {
         return this;
     }
 
+    /**
+     * Enables keyset pagination: if no ORDER BY field is given and a LIMIT applies, results are sorted by the
+     * {@code id} field of the wrapped instance, so that consecutive pages never overlap or skip documents. If a token is
+     * given, only the documents that come after its position are returned, they are sorted by the ORDER BY field and
+     * then by the id, and the OFFSET is ignored. Documents with a {@code null} ORDER BY value come first in ascending
+     * and last in descending order.
+     * <p>
+     * Continuing a query that has an ORDER BY field requires a composite index on that field and the id in the CosmosDB
+     * container, queries without a token only ever sort by a single property.
+     *
+     * @param token The continuation token. Can be null, in which case regular offset pagination applies.
+     */
+    public SqlStatement<T> continueAfter(@Nullable ContinuationToken token) {
+        return continueAfter(token, ID_FIELD);
+    }
+
+    /**
+     * Restricts the results to the documents that come after the position of the token, see
+     * {@link #continueAfter(ContinuationToken)}.
+     *
+     * @param token   The continuation token. Can be null, in which case regular offset pagination applies.
+     * @param idField The field that uniquely identifies the wrapped instance. This is just the field, so no prefix, no
+     *                object type.
+     */
+    public SqlStatement<T> continueAfter(@Nullable ContinuationToken token, String idField) {
+        continuationToken = token;
+        this.idField = idField;
+        keysetPagination = true;
+        return this;
+    }
+
     /**
      * Returns the query text. This does not expand parameterized statements.
      */
@@ -117,17 +155,40 @@ public class SqlStatement<T extends CosmosDocument<?>> {
      * Returns the parameters of the query.
      */
     public List<SqlParameter> getParameters() {
-        return Stream.concat(whereClause.getParameters().stream(), orderClause.getParameters().stream())
-                .collect(toList());
+        return getQueryAsSqlQuerySpec().getParameters();
     }
 
     /**
      * Returns the entire SQL statement, potentially parameterized.
      */
     public SqlQuerySpec getQueryAsSqlQuerySpec() {
-        var queryText = format("SELECT * FROM %s %s %s %s %s", objectType.getSimpleName(), whereClause.asString(), orderClause.asString(), offset.asString(), limit.asString());
+        var where = whereClause.asString();
+        var order = orderClause;
+        var offsetClause = offset;
+        var keyset = new KeysetClause();
+
+        var idPath = String.join(".", getPropertyPrefix(), idField);
+        if (keysetPagination && orderField == null && !limit.asString().isEmpty()) {
+            order = new OrderByClause(null, sortAscending, getPropertyPrefix(), idPath);
+        }
+
+        if (continuationToken != null) {
+            var sortPath = orderField != null ? String.join(".", getPropertyPrefix(), orderField) : null;
+            keyset = new KeysetClause(sortPath, idPath, sortAscending, continuationToken);
+            where = where.isEmpty() ? "WHERE " + keyset.asString() : where + " AND " + keyset.asString();
+            order = new OrderByClause(orderField, sortAscending, getPropertyPrefix(), idPath);
+            offsetClause = new OffsetClause(limit.asString().isEmpty() ? null : 0);
+        }
+
+        var queryText = format("SELECT * FROM %s %s %s %s %s", objectType.getSimpleName(), where, order.asString(), offsetClause.asString(), limit.asString());
         queryText = queryText.strip().replaceAll(" +", " "); //remove all unnecessary whitespaces
-        var parameters = Stream.concat(whereClause.getParameters().stream(), orderClause.getParameters().stream()).collect(toList());
+        var parameters = Stream.of(whereClause.getParameters(), keyset.getParameters(), order.getParameters())
+                .flatMap(List::stream)
+                .collect(toList());
         return new SqlQuerySpec(queryText, parameters);
     }
+
+    private String getPropertyPrefix() {
+        return String.join(".", objectType.getSimpleName(), wrapperPrefix);
+    }
 }
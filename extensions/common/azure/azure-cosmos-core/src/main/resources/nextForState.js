@@ -15,7 +15,8 @@
 /**
  * Returns the next batch of documents that are in a certain state and acquires an exclusive lock on it (a "lease").
  * This SPROC will only return items that are not yet leased, or where the lease has expired. Thus, two subsequent calls with identical parameters
- * will yield different results.
+ * will yield different results. Items that are backing off after a failed attempt are skipped until their "nextAttemptAt"
+ * has passed.
  *
  * @param state the desired state
  * @param limit the batch size
@@ -31,7 +32,7 @@ function nextForState(state, limit, connectorId) {
 
     // first query
     var filterQuery = {
-        'query': 'SELECT * FROM t WHERE t.wrappedInstance.state = @state AND (t.lease = null OR (t.lease.leasedAt + t.lease.leaseDuration) < @now) ORDER BY t.wrappedInstance.stateTimestamp OFFSET 0 LIMIT @limit',
+        'query': 'SELECT * FROM t WHERE t.wrappedInstance.state = @state AND (NOT IS_DEFINED(t.wrappedInstance.nextAttemptAt) OR t.wrappedInstance.nextAttemptAt <= @now) AND (t.lease = null OR (t.lease.leasedAt + t.lease.leaseDuration) < @now) ORDER BY t.wrappedInstance.stateTimestamp OFFSET 0 LIMIT @limit',
         'parameters': [
             {
                 'name': '@state', 'value': parseInt(state, 10)
@@ -20,6 +20,7 @@ import com.azure.cosmos.implementation.NotFoundException;
 import com.azure.cosmos.models.CosmosContainerResponse;
 import com.azure.cosmos.models.CosmosDatabaseResponse;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
+import com.azure.cosmos.models.CosmosStoredProcedureProperties;
 import com.azure.cosmos.models.PartitionKey;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.eclipse.edc.azure.testfixtures.CosmosTestClient;
@@ -191,4 +192,16 @@ class CosmosDbApiImplIntegrationTest {
 
         assertThat(container.readAllItems(new PartitionKey(PARTITION_KEY), Object.class)).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void uploadStoredProcedure_shouldReplaceOutdatedProcedure() {
+        var scripts = container.getScripts();
+        scripts.createStoredProcedure(new CosmosStoredProcedureProperties("nextForState", "function nextForState() { }"));
+
+        cosmosDbApi.uploadStoredProcedure("nextForState");
+
+        var body = scripts.getStoredProcedure("nextForState").read().getProperties().getBody();
+        assertThat(body).contains("nextAttemptAt");
+        scripts.getStoredProcedure("nextForState").delete();
+    }
+}
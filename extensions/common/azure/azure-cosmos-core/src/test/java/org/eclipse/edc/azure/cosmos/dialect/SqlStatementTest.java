@@ -14,8 +14,10 @@
 
 package org.eclipse.edc.azure.cosmos.dialect;
 
+import com.azure.cosmos.models.SqlParameter;
 import org.eclipse.edc.azure.cosmos.TestCollectionDocument;
 import org.eclipse.edc.azure.cosmos.TestCosmosDocument;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.junit.jupiter.api.Test;
 
@@ -90,6 +92,65 @@ class SqlStatementTest {
         assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument ORDER BY TestCosmosDocument.wrappedInstance.priority DESC OFFSET 10 LIMIT 15");
     }
 
+    @Test
+    void getQuerySpec_withContinuationToken() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .where(List.of(new Criterion("id", "=", "1")))
+                .orderBy("priority", false)
+                .offset(10)
+                .limit(15)
+                .continueAfter(ContinuationToken.of(3, "some-id"));
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument WHERE TestCosmosDocument.wrappedInstance.id = @id" +
+                " AND (TestCosmosDocument.wrappedInstance.priority < @keyset_value OR (TestCosmosDocument.wrappedInstance.priority = @keyset_value AND TestCosmosDocument.wrappedInstance.id < @keyset_id)" +
+                " OR IS_NULL(TestCosmosDocument.wrappedInstance.priority))" +
+                " ORDER BY TestCosmosDocument.wrappedInstance.priority DESC, TestCosmosDocument.wrappedInstance.id DESC OFFSET 0 LIMIT 15");
+        assertThat(stmt.getParameters()).extracting(SqlParameter::getName).containsExactly("@id", "@keyset_value", "@keyset_id");
+    }
+
+    @Test
+    void getQuerySpec_withContinuationTokenNoOrderBy() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .limit(15)
+                .continueAfter(ContinuationToken.of(null, "some-id"));
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument WHERE TestCosmosDocument.wrappedInstance.id > @keyset_id" +
+                " ORDER BY TestCosmosDocument.wrappedInstance.id ASC OFFSET 0 LIMIT 15");
+        assertThat(stmt.getParameters()).hasSize(1).allSatisfy(p -> assertThat(p.getValue(String.class)).isEqualTo("some-id"));
+    }
+
+    @Test
+    void getQuerySpec_withKeysetPaginationNoToken_shouldOrderById() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .offset(10)
+                .limit(15)
+                .continueAfter(null);
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument ORDER BY TestCosmosDocument.wrappedInstance.id ASC OFFSET 10 LIMIT 15");
+
+    }
+
+    @Test
+    void getQuerySpec_withKeysetPaginationNoTokenAndOrderBy_shouldNotAddTiebreaker() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .orderBy("priority", false)
+                .offset(10)
+                .limit(15)
+                .continueAfter(null);
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument" +
+                " ORDER BY TestCosmosDocument.wrappedInstance.priority DESC OFFSET 10 LIMIT 15");
+    }
+
+    @Test
+    void getQuerySpec_withContinuationTokenNullSortValue() {
+        var stmt = new SqlStatement<>(TestCosmosDocument.class)
+                .orderBy("priority")
+                .limit(15)
+                .continueAfter(ContinuationToken.of(null, "some-id"));
+        assertThat(stmt.getQueryAsString()).isEqualTo("SELECT * FROM TestCosmosDocument" +
+                " WHERE ((IS_NULL(TestCosmosDocument.wrappedInstance.priority) AND TestCosmosDocument.wrappedInstance.id > @keyset_id)" +
+                " OR NOT IS_NULL(TestCosmosDocument.wrappedInstance.priority))" +
+                " ORDER BY TestCosmosDocument.wrappedInstance.priority ASC, TestCosmosDocument.wrappedInstance.id ASC OFFSET 0 LIMIT 15");
+        assertThat(stmt.getParameters()).extracting(SqlParameter::getName).containsExactly("@keyset_id");
+    }
+
     @Test
     void getQuerySpec_withCollectionField() {
         var stmt = new SqlStatement<>(TestCollectionDocument.class)
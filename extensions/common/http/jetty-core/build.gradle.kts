@@ -20,6 +20,8 @@ plugins {
 
 dependencies {
     implementation(libs.jetty.websocket)
+    implementation(libs.jetty.http2.server)
+    implementation(libs.jetty.alpn.server)
 
     api(project(":spi:common:core-spi"))
     api(project(":spi:common:web-spi"))
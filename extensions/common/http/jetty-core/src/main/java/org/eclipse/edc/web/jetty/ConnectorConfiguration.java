@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.web.jetty;
+
+/**
+ * Tuning of the Jetty connector that serves a {@link PortMapping}: its thread pool, the number of acceptor and selector
+ * threads, the idle timeout of connections and whether HTTP/2 is offered in addition to HTTP/1.1.
+ * <p>
+ * A port mapping that does not configure a maximum number of threads shares the thread pool of the server. Giving a
+ * port mapping its own pool isolates its requests, so that a saturated API does not starve the others.
+ */
+public class ConnectorConfiguration {
+
+    public static final int DEFAULT_THREAD_IDLE_TIMEOUT = 60_000;
+    public static final long DEFAULT_IDLE_TIMEOUT = 30_000;
+
+    private int minThreads = JettyConfiguration.DEFAULT_MIN_THREADS;
+    private int maxThreads;
+    private int threadIdleTimeout = DEFAULT_THREAD_IDLE_TIMEOUT;
+    private int acceptors = -1;
+    private int selectors = -1;
+    private long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+    private boolean http2;
+
+    private ConnectorConfiguration() {
+    }
+
+    public static ConnectorConfiguration defaults() {
+        return new ConnectorConfiguration();
+    }
+
+    /**
+     * Whether the connector runs on a thread pool of its own instead of the one of the server.
+     */
+    public boolean hasOwnThreadPool() {
+        return maxThreads > 0;
+    }
+
+    /**
+     * Minimum number of threads of the own pool, capped at {@link #getMaxThreads()}.
+     */
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
+    /**
+     * Number of acceptor threads, a negative value lets Jetty derive it from the number of cores.
+     */
+    public int getAcceptors() {
+        return acceptors;
+    }
+
+    /**
+     * Number of selector threads, a negative value lets Jetty derive it from the number of cores.
+     */
+    public int getSelectors() {
+        return selectors;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Whether HTTP/2 is offered: negotiated through ALPN ("h2") over TLS, or as cleartext "h2c" otherwise.
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "minThreads=" + minThreads +
+                ", maxThreads=" + maxThreads +
+                ", acceptors=" + acceptors +
+                ", selectors=" + selectors +
+                ", idleTimeout=" + idleTimeout +
+                ", http2=" + http2 +
+                '}';
+    }
+
+    public static class Builder {
+        private final ConnectorConfiguration configuration;
+
+        private Builder() {
+            configuration = new ConnectorConfiguration();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder minThreads(int minThreads) {
+            configuration.minThreads = minThreads;
+            return this;
+        }
+
+        public Builder maxThreads(int maxThreads) {
+            configuration.maxThreads = maxThreads;
+            return this;
+        }
+
+        public Builder threadIdleTimeout(int threadIdleTimeout) {
+            configuration.threadIdleTimeout = threadIdleTimeout;
+            return this;
+        }
+
+        public Builder acceptors(int acceptors) {
+            configuration.acceptors = acceptors;
+            return this;
+        }
+
+        public Builder selectors(int selectors) {
+            configuration.selectors = selectors;
+            return this;
+        }
+
+        public Builder idleTimeout(long idleTimeout) {
+            configuration.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public Builder http2(boolean http2) {
+            configuration.http2 = http2;
+            return this;
+        }
+
+        public ConnectorConfiguration build() {
+            if (configuration.minThreads < 0 || configuration.maxThreads < 0) {
+                throw new IllegalArgumentException("The number of threads must not be negative");
+            }
+            return configuration;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,11 +31,35 @@ public class JettyConfiguration {
     public static final String DEFAULT_PATH = "/api";
     public static final String DEFAULT_CONTEXT_NAME = "default";
     public static final int DEFAULT_PORT = 8181;
+    public static final int DEFAULT_MIN_THREADS = 8;
+    public static final int DEFAULT_MAX_THREADS = 200;
     @Setting
     private static final String HTTP_PORT = "web.http.port";
+    @Setting(value = "Minimum number of threads of the pool that is shared by all port mappings without a pool of their own", defaultValue = "8")
+    private static final String MIN_THREADS = "edc.web.threads.min";
+    @Setting(value = "Maximum number of threads of the pool that is shared by all port mappings without a pool of their own", defaultValue = "200")
+    private static final String MAX_THREADS = "edc.web.threads.max";
+    @Setting(value = "Time in milliseconds after which idle threads of the shared pool are stopped", defaultValue = "60000")
+    private static final String THREAD_IDLE_TIMEOUT = "edc.web.threads.idle.timeout.ms";
+
+    // per port mapping, e.g. web.http.management.threads.max
+    private static final String PORT = "port";
+    private static final String PATH = "path";
+    private static final String CONNECTOR_MIN_THREADS = "threads.min";
+    private static final String CONNECTOR_MAX_THREADS = "threads.max";
+    private static final String CONNECTOR_THREAD_IDLE_TIMEOUT = "threads.idle.timeout.ms";
+    private static final String CONNECTOR_ACCEPTORS = "acceptors";
+    private static final String CONNECTOR_SELECTORS = "selectors";
+    private static final String CONNECTOR_IDLE_TIMEOUT = "idle.timeout.ms";
+    private static final String CONNECTOR_HTTP2 = "http2";
+    private static final Set<String> COMPOUND_COMPONENTS = Set.of(CONNECTOR_MIN_THREADS, CONNECTOR_MAX_THREADS, CONNECTOR_THREAD_IDLE_TIMEOUT, CONNECTOR_IDLE_TIMEOUT);
+
     private final String keystorePassword;
     private final String keymanagerPassword;
     private final Set<PortMapping> portMappings;
+    private int minThreads = DEFAULT_MIN_THREADS;
+    private int maxThreads = DEFAULT_MAX_THREADS;
+    private int threadIdleTimeout = ConnectorConfiguration.DEFAULT_THREAD_IDLE_TIMEOUT;
 
     public JettyConfiguration(String keystorePassword, String keymanagerPassword) {
         this.keystorePassword = keystorePassword;
@@ -44,6 +69,9 @@ public class JettyConfiguration {
 
     public static JettyConfiguration createFromConfig(String keystorePassword, String keymanagerPassword, Config config) {
         var jettyConfig = new JettyConfiguration(keystorePassword, keymanagerPassword);
+        jettyConfig.minThreads = config.getInteger(MIN_THREADS, DEFAULT_MIN_THREADS);
+        jettyConfig.maxThreads = config.getInteger(MAX_THREADS, DEFAULT_MAX_THREADS);
+        jettyConfig.threadIdleTimeout = config.getInteger(THREAD_IDLE_TIMEOUT, ConnectorConfiguration.DEFAULT_THREAD_IDLE_TIMEOUT);
 
         var subConfig = config.getConfig(WEB_HTTP_PREFIX);
 
@@ -53,7 +81,7 @@ public class JettyConfiguration {
                 .forEach(e -> split(tempMappings, e));
 
         var portMappings = tempMappings.entrySet().stream()
-                .map(e -> new PortMapping(e.getKey(), Integer.parseInt(e.getValue().getOrDefault("port", "" + DEFAULT_PORT)), e.getValue().getOrDefault("path", DEFAULT_PATH)))
+                .map(e -> new PortMapping(e.getKey(), Integer.parseInt(e.getValue().getOrDefault(PORT, "" + DEFAULT_PORT)), e.getValue().getOrDefault(PATH, DEFAULT_PATH), connectorConfiguration(e.getValue())))
                 .collect(Collectors.toSet());
 
         jettyConfig.portMappings.addAll(portMappings);
@@ -66,6 +94,22 @@ public class JettyConfiguration {
         return jettyConfig;
     }
 
+    private static ConnectorConfiguration connectorConfiguration(Map<String, String> components) {
+        var builder = ConnectorConfiguration.Builder.newInstance();
+        integer(components, CONNECTOR_MIN_THREADS).ifPresent(builder::minThreads);
+        integer(components, CONNECTOR_MAX_THREADS).ifPresent(builder::maxThreads);
+        integer(components, CONNECTOR_THREAD_IDLE_TIMEOUT).ifPresent(builder::threadIdleTimeout);
+        integer(components, CONNECTOR_ACCEPTORS).ifPresent(builder::acceptors);
+        integer(components, CONNECTOR_SELECTORS).ifPresent(builder::selectors);
+        Optional.ofNullable(components.get(CONNECTOR_IDLE_TIMEOUT)).map(Long::parseLong).ifPresent(builder::idleTimeout);
+        Optional.ofNullable(components.get(CONNECTOR_HTTP2)).map(Boolean::parseBoolean).ifPresent(builder::http2);
+        return builder.build();
+    }
+
+    private static Optional<Integer> integer(Map<String, String> components, String component) {
+        return Optional.ofNullable(components.get(component)).map(Integer::parseInt);
+    }
+
     /**
      * converts a map entry, that looks like "something.port" -> 1234, into a map entry, that looks like
      * "something" -> ("port" -> "1234") and adds it to an existing map
@@ -75,14 +119,16 @@ public class JettyConfiguration {
         var key = entry.getKey();
         var value = entry.getValue();
 
-        // only <alias>.[port|path] is accepted
-        if (key.split("\\.").length != 2) {
+        // only <alias>.<component> is accepted, where the component may only contain dots if it is a known connector setting
+        var firstDotIndex = key.indexOf(".");
+        if (firstDotIndex < 0) {
+            return;
+        }
+        var keyNamePart = key.substring(0, firstDotIndex);
+        var keyComponentPart = key.substring(firstDotIndex + 1);
+        if (keyComponentPart.contains(".") && !COMPOUND_COMPONENTS.contains(keyComponentPart)) {
             return;
         }
-
-        var lastDotIndex = key.lastIndexOf(".");
-        var keyNamePart = key.substring(0, lastDotIndex);
-        var keyComponentPart = key.substring(lastDotIndex + 1);
 
         var map = rawMappings.computeIfAbsent(keyNamePart, s -> new HashMap<>());
         if (map.containsKey(keyComponentPart)) {
@@ -114,4 +160,16 @@ public class JettyConfiguration {
         return keymanagerPassword;
     }
 
+    public int getMinThreads() {
+        return minThreads;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getThreadIdleTimeout() {
+        return threadIdleTimeout;
+    }
+
 }
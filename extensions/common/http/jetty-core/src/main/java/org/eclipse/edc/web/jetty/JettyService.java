@@ -20,7 +20,12 @@ import jakarta.servlet.Servlet;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.web.spi.WebServer;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
@@ -32,6 +37,7 @@ import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.Source;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.KeyStore;
@@ -74,7 +80,7 @@ public class JettyService implements WebServer {
 
     public void start() {
         try {
-            server = new Server();
+            server = new Server(threadPool("jetty", configuration.getMinThreads(), configuration.getMaxThreads(), configuration.getThreadIdleTimeout()));
             //create a connector for every port mapping
             configuration.getPortMappings().forEach(mapping -> {
                 if (!mapping.getPath().startsWith("/")) {
@@ -86,16 +92,18 @@ public class JettyService implements WebServer {
                     throw new IllegalArgumentException("A binding for port " + mapping.getPort() + " already exists");
                 }
 
+                var connectorConfiguration = mapping.getConnector();
                 if (keyStore != null) {
-                    connector = httpsServerConnector(mapping.getPort());
-                    monitor.info("HTTPS context '" + mapping.getName() + "' listening on port " + mapping.getPort());
+                    connector = httpsServerConnector(mapping);
+                    monitor.info("HTTPS context '" + mapping.getName() + "' listening on port " + mapping.getPort() + (connectorConfiguration.isHttp2() ? " (h2, http/1.1)" : ""));
                 } else {
-                    connector = httpServerConnector();
-                    monitor.info("HTTP context '" + mapping.getName() + "' listening on port " + mapping.getPort());
+                    connector = httpServerConnector(mapping);
+                    monitor.info("HTTP context '" + mapping.getName() + "' listening on port " + mapping.getPort() + (connectorConfiguration.isHttp2() ? " (h2c, http/1.1)" : ""));
                 }
 
                 connector.setName(mapping.getName());
                 connector.setPort(mapping.getPort());
+                connector.setIdleTimeout(connectorConfiguration.getIdleTimeout());
 
                 configure(connector);
                 server.addConnector(connector);
@@ -170,7 +178,7 @@ public class JettyService implements WebServer {
     }
 
     @NotNull
-    private ServerConnector httpsServerConnector(int port) {
+    private ServerConnector httpsServerConnector(PortMapping mapping) {
         var storePassword = configuration.getKeystorePassword();
         var managerPassword = configuration.getKeymanagerPassword();
 
@@ -183,27 +191,56 @@ public class JettyService implements WebServer {
 
         var httpsConfiguration = new HttpConfiguration();
         httpsConfiguration.setSecureScheme("https");
-        httpsConfiguration.setSecurePort(port);
+        httpsConfiguration.setSecurePort(mapping.getPort());
         httpsConfiguration.addCustomizer(new SecureRequestCustomizer());
 
         var httpConnectionFactory = new HttpConnectionFactory(httpsConfiguration);
-        var sslConnectionFactory = new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
-        return new ServerConnector(server, sslConnectionFactory, httpConnectionFactory);
+        if (!mapping.getConnector().isHttp2()) {
+            var sslConnectionFactory = new SslConnectionFactory(contextFactory, HttpVersion.HTTP_1_1.asString());
+            return serverConnector(mapping, sslConnectionFactory, httpConnectionFactory);
+        }
+
+        // h2 is negotiated through ALPN, clients that do not support it fall back to HTTP/1.1
+        contextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        var alpn = new ALPNServerConnectionFactory();
+        alpn.setDefaultProtocol(httpConnectionFactory.getProtocol());
+        var sslConnectionFactory = new SslConnectionFactory(contextFactory, alpn.getProtocol());
+        return serverConnector(mapping, sslConnectionFactory, alpn, new HTTP2ServerConnectionFactory(httpsConfiguration), httpConnectionFactory);
     }
 
     @NotNull
-    private ServerConnector httpServerConnector() {
-        return new ServerConnector(server, httpConnectionFactory());
+    private ServerConnector httpServerConnector(PortMapping mapping) {
+        var httpConfiguration = new HttpConfiguration();
+        var httpConnectionFactory = new HttpConnectionFactory(httpConfiguration);
+        if (!mapping.getConnector().isHttp2()) {
+            return serverConnector(mapping, httpConnectionFactory);
+        }
+        // h2c is accepted both with prior knowledge and as an upgrade from HTTP/1.1
+        return serverConnector(mapping, httpConnectionFactory, new HTTP2CServerConnectionFactory(httpConfiguration));
     }
 
-    private void configure(ServerConnector connector) {
-        connectorConfigurationCallbacks.forEach(c -> c.accept(connector));
+    /**
+     * Creates a connector that runs on the thread pool of the server, or on a pool of its own if the port mapping
+     * configures one. A pool of its own is managed by the connector, i.e. started and stopped with it.
+     */
+    @NotNull
+    private ServerConnector serverConnector(PortMapping mapping, ConnectionFactory... factories) {
+        var connectorConfiguration = mapping.getConnector();
+        var executor = connectorConfiguration.hasOwnThreadPool()
+                ? threadPool("jetty-" + mapping.getName(), connectorConfiguration.getMinThreads(), connectorConfiguration.getMaxThreads(), connectorConfiguration.getThreadIdleTimeout())
+                : null;
+        return new ServerConnector(server, executor, null, null, connectorConfiguration.getAcceptors(), connectorConfiguration.getSelectors(), factories);
     }
 
     @NotNull
-    private HttpConnectionFactory httpConnectionFactory() {
-        HttpConfiguration https = new HttpConfiguration();
-        return new HttpConnectionFactory(https);
+    private QueuedThreadPool threadPool(String name, int minThreads, int maxThreads, int idleTimeout) {
+        var threadPool = new QueuedThreadPool(maxThreads, Math.min(minThreads, maxThreads), idleTimeout);
+        threadPool.setName(name);
+        return threadPool;
+    }
+
+    private void configure(ServerConnector connector) {
+        connectorConfigurationCallbacks.forEach(c -> c.accept(connector));
     }
 
     private ServletContextHandler getOrCreate(String contextPath) {
@@ -15,7 +15,8 @@
 package org.eclipse.edc.web.jetty;
 
 /**
- * POJO that contains portmappings for Jetty, consisting of a context alias, a port and a path.
+ * POJO that contains portmappings for Jetty, consisting of a context alias, a port, a path and the configuration of the
+ * connector that serves it.
  *
  * @see JettyConfiguration
  * @see JettyService
@@ -24,6 +25,7 @@ public class PortMapping {
     private final String alias;
     private final int port;
     private final String path;
+    private final ConnectorConfiguration connector;
 
     public static PortMapping getDefault() {
         return getDefault(JettyConfiguration.DEFAULT_PORT);
@@ -34,9 +36,14 @@ public class PortMapping {
     }
 
     public PortMapping(String name, int port, String path) {
+        this(name, port, path, ConnectorConfiguration.defaults());
+    }
+
+    public PortMapping(String name, int port, String path, ConnectorConfiguration connector) {
         alias = name;
         this.port = port;
         this.path = path;
+        this.connector = connector;
     }
 
     public String getName() {
@@ -51,12 +58,17 @@ public class PortMapping {
         return path;
     }
 
+    public ConnectorConfiguration getConnector() {
+        return connector;
+    }
+
     @Override
     public String toString() {
         return "{" +
                 "alias='" + alias + '\'' +
                 ", port=" + port +
                 ", path='" + path + '\'' +
+                ", connector=" + connector +
                 '}';
     }
 }
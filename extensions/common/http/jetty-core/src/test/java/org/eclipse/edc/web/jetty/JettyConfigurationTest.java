@@ -104,6 +104,39 @@ class JettyConfigurationTest {
 
     }
 
+    @Test
+    void createFromConfig_connectorConfiguration() {
+        var result = JettyConfiguration.createFromConfig(null, null, ConfigFactory.fromMap(Map.of(
+                "edc.web.threads.max", "100",
+                "web.http.port", "8888",
+                "web.http.public.port", "9999",
+                "web.http.public.threads.min", "4",
+                "web.http.public.threads.max", "50",
+                "web.http.public.acceptors", "1",
+                "web.http.public.selectors", "2",
+                "web.http.public.idle.timeout.ms", "5000",
+                "web.http.public.http2", "true"
+        )));
+
+        assertThat(result.getMaxThreads()).isEqualTo(100);
+        assertThat(result.getPortMappings()).hasSize(2).anySatisfy(pm -> {
+            assertThat(pm.getName()).isEqualTo("default");
+            assertThat(pm.getConnector().hasOwnThreadPool()).isFalse();
+            assertThat(pm.getConnector().isHttp2()).isFalse();
+        }).anySatisfy(pm -> {
+            assertThat(pm.getName()).isEqualTo("public");
+            assertThat(pm.getPort()).isEqualTo(9999);
+            var connector = pm.getConnector();
+            assertThat(connector.hasOwnThreadPool()).isTrue();
+            assertThat(connector.getMinThreads()).isEqualTo(4);
+            assertThat(connector.getMaxThreads()).isEqualTo(50);
+            assertThat(connector.getAcceptors()).isEqualTo(1);
+            assertThat(connector.getSelectors()).isEqualTo(2);
+            assertThat(connector.getIdleTimeout()).isEqualTo(5000);
+            assertThat(connector.isHttp2()).isTrue();
+        });
+    }
+
     // The exception should be thrown when starting Jetty -> Servlet already exists
     @Test
     void createFromConfig_multipleContextsIdenticalPath_shouldNotThrowException() {
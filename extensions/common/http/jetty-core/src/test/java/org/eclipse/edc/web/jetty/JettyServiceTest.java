@@ -137,6 +137,29 @@ class JettyServiceTest {
         assertThat(listener.getConnectionsOpened()).isEqualTo(1);
     }
 
+    @Test
+    void verifyPortMappingWithOwnThreadPoolAndHttp2() {
+        var config = ConfigFactory.fromMap(Map.of(
+                "web.http.port", "7171",
+                "web.http.another.port", "9191",
+                "web.http.another.path", "/another",
+                "web.http.another.threads.max", "16",
+                "web.http.another.http2", "true"));
+        jettyService = new JettyService(JettyConfiguration.createFromConfig(null, null, config), monitor);
+
+        jettyService.start();
+
+        jettyService.registerServlet("another", new ServletContainer(createTestResource()));
+        jettyService.registerServlet("default", new ServletContainer(createTestResource()));
+
+        // HTTP/1.1 clients are still served on a connector that offers h2c
+        var anotherThread = given().get("http://localhost:9191/another/test/thread").then().statusCode(200).extract().asString();
+        var defaultThread = given().get("http://localhost:7171/api/test/thread").then().statusCode(200).extract().asString();
+
+        assertThat(anotherThread).startsWith("jetty-another-");
+        assertThat(defaultThread).startsWith("jetty-").doesNotStartWith("jetty-another-");
+    }
+
     @Test
     void verifyCustomPathRoot() {
         var config = ConfigFactory.fromMap(Map.of(
@@ -205,6 +228,12 @@ class JettyServiceTest {
         public String foo() {
             return "exists";
         }
+
+        @GET
+        @Path("/thread")
+        public String thread() {
+            return Thread.currentThread().getName();
+        }
     }
 
     private static class JettyListener extends AbstractLifeCycle implements Connection.Listener {
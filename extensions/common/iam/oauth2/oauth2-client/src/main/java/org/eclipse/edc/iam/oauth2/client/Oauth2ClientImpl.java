@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -55,8 +56,23 @@ public class Oauth2ClientImpl implements Oauth2Client {
     private Result<TokenRepresentation> handleResponse(Response response) {
         return getStringBody(response)
                 .map(it -> typeManager.readValue(it, Map.class))
-                .map(it -> it.get(RESPONSE_ACCESS_TOKEN_CLAIM).toString())
-                .map(it -> TokenRepresentation.Builder.newInstance().token(it).build());
+                .map(this::toTokenRepresentation);
+    }
+
+    private TokenRepresentation toTokenRepresentation(Map<?, ?> body) {
+        var additional = new HashMap<String, Object>();
+        var expiresIn = body.get(EXPIRES_IN);
+        if (expiresIn != null) {
+            try {
+                additional.put(EXPIRES_IN, Long.parseLong(expiresIn.toString()));
+            } catch (NumberFormatException ignored) {
+                // an unusable lifetime is treated like a missing one
+            }
+        }
+        return TokenRepresentation.Builder.newInstance()
+                .token(body.get(RESPONSE_ACCESS_TOKEN_CLAIM).toString())
+                .additional(additional)
+                .build();
     }
 
     private static Request toRequest(Oauth2CredentialsRequest request) {
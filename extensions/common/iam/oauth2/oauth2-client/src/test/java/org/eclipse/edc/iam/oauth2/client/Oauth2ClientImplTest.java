@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.iam.oauth2.client;
 
+import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2CredentialsRequest;
 import org.eclipse.edc.iam.oauth2.spi.client.SharedSecretOauth2CredentialsRequest;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -68,6 +69,17 @@ class Oauth2ClientImplTest {
         assertThat(result.getContent().getToken()).isEqualTo("token");
     }
 
+    @Test
+    void verifyRequestTokenSuccess_withExpiresIn() {
+        var responseBody = typeManager.writeValueAsString(Map.of("access_token", "token", "expires_in", 3600));
+        server.when(HttpRequest.request()).respond(HttpResponse.response().withBody(responseBody, APPLICATION_JSON));
+
+        var result = client.requestToken(createRequest());
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().getAdditional()).containsEntry(Oauth2Client.EXPIRES_IN, 3600L);
+    }
+
     @Test
     void verifyFailureIfServerCallFails() {
         var request = createRequest();
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.metrics.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
+
+import java.time.Duration;
+
+/**
+ * {@link VaultCacheMetrics} that reports the cache lookups, the hit ratio and the latency of the remote vault to a
+ * Micrometer {@link MeterRegistry}.
+ */
+public class MicrometerVaultCacheMetrics implements VaultCacheMetrics {
+    private static final String LOOKUPS = "edc.vault.cache.lookups";
+    private static final String HIT_RATIO = "edc.vault.cache.hit.ratio";
+    private static final String REMOTE_LATENCY = "edc.vault.remote.latency";
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Timer found;
+    private final Timer notFound;
+
+    public MicrometerVaultCacheMetrics(MeterRegistry registry) {
+        hits = Counter.builder(LOOKUPS).tag("result", "hit").register(registry);
+        staleHits = Counter.builder(LOOKUPS).tag("result", "stale").register(registry);
+        misses = Counter.builder(LOOKUPS).tag("result", "miss").register(registry);
+        found = Timer.builder(REMOTE_LATENCY).tag("found", "true").register(registry);
+        notFound = Timer.builder(REMOTE_LATENCY).tag("found", "false").register(registry);
+        Gauge.builder(HIT_RATIO, this, MicrometerVaultCacheMetrics::hitRatio)
+                .description("Share of secret lookups served from the cache, including stale entries")
+                .register(registry);
+    }
+
+    @Override
+    public void hit() {
+        hits.increment();
+    }
+
+    @Override
+    public void staleHit() {
+        staleHits.increment();
+    }
+
+    @Override
+    public void miss() {
+        misses.increment();
+    }
+
+    @Override
+    public void remoteCall(Duration latency, boolean found) {
+        (found ? this.found : notFound).record(latency);
+    }
+
+    private double hitRatio() {
+        var served = hits.count() + staleHits.count();
+        var total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+}
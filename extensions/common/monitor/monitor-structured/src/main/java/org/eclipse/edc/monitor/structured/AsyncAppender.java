@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decouples logging threads from the output. Events are put into a bounded ring buffer and written by a single daemon
+ * thread in batches, so that callers never contend on the output stream and never wait for I/O. What happens when the
+ * buffer is full is decided by the {@link OverflowPolicy}.
+ */
+class AsyncAppender {
+
+    private static final int MAX_BATCH = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final BlockingQueue<LogEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final JsonLogFormatter formatter;
+    private final Writer writer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    AsyncAppender(int capacity, OverflowPolicy overflowPolicy, JsonLogFormatter formatter, Writer writer) {
+        buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.formatter = formatter;
+        this.writer = writer;
+        thread = new Thread(this::run, "edc-monitor-appender");
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Hands an event over to the appender thread.
+     */
+    void append(LogEvent event) {
+        if (!running) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP && event.level != Level.SEVERE) {
+            if (!buffer.offer(event)) {
+                dropped.incrementAndGet();
+            }
+            return;
+        }
+        try {
+            buffer.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting events and waits until the buffered ones are written.
+     */
+    void stop(long timeoutMillis) {
+        running = false;
+        try {
+            thread.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getDropped() {
+        return dropped.get();
+    }
+
+    private void run() {
+        var batch = new ArrayList<LogEvent>(MAX_BATCH);
+        var out = new StringBuilder(1024);
+        while (running || !buffer.isEmpty()) {
+            try {
+                var first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, MAX_BATCH - 1);
+                    write(batch, out);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                // the appender must outlive its callers: keep draining until stopped
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private void write(List<LogEvent> batch, StringBuilder out) {
+        try {
+            for (var event : batch) {
+                out.setLength(0);
+                formatter.format(event, out);
+                writer.append(out);
+            }
+            var droppedSinceLastReport = dropped.getAndSet(0);
+            if (droppedSinceLastReport > 0) {
+                out.setLength(0);
+                formatter.format(new LogEvent(System.currentTimeMillis(), Level.WARNING, thread.getName(),
+                        droppedSinceLastReport + " log events were dropped because the monitor buffer was full", null, null, null, null), out);
+                writer.append(out);
+            }
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            // there is nowhere else to log to
+            e.printStackTrace(System.err);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Writes a {@link LogEvent} as a single line of JSON, e.g.
+ * <pre>
+ * {"timestamp":"2022-11-02T10:15:30.123Z","level":"INFO","thread":"main","message":"started","traceId":"...","spanId":"..."}
+ * </pre>
+ * The formatter appends to a caller provided buffer, so that the appender can reuse it for every event.
+ */
+class JsonLogFormatter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    @Nullable
+    private final String runtimeName;
+
+    JsonLogFormatter(@Nullable String runtimeName) {
+        this.runtimeName = runtimeName;
+    }
+
+    void format(LogEvent event, StringBuilder out) {
+        out.append('{');
+        field(out, "timestamp", Instant.ofEpochMilli(event.timestamp).toString());
+        out.append(',');
+        field(out, "level", event.level.name());
+        if (runtimeName != null) {
+            out.append(',');
+            field(out, "runtime", runtimeName);
+        }
+        out.append(',');
+        field(out, "thread", event.thread);
+        if (event.message != null) {
+            out.append(',');
+            field(out, "message", event.message);
+        }
+        if (event.data != null) {
+            out.append(",\"data\":{");
+            var first = true;
+            for (Map.Entry<String, Object> entry : event.data.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                field(out, entry.getKey(), String.valueOf(entry.getValue()));
+            }
+            out.append('}');
+        }
+        if (event.traceId != null) {
+            out.append(',');
+            field(out, "traceId", event.traceId);
+            out.append(',');
+            field(out, "spanId", event.spanId);
+        }
+        if (event.errors != null && event.errors.length > 0) {
+            out.append(",\"errors\":[");
+            var first = true;
+            for (var error : event.errors) {
+                if (error == null) {
+                    continue;
+                }
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                string(out, stackTrace(error));
+            }
+            out.append(']');
+        }
+        out.append('}').append('\n');
+    }
+
+    private void field(StringBuilder out, String name, @Nullable String value) {
+        string(out, name);
+        out.append(':');
+        if (value == null) {
+            out.append("null");
+        } else {
+            string(out, value);
+        }
+    }
+
+    private void string(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+
+    private String stackTrace(Throwable error) {
+        var writer = new StringWriter();
+        error.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * A single log event. It is created on the logging thread with everything that depends on the calling context, i.e.
+ * the timestamp, the thread and the trace, while formatting is left to the appender thread.
+ */
+class LogEvent {
+    final long timestamp;
+    final Level level;
+    final String thread;
+    @Nullable
+    final String message;
+    @Nullable
+    final Map<String, Object> data;
+    @Nullable
+    final Throwable[] errors;
+    @Nullable
+    final String traceId;
+    @Nullable
+    final String spanId;
+
+    LogEvent(long timestamp, Level level, String thread, @Nullable String message, @Nullable Map<String, Object> data,
+             @Nullable Throwable[] errors, @Nullable String traceId, @Nullable String spanId) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.thread = thread;
+        this.message = message;
+        this.data = data;
+        this.errors = errors;
+        this.traceId = traceId;
+        this.spanId = spanId;
+    }
+}
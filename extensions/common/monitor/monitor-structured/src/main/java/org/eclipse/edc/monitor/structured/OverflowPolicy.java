@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+/**
+ * What happens to a log event when the ring buffer of the {@link AsyncAppender} is full.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The calling thread waits until there is room in the buffer. No event is lost, but logging can slow down callers
+     * when the output cannot keep up.
+     */
+    BLOCK,
+
+    /**
+     * Events are dropped and counted, the number of dropped events is reported as soon as the buffer drains. Callers
+     * never wait, except for {@code SEVERE} events, which are never dropped.
+     */
+    DROP
+}
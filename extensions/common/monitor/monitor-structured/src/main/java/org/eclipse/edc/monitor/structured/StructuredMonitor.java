@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+import io.opentelemetry.api.trace.Span;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * {@link Monitor} that writes JSON lines through an {@link AsyncAppender}.
+ * <p>
+ * The level is checked before a message is built, so that suppliers of disabled levels are never invoked. Enabled
+ * events carry the id of the current trace and span, if there is one, so that log lines can be correlated with traces.
+ */
+public class StructuredMonitor implements Monitor {
+
+    private final Level level;
+    private final AsyncAppender appender;
+
+    StructuredMonitor(Level level, AsyncAppender appender) {
+        this.level = level;
+        this.appender = appender;
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        log(Level.SEVERE, supplier, errors);
+    }
+
+    @Override
+    public void severe(String message, Throwable... errors) {
+        log(Level.SEVERE, message, errors);
+    }
+
+    @Override
+    public void severe(Map<String, Object> data) {
+        append(Level.SEVERE, null, data, null);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        log(Level.WARNING, supplier, errors);
+    }
+
+    @Override
+    public void warning(String message, Throwable... errors) {
+        log(Level.WARNING, message, errors);
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        log(Level.INFO, supplier, errors);
+    }
+
+    @Override
+    public void info(String message, Throwable... errors) {
+        log(Level.INFO, message, errors);
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        log(Level.DEBUG, supplier, errors);
+    }
+
+    @Override
+    public void debug(String message, Throwable... errors) {
+        log(Level.DEBUG, message, errors);
+    }
+
+    /**
+     * Whether events of the given level are written.
+     */
+    public boolean isEnabled(Level eventLevel) {
+        // levels are declared from the most to the least severe
+        return eventLevel.ordinal() <= level.ordinal();
+    }
+
+    void stop(long timeoutMillis) {
+        appender.stop(timeoutMillis);
+    }
+
+    private void log(Level eventLevel, Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(eventLevel)) {
+            append(eventLevel, supplier.get(), null, errors);
+        }
+    }
+
+    private void log(Level eventLevel, String message, Throwable... errors) {
+        if (isEnabled(eventLevel)) {
+            append(eventLevel, message, null, errors);
+        }
+    }
+
+    private void append(Level eventLevel, @Nullable String message, @Nullable Map<String, Object> data, @Nullable Throwable[] errors) {
+        var spanContext = Span.current().getSpanContext();
+        var traced = spanContext.isValid();
+        appender.append(new LogEvent(System.currentTimeMillis(), eventLevel, Thread.currentThread().getName(), message, data, errors,
+                traced ? spanContext.getTraceId() : null, traced ? spanContext.getSpanId() : null));
+    }
+}
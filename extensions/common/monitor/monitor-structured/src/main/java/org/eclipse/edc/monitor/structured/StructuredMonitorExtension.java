@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor.Level;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.MonitorExtension;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.util.Locale;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.eclipse.edc.util.configuration.ConfigurationFunctions.propOrEnv;
+
+/**
+ * Provides a {@link StructuredMonitor} that writes JSON lines to the standard output asynchronously.
+ * <p>
+ * The monitor is created before the runtime configuration is loaded, so it is configured through system properties or
+ * environment variables.
+ */
+@Extension(StructuredMonitorExtension.NAME)
+public class StructuredMonitorExtension implements MonitorExtension {
+
+    public static final String NAME = "Structured Monitor";
+
+    @Setting(value = "Lowest level that is logged, one of SEVERE, WARNING, INFO, DEBUG", defaultValue = "INFO")
+    public static final String LEVEL = "edc.monitor.structured.level";
+
+    @Setting(value = "Number of log events that are buffered before the overflow policy applies", defaultValue = "8192")
+    public static final String BUFFER_SIZE = "edc.monitor.structured.buffer.size";
+
+    @Setting(value = "What happens when the buffer is full: BLOCK the caller or DROP the event", defaultValue = "BLOCK")
+    public static final String OVERFLOW_POLICY = "edc.monitor.structured.overflow.policy";
+
+    @Setting(value = "Name of the runtime that is added to every log event")
+    public static final String RUNTIME_NAME = "edc.monitor.structured.runtime.name";
+
+    private static final String DEFAULT_LEVEL = "INFO";
+    private static final String DEFAULT_BUFFER_SIZE = "8192";
+    private static final String DEFAULT_OVERFLOW_POLICY = "BLOCK";
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000;
+
+    @Override
+    public Monitor getMonitor() {
+        var level = Level.valueOf(propOrEnv(LEVEL, DEFAULT_LEVEL).toUpperCase(Locale.ROOT));
+        var bufferSize = Integer.parseInt(propOrEnv(BUFFER_SIZE, DEFAULT_BUFFER_SIZE));
+        var overflowPolicy = OverflowPolicy.valueOf(propOrEnv(OVERFLOW_POLICY, DEFAULT_OVERFLOW_POLICY).toUpperCase(Locale.ROOT));
+
+        // bypasses System.out, whose lock is otherwise taken on every line
+        var writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), UTF_8), OUTPUT_BUFFER_SIZE);
+        var appender = new AsyncAppender(bufferSize, overflowPolicy, new JsonLogFormatter(propOrEnv(RUNTIME_NAME, null)), writer);
+        appender.start();
+
+        var monitor = new StructuredMonitor(level, appender);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> monitor.stop(SHUTDOWN_TIMEOUT_MILLIS), "edc-monitor-shutdown"));
+        return monitor;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.monitor.structured;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.monitor.ConsoleMonitor.Level.DEBUG;
+import static org.eclipse.edc.spi.monitor.ConsoleMonitor.Level.INFO;
+import static org.eclipse.edc.spi.monitor.ConsoleMonitor.Level.SEVERE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class StructuredMonitorTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final StringWriter output = new StringWriter();
+
+    @Test
+    void shouldWriteJsonLines() throws Exception {
+        var monitor = startedMonitor(OverflowPolicy.BLOCK, 16);
+
+        monitor.info("line \"one\"\nwith a break");
+        monitor.warning(() -> "two", new IllegalStateException("failure"));
+        monitor.severe(Map.of("key", "value"));
+        monitor.stop(1000);
+
+        var lines = output.toString().split("\n");
+        assertThat(lines).hasSize(3);
+
+        var first = mapper.readValue(lines[0], Map.class);
+        assertThat(first).containsEntry("level", "INFO")
+                .containsEntry("message", "line \"one\"\nwith a break")
+                .containsEntry("runtime", "test-runtime")
+                .containsKeys("timestamp", "thread")
+                .doesNotContainKey("traceId");
+
+        var second = mapper.readValue(lines[1], Map.class);
+        assertThat(second).containsEntry("level", "WARNING").containsEntry("message", "two");
+        assertThat((Iterable<?>) second.get("errors")).singleElement().asString().contains("IllegalStateException: failure");
+
+        var third = mapper.readValue(lines[2], Map.class);
+        assertThat(third).containsEntry("level", "SEVERE").containsEntry("data", Map.of("key", "value"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotBuildMessage_whenLevelDisabled() {
+        var monitor = startedMonitor(OverflowPolicy.BLOCK, 16);
+        Supplier<String> supplier = mock(Supplier.class);
+
+        monitor.debug(supplier);
+        monitor.stop(1000);
+
+        verify(supplier, never()).get();
+        assertThat(output.toString()).isEmpty();
+    }
+
+    @Test
+    void shouldDropEvents_whenBufferFull() {
+        var appender = new AsyncAppender(2, OverflowPolicy.DROP, new JsonLogFormatter(null), output);
+        var monitor = new StructuredMonitor(INFO, appender);
+
+        monitor.info("one");
+        monitor.info("two");
+        monitor.info("three");
+
+        assertThat(appender.getDropped()).isEqualTo(1);
+
+        appender.start();
+        monitor.stop(1000);
+
+        assertThat(output.toString()).contains("\"one\"", "\"two\"", "1 log events were dropped").doesNotContain("\"three\"");
+    }
+
+    @Test
+    void isEnabled() {
+        var monitor = new StructuredMonitor(INFO, mock(AsyncAppender.class));
+
+        assertThat(monitor.isEnabled(SEVERE)).isTrue();
+        assertThat(monitor.isEnabled(INFO)).isTrue();
+        assertThat(monitor.isEnabled(DEBUG)).isFalse();
+    }
+
+    private StructuredMonitor startedMonitor(OverflowPolicy overflowPolicy, int capacity) {
+        var appender = new AsyncAppender(capacity, overflowPolicy, new JsonLogFormatter("test-runtime"), output);
+        appender.start();
+        return new StructuredMonitor(INFO, appender);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.sql.dialect;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.translation.IndexConditionProvider;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Accompanies equality criteria on properties that are stored in Postgres JSONB columns with a containment condition,
+ * e.g. {@code properties @> '{"path":{"to":"value"}}'}, which can be served by a GIN index on the column. The path
+ * expression ({@code properties -> 'path' ->> 'to' = 'value'}) compares the text of the leaf value, so the containment
+ * condition matches every JSON value with that text: the string, and the number, boolean or document the text parses to.
+ */
+public class JsonbContainmentConditionProvider implements IndexConditionProvider {
+
+    private static final String EQUALS_OPERATOR = "=";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Map<String, String> documentColumns = new HashMap<>();
+    private final Map<String, String> arrayColumns = new HashMap<>();
+
+    private JsonbContainmentConditionProvider() {
+    }
+
+    @Override
+    public @Nullable String getCondition(Criterion criterion, List<Object> parameters) {
+        if (!EQUALS_OPERATOR.equals(criterion.getOperator()) || !(criterion.getOperandRight() instanceof String)) {
+            return null;
+        }
+        var property = criterion.getOperandLeft().toString();
+        var value = (String) criterion.getOperandRight();
+
+        for (var entry : documentColumns.entrySet()) {
+            var path = path(property, entry.getKey());
+            if (path != null) {
+                return containment(entry.getValue(), path, value, false, parameters);
+            }
+        }
+        for (var entry : arrayColumns.entrySet()) {
+            var path = path(property, entry.getKey());
+            if (path != null) {
+                return containment(entry.getValue(), path, value, true, parameters);
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private String[] path(String property, String prefix) {
+        return property.startsWith(prefix + ".") ? property.substring(prefix.length() + 1).split("\\.") : null;
+    }
+
+    private String containment(String column, String[] path, String value, boolean array, List<Object> parameters) {
+        var conditions = new ArrayList<String>();
+        for (var leaf : leafValues(value)) {
+            JsonNode document = leaf;
+            for (int i = path.length - 1; i >= 0; i--) {
+                document = MAPPER.createObjectNode().set(path[i], document);
+            }
+            if (array) {
+                document = MAPPER.createArrayNode().add(document);
+            }
+            parameters.add(document.toString());
+            conditions.add(PostgresDialect.getJsonbContainmentTemplate(column));
+        }
+        return format("(%s)", String.join(" OR ", conditions));
+    }
+
+    /**
+     * The JSON values whose text is the given value.
+     */
+    private List<JsonNode> leafValues(String value) {
+        var values = new ArrayList<JsonNode>();
+        values.add(TextNode.valueOf(value));
+        try {
+            var parsed = MAPPER.readTree(value);
+            if (parsed != null && !parsed.isMissingNode() && !parsed.isNull() && !parsed.isTextual()) {
+                values.add(parsed);
+            }
+        } catch (JsonProcessingException e) {
+            // the value is only a string
+        }
+        return values;
+    }
+
+    public static class Builder {
+        private final JsonbContainmentConditionProvider provider;
+
+        private Builder() {
+            provider = new JsonbContainmentConditionProvider();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * Maps a canonical property onto a JSONB column that holds a JSON object, for example a serialized map.
+         */
+        public Builder document(String canonicalPropertyName, String column) {
+            provider.documentColumns.put(canonicalPropertyName, column);
+            return this;
+        }
+
+        /**
+         * Maps a canonical property onto a JSONB column that holds a JSON array of objects, of which any element is
+         * queried.
+         */
+        public Builder array(String canonicalPropertyName, String column) {
+            provider.arrayColumns.put(canonicalPropertyName, column);
+            return this;
+        }
+
+        public JsonbContainmentConditionProvider build() {
+            return provider;
+        }
+    }
+}
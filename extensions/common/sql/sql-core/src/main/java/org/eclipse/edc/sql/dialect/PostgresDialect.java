@@ -33,6 +33,19 @@ public class PostgresDialect {
         return format("%s, json_array_elements(%s) as %s", selectStatement, jsonPath, aliasName);
     }
 
+    /**
+     * Creates a SELECT statement that targets a Postgres JSONB array
+     *
+     * @param selectStatement The select statement, does not include the {@code jsonb_array_elements} function
+     *         call
+     * @param jsonPath The path to the array object, which is passed as parameter to the
+     *         {@code jsonb_array_elements()} function
+     * @param aliasName the alias under which the JSONB array is available, e.g. for WHERE clauses
+     */
+    public static String getSelectFromJsonbArrayTemplate(String selectStatement, String jsonPath, String aliasName) {
+        return format("%s, jsonb_array_elements(%s) as %s", selectStatement, jsonPath, aliasName);
+    }
+
     /**
      * Returns the Postgres operator to cast a varchar to json ({@code "::json"})
      */
@@ -40,4 +53,22 @@ public class PostgresDialect {
         return "::json";
     }
 
+    /**
+     * Returns the Postgres operator to cast a varchar to jsonb ({@code "::jsonb"})
+     */
+    public static String getJsonbCastOperator() {
+        return "::jsonb";
+    }
+
+    /**
+     * Creates a condition that checks whether a JSONB column contains the JSON document passed as parameter, e.g.
+     * {@code properties @> ?::jsonb}. Unlike the {@code ->} and {@code ->>} path operators, containment can be served
+     * by a GIN index on the column.
+     *
+     * @param columnName the name of the JSONB column
+     */
+    public static String getJsonbContainmentTemplate(String columnName) {
+        return format("%s @> ?%s", columnName, getJsonbCastOperator());
+    }
+
 }
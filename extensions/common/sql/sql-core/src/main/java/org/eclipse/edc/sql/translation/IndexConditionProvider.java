@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Supplies an additional, dialect-specific condition for a {@link Criterion}, which the database can serve from an
+ * index where it cannot serve the generic translation of the criterion. The condition must select every row the
+ * criterion selects, the criterion itself is still applied by the {@link SqlQueryStatement}.
+ */
+@FunctionalInterface
+public interface IndexConditionProvider {
+
+    /**
+     * Provides no conditions.
+     */
+    IndexConditionProvider NONE = (criterion, parameters) -> null;
+
+    /**
+     * Returns the condition for the criterion and adds its parameters to the given list.
+     *
+     * @param criterion the criterion on the canonical property, i.e. before it was mapped onto a column.
+     * @param parameters the parameters of the statement.
+     * @return the SQL condition, or null if there is none for the criterion.
+     */
+    @Nullable
+    String getCondition(Criterion criterion, List<Object> parameters);
+}
@@ -37,12 +37,16 @@ public class SqlQueryStatement {
     private static final String AND_TOKEN = "AND";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String ID_FIELD = "id";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
     private final List<Object> parameters = new ArrayList<>();
 
+    private IndexConditionProvider indexConditionProvider = IndexConditionProvider.NONE;
     private String orderByClause = "";
+    private int filterClauseCount;
+    private int filterParameterCount;
 
     /**
      * Initializes this SQL Query Statement with a SELECT clause, a {@link QuerySpec} and a translation mapping.
@@ -53,7 +57,22 @@ public class SqlQueryStatement {
      *                        model/format
      */
     public SqlQueryStatement(String selectStatement, QuerySpec query, TranslationMapping rootModel) {
+        this(selectStatement, query, rootModel, IndexConditionProvider.NONE);
+    }
+
+    /**
+     * Initializes this SQL Query Statement with a SELECT clause, a {@link QuerySpec}, a translation mapping and the
+     * dialect-specific conditions that let the database use its indexes.
+     *
+     * @param selectStatement        The SELECT clause, e.g. {@code SELECT * FROM your_table}
+     * @param query                  a {@link QuerySpec} that contains a query in the canonical format
+     * @param rootModel              A {@link TranslationMapping} that enables mapping from canonical to the SQL-specific
+     *                               model/format
+     * @param indexConditionProvider supplies the conditions that accompany the criteria of the query
+     */
+    public SqlQueryStatement(String selectStatement, QuerySpec query, TranslationMapping rootModel, IndexConditionProvider indexConditionProvider) {
         this(selectStatement);
+        this.indexConditionProvider = indexConditionProvider;
         initialize(query, rootModel);
     }
 
@@ -80,6 +99,28 @@ public class SqlQueryStatement {
                 ";";
     }
 
+    /**
+     * Represents this query as SQL string that counts all rows that match the filter. Sorting, paging and the
+     * continuation token do not apply.
+     *
+     * @return the count query as SQL statement
+     * @see #getCountParameters()
+     */
+    public String getCountQueryAsString() {
+        return "SELECT COUNT(*) FROM (" + selectStatement + " " +
+                String.join(" ", whereClauses.subList(0, filterClauseCount)) +
+                ") AS count_query;";
+    }
+
+    /**
+     * Returns the parameters of the query returned by {@link #getCountQueryAsString()}.
+     *
+     * @return an array of parameters that can be used for prepared statements
+     */
+    public Object[] getCountParameters() {
+        return parameters.subList(0, filterParameterCount).toArray(Object[]::new);
+    }
+
     /**
      * SQL supports parameter substitution (in prepared statements), this method returns a list of those placeholders.
      *
@@ -100,23 +141,75 @@ public class SqlQueryStatement {
 
         var expr = query.getFilterExpression();
         expr.forEach(e -> parseExpression(e, rootModel));
+        filterClauseCount = whereClauses.size();
+        filterParameterCount = parameters.size();
+
+        var token = query.getContinuationToken();
+        var sortColumn = query.getSortField() != null ? rootModel.getStatement(query.getSortField()) : null;
+        var idColumn = rootModel.fieldMap.containsKey(ID_FIELD) ? rootModel.getStatement(ID_FIELD) : null;
+        var ascending = query.getSortOrder() == SortOrder.ASC;
+
+        if (token != null) {
+            if (idColumn == null) {
+                throw new IllegalArgumentException(format("Model '%s' does not map an '%s' field, continuation tokens are not supported", rootModel.getClass().getName(), ID_FIELD));
+            }
+            var sortValue = token.getSortValue() != null && sortColumn != null ? rootModel.getColumnValue(query.getSortField(), token.getSortValue()) : null;
+            parseContinuationToken(sortColumn, sortValue, token.getId(), idColumn, ascending);
+        }
 
         parameters.add(query.getLimit());
-        parameters.add(query.getOffset());
+        // the continuation token replaces the offset
+        parameters.add(token != null ? 0 : query.getOffset());
 
-        orderByClause = parseSortField(query, rootModel);
+        orderByClause = parseSortField(sortColumn, idColumn, ascending);
     }
 
-    private String parseSortField(QuerySpec query, TranslationMapping rootModel) {
-        if (query.getSortField() == null) {
-            return orderByClause;
+    /**
+     * Keyset pagination: only rows that come after the position of the token in the sort order are selected, so that
+     * the database can seek the start of the page on an index instead of reading and discarding all preceding rows.
+     * The id column breaks ties between rows with equal sort values.
+     * <p>
+     * {@code NULL} sort values come first in ascending order and last in descending order, see
+     * {@link #parseSortField(String, String, boolean)}. They never satisfy a row-value comparison, so they are matched
+     * explicitly.
+     */
+    private void parseContinuationToken(String sortColumn, Object sortValue, Object id, String idColumn, boolean ascending) {
+        var prefix = whereClauses.isEmpty() ? WHERE_TOKEN : AND_TOKEN;
+        var operator = ascending ? ">" : "<";
+        if (sortColumn == null || sortColumn.equals(idColumn)) {
+            whereClauses.add(format("%s %s %s ?", prefix, idColumn, operator));
+            parameters.add(id);
+        } else if (sortValue == null) {
+            // the token is within the NULLs: the rest of the NULLs, and in ascending order all non-NULL values, follow
+            var rest = ascending ? format(" OR %s IS NOT NULL", sortColumn) : "";
+            whereClauses.add(format("%s ((%s IS NULL AND %s %s ?)%s)", prefix, sortColumn, idColumn, operator, rest));
+            parameters.add(id);
         } else {
-            var order = query.getSortOrder() == SortOrder.ASC ? "ASC" : "DESC";
-            var sortField = rootModel.getStatement(query.getSortField());
-            return String.format(ORDER_BY_TOKEN + " ", sortField, order);
+            // in descending order the NULLs come after all non-NULL values
+            var nulls = ascending ? "" : format(" OR %s IS NULL", sortColumn);
+            whereClauses.add(format("%s ((%s, %s) %s (?, ?)%s)", prefix, sortColumn, idColumn, operator, nulls));
+            parameters.add(sortValue);
+            parameters.add(id);
         }
     }
 
+    /**
+     * Orders by the sort column and the id column. The id makes the order total, so that consecutive pages never
+     * overlap or skip rows, whether they are addressed by offset or by continuation token. This also applies when no
+     * sort field is given, otherwise the first page would come back in an arbitrary order.
+     */
+    private String parseSortField(String sortColumn, String idColumn, boolean ascending) {
+        var order = ascending ? "ASC" : "DESC";
+        if (sortColumn == null) {
+            return idColumn != null ? format(ORDER_BY_TOKEN + " ", idColumn, order) : orderByClause;
+        }
+        var nulls = ascending ? "NULLS FIRST" : "NULLS LAST";
+        if (idColumn == null || sortColumn.equals(idColumn)) {
+            return format(ORDER_BY_TOKEN + " %s ", sortColumn, order, nulls);
+        }
+        return format(ORDER_BY_TOKEN + " %s, %s %s ", sortColumn, order, nulls, idColumn, order);
+    }
+
     /**
      * Parses a single {@link Criterion} into a {@code WHERE} or an {@code AND} clause, and puts them onto the statement
      * stack.
@@ -125,6 +218,13 @@ public class SqlQueryStatement {
      * @param rootModel The root mapping model for the query
      */
     private void parseExpression(Criterion criterion, TranslationMapping rootModel) {
+        var prefix = whereClauses.isEmpty() ? WHERE_TOKEN : AND_TOKEN;
+
+        var indexCondition = indexConditionProvider.getCondition(criterion, parameters);
+        if (indexCondition != null) {
+            prefix = format("%s %s %s", prefix, indexCondition, AND_TOKEN);
+        }
+
         var columnName = rootModel.getStatement(criterion.getOperandLeft().toString());
 
         if (columnName == null) {
@@ -132,7 +232,6 @@ public class SqlQueryStatement {
         }
         var newCriterion = new Criterion(columnName, criterion.getOperator(), criterion.getOperandRight());
 
-        var prefix = whereClauses.isEmpty() ? WHERE_TOKEN : AND_TOKEN;
         var conditionExpr = new SqlConditionExpression(newCriterion);
 
         var validExpression = conditionExpr.isValidExpression();
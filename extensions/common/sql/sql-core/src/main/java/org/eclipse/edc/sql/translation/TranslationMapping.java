@@ -16,6 +16,7 @@ package org.eclipse.edc.sql.translation;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import static java.lang.String.format;
 
@@ -28,6 +29,7 @@ import static java.lang.String.format;
  */
 public abstract class TranslationMapping {
     protected final Map<String, Object> fieldMap = new HashMap<>();
+    private final Map<String, Function<Object, Object>> columnValueConverters = new HashMap<>();
 
     /**
      * Converts a field/property from the canonical model into its SQL column equivalent. If the canonical property name
@@ -57,8 +59,34 @@ public abstract class TranslationMapping {
         return entry.toString();
     }
 
+    /**
+     * Converts a value of a canonical property, e.g. the sort value carried by a
+     * {@link org.eclipse.edc.spi.query.ContinuationToken}, into the representation that is stored in its column. A
+     * token holds enums by their name, whereas a column might store their ordinal or code. Descends into nested
+     * mappings the same way {@link #getStatement(String)} does.
+     *
+     * @return the converted value, or the value itself if the column stores it as is.
+     */
+    public Object getColumnValue(String canonicalPropertyName, Object value) {
+        var leftHandTokens = canonicalPropertyName.split("\\.", 2);
+        var entry = fieldMap.get(leftHandTokens[0]);
+        if (entry instanceof TranslationMapping && leftHandTokens.length == 2) {
+            return ((TranslationMapping) entry).getColumnValue(leftHandTokens[1], value);
+        }
+        var converter = columnValueConverters.get(leftHandTokens[0]);
+        return converter != null ? converter.apply(value) : value;
+    }
 
     protected void add(String fieldId, Object value) {
         fieldMap.put(fieldId, value);
     }
+
+    /**
+     * Maps a field onto a column that stores its values in a different representation, see
+     * {@link #getColumnValue(String, Object)}.
+     */
+    protected void add(String fieldId, String column, Function<Object, Object> columnValueConverter) {
+        fieldMap.put(fieldId, column);
+        columnValueConverters.put(fieldId, columnValueConverter);
+    }
 }
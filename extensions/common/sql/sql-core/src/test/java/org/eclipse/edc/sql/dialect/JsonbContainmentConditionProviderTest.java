@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.edc.sql.dialect;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonbContainmentConditionProviderTest {
+
+    private final JsonbContainmentConditionProvider provider = JsonbContainmentConditionProvider.Builder.newInstance()
+            .document("properties", "edc_properties")
+            .array("policy.permissions", "permissions")
+            .build();
+
+    @Test
+    void getCondition_document() {
+        var parameters = new ArrayList<>();
+
+        var condition = provider.getCondition(new Criterion("properties.nested.key", "=", "value"), parameters);
+
+        assertThat(condition).isEqualTo("(edc_properties @> ?::jsonb)");
+        assertThat(parameters).containsExactly("{\"nested\":{\"key\":\"value\"}}");
+    }
+
+    @Test
+    void getCondition_array() {
+        var parameters = new ArrayList<>();
+
+        var condition = provider.getCondition(new Criterion("policy.permissions.edctype", "=", "dataspaceconnector:permission"), parameters);
+
+        assertThat(condition).isEqualTo("(permissions @> ?::jsonb)");
+        assertThat(parameters).containsExactly("[{\"edctype\":\"dataspaceconnector:permission\"}]");
+    }
+
+    @Test
+    void getCondition_valueWithOtherJsonType_shouldMatchBoth() {
+        var parameters = new ArrayList<>();
+
+        var condition = provider.getCondition(new Criterion("properties.count", "=", "5"), parameters);
+
+        assertThat(condition).isEqualTo("(edc_properties @> ?::jsonb OR edc_properties @> ?::jsonb)");
+        assertThat(parameters).containsExactly("{\"count\":\"5\"}", "{\"count\":5}");
+    }
+
+    @Test
+    void getCondition_otherOperatorOrProperty_shouldReturnNull() {
+        var parameters = new ArrayList<>();
+
+        assertThat(provider.getCondition(new Criterion("properties.key", "like", "val%"), parameters)).isNull();
+        assertThat(provider.getCondition(new Criterion("description", "=", "value"), parameters)).isNull();
+        assertThat(provider.getCondition(new Criterion("properties", "=", "value"), parameters)).isNull();
+        assertThat(parameters).isEmpty();
+    }
+}
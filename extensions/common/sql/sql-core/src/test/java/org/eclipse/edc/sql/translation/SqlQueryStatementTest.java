@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.sql.translation;
 
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -57,13 +58,35 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactlyInAnyOrder("id1", "id2", "id3", "something", 50, 0);
     }
 
+    @Test
+    void singleExpression_withIndexCondition() {
+        var criterion = new Criterion("properties.nested.key", "=", "value");
+        IndexConditionProvider provider = (c, parameters) -> {
+            parameters.add("index-value");
+            return "edc_properties @> ?::jsonb";
+        };
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping(), provider);
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_properties @> ?::jsonb AND edc_properties -> 'nested' ->> 'key' = ? LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("index-value", "value", 50, 0);
+    }
+
+    @Test
+    void singleExpression_jsonLike_usesPathExpression() {
+        var criterion = new Criterion("properties.key", "like", "val%");
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query(criterion), new TestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_properties ->> 'key' like ? LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("val%", 50, 0);
+    }
+
     @Test
     void singleExpression_orderByDesc() {
         var criterion = new Criterion("field1", "=", "testid1");
         QuerySpec.Builder builder = queryBuilder(criterion).sortField("description");
         var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.DESC).build(), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description DESC NULLS LAST LIMIT ? OFFSET ?;");
     }
 
     @Test
@@ -72,7 +95,7 @@ class SqlQueryStatementTest {
         QuerySpec.Builder builder = queryBuilder(criterion).sortField("description");
         var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.ASC).build(), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_field_1 = ? ORDER BY edc_description ASC NULLS FIRST LIMIT ? OFFSET ?;");
 
     }
 
@@ -81,7 +104,7 @@ class SqlQueryStatementTest {
         QuerySpec.Builder builder = queryBuilder().sortField("description");
         var t = new SqlQueryStatement(SELECT_STATEMENT, builder.sortOrder(SortOrder.ASC).build(), new TestMapping());
 
-        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + "  ORDER BY edc_description ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + "  ORDER BY edc_description ASC NULLS FIRST LIMIT ? OFFSET ?;");
 
     }
 
@@ -107,6 +130,112 @@ class SqlQueryStatementTest {
 
     }
 
+    @Test
+    void orderBy_withIdMapping_addsIdAsTiebreaker() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC).build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + "  ORDER BY edc_description DESC NULLS LAST, edc_id DESC LIMIT ? OFFSET ?;");
+    }
+
+    @Test
+    void continuationToken_withSortField() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var query = queryBuilder(criterion).sortField("description").offset(20)
+                .continuationToken(ContinuationToken.of("some description", "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE edc_field_1 = ? AND ((edc_description, edc_id) > (?, ?)) ORDER BY edc_description ASC NULLS FIRST, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("testid1", "some description", "id-1", 50, 0);
+    }
+
+    @Test
+    void continuationToken_withoutSortField_descending() {
+        var query = queryBuilder().sortOrder(SortOrder.DESC)
+                .continuationToken(ContinuationToken.of(null, "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " WHERE edc_id < ? ORDER BY edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-1", 50, 0);
+    }
+
+    @Test
+    void orderBy_withIdMapping_withoutSortField_ordersById() {
+        var t = new SqlQueryStatement(SELECT_STATEMENT, queryBuilder().limit(10).build(), new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + "  ORDER BY edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly(10, 0);
+    }
+
+    @Test
+    void continuationToken_withSortField_descending_includesNulls() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC)
+                .continuationToken(ContinuationToken.of("some description", "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE ((edc_description, edc_id) < (?, ?) OR edc_description IS NULL) ORDER BY edc_description DESC NULLS LAST, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("some description", "id-1", 50, 0);
+    }
+
+    @Test
+    void continuationToken_withNullSortValue() {
+        var query = queryBuilder().sortField("description")
+                .continuationToken(ContinuationToken.of(null, "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE ((edc_description IS NULL AND edc_id > ?) OR edc_description IS NOT NULL) ORDER BY edc_description ASC NULLS FIRST, edc_id ASC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-1", 50, 0);
+    }
+
+    @Test
+    void continuationToken_withNullSortValue_descending() {
+        var query = queryBuilder().sortField("description").sortOrder(SortOrder.DESC)
+                .continuationToken(ContinuationToken.of(null, "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT +
+                " WHERE ((edc_description IS NULL AND edc_id < ?)) ORDER BY edc_description DESC NULLS LAST, edc_id DESC LIMIT ? OFFSET ?;");
+        assertThat(t.getParameters()).containsExactly("id-1", 50, 0);
+    }
+
+    @Test
+    void continuationToken_convertsSortValueToColumnRepresentation() {
+        var query = queryBuilder().sortField("type")
+                .continuationToken(ContinuationToken.of(SortOrder.DESC, "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getParameters()).containsExactly(SortOrder.DESC.ordinal(), "id-1", 50, 0);
+    }
+
+    @Test
+    void continuationToken_withoutIdMapping_throws() {
+        var query = queryBuilder().continuationToken(ContinuationToken.of(null, "id-1")).build();
+
+        assertThatThrownBy(() -> new SqlQueryStatement(SELECT_STATEMENT, query, new TestMapping()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void countQuery_ignoresPagingSortingAndContinuationToken() {
+        var criterion = new Criterion("field1", "=", "testid1");
+        var query = queryBuilder(criterion).sortField("description").offset(20)
+                .continuationToken(ContinuationToken.of("some description", "id-1"))
+                .build();
+        var t = new SqlQueryStatement(SELECT_STATEMENT, query, new IdTestMapping());
+
+        assertThat(t.getCountQueryAsString()).isEqualToIgnoringCase("SELECT COUNT(*) FROM (" + SELECT_STATEMENT + " WHERE edc_field_1 = ?) AS count_query;");
+        assertThat(t.getCountParameters()).containsExactly("testid1");
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -114,4 +243,11 @@ class SqlQueryStatementTest {
     private QuerySpec query(Criterion... criterion) {
         return queryBuilder(criterion).build();
     }
+
+    private static class IdTestMapping extends TestMapping {
+        IdTestMapping() {
+            add("id", "edc_id");
+            add("type", "edc_type", type -> SortOrder.valueOf(type.toString()).ordinal());
+        }
+    }
 }
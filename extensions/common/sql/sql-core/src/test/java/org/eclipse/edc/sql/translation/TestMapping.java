@@ -20,6 +20,7 @@ public class TestMapping extends TranslationMapping {
         add("description", "edc_description");
         add("fooBar", "edc_foo_bar");
         add("complex", new ComplexMapping());
+        add("properties", new JsonFieldMapping("edc_properties"));
 
     }
 
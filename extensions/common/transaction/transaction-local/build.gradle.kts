@@ -21,6 +21,8 @@ dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:common:transaction-spi"))
     implementation(project(":spi:common:transaction-datasource-spi"))
+
+    testImplementation(libs.h2)
 }
 
 
@@ -39,15 +39,34 @@ import java.util.concurrent.Executor;
  */
 class ConnectionWrapper implements Connection {
     private final Connection delegate;
+    private boolean autoCommit;
 
     ConnectionWrapper(Connection delegate) {
+        this(delegate, false);
+    }
+
+    /**
+     * Wraps a connection that is in the given auto-commit mode. Connections of read-only transactions stay in auto-commit mode, so there is nothing to commit.
+     */
+    ConnectionWrapper(Connection delegate, boolean autoCommit) {
         this.delegate = delegate;
+        this.autoCommit = autoCommit;
     }
 
     public Connection getWrappedConnection() {
         return delegate;
     }
 
+    /**
+     * Switches a connection that was handed out in auto-commit mode to manual commit, so that subsequent statements are committed or rolled back with the transaction.
+     */
+    void beginTransaction() throws SQLException {
+        if (autoCommit) {
+            delegate.setAutoCommit(false);
+            autoCommit = false;
+        }
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         return delegate.createStatement();
@@ -75,7 +94,7 @@ class ConnectionWrapper implements Connection {
 
     @Override
     public boolean getAutoCommit() {
-        return false;
+        return autoCommit;
     }
 
     @Override
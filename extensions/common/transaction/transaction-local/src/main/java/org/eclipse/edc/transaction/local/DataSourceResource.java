@@ -15,7 +15,9 @@
 package org.eclipse.edc.transaction.local;
 
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.transaction.spi.local.LocalTransactionContextManager;
 import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.PrintWriter;
 import java.sql.Connection;
@@ -26,14 +28,31 @@ import javax.sql.DataSource;
 
 /**
  * Wraps a DataSource so that it can be enlisted in a local transaction context.
+ * <p>
+ * If a {@link LocalTransactionContextManager} is passed, the resource enlists itself in the active transaction when a connection is requested for the first time, and
+ * connections that are requested outside a transaction are handed out unwrapped, in auto-commit mode. Within a read-only transaction, the connection stays in auto-commit
+ * mode and is only closed when the transaction completes. If the transaction is joined by a block that writes, the connection is switched to manual commit.
  */
 public class DataSourceResource implements LocalTransactionResource, DataSource {
     private ThreadLocal<ConnectionWrapper> enlistedConnections = new ThreadLocal<>();
 
     private DataSource delegate;
+    @Nullable
+    private LocalTransactionContextManager manager;
 
+    /**
+     * Creates a resource that has to be registered with the transaction context, i.e. which takes part in every transaction.
+     */
     public DataSourceResource(DataSource delegate) {
+        this(delegate, null);
+    }
+
+    /**
+     * Creates a resource that enlists itself in a transaction of the given manager on first use.
+     */
+    public DataSourceResource(DataSource delegate, @Nullable LocalTransactionContextManager manager) {
         this.delegate = delegate;
+        this.manager = manager;
     }
 
     @Override
@@ -50,7 +69,9 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
                 return;
             }
             try {
-                connection.getWrappedConnection().commit();
+                if (!connection.getAutoCommit()) {
+                    connection.getWrappedConnection().commit();
+                }
             } finally {
                 connection.getWrappedConnection().close();
             }
@@ -70,7 +91,9 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
                 return;
             }
             try {
-                connection.getWrappedConnection().rollback();
+                if (!connection.getAutoCommit()) {
+                    connection.getWrappedConnection().rollback();
+                }
             } finally {
                 connection.getWrappedConnection().close();
             }
@@ -82,27 +105,42 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
     }
 
     @Override
-    public Connection getConnection() {
+    public void readWrite() {
+        var connection = enlistedConnections.get();
+        if (connection == null) {
+            return;
+        }
         try {
-            var connection = enlistedConnections.get();
-            if (connection == null) {
-                var delegate = this.delegate.getConnection();
-                delegate.setAutoCommit(false);
-                connection = new ConnectionWrapper(delegate);
-                enlistedConnections.set(connection);
-            }
-            return connection;
+            connection.beginTransaction();
         } catch (SQLException e) {
             throw new EdcException(e);
         }
     }
 
+    @Override
+    public Connection getConnection() {
+        return getConnection(delegate::getConnection);
+    }
+
     @Override
     public Connection getConnection(String username, String password) {
+        return getConnection(() -> delegate.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionFactory factory) {
         try {
             var connection = enlistedConnections.get();
             if (connection == null) {
-                connection = new ConnectionWrapper(delegate.getConnection(username, password));
+                if (manager != null && !manager.enlistResource(this)) {
+                    // not within a transaction, the caller owns the connection
+                    return factory.create();
+                }
+                var readOnly = manager != null && manager.isReadOnly();
+                var created = factory.create();
+                if (!readOnly) {
+                    created.setAutoCommit(false);
+                }
+                connection = new ConnectionWrapper(created, readOnly);
                 enlistedConnections.set(connection);
             }
             return connection;
@@ -146,5 +184,8 @@ public class DataSourceResource implements LocalTransactionResource, DataSource
         return delegate.isWrapperFor(iface);
     }
 
-
+    @FunctionalInterface
+    private interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
 }
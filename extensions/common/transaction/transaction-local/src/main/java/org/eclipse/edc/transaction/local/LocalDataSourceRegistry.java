@@ -38,9 +38,8 @@ public class LocalDataSourceRegistry implements DataSourceRegistry {
     public void register(String name, DataSource dataSource) {
         Objects.requireNonNull(name, "name");
         Objects.requireNonNull(dataSource, "dataSource");
-        var wrapper = new DataSourceResource(dataSource);
-        dataSources.put(name, wrapper);
-        manager.registerResource(wrapper);
+        // the resource enlists itself in a transaction on first use
+        dataSources.put(name, new DataSourceResource(dataSource, manager));
     }
 
     @Override
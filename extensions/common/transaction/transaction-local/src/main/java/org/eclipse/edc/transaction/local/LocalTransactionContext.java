@@ -23,6 +23,8 @@ import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 
@@ -30,6 +32,9 @@ import static java.util.Collections.emptyList;
  * Implements a transaction context for local resources. The purpose of this implementation is to provide a portable transaction programming model for code that executes in
  * environments where a proper JTA transaction manager is not available.
  * <p>
+ * Resources either take part in every transaction, if they are registered through {@link #registerResource}, or enlist themselves on first use through
+ * {@link #enlistResource}, so that a transaction only starts and completes the resources it actually touches.
+ * <p>
  * Note that this transaction context cannot implement atomicity if multiple resources are enlisted for a transaction. The only way to achieve this is to use XA transactions.
  */
 public class LocalTransactionContext implements TransactionContext, LocalTransactionContextManager {
@@ -61,15 +66,45 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
 
     @Override
     public <T> T execute(ResultTransactionBlock<T> block) {
+        return executeInTransaction(block, false);
+    }
+
+    @Override
+    public <T> T executeReadOnly(ResultTransactionBlock<T> block) {
+        return executeInTransaction(block, true);
+    }
+
+    @Override
+    public boolean enlistResource(LocalTransactionResource resource) {
+        var transaction = transactions.get();
+        if (transaction == null) {
+            return false;
+        }
+        if (transaction.enlist(resource)) {
+            resource.start();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        var transaction = transactions.get();
+        return transaction != null && transaction.isReadOnly();
+    }
+
+    private <T> T executeInTransaction(ResultTransactionBlock<T> block, boolean readOnly) {
         var startedTransaction = false;
         var transaction = transactions.get();
 
         try {
             if (transaction == null) {
-                transaction = new Transaction();
+                transaction = new Transaction(readOnly);
                 resources.forEach(LocalTransactionResource::start);
                 startedTransaction = true;
                 transactions.set(transaction);
+            } else if (!readOnly && transaction.isReadOnly()) {
+                transaction.setReadWrite();
+                Stream.concat(resources.stream(), transaction.getEnlistedResources().stream()).forEach(LocalTransactionResource::readWrite);
             }
             return block.execute();
         } catch (Exception e) {
@@ -84,27 +119,25 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                 // notify syncs before resources are called
                 transaction.getSynchronizations().forEach(TransactionSynchronization::beforeCompletion);
                 if (transaction.isRollbackOnly()) {
-                    resources.forEach(localTransactionResource -> {
-                        try {
-                            localTransactionResource.rollback();
-                        } catch (Exception e) {
-                            monitor.severe("Error rolling back resource", e);
-                        }
-                    });
+                    complete(transaction, LocalTransactionResource::rollback, "Error rolling back resource");
                 } else {
-                    resources.forEach(localTransactionResource -> {
-                        try {
-                            localTransactionResource.commit();
-                        } catch (Exception e) {
-                            monitor.severe("Error committing resource", e);
-                        }
-                    });
+                    complete(transaction, LocalTransactionResource::commit, "Error committing resource");
                 }
                 transactions.remove();
             }
         }
     }
 
+    private void complete(Transaction transaction, Consumer<LocalTransactionResource> completion, String errorMessage) {
+        Stream.concat(resources.stream(), transaction.getEnlistedResources().stream()).forEach(resource -> {
+            try {
+                completion.accept(resource);
+            } catch (Exception e) {
+                monitor.severe(errorMessage, e);
+            }
+        });
+    }
+
     @Override
     public void registerResource(LocalTransactionResource resource) {
         resources.add(resource);
@@ -113,12 +146,43 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
 
     private static class Transaction {
         private boolean rollbackOnly = false;
+        private boolean readOnly;
         private List<TransactionSynchronization> synchronizations;  // lazy instantiate the collection to avoid object creation if not needed
+        private List<LocalTransactionResource> enlistedResources;  // lazy instantiate, most transactions touch a single resource or none
+
+        Transaction(boolean readOnly) {
+            this.readOnly = readOnly;
+        }
 
         boolean isRollbackOnly() {
             return rollbackOnly;
         }
 
+        boolean isReadOnly() {
+            return readOnly;
+        }
+
+        void setReadWrite() {
+            readOnly = false;
+        }
+
+        List<LocalTransactionResource> getEnlistedResources() {
+            return enlistedResources == null ? emptyList() : enlistedResources;
+        }
+
+        /**
+         * Returns true if the resource was not enlisted before.
+         */
+        boolean enlist(LocalTransactionResource resource) {
+            if (enlistedResources == null) {
+                enlistedResources = new ArrayList<>(1);
+            } else if (enlistedResources.contains(resource)) {
+                return false;
+            }
+            enlistedResources.add(resource);
+            return true;
+        }
+
         void setRollbackOnly() {
             rollbackOnly = true;
         }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.transaction.local;
 
+import org.eclipse.edc.transaction.spi.local.LocalTransactionContextManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +24,7 @@ import javax.sql.DataSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -161,6 +163,84 @@ class DataSourceResourceTest {
         verify(connection, never()).commit();   // no connection is enlisted so the commit should not be called
     }
 
+    @Test
+    void verifyEnlistsOnFirstUse() throws SQLException {
+        var manager = mock(LocalTransactionContextManager.class);
+        when(manager.enlistResource(isA(DataSourceResource.class))).thenReturn(true);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var lazyResource = new DataSourceResource(dataSource, manager);
+
+        lazyResource.getConnection();
+        lazyResource.getConnection();
+        lazyResource.commit();
+
+        verify(manager, times(1)).enlistResource(lazyResource);
+        verify(connection).setAutoCommit(false);
+        verify(connection).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    void verifyReadOnlyTransactionSkipsCommit() throws SQLException {
+        var manager = mock(LocalTransactionContextManager.class);
+        when(manager.enlistResource(isA(DataSourceResource.class))).thenReturn(true);
+        when(manager.isReadOnly()).thenReturn(true);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var lazyResource = new DataSourceResource(dataSource, manager);
+
+        assertThat(lazyResource.getConnection().getAutoCommit()).isTrue();
+        lazyResource.commit();
+
+        verify(connection, never()).setAutoCommit(anyBoolean());
+        verify(connection, never()).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    void verifyReadOnlyTransactionWithPassword() throws SQLException {
+        var manager = mock(LocalTransactionContextManager.class);
+        when(manager.enlistResource(isA(DataSourceResource.class))).thenReturn(true);
+        when(manager.isReadOnly()).thenReturn(true);
+        when(dataSource.getConnection(isA(String.class), isA(String.class))).thenReturn(connection);
+        var lazyResource = new DataSourceResource(dataSource, manager);
+
+        assertThat(lazyResource.getConnection("foo", "bar").getAutoCommit()).isTrue();
+        lazyResource.commit();
+
+        verify(connection, never()).setAutoCommit(anyBoolean());
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    void verifyReadWriteSwitchesToManualCommit() throws SQLException {
+        var manager = mock(LocalTransactionContextManager.class);
+        when(manager.enlistResource(isA(DataSourceResource.class))).thenReturn(true);
+        when(manager.isReadOnly()).thenReturn(true);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var lazyResource = new DataSourceResource(dataSource, manager);
+
+        var result = lazyResource.getConnection();
+        lazyResource.readWrite();
+        lazyResource.rollback();
+
+        assertThat(result.getAutoCommit()).isFalse();
+        verify(connection).setAutoCommit(false);
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    void verifyConnectionOutsideTransactionIsNotEnlisted() throws SQLException {
+        var manager = mock(LocalTransactionContextManager.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        var lazyResource = new DataSourceResource(dataSource, manager);
+
+        var result = lazyResource.getConnection();
+
+        assertThat(result).isSameAs(connection);
+        verify(connection, never()).setAutoCommit(anyBoolean());
+    }
+
     @BeforeEach
     void setUp() {
         connection = mock(Connection.class);
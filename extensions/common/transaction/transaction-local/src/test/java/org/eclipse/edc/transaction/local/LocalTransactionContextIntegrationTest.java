@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.transaction.local;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class LocalTransactionContextIntegrationTest {
+
+    private LocalTransactionContext transactionContext;
+    private DataSourceResource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        var h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (var connection = h2.getConnection(); var statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE test (id VARCHAR(36))");
+        }
+        transactionContext = new LocalTransactionContext(mock(Monitor.class));
+        dataSource = new DataSourceResource(h2, transactionContext);
+    }
+
+    @Test
+    void rollback_shouldRevertWrites_afterReadOnlyTransactionIsUpgraded() {
+        assertThatThrownBy(() -> transactionContext.executeReadOnly(() -> {
+            count();
+            transactionContext.execute(() -> {
+                try (var statement = dataSource.getConnection().createStatement()) {
+                    statement.execute("INSERT INTO test VALUES ('id')");
+                } catch (SQLException e) {
+                    throw new EdcException(e);
+                }
+            });
+            throw new IllegalStateException("force rollback");
+        })).isInstanceOf(EdcException.class);
+
+        assertThat(transactionContext.executeReadOnly(this::count)).isZero();
+    }
+
+    private int count() {
+        try (var statement = dataSource.getConnection().createStatement(); var resultSet = statement.executeQuery("SELECT COUNT(*) FROM test")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        } catch (SQLException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -22,11 +22,14 @@ import org.eclipse.edc.transaction.spi.local.LocalTransactionResource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class LocalTransactionContextTest {
     private LocalTransactionContext transactionContext;
@@ -140,6 +143,71 @@ class LocalTransactionContextTest {
         verify(dsResource2, times(1)).rollback();  // ensure commit was called on resource after the exception was thrown
     }
 
+    @Test
+    void verifyLazyEnlistment() {
+        var used = mock(LocalTransactionResource.class);
+        var unused = mock(LocalTransactionResource.class);
+
+        transactionContext.execute(() -> {
+            assertThat(transactionContext.enlistResource(used)).isTrue();
+            transactionContext.execute(() -> transactionContext.enlistResource(used));
+        });
+
+        verify(used, times(1)).start();
+        verify(used, times(1)).commit();
+        verifyNoInteractions(unused);
+    }
+
+    @Test
+    void verifyLazyEnlistmentRollback() {
+        var used = mock(LocalTransactionResource.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.enlistResource(used);
+            throw new RuntimeException();
+        }));
+
+        verify(used, times(1)).rollback();
+        verify(used, never()).commit();
+    }
+
+    @Test
+    void verifyEnlistmentOutsideTransaction() {
+        var resource = mock(LocalTransactionResource.class);
+
+        assertThat(transactionContext.enlistResource(resource)).isFalse();
+
+        verifyNoInteractions(resource);
+    }
+
+    @Test
+    void verifyReadOnly() {
+        assertThat(transactionContext.isReadOnly()).isFalse();
+
+        var readOnly = transactionContext.executeReadOnly(transactionContext::isReadOnly);
+        var nestedReadOnly = transactionContext.execute(() -> transactionContext.executeReadOnly(transactionContext::isReadOnly));
+        var joinedByReadWrite = transactionContext.executeReadOnly(() -> transactionContext.execute(transactionContext::isReadOnly));
+
+        assertThat(readOnly).isTrue();
+        assertThat(nestedReadOnly).describedAs("a read-only block joins the read-write transaction").isFalse();
+        assertThat(joinedByReadWrite).describedAs("a read-write block upgrades the read-only transaction").isFalse();
+    }
+
+    @Test
+    void verifyReadWriteUpgradeNotifiesResources() {
+        var used = mock(LocalTransactionResource.class);
+
+        transactionContext.executeReadOnly(() -> {
+            transactionContext.enlistResource(used);
+            transactionContext.execute(() -> transactionContext.execute(() -> {
+            }));
+            return null;
+        });
+
+        verify(dsResource, times(1)).readWrite();
+        verify(used, times(1)).readWrite();
+    }
+
     @Test
     void verifySynchronization() {
         var sync = mock(TransactionContext.TransactionSynchronization.class);
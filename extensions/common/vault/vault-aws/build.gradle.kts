@@ -20,5 +20,6 @@ dependencies {
     api(project(":spi:common:core-spi"))
     implementation(libs.aws.secretsmanager)
     implementation(project(":core:common:util"))
+    implementation(project(":core:common:vault-core"))
     testImplementation(libs.mockito.inline)
 }
@@ -15,16 +15,20 @@
 package org.eclipse.edc.vault.aws;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
 import org.eclipse.edc.spi.security.VaultCertificateResolver;
 import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.vault.CachingVault;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 
@@ -45,6 +49,12 @@ public class AwsSecretsManagerVaultExtension implements ServiceExtension {
     @Setting
     private static final String VAULT_AWS_REGION = "edc.vault.aws.region";
 
+    @Inject
+    private VaultCacheMetrics vaultCacheMetrics;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -55,8 +65,9 @@ public class AwsSecretsManagerVaultExtension implements ServiceExtension {
         var vaultRegion = getMandatorySetting(context, VAULT_AWS_REGION);
 
         var smClient = buildSmClient(vaultRegion);
-        var vault = new AwsSecretsManagerVault(smClient, context.getMonitor(),
+        var secretsManagerVault = new AwsSecretsManagerVault(smClient, context.getMonitor(),
                 new AwsSecretsManagerVaultDefaultSanitationStrategy(context.getMonitor()));
+        var vault = CachingVault.decorate(secretsManagerVault, context, vaultCacheMetrics, executorInstrumentation);
 
         context.registerService(Vault.class, vault);
         context.registerService(PrivateKeyResolver.class, new VaultPrivateKeyResolver(vault));
@@ -21,6 +21,7 @@ dependencies {
     api(project(":spi:common:core-spi"))
 
     implementation(project(":core:common:util"))
+    implementation(project(":core:common:vault-core"))
     implementation(libs.azure.keyvault)
     implementation(libs.azure.identity)
     implementation(libs.jakarta.rsApi)
@@ -15,15 +15,19 @@
 package org.eclipse.edc.vault.azure;
 
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
 import org.eclipse.edc.spi.security.VaultCertificateResolver;
 import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.vault.CachingVault;
 
 import static org.eclipse.edc.util.string.StringUtils.isNullOrEmpty;
 
@@ -43,6 +47,12 @@ public class AzureVaultExtension implements ServiceExtension {
     @Setting
     private static final String VAULT_CERTIFICATE = "edc.vault.certificate";
 
+    @Inject
+    private VaultCacheMetrics vaultCacheMetrics;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     @Override
     public String name() {
         return NAME;
@@ -60,9 +70,10 @@ public class AzureVaultExtension implements ServiceExtension {
             throw new AzureVaultException(String.format("Either '%s' or '%s' must be supplied but both were null", VAULT_CERTIFICATE, VAULT_CLIENT_SECRET));
         }
 
-        var vault = (certPath != null)
+        var azureVault = (certPath != null)
                 ? AzureVault.authenticateWithCertificate(context.getMonitor(), clientId, tenantId, certPath, keyVaultName)
                 : AzureVault.authenticateWithSecret(context.getMonitor(), clientId, tenantId, clientSecret, keyVaultName);
+        var vault = CachingVault.decorate(azureVault, context, vaultCacheMetrics, executorInstrumentation);
 
         context.registerService(Vault.class, vault);
         context.registerService(PrivateKeyResolver.class, new VaultPrivateKeyResolver(vault));
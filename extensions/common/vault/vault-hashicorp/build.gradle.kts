@@ -20,6 +20,7 @@ dependencies {
     api(project(":spi:common:http-spi"))
 
     implementation(project(":core:common:util"))
+    implementation(project(":core:common:vault-core"))
 
     testImplementation(project(":core:common:junit"))
 }
@@ -24,11 +24,14 @@ import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.security.VaultCacheMetrics;
 import org.eclipse.edc.spi.security.VaultCertificateResolver;
 import org.eclipse.edc.spi.security.VaultPrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.vault.CachingVault;
 
 @Provides({ Vault.class, PrivateKeyResolver.class, CertificateResolver.class })
 @Extension(value = HashicorpVaultExtension.NAME)
@@ -47,6 +50,12 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private VaultCacheMetrics vaultCacheMetrics;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     private Vault vault;
 
     private PrivateKeyResolver privateKeyResolver;
@@ -72,7 +81,7 @@ public class HashicorpVaultExtension implements ServiceExtension {
 
         var client = new HashicorpVaultClient(config, httpClient, typeManager);
 
-        vault = new HashicorpVault(client, context.getMonitor());
+        vault = CachingVault.decorate(new HashicorpVault(client, context.getMonitor()), context, vaultCacheMetrics, executorInstrumentation);
         privateKeyResolver = new VaultPrivateKeyResolver(vault);
 
         context.registerService(CertificateResolver.class, new VaultCertificateResolver(vault));
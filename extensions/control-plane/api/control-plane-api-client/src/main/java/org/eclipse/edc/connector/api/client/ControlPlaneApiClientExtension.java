@@ -15,17 +15,28 @@
 package org.eclipse.edc.connector.api.client;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.api.client.transferprocess.FileTransferProcessCallbackStore;
+import org.eclipse.edc.connector.api.client.transferprocess.InMemoryTransferProcessCallbackStore;
+import org.eclipse.edc.connector.api.client.transferprocess.TransferProcessCallbackDispatcher;
+import org.eclipse.edc.connector.api.client.transferprocess.TransferProcessCallbackStore;
 import org.eclipse.edc.connector.api.client.transferprocess.TransferProcessHttpClient;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallback;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallbackRequest;
 import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessFailRequest;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.nio.file.Path;
+import java.time.Clock;
+
 
 /**
  * Extensions that contains clients for Control Plane HTTP APIs
@@ -36,17 +47,79 @@ public class ControlPlaneApiClientExtension implements ServiceExtension {
 
     public static final String NAME = "Control Plane HTTP API client";
 
+    @Setting(value = "Maximum number of transfer process callbacks sent to the control plane in a single request", defaultValue = "100")
+    public static final String CALLBACK_BATCH_SIZE = "edc.dataplane.callback.batch.size";
+
+    @Setting(value = "Interval in milliseconds in which pending transfer process callbacks are sent", defaultValue = "1000")
+    public static final String CALLBACK_FLUSH_INTERVAL = "edc.dataplane.callback.flush.interval.ms";
+
+    @Setting(value = "Delay in milliseconds before the first retry of a callback that could not be delivered, doubled on every further attempt", defaultValue = "1000")
+    public static final String CALLBACK_RETRY_BASE_DELAY = "edc.dataplane.callback.retry.base.delay.ms";
+
+    @Setting(value = "Upper bound in milliseconds for the delay between two delivery attempts of a callback", defaultValue = "60000")
+    public static final String CALLBACK_RETRY_MAX_DELAY = "edc.dataplane.callback.retry.max.delay.ms";
+
+    @Setting(value = "Number of delivery attempts after which a callback is dropped", defaultValue = "10")
+    public static final String CALLBACK_RETRY_MAX_ATTEMPTS = "edc.dataplane.callback.retry.max.attempts";
+
+    @Setting(value = "File in which pending callbacks are kept so that they survive a restart. If not set, pending callbacks are only held in memory")
+    public static final String CALLBACK_OUTBOX_FILE = "edc.dataplane.callback.outbox.file";
+
     @Inject
     private EdcHttpClient httpClient;
 
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private TransferProcessCallbackDispatcher dispatcher;
+
     @Provider
     public TransferProcessApiClient transferProcessApiClient(ServiceExtensionContext context) {
-        typeManager.registerTypes(TransferProcessFailRequest.class);
+        typeManager.registerTypes(TransferProcessFailRequest.class, TransferProcessCallbackRequest.class, TransferProcessCallback.class);
+
+        dispatcher = TransferProcessCallbackDispatcher.Builder.newInstance()
+                .httpClient(httpClient)
+                .mapper(typeManager.getMapper())
+                .monitor(context.getMonitor())
+                .store(callbackStore(context))
+                .executorInstrumentation(executorInstrumentation)
+                .clock(clock)
+                .batchSize(context.getSetting(CALLBACK_BATCH_SIZE, 100))
+                .flushIntervalMillis(context.getSetting(CALLBACK_FLUSH_INTERVAL, 1000L))
+                .retryBaseDelayMillis(context.getSetting(CALLBACK_RETRY_BASE_DELAY, 1000L))
+                .retryMaxDelayMillis(context.getSetting(CALLBACK_RETRY_MAX_DELAY, 60_000L))
+                .maxAttempts(context.getSetting(CALLBACK_RETRY_MAX_ATTEMPTS, 10))
+                .build();
+
+        return new TransferProcessHttpClient(dispatcher, context.getMonitor());
+    }
+
+    @Override
+    public void start() {
+        if (dispatcher != null) {
+            dispatcher.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
 
-        return new TransferProcessHttpClient(httpClient, typeManager.getMapper(), context.getMonitor());
+    private TransferProcessCallbackStore callbackStore(ServiceExtensionContext context) {
+        var file = context.getSetting(CALLBACK_OUTBOX_FILE, null);
+        if (file == null) {
+            return new InMemoryTransferProcessCallbackStore();
+        }
+        return new FileTransferProcessCallbackStore(Path.of(file), typeManager.getMapper());
     }
 
 }
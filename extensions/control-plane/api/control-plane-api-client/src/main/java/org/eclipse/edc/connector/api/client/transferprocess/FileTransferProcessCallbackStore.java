@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallback;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Keeps pending callbacks in memory and appends every change to a log file, so that callbacks survive a restart of the
+ * data plane. Each line of the log holds the callbacks saved or the ids deleted by one call. The log is replayed on
+ * start and compacted into a single record of the pending callbacks once it holds more than {@code compactionThreshold}
+ * records. Compaction replaces the file atomically, a crash while compacting leaves the previous log in place.
+ */
+public class FileTransferProcessCallbackStore extends InMemoryTransferProcessCallbackStore {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final TypeReference<List<TransferProcessCallback>> CALLBACKS = new TypeReference<>() {
+    };
+    private static final TypeReference<List<String>> IDS = new TypeReference<>() {
+    };
+    private static final String SAVE = "save";
+    private static final String DELETE = "delete";
+
+    private final Path file;
+    private final ObjectMapper mapper;
+    private final int compactionThreshold;
+    private int records;
+
+    public FileTransferProcessCallbackStore(Path file, ObjectMapper mapper) {
+        this(file, mapper, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public FileTransferProcessCallbackStore(Path file, ObjectMapper mapper, int compactionThreshold) {
+        this.file = file;
+        this.mapper = mapper;
+        this.compactionThreshold = compactionThreshold;
+        load();
+    }
+
+    @Override
+    public synchronized void save(Collection<TransferProcessCallback> callbacks) {
+        if (callbacks.isEmpty()) {
+            return;
+        }
+        super.save(callbacks);
+        append(SAVE, callbacks);
+    }
+
+    @Override
+    public synchronized void delete(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        super.delete(ids);
+        append(DELETE, ids);
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            for (var line : Files.readAllLines(file, UTF_8)) {
+                if (!line.isBlank() && !replay(line)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new EdcException("Cannot read callback outbox " + file, e);
+        }
+        compact();
+    }
+
+    /**
+     * Applies a record of the log. Returns false if the record cannot be parsed, which happens when the runtime stopped
+     * while the record was being written; such a record can only be the last one.
+     */
+    private boolean replay(String line) {
+        try {
+            var record = mapper.readTree(line);
+            if (record.has(SAVE)) {
+                super.save(mapper.convertValue(record.get(SAVE), CALLBACKS));
+            } else if (record.has(DELETE)) {
+                super.delete(mapper.convertValue(record.get(DELETE), IDS));
+            }
+            return true;
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    private void append(String operation, Collection<?> values) {
+        if (records >= compactionThreshold) {
+            compact();
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, record(operation, values), CREATE, APPEND);
+            records++;
+        } catch (IOException e) {
+            throw new EdcException("Cannot write callback outbox " + file, e);
+        }
+    }
+
+    private void compact() {
+        try {
+            var parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            var temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, record(SAVE, new ArrayList<>(callbacks.values())));
+            Files.move(temp, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            records = 1;
+        } catch (IOException e) {
+            throw new EdcException("Cannot write callback outbox " + file, e);
+        }
+    }
+
+    private byte[] record(String operation, Collection<?> values) throws JsonProcessingException {
+        var record = mapper.createObjectNode().set(operation, mapper.valueToTree(values));
+        return (mapper.writeValueAsString(record) + "\n").getBytes(UTF_8);
+    }
+}
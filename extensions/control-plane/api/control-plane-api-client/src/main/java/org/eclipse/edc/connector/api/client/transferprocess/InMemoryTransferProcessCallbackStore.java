@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess;
+
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallback;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Keeps pending callbacks in memory. Callbacks that were not delivered before the runtime stops are lost.
+ */
+public class InMemoryTransferProcessCallbackStore implements TransferProcessCallbackStore {
+
+    protected final Map<String, TransferProcessCallback> callbacks = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(Collection<TransferProcessCallback> callbacks) {
+        callbacks.forEach(callback -> this.callbacks.put(callback.getId(), callback));
+    }
+
+    @Override
+    public List<TransferProcessCallback> nextDue(long now, int max) {
+        return callbacks.values().stream()
+                .filter(callback -> callback.getNextAttemptAt() <= now)
+                .sorted(Comparator.comparingLong(TransferProcessCallback::getNextAttemptAt))
+                .limit(max)
+                .collect(toList());
+    }
+
+    @Override
+    public void delete(Collection<String> ids) {
+        ids.forEach(callbacks::remove);
+    }
+
+    @Override
+    public int size() {
+        return callbacks.size();
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallback;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallbackRequest;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessFailRequest;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Delivers {@link TransferProcessCallback}s from a {@link TransferProcessCallbackStore} to the control plane.
+ * <p>
+ * Due callbacks are grouped by callback address and sent in batches to the {@code /transferprocess/batch} endpoint. If
+ * the control plane does not offer that endpoint, every callback is sent to its single-process endpoint instead. When a
+ * control plane cannot be reached or answers with a server error the callbacks stay in the store and are retried with
+ * exponential backoff, until {@code maxAttempts} is reached. The same applies to callbacks the control plane rejects,
+ * e.g. because the transfer process is in a transitional state or the request was not authorized. Only callbacks for
+ * transfer processes the control plane does not know are dropped right away.
+ */
+public class TransferProcessCallbackDispatcher {
+
+    public static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    private static final String NAME = "TransferProcessCallbackDispatcher";
+    private static final String REASON_NOT_FOUND = "NOT_FOUND";
+
+    private EdcHttpClient httpClient;
+    private ObjectMapper mapper;
+    private Monitor monitor;
+    private TransferProcessCallbackStore store;
+    private ExecutorInstrumentation instrumentation = ExecutorInstrumentation.noop();
+    private Clock clock = Clock.systemUTC();
+    private int batchSize = 100;
+    private long flushIntervalMillis = 1000;
+    private long retryBaseDelayMillis = 1000;
+    private long retryMaxDelayMillis = 60_000;
+    private int maxAttempts = 10;
+    private ScheduledExecutorService executor;
+
+    private TransferProcessCallbackDispatcher() {
+    }
+
+    public void start() {
+        executor = instrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName(NAME);
+                    return thread;
+                }), NAME);
+        executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the dispatcher after a last attempt to deliver the callbacks that are due. Callbacks that could not be
+     * delivered remain in the store.
+     */
+    public void stop() {
+        if (executor != null) {
+            executor.submit(this::flushSafely);
+            executor.shutdown();
+            try {
+                executor.awaitTermination(flushIntervalMillis + 5000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Stores a callback for delivery. A flush is triggered right away when a full batch is pending.
+     */
+    public void enqueue(TransferProcessCallback callback) {
+        store.save(List.of(callback));
+        if (executor != null && !executor.isShutdown() && store.size() >= batchSize) {
+            executor.execute(this::flushSafely);
+        }
+    }
+
+    /**
+     * Sends all callbacks that are currently due. Invoked periodically, exposed for testing.
+     */
+    void flush() {
+        List<TransferProcessCallback> due;
+        while (!(due = store.nextDue(clock.millis(), batchSize)).isEmpty()) {
+            var byAddress = new LinkedHashMap<String, List<TransferProcessCallback>>();
+            due.forEach(callback -> byAddress.computeIfAbsent(callback.getCallbackAddress(), k -> new ArrayList<>()).add(callback));
+            byAddress.forEach(this::sendBatch);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Throwable e) {
+            monitor.severe("Failed to flush transfer process callbacks", e);
+        }
+    }
+
+    private void sendBatch(String callbackAddress, List<TransferProcessCallback> callbacks) {
+        try {
+            var body = callbacks.stream().map(TransferProcessCallback::toRequest).collect(toList());
+            try (var response = httpClient.execute(createRequest(buildUrl(callbackAddress, "./transferprocess/batch"), body))) {
+                if (response.isSuccessful()) {
+                    var responseBody = response.body();
+                    handleResults(callbacks, responseBody != null ? responseBody.string() : null);
+                } else if (response.code() == 404 || response.code() == 405) {
+                    callbacks.forEach(this::sendSingle);
+                } else {
+                    retry(callbacks, format("received %s from the TransferProcess API", response.code()));
+                }
+            }
+        } catch (Exception e) {
+            retry(callbacks, e.getMessage());
+        }
+    }
+
+    private void sendSingle(TransferProcessCallback callback) {
+        try {
+            var body = TransferProcessCallback.ACTION_FAIL.equals(callback.getAction()) ?
+                    TransferProcessFailRequest.Builder.newInstance().errorMessage(callback.getErrorMessage()).build() : null;
+            var path = format("./transferprocess/%s/%s", callback.getProcessId(), callback.getAction());
+            try (var response = httpClient.execute(createRequest(buildUrl(callback.getCallbackAddress(), path), body))) {
+                if (response.isSuccessful()) {
+                    delete(List.of(callback));
+                } else if (response.code() == 404 || response.code() == 410) {
+                    monitor.severe(format("Failed to send callback request for %s: received %s from the TransferProcess API", callback.getProcessId(), response.code()));
+                    delete(List.of(callback));
+                } else {
+                    retry(List.of(callback), format("received %s from the TransferProcess API", response.code()));
+                }
+            }
+        } catch (Exception e) {
+            retry(List.of(callback), e.getMessage());
+        }
+    }
+
+    /**
+     * Matches the results of the batch endpoint, which come in the order of the request, to the callbacks. Callbacks
+     * for unknown transfer processes are dropped, other rejected or unanswered callbacks are retried.
+     */
+    private void handleResults(List<TransferProcessCallback> callbacks, String responseBody) {
+        var results = parseResults(responseBody);
+        if (results == null) {
+            delete(callbacks);
+            return;
+        }
+        var done = new ArrayList<TransferProcessCallback>();
+        for (var i = 0; i < callbacks.size(); i++) {
+            var callback = callbacks.get(i);
+            var result = results.get(i);
+            if (result == null) {
+                retry(List.of(callback), "no result returned by the TransferProcess API");
+            } else if (result.path("succeeded").asBoolean(false)) {
+                done.add(callback);
+            } else if (REASON_NOT_FOUND.equals(result.path("reason").asText(null))) {
+                monitor.severe(format("Callback for TransferProcess %s was rejected: %s", callback.getProcessId(), result.path("failure").asText()));
+                done.add(callback);
+            } else {
+                retry(List.of(callback), format("rejected by the TransferProcess API: %s", result.path("failure").asText()));
+            }
+        }
+        delete(done);
+    }
+
+    private JsonNode parseResults(String responseBody) {
+        if (responseBody == null || responseBody.isBlank()) {
+            return null;
+        }
+        try {
+            var results = mapper.readTree(responseBody);
+            return results.isArray() ? results : null;
+        } catch (JsonProcessingException e) {
+            monitor.warning("Cannot parse the response of the TransferProcess API batch endpoint", e);
+            return null;
+        }
+    }
+
+    private void retry(List<TransferProcessCallback> callbacks, String reason) {
+        var retries = new ArrayList<TransferProcessCallback>();
+        var expired = new ArrayList<String>();
+        var now = clock.millis();
+        for (var callback : callbacks) {
+            if (callback.getAttempts() + 1 >= maxAttempts) {
+                monitor.severe(format("Giving up callback for TransferProcess %s after %s attempts: %s", callback.getProcessId(), maxAttempts, reason));
+                expired.add(callback.getId());
+            } else {
+                retries.add(callback.retryAt(now + backoff(callback.getAttempts())));
+            }
+        }
+        if (!retries.isEmpty()) {
+            monitor.warning(format("Failed to send %s callbacks, will retry: %s", retries.size(), reason));
+            store.save(retries);
+        }
+        if (!expired.isEmpty()) {
+            store.delete(expired);
+        }
+    }
+
+    private long backoff(int attempts) {
+        var delay = retryBaseDelayMillis << Math.min(attempts, 30);
+        return delay <= 0 ? retryMaxDelayMillis : Math.min(delay, retryMaxDelayMillis);
+    }
+
+    private void delete(List<TransferProcessCallback> callbacks) {
+        store.delete(callbacks.stream().map(TransferProcessCallback::getId).collect(toList()));
+    }
+
+    private String buildUrl(String callbackAddress, String path) {
+        return URI.create(callbackAddress + "/").resolve(path).normalize().toString();
+    }
+
+    private Request createRequest(String url, Object body) throws JsonProcessingException {
+        RequestBody requestBody;
+        if (body != null) {
+            requestBody = RequestBody.create(mapper.writeValueAsString(body), TYPE_JSON);
+        } else {
+            requestBody = RequestBody.create("", null);
+        }
+        return new Request.Builder()
+                .url(url)
+                .post(requestBody)
+                .build();
+    }
+
+    public static class Builder {
+        private final TransferProcessCallbackDispatcher dispatcher;
+
+        private Builder() {
+            dispatcher = new TransferProcessCallbackDispatcher();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder httpClient(EdcHttpClient httpClient) {
+            dispatcher.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            dispatcher.mapper = mapper;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            dispatcher.monitor = monitor;
+            return this;
+        }
+
+        public Builder store(TransferProcessCallbackStore store) {
+            dispatcher.store = store;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation instrumentation) {
+            dispatcher.instrumentation = instrumentation;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            dispatcher.clock = clock;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            dispatcher.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder flushIntervalMillis(long flushIntervalMillis) {
+            dispatcher.flushIntervalMillis = flushIntervalMillis;
+            return this;
+        }
+
+        public Builder retryBaseDelayMillis(long retryBaseDelayMillis) {
+            dispatcher.retryBaseDelayMillis = retryBaseDelayMillis;
+            return this;
+        }
+
+        public Builder retryMaxDelayMillis(long retryMaxDelayMillis) {
+            dispatcher.retryMaxDelayMillis = retryMaxDelayMillis;
+            return this;
+        }
+
+        public Builder maxAttempts(int maxAttempts) {
+            dispatcher.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public TransferProcessCallbackDispatcher build() {
+            Objects.requireNonNull(dispatcher.httpClient, "httpClient");
+            Objects.requireNonNull(dispatcher.mapper, "mapper");
+            Objects.requireNonNull(dispatcher.monitor, "monitor");
+            Objects.requireNonNull(dispatcher.store, "store");
+            return dispatcher;
+        }
+    }
+}
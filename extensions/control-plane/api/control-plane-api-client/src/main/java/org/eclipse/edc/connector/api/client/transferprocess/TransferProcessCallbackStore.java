@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess;
+
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallback;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox of callbacks that still have to be delivered to the control plane. Implementations must be thread-safe.
+ */
+public interface TransferProcessCallbackStore {
+
+    /**
+     * Inserts or replaces the given callbacks, matched by their id.
+     */
+    void save(Collection<TransferProcessCallback> callbacks);
+
+    /**
+     * Returns at most {@code max} callbacks that are due at {@code now}, oldest due first.
+     */
+    List<TransferProcessCallback> nextDue(long now, int max);
+
+    /**
+     * Removes the callbacks with the given ids. Unknown ids are ignored.
+     */
+    void delete(Collection<String> ids);
+
+    /**
+     * Number of callbacks that are pending delivery.
+     */
+    int size();
+}
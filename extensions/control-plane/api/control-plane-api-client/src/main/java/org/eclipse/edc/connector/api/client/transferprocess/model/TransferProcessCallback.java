@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A completion or failure notification that has not yet been delivered to the control plane.
+ */
+@JsonDeserialize(builder = TransferProcessCallback.Builder.class)
+public class TransferProcessCallback {
+    public static final String ACTION_COMPLETE = "complete";
+    public static final String ACTION_FAIL = "fail";
+
+    private String id;
+    private String processId;
+    private String callbackAddress;
+    private String action;
+    private String errorMessage;
+    private int attempts;
+    private long nextAttemptAt;
+
+    private TransferProcessCallback() {
+
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getCallbackAddress() {
+        return callbackAddress;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Number of failed delivery attempts so far.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Epoch millis before which no delivery should be attempted.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * Returns a copy of this callback that records another failed attempt and is due again at the given time.
+     */
+    public TransferProcessCallback retryAt(long nextAttemptAt) {
+        return toBuilder().attempts(attempts + 1).nextAttemptAt(nextAttemptAt).build();
+    }
+
+    public TransferProcessCallbackRequest toRequest() {
+        return TransferProcessCallbackRequest.Builder.newInstance()
+                .processId(processId)
+                .action(action)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .processId(processId)
+                .callbackAddress(callbackAddress)
+                .action(action)
+                .errorMessage(errorMessage)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt);
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessCallback callback;
+
+        private Builder() {
+            callback = new TransferProcessCallback();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            callback.id = id;
+            return this;
+        }
+
+        public Builder processId(String processId) {
+            callback.processId = processId;
+            return this;
+        }
+
+        public Builder callbackAddress(String callbackAddress) {
+            callback.callbackAddress = callbackAddress;
+            return this;
+        }
+
+        public Builder action(String action) {
+            callback.action = action;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            callback.errorMessage = errorMessage;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            callback.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            callback.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public TransferProcessCallback build() {
+            if (callback.id == null) {
+                callback.id = UUID.randomUUID().toString();
+            }
+            Objects.requireNonNull(callback.processId, "processId");
+            Objects.requireNonNull(callback.callbackAddress, "callbackAddress");
+            Objects.requireNonNull(callback.action, "action");
+            return callback;
+        }
+    }
+}
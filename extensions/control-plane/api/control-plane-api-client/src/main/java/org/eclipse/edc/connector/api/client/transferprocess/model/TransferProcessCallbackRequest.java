@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * Single entry of a batch notification sent to the Transfer Process Control API
+ */
+@JsonDeserialize(builder = TransferProcessCallbackRequest.Builder.class)
+public class TransferProcessCallbackRequest {
+    private String processId;
+    private String action;
+    private String errorMessage;
+
+    private TransferProcessCallbackRequest() {
+
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessCallbackRequest request;
+
+        private Builder() {
+            request = new TransferProcessCallbackRequest();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            request.processId = processId;
+            return this;
+        }
+
+        public Builder action(String action) {
+            request.action = action;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            request.errorMessage = errorMessage;
+            return this;
+        }
+
+        public TransferProcessCallbackRequest build() {
+            return request;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.client.transferprocess;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.connector.api.client.transferprocess.model.TransferProcessCallback;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransferProcessCallbackDispatcherTest {
+
+    private static final long NOW = 1_000_000;
+
+    private final EdcHttpClient httpClient = mock(EdcHttpClient.class);
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Monitor monitor = mock(Monitor.class);
+    private final InMemoryTransferProcessCallbackStore store = new InMemoryTransferProcessCallbackStore();
+    private final TransferProcessCallbackDispatcher dispatcher = TransferProcessCallbackDispatcher.Builder.newInstance()
+            .httpClient(httpClient)
+            .mapper(mapper)
+            .monitor(monitor)
+            .store(store)
+            .clock(Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC))
+            .batchSize(10)
+            .retryBaseDelayMillis(100)
+            .retryMaxDelayMillis(250)
+            .maxAttempts(3)
+            .build();
+
+    @Test
+    void flush_shouldSendOneBatchPerCallbackAddress() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 200, "[]"));
+        store.save(List.of(callback("tp1", "http://cp1/control"), callback("tp2", "http://cp1/control"), callback("tp3", "http://cp2/control")));
+
+        dispatcher.flush();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.url().toString())
+                .containsExactlyInAnyOrder("http://cp1/control/transferprocess/batch", "http://cp2/control/transferprocess/batch");
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void flush_shouldNotRetryCallbacksForUnknownProcesses() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 200,
+                "[{\"processId\":\"tp1\",\"succeeded\":false,\"failure\":\"not found\",\"reason\":\"NOT_FOUND\"}]"));
+        store.save(List.of(callback("tp1", "http://cp/control")));
+
+        dispatcher.flush();
+
+        assertThat(store.size()).isZero();
+        verify(monitor).severe(argThat((String message) -> message.contains("tp1") && message.contains("not found")));
+    }
+
+    @Test
+    void flush_shouldRetryCallbacksRejectedByControlPlane() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 200,
+                "[{\"processId\":\"tp1\",\"succeeded\":true}," +
+                        "{\"processId\":\"tp2\",\"succeeded\":false,\"failure\":\"invalid state\",\"reason\":\"CONFLICT\"}]"));
+        store.save(List.of(callback("tp1", "http://cp/control").toBuilder().nextAttemptAt(NOW - 1).build(), callback("tp2", "http://cp/control")));
+
+        dispatcher.flush();
+
+        assertThat(store.nextDue(Long.MAX_VALUE, 10)).hasSize(1).first().satisfies(retry -> {
+            assertThat(retry.getProcessId()).isEqualTo("tp2");
+            assertThat(retry.getAttempts()).isEqualTo(1);
+            assertThat(retry.getNextAttemptAt()).isEqualTo(NOW + 100);
+        });
+    }
+
+    @Test
+    void flush_shouldRetry_whenBatchIsRejected() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 401, ""));
+        store.save(List.of(callback("tp1", "http://cp/control")));
+
+        dispatcher.flush();
+
+        assertThat(store.nextDue(Long.MAX_VALUE, 10)).hasSize(1).first()
+                .satisfies(retry -> assertThat(retry.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void flush_shouldFallbackToSingleEndpoints_whenBatchNotSupported() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> {
+            Request request = i.getArgument(0);
+            return response(request, request.url().encodedPath().endsWith("/batch") ? 404 : 204, "");
+        });
+        store.save(List.of(callback("tp1", "http://cp/control")));
+
+        dispatcher.flush();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        assertThat(captor.getAllValues().get(1).url().toString()).isEqualTo("http://cp/control/transferprocess/tp1/complete");
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void flush_shouldRetrySingleCallback_whenRejected() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> {
+            Request request = i.getArgument(0);
+            return response(request, request.url().encodedPath().endsWith("/batch") ? 404 : 409, "");
+        });
+        store.save(List.of(callback("tp1", "http://cp/control")));
+
+        dispatcher.flush();
+
+        assertThat(store.nextDue(Long.MAX_VALUE, 10)).hasSize(1).first()
+                .satisfies(retry -> assertThat(retry.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void flush_shouldDropSingleCallback_whenProcessNotFound() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 404, ""));
+        store.save(List.of(callback("tp1", "http://cp/control")));
+
+        dispatcher.flush();
+
+        assertThat(store.size()).isZero();
+        verify(monitor).severe(argThat((String message) -> message.contains("tp1") && message.contains("404")));
+    }
+
+    @Test
+    void flush_shouldRescheduleWithBackoff_whenControlPlaneUnavailable() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 503, ""));
+        store.save(List.of(callback("tp1", "http://cp/control").toBuilder().attempts(1).build()));
+
+        dispatcher.flush();
+
+        assertThat(store.nextDue(Long.MAX_VALUE, 10)).hasSize(1).first().satisfies(retry -> {
+            assertThat(retry.getAttempts()).isEqualTo(2);
+            assertThat(retry.getNextAttemptAt()).isEqualTo(NOW + 200);
+        });
+        assertThat(store.nextDue(NOW, 10)).isEmpty();
+    }
+
+    @Test
+    void flush_shouldDropCallback_whenMaxAttemptsReached() throws IOException {
+        when(httpClient.execute(any())).thenThrow(new IOException("connection refused"));
+        store.save(List.of(callback("tp1", "http://cp/control").toBuilder().attempts(2).build()));
+
+        dispatcher.flush();
+
+        assertThat(store.size()).isZero();
+        verify(monitor).severe(argThat((String message) -> message.contains("tp1") && message.contains("connection refused")));
+    }
+
+    @Test
+    void fileStore_shouldSurviveRestart(@TempDir Path tempDir) {
+        var file = tempDir.resolve("outbox.json");
+        var callback = callback("tp1", "http://cp/control");
+        new FileTransferProcessCallbackStore(file, mapper).save(List.of(callback));
+
+        var reloaded = new FileTransferProcessCallbackStore(file, mapper);
+
+        assertThat(reloaded.nextDue(NOW, 10)).hasSize(1).first().satisfies(c -> {
+            assertThat(c.getId()).isEqualTo(callback.getId());
+            assertThat(c.getProcessId()).isEqualTo("tp1");
+        });
+        reloaded.delete(List.of(callback.getId()));
+        assertThat(new FileTransferProcessCallbackStore(file, mapper).size()).isZero();
+    }
+
+    @Test
+    void fileStore_shouldCompactLog(@TempDir Path tempDir) throws IOException {
+        var file = tempDir.resolve("outbox.json");
+        var store = new FileTransferProcessCallbackStore(file, mapper, 3);
+        var first = callback("tp1", "http://cp/control");
+        var second = callback("tp2", "http://cp/control");
+
+        store.save(List.of(first));
+        store.save(List.of(second));
+        store.delete(List.of(first.getId()));
+        assertThat(Files.readAllLines(file)).hasSize(3);
+
+        store.save(List.of(second.retryAt(NOW + 100)));
+
+        assertThat(Files.readAllLines(file)).hasSize(1);
+        assertThat(new FileTransferProcessCallbackStore(file, mapper).nextDue(Long.MAX_VALUE, 10)).hasSize(1).first().satisfies(c -> {
+            assertThat(c.getId()).isEqualTo(second.getId());
+            assertThat(c.getAttempts()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void fileStore_shouldIgnoreTruncatedLastRecord(@TempDir Path tempDir) throws IOException {
+        var file = tempDir.resolve("outbox.json");
+        var callback = callback("tp1", "http://cp/control");
+        new FileTransferProcessCallbackStore(file, mapper).save(List.of(callback));
+        Files.writeString(file, "{\"delete\":[\"", APPEND);
+
+        var reloaded = new FileTransferProcessCallbackStore(file, mapper);
+
+        assertThat(reloaded.size()).isEqualTo(1);
+        assertThat(Files.readAllLines(file)).hasSize(1);
+    }
+
+    private TransferProcessCallback callback(String processId, String callbackAddress) {
+        return TransferProcessCallback.Builder.newInstance()
+                .processId(processId)
+                .callbackAddress(callbackAddress)
+                .action(TransferProcessCallback.ACTION_COMPLETE)
+                .nextAttemptAt(NOW)
+                .build();
+    }
+
+    private Response response(Request request, int code, String body) {
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("message")
+                .body(ResponseBody.create(body, null))
+                .build();
+    }
+}
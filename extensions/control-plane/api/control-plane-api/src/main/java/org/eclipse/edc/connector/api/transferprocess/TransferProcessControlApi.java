@@ -23,9 +23,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessCallbackDto;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessCallbackResultDto;
 import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessFailStateDto;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
+import java.util.List;
+
 
 @OpenAPIDefinition
 @Tag(name = "Transfer Process Control Api")
@@ -49,5 +53,14 @@ public interface TransferProcessControlApi {
             })
     void fail(String processId, @NotNull @Valid TransferProcessFailStateDto request);
 
+    @Operation(description = "Requests completion or failure of several transfer processes at once. Every entry is processed independently, " +
+            "the response contains one result per entry in the same order",
+            responses = {
+                    @ApiResponse(responseCode = "200", content = @Content(array = @ArraySchema(schema = @Schema(implementation = TransferProcessCallbackResultDto.class)))),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed",
+                            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
+            })
+    List<TransferProcessCallbackResultDto> batch(@NotNull @Valid List<TransferProcessCallbackDto> callbacks);
+
 
 }
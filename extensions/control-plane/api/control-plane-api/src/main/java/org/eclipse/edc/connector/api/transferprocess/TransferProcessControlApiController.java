@@ -22,10 +22,16 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessCallbackDto;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessCallbackResultDto;
 import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessFailStateDto;
 import org.eclipse.edc.connector.spi.transferprocess.TransferProcessService;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.service.spi.result.ServiceResult;
 
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
 import static org.eclipse.edc.web.spi.exception.ServiceResultHandler.exceptionMapper;
 
 
@@ -57,4 +63,30 @@ public class TransferProcessControlApiController implements TransferProcessContr
         transferProcessService.terminate(processId, request.getErrorMessage()).orElseThrow(exceptionMapper(TransferProcess.class, processId));
     }
 
+    @POST
+    @Path("/batch")
+    @Override
+    public List<TransferProcessCallbackResultDto> batch(@NotNull @Valid List<TransferProcessCallbackDto> callbacks) {
+        return callbacks.stream().map(this::handle).collect(toList());
+    }
+
+    private TransferProcessCallbackResultDto handle(TransferProcessCallbackDto callback) {
+        var result = apply(callback);
+        return TransferProcessCallbackResultDto.Builder.newInstance()
+                .processId(callback.getProcessId())
+                .succeeded(result.succeeded())
+                .failure(result.failed() ? result.getFailureDetail() : null)
+                .reason(result.failed() ? result.reason().name() : null)
+                .build();
+    }
+
+    private ServiceResult<TransferProcess> apply(TransferProcessCallbackDto callback) {
+        if (TransferProcessCallbackDto.ACTION_COMPLETE.equals(callback.getAction())) {
+            return transferProcessService.complete(callback.getProcessId());
+        } else if (TransferProcessCallbackDto.ACTION_FAIL.equals(callback.getAction())) {
+            return transferProcessService.terminate(callback.getProcessId(), callback.getErrorMessage());
+        }
+        return ServiceResult.badRequest("Unknown action: " + callback.getAction());
+    }
+
 }
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A single completion or failure notification inside a batch sent by a data plane.
+ */
+@JsonDeserialize(builder = TransferProcessCallbackDto.Builder.class)
+public class TransferProcessCallbackDto {
+
+    public static final String ACTION_COMPLETE = "complete";
+    public static final String ACTION_FAIL = "fail";
+
+    @NotNull
+    private String processId;
+    @NotNull
+    private String action;
+    private String errorMessage;
+
+    private TransferProcessCallbackDto() {
+
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    /**
+     * Either {@link #ACTION_COMPLETE} or {@link #ACTION_FAIL}.
+     */
+    public String getAction() {
+        return action;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessCallbackDto dto;
+
+        private Builder() {
+            dto = new TransferProcessCallbackDto();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            dto.processId = processId;
+            return this;
+        }
+
+        public Builder action(String action) {
+            dto.action = action;
+            return this;
+        }
+
+        public Builder errorMessage(String errorMessage) {
+            dto.errorMessage = errorMessage;
+            return this;
+        }
+
+        public TransferProcessCallbackDto build() {
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.api.transferprocess.model;
+
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * The outcome of a single {@link TransferProcessCallbackDto} of a batch.
+ */
+@JsonDeserialize(builder = TransferProcessCallbackResultDto.Builder.class)
+public class TransferProcessCallbackResultDto {
+    private String processId;
+    private boolean succeeded;
+    private String failure;
+    private String reason;
+
+    private TransferProcessCallbackResultDto() {
+
+    }
+
+    public String getProcessId() {
+        return processId;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Why the callback failed, one of {@code NOT_FOUND}, {@code CONFLICT} or {@code BAD_REQUEST}. Only a
+     * {@code NOT_FOUND} failure is permanent, the others may succeed when the callback is sent again.
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private final TransferProcessCallbackResultDto dto;
+
+        private Builder() {
+            dto = new TransferProcessCallbackResultDto();
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder processId(String processId) {
+            dto.processId = processId;
+            return this;
+        }
+
+        public Builder succeeded(boolean succeeded) {
+            dto.succeeded = succeeded;
+            return this;
+        }
+
+        public Builder failure(String failure) {
+            dto.failure = failure;
+            return this;
+        }
+
+        public Builder reason(String reason) {
+            dto.reason = reason;
+            return this;
+        }
+
+        public TransferProcessCallbackResultDto build() {
+            return dto;
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.api;
 
 import io.restassured.specification.RequestSpecification;
+import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessCallbackDto;
 import org.eclipse.edc.connector.api.transferprocess.model.TransferProcessFailStateDto;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
@@ -28,6 +29,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -165,6 +168,37 @@ class TransferProcessControlApiControllerIntegrationTest {
                 .statusCode(409);
     }
 
+    @Test
+    void callBatchHook(TransferProcessStore store) {
+        store.save(createTransferProcessBuilder().id("tp-complete").build());
+        store.save(createTransferProcessBuilder().id("tp-fail").build());
+
+        var callbacks = List.of(
+                TransferProcessCallbackDto.Builder.newInstance().processId("tp-complete").action(TransferProcessCallbackDto.ACTION_COMPLETE).build(),
+                TransferProcessCallbackDto.Builder.newInstance().processId("tp-fail").action(TransferProcessCallbackDto.ACTION_FAIL).errorMessage("error").build(),
+                TransferProcessCallbackDto.Builder.newInstance().processId("nonExistingId").action(TransferProcessCallbackDto.ACTION_COMPLETE).build()
+        );
+
+        baseRequest()
+                .body(callbacks)
+                .contentType("application/json")
+                .post("/transferprocess/batch")
+                .then()
+                .statusCode(200)
+                .body("processId", is(List.of("tp-complete", "tp-fail", "nonExistingId")))
+                .body("succeeded", is(List.of(true, true, false)))
+                .body("reason", is(Arrays.asList(null, null, "NOT_FOUND")));
+
+        await().untilAsserted(() -> {
+            assertThat(store.find("tp-complete")).isNotNull()
+                    .extracting(StatefulEntity::getState).isEqualTo(COMPLETED.code());
+            assertThat(store.find("tp-fail")).isNotNull().satisfies(process -> {
+                assertThat(process.getState()).isEqualTo(TERMINATED.code());
+                assertThat(process.getErrorDetail()).isEqualTo("error");
+            });
+        });
+    }
+
     private TransferProcess createTransferProcess() {
         return createTransferProcessBuilder().build();
     }
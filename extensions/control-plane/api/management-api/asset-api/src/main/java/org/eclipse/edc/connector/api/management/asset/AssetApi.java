@@ -22,6 +22,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.asset.model.AssetEntryDto;
@@ -30,8 +31,6 @@ import org.eclipse.edc.connector.api.management.asset.model.AssetUpdateRequestDt
 import org.eclipse.edc.connector.api.management.asset.model.DataAddressDto;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Asset")
 public interface AssetApi {
@@ -55,7 +54,7 @@ public interface AssetApi {
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             }, deprecated = true)
     @Deprecated
-    List<AssetResponseDto> getAllAssets(@Valid QuerySpecDto querySpecDto);
+    Response getAllAssets(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = " all assets according to a particular query",
             responses = {
@@ -64,7 +63,7 @@ public interface AssetApi {
                     @ApiResponse(responseCode = "400", description = "Request body was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             })
-    List<AssetResponseDto> requestAssets(@Valid QuerySpecDto querySpecDto);
+    Response requestAssets(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an asset with the given ID",
             responses = {
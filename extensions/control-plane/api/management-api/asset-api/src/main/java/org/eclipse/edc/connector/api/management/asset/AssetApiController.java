@@ -16,6 +16,7 @@
 
 package org.eclipse.edc.connector.api.management.asset;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
@@ -27,8 +28,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.asset.model.AssetEntryDto;
 import org.eclipse.edc.connector.api.management.asset.model.AssetResponseDto;
@@ -45,7 +48,6 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -64,12 +66,14 @@ public class AssetApiController implements AssetApi {
     private final DtoTransformerRegistry transformerRegistry;
 
     private final DataAddressResolver dataAddressResolver;
+    private final ObjectMapper mapper;
 
-    public AssetApiController(Monitor monitor, AssetService service, DataAddressResolver dataAddressResolver, DtoTransformerRegistry transformerRegistry) {
+    public AssetApiController(Monitor monitor, AssetService service, DataAddressResolver dataAddressResolver, DtoTransformerRegistry transformerRegistry, ObjectMapper mapper) {
         this.monitor = monitor;
         this.service = service;
         this.dataAddressResolver = dataAddressResolver;
         this.transformerRegistry = transformerRegistry;
+        this.mapper = mapper;
     }
 
     @POST
@@ -99,14 +103,14 @@ public class AssetApiController implements AssetApi {
     @GET
     @Override
     @Deprecated
-    public List<AssetResponseDto> getAllAssets(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllAssets(@Valid @BeanParam QuerySpecDto querySpecDto) {
         return queryAssets(querySpecDto);
     }
 
     @POST
     @Override
     @Path("/request")
-    public List<AssetResponseDto> requestAssets(@Valid QuerySpecDto querySpecDto) {
+    public Response requestAssets(@Valid QuerySpecDto querySpecDto) {
         return queryAssets(ofNullable(querySpecDto).orElse(QuerySpecDto.Builder.newInstance().build()));
     }
 
@@ -171,23 +175,30 @@ public class AssetApiController implements AssetApi {
                 .orElseThrow(() -> new ObjectNotFoundException(Asset.class, id));
     }
 
-    private List<AssetResponseDto> queryAssets(QuerySpecDto querySpecDto) {
+    private Response queryAssets(QuerySpecDto querySpecDto) {
         var transformationResult = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (transformationResult.failed()) {
             throw new InvalidRequestException(transformationResult.getFailureMessages());
         }
 
-        var spec = transformationResult.getContent();
+        var spec = querySpecDto.isPaged() ? StreamingQueryResponse.pagedQuerySpec(transformationResult.getContent(), Asset.PROPERTY_ID) : transformationResult.getContent();
 
         monitor.debug(format("get all Assets from %s", spec));
 
-        try (var assets = service.query(spec).orElseThrow(exceptionMapper(QuerySpec.class, null))) {
-            return assets
-                    .map(it -> transformerRegistry.transform(it, AssetResponseDto.class))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(toList());
-        }
+        var totalCount = querySpecDto.isCount() ? service.count(spec).orElseThrow(exceptionMapper(QuerySpec.class, null)) : null;
+        var assets = service.query(spec).orElseThrow(exceptionMapper(QuerySpec.class, null));
+
+        return StreamingQueryResponse.Builder.<Asset>newInstance()
+                .stream(assets)
+                .querySpec(transformationResult.getContent())
+                .mapper(mapper)
+                .transformer(it -> transformerRegistry.transform(it, AssetResponseDto.class))
+                .id(Asset::getId)
+                .sortValue(Asset::getProperty)
+                .paged(querySpecDto.isPaged())
+                .totalCount(totalCount)
+                .build()
+                .toResponse();
     }
 
 }
@@ -48,6 +48,7 @@ import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 
 @ApiTest
 @ExtendWith(EdcExtension.class)
@@ -134,6 +135,59 @@ public class AssetApiControllerIntegrationTest {
                 .body("size()", is(1));
     }
 
+    @Test
+    void queryAll_paged_shouldContinueAfterToken(AssetIndex assetIndex) {
+        var dataAddress = DataAddress.Builder.newInstance().type("type").build();
+        assetIndex.accept(Asset.Builder.newInstance().id("id1").build(), dataAddress);
+        assetIndex.accept(Asset.Builder.newInstance().id("id2").build(), dataAddress);
+        assetIndex.accept(Asset.Builder.newInstance().id("id3").build(), dataAddress);
+
+        var firstPage = baseRequest()
+                .contentType(JSON)
+                .body(QuerySpecDto.Builder.newInstance().limit(2).sortField("asset:prop:id").paged(true).count(true).build())
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .header("X-Total-Count", "3")
+                .body("content.id", is(List.of("id1", "id2")))
+                .extract().jsonPath();
+
+        baseRequest()
+                .contentType(JSON)
+                .body(QuerySpecDto.Builder.newInstance().limit(2).sortField("asset:prop:id").paged(true).continuationToken(firstPage.getString("continuationToken")).build())
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .body("content.id", is(List.of("id3")))
+                .body("continuationToken", nullValue());
+    }
+
+    @Test
+    void queryAll_paged_withoutSortField_shouldContinueAfterToken(AssetIndex assetIndex) {
+        var dataAddress = DataAddress.Builder.newInstance().type("type").build();
+        assetIndex.accept(Asset.Builder.newInstance().id("id3").build(), dataAddress);
+        assetIndex.accept(Asset.Builder.newInstance().id("id1").build(), dataAddress);
+        assetIndex.accept(Asset.Builder.newInstance().id("id2").build(), dataAddress);
+
+        var firstPage = baseRequest()
+                .contentType(JSON)
+                .body(QuerySpecDto.Builder.newInstance().limit(2).paged(true).build())
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .body("content.id", is(List.of("id1", "id2")))
+                .extract().jsonPath();
+
+        baseRequest()
+                .contentType(JSON)
+                .body(QuerySpecDto.Builder.newInstance().limit(2).paged(true).continuationToken(firstPage.getString("continuationToken")).build())
+                .post("/assets/request")
+                .then()
+                .statusCode(200)
+                .body("content.id", is(List.of("id3")))
+                .body("continuationToken", nullValue());
+    }
+
     @Test
     void queryAll_noResults(AssetIndex assetIndex) {
         var asset = Asset.Builder.newInstance().id("id").build();
@@ -17,8 +17,11 @@
 package org.eclipse.edc.connector.api.management.asset;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.asset.model.AssetCreationRequestDto;
 import org.eclipse.edc.connector.api.management.asset.model.AssetEntryDto;
@@ -30,8 +33,10 @@ import org.eclipse.edc.connector.spi.asset.AssetService;
 import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
@@ -40,6 +45,8 @@ import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -47,6 +54,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.content;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -61,12 +69,13 @@ public class AssetApiControllerTest {
 
     private final DataAddressResolver dataAddressResolver = mock(DataAddressResolver.class);
     private final DtoTransformerRegistry transformerRegistry = mock(DtoTransformerRegistry.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
     private AssetApiController controller;
 
     @BeforeEach
     void setUp() {
         var monitor = mock(Monitor.class);
-        controller = new AssetApiController(monitor, service, dataAddressResolver, transformerRegistry);
+        controller = new AssetApiController(monitor, service, dataAddressResolver, transformerRegistry, mapper);
     }
 
     @Test
@@ -146,7 +155,7 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allAssets = controller.getAllAssets(querySpec);
+        var allAssets = content(controller.getAllAssets(querySpec));
 
         assertThat(allAssets).hasSize(1);
         verify(service).query(argThat(s -> s.getOffset() == 10));
@@ -161,7 +170,7 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         when(transformerRegistry.transform(isA(Asset.class), eq(AssetResponseDto.class))).thenReturn(Result.failure("failed to transform"));
 
-        var allAssets = controller.getAllAssets(QuerySpecDto.Builder.newInstance().build());
+        var allAssets = content(controller.getAllAssets(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allAssets).isEmpty();
     }
@@ -193,7 +202,7 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allAssets = controller.requestAssets(querySpec);
+        var allAssets = content(controller.requestAssets(querySpec));
 
         assertThat(allAssets).hasSize(1);
         verify(service).query(argThat(s -> s.getOffset() == 10));
@@ -201,6 +210,37 @@ public class AssetApiControllerTest {
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
 
+    @Test
+    void queryAll_paged_returnsContinuationToken() throws IOException {
+        var asset = Asset.Builder.newInstance().id("assetId").build();
+        when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(asset)));
+        when(transformerRegistry.transform(isA(Asset.class), eq(AssetResponseDto.class)))
+                .thenReturn(Result.success(AssetResponseDto.Builder.newInstance().id("assetId").build()));
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.Builder.newInstance().limit(1).build()));
+
+        var response = controller.requestAssets(QuerySpecDto.Builder.newInstance().limit(1).paged(true).build());
+
+        var output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+        var page = mapper.readTree(output.toByteArray());
+        assertThat(page.get("content")).hasSize(1);
+        assertThat(ContinuationToken.decode(page.get("continuationToken").asText()).getId()).isEqualTo("assetId");
+    }
+
+    @Test
+    void queryAll_count_returnsTotalCountHeader() {
+        when(service.count(any())).thenReturn(ServiceResult.success(12L));
+        when(service.query(any())).thenReturn(ServiceResult.success(Stream.empty()));
+        when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
+                .thenReturn(Result.success(QuerySpec.none()));
+
+        var response = controller.requestAssets(QuerySpecDto.Builder.newInstance().count(true).build());
+
+        assertThat(response.getHeaders().getFirst(StreamingQueryResponse.TOTAL_COUNT_HEADER)).isEqualTo(12L);
+        verify(service).count(any());
+    }
+
     @Test
     void queryAll_filtersOutFailedTransforms() {
         when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(Asset.Builder.newInstance().build())));
@@ -208,7 +248,7 @@ public class AssetApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         when(transformerRegistry.transform(isA(Asset.class), eq(AssetResponseDto.class))).thenReturn(Result.failure("failed to transform"));
 
-        var allAssets = controller.requestAssets(QuerySpecDto.Builder.newInstance().build());
+        var allAssets = content(controller.requestAssets(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allAssets).isEmpty();
     }
@@ -22,12 +22,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.contractagreement.model.ContractAgreementDto;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Contract Agreement")
 public interface ContractAgreementApi {
@@ -41,7 +40,7 @@ public interface ContractAgreementApi {
             }, deprecated = true
     )
     @Deprecated
-    List<ContractAgreementDto> getAllAgreements(@Valid QuerySpecDto querySpecDto);
+    Response getAllAgreements(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets all contract agreements according to a particular query",
             responses = {
@@ -51,7 +50,7 @@ public interface ContractAgreementApi {
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             }
     )
-    List<ContractAgreementDto> queryAllAgreements(@Valid QuerySpecDto querySpecDto);
+    Response queryAllAgreements(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an contract agreement with the given ID",
             responses = {
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.api.management.contractagreement;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.GET;
@@ -23,7 +24,9 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.contractagreement.model.ContractAgreementDto;
 import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
@@ -36,9 +39,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -50,24 +51,26 @@ public class ContractAgreementApiController implements ContractAgreementApi {
     private final Monitor monitor;
     private final ContractAgreementService service;
     private final DtoTransformerRegistry transformerRegistry;
+    private final ObjectMapper mapper;
 
-    public ContractAgreementApiController(Monitor monitor, ContractAgreementService service, DtoTransformerRegistry transformerRegistry) {
+    public ContractAgreementApiController(Monitor monitor, ContractAgreementService service, DtoTransformerRegistry transformerRegistry, ObjectMapper mapper) {
         this.monitor = monitor;
         this.service = service;
         this.transformerRegistry = transformerRegistry;
+        this.mapper = mapper;
     }
 
     @GET
     @Override
     @Deprecated
-    public List<ContractAgreementDto> getAllAgreements(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllAgreements(@Valid @BeanParam QuerySpecDto querySpecDto) {
         return queryContractAgreements(querySpecDto);
     }
 
     @POST
     @Path("/request")
     @Override
-    public List<ContractAgreementDto> queryAllAgreements(@Valid QuerySpecDto querySpecDto) {
+    public Response queryAllAgreements(@Valid QuerySpecDto querySpecDto) {
         return queryContractAgreements(ofNullable(querySpecDto).orElse(QuerySpecDto.Builder.newInstance().build()));
     }
 
@@ -86,23 +89,29 @@ public class ContractAgreementApiController implements ContractAgreementApi {
     }
 
     @NotNull
-    private List<ContractAgreementDto> queryContractAgreements(QuerySpecDto querySpecDto) {
+    private Response queryContractAgreements(QuerySpecDto querySpecDto) {
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             throw new InvalidRequestException(result.getFailureMessages());
         }
 
-        var spec = result.getContent();
+        var spec = querySpecDto.isPaged() ? StreamingQueryResponse.pagedQuerySpec(result.getContent(), "id") : result.getContent();
 
         monitor.debug(format("get all contract agreements from %s", spec));
 
-        try (var stream = service.query(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, ContractAgreementDto.class))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(Collectors.toList());
-        }
+        var totalCount = querySpecDto.isCount() ? service.count(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null)) : null;
+        var agreements = service.query(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null));
+
+        return StreamingQueryResponse.Builder.<ContractAgreement>newInstance()
+                .stream(agreements)
+                .querySpec(result.getContent())
+                .mapper(mapper)
+                .transformer(it -> transformerRegistry.transform(it, ContractAgreementDto.class))
+                .id(ContractAgreement::getId)
+                .paged(querySpecDto.isPaged())
+                .totalCount(totalCount)
+                .build()
+                .toResponse();
     }
 
 
@@ -51,7 +51,7 @@ public class ContractAgreementApiExtension implements ServiceExtension {
         transformerRegistry.register(new ContractAgreementToContractAgreementDtoTransformer());
         var monitor = context.getMonitor();
 
-        var controller = new ContractAgreementApiController(monitor, service, transformerRegistry);
+        var controller = new ContractAgreementApiController(monitor, service, transformerRegistry, context.getTypeManager().getMapper());
         webService.registerResource(config.getContextAlias(), controller);
     }
 }
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.api.management.contractagreement;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.api.model.CriterionDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
@@ -26,6 +27,7 @@ import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,6 +39,8 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.content;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.json;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -48,6 +52,7 @@ import static org.mockito.Mockito.when;
 class ContractAgreementApiControllerTest {
 
     private final DtoTransformerRegistry transformerRegistry = mock(DtoTransformerRegistry.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
     private final ContractAgreementService service = mock(ContractAgreementService.class);
 
     private ContractAgreementApiController controller;
@@ -55,7 +60,7 @@ class ContractAgreementApiControllerTest {
     @BeforeEach
     void setup() {
         var monitor = mock(Monitor.class);
-        controller = new ContractAgreementApiController(monitor, service, transformerRegistry);
+        controller = new ContractAgreementApiController(monitor, service, transformerRegistry, mapper);
     }
 
     @Test
@@ -68,9 +73,9 @@ class ContractAgreementApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allContractAgreements = controller.getAllAgreements(querySpec);
+        var allContractAgreements = content(controller.getAllAgreements(querySpec));
 
-        assertThat(allContractAgreements).hasSize(1).first().matches(d -> d.getId().equals(contractAgreement.getId()));
+        assertThat(allContractAgreements).containsExactly(json(dto));
         verify(transformerRegistry).transform(contractAgreement, ContractAgreementDto.class);
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
@@ -84,7 +89,7 @@ class ContractAgreementApiControllerTest {
         when(transformerRegistry.transform(isA(ContractAgreement.class), eq(ContractAgreementDto.class)))
                 .thenReturn(Result.failure("failure"));
 
-        var allContractAgreements = controller.getAllAgreements(QuerySpecDto.Builder.newInstance().build());
+        var allContractAgreements = content(controller.getAllAgreements(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allContractAgreements).hasSize(0);
         verify(transformerRegistry).transform(contractAgreement, ContractAgreementDto.class);
@@ -124,9 +129,9 @@ class ContractAgreementApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allContractAgreements = controller.queryAllAgreements(querySpec);
+        var allContractAgreements = content(controller.queryAllAgreements(querySpec));
 
-        assertThat(allContractAgreements).hasSize(1).first().matches(d -> d.getId().equals(contractAgreement.getId()));
+        assertThat(allContractAgreements).containsExactly(json(dto));
         verify(transformerRegistry).transform(contractAgreement, ContractAgreementDto.class);
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
@@ -140,7 +145,7 @@ class ContractAgreementApiControllerTest {
         when(transformerRegistry.transform(isA(ContractAgreement.class), eq(ContractAgreementDto.class)))
                 .thenReturn(Result.failure("failure"));
 
-        var allContractAgreements = controller.queryAllAgreements(QuerySpecDto.Builder.newInstance().build());
+        var allContractAgreements = content(controller.queryAllAgreements(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allContractAgreements).hasSize(0);
         verify(transformerRegistry).transform(contractAgreement, ContractAgreementDto.class);
@@ -208,5 +213,4 @@ class ContractAgreementApiControllerTest {
                 .policy(Policy.Builder.newInstance().build())
                 .build();
     }
-
 }
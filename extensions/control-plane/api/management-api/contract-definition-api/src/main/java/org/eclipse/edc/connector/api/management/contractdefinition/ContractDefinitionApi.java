@@ -22,6 +22,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.contractdefinition.model.ContractDefinitionCreateDto;
@@ -29,8 +30,6 @@ import org.eclipse.edc.connector.api.management.contractdefinition.model.Contrac
 import org.eclipse.edc.connector.api.management.contractdefinition.model.ContractDefinitionUpdateDto;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Contract Definition")
 public interface ContractDefinitionApi {
@@ -44,7 +43,7 @@ public interface ContractDefinitionApi {
             }, deprecated = true
     )
     @Deprecated
-    List<ContractDefinitionResponseDto> getAllContractDefinitions(@Valid QuerySpecDto querySpecDto);
+    Response getAllContractDefinitions(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Returns all contract definitions according to a query",
             responses = {
@@ -54,7 +53,7 @@ public interface ContractDefinitionApi {
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class))))
             }
     )
-    List<ContractDefinitionResponseDto> queryAllContractDefinitions(@Valid QuerySpecDto querySpecDto);
+    Response queryAllContractDefinitions(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an contract definition with the given ID",
             responses = {
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.api.management.contractdefinition;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.DELETE;
@@ -25,8 +26,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.contractdefinition.model.ContractDefinitionCreateDto;
 import org.eclipse.edc.connector.api.management.contractdefinition.model.ContractDefinitionResponseDto;
@@ -41,9 +44,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -55,24 +56,26 @@ public class ContractDefinitionApiController implements ContractDefinitionApi {
     private final Monitor monitor;
     private final ContractDefinitionService service;
     private final DtoTransformerRegistry transformerRegistry;
+    private final ObjectMapper mapper;
 
-    public ContractDefinitionApiController(Monitor monitor, ContractDefinitionService service, DtoTransformerRegistry transformerRegistry) {
+    public ContractDefinitionApiController(Monitor monitor, ContractDefinitionService service, DtoTransformerRegistry transformerRegistry, ObjectMapper mapper) {
         this.monitor = monitor;
         this.service = service;
         this.transformerRegistry = transformerRegistry;
+        this.mapper = mapper;
     }
 
     @GET
     @Override
     @Deprecated
-    public List<ContractDefinitionResponseDto> getAllContractDefinitions(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllContractDefinitions(@Valid @BeanParam QuerySpecDto querySpecDto) {
         return queryContractDefinitions(querySpecDto);
     }
 
     @POST
     @Path("/request")
     @Override
-    public List<ContractDefinitionResponseDto> queryAllContractDefinitions(QuerySpecDto querySpecDto) {
+    public Response queryAllContractDefinitions(QuerySpecDto querySpecDto) {
         return queryContractDefinitions(ofNullable(querySpecDto).orElse(QuerySpecDto.Builder.newInstance().build()));
     }
 
@@ -140,23 +143,27 @@ public class ContractDefinitionApiController implements ContractDefinitionApi {
     }
 
     @NotNull
-    private List<ContractDefinitionResponseDto> queryContractDefinitions(QuerySpecDto querySpecDto) {
+    private Response queryContractDefinitions(QuerySpecDto querySpecDto) {
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             throw new InvalidRequestException(result.getFailureMessages());
         }
 
-        var spec = result.getContent();
+        var spec = querySpecDto.isPaged() ? StreamingQueryResponse.pagedQuerySpec(result.getContent(), "id") : result.getContent();
 
         monitor.debug(format("get all contract definitions %s", spec));
 
-        try (var stream = service.query(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, ContractDefinitionResponseDto.class))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(Collectors.toList());
-        }
+        var contractDefinitions = service.query(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null));
+
+        return StreamingQueryResponse.Builder.<ContractDefinition>newInstance()
+                .stream(contractDefinitions)
+                .querySpec(result.getContent())
+                .mapper(mapper)
+                .transformer(it -> transformerRegistry.transform(it, ContractDefinitionResponseDto.class))
+                .id(ContractDefinition::getId)
+                .paged(querySpecDto.isPaged())
+                .build()
+                .toResponse();
 
 
     }
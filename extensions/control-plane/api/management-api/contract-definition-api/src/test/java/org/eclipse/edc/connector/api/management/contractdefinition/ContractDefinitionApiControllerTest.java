@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.api.management.contractdefinition;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
@@ -28,6 +29,7 @@ import org.eclipse.edc.spi.asset.AssetSelectorExpression;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectConflictException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
@@ -39,6 +41,8 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.content;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.json;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -51,13 +55,14 @@ import static org.mockito.Mockito.when;
 class ContractDefinitionApiControllerTest {
 
     private final DtoTransformerRegistry transformerRegistry = mock(DtoTransformerRegistry.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
     private final ContractDefinitionService service = mock(ContractDefinitionService.class);
     private ContractDefinitionApiController controller;
 
     @BeforeEach
     void setup() {
         var monitor = mock(Monitor.class);
-        controller = new ContractDefinitionApiController(monitor, service, transformerRegistry);
+        controller = new ContractDefinitionApiController(monitor, service, transformerRegistry, mapper);
     }
 
     @Test
@@ -70,9 +75,9 @@ class ContractDefinitionApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allContractDefinitions = controller.getAllContractDefinitions(querySpec);
+        var allContractDefinitions = content(controller.getAllContractDefinitions(querySpec));
 
-        assertThat(allContractDefinitions).hasSize(1).first().matches(d -> d.getId().equals(contractDefinition.getId()));
+        assertThat(allContractDefinitions).containsExactly(json(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(contractDefinition, ContractDefinitionResponseDto.class);
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
@@ -87,7 +92,7 @@ class ContractDefinitionApiControllerTest {
         when(transformerRegistry.transform(isA(ContractDefinition.class), eq(ContractDefinitionResponseDto.class)))
                 .thenReturn(Result.failure("failure"));
 
-        var allContractDefinitions = controller.getAllContractDefinitions(QuerySpecDto.Builder.newInstance().build());
+        var allContractDefinitions = content(controller.getAllContractDefinitions(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allContractDefinitions).isEmpty();
         verify(transformerRegistry).transform(contractDefinition, ContractDefinitionResponseDto.class);
@@ -111,9 +116,9 @@ class ContractDefinitionApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allContractDefinitions = controller.queryAllContractDefinitions(querySpec);
+        var allContractDefinitions = content(controller.queryAllContractDefinitions(querySpec));
 
-        assertThat(allContractDefinitions).hasSize(1).first().matches(d -> d.getId().equals(contractDefinition.getId()));
+        assertThat(allContractDefinitions).containsExactly(json(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(contractDefinition, ContractDefinitionResponseDto.class);
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
@@ -128,7 +133,7 @@ class ContractDefinitionApiControllerTest {
         when(transformerRegistry.transform(isA(ContractDefinition.class), eq(ContractDefinitionResponseDto.class)))
                 .thenReturn(Result.failure("failure"));
 
-        var allContractDefinitions = controller.queryAllContractDefinitions(QuerySpecDto.Builder.newInstance().build());
+        var allContractDefinitions = content(controller.queryAllContractDefinitions(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allContractDefinitions).hasSize(0);
         verify(transformerRegistry).transform(contractDefinition, ContractDefinitionResponseDto.class);
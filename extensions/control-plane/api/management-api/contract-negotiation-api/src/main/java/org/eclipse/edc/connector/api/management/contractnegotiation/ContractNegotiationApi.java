@@ -24,6 +24,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.ContractAgreementDto;
@@ -32,8 +33,6 @@ import org.eclipse.edc.connector.api.management.contractnegotiation.model.Negoti
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.NegotiationState;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Contract Negotiation")
 public interface ContractNegotiationApi {
@@ -47,7 +46,7 @@ public interface ContractNegotiationApi {
             deprecated = true
     )
     @Deprecated
-    List<ContractNegotiationDto> getNegotiations(@Valid QuerySpecDto querySpecDto);
+    Response getNegotiations(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Returns all contract negotiations according to a query",
             responses = {
@@ -56,7 +55,7 @@ public interface ContractNegotiationApi {
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))) }
     )
-    List<ContractNegotiationDto> queryNegotiations(@Valid QuerySpecDto querySpecDto);
+    Response queryNegotiations(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an contract negotiation with the given ID",
             responses = {
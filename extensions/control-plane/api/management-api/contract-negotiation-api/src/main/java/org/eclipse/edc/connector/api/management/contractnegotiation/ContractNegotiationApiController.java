@@ -16,6 +16,7 @@
 
 package org.eclipse.edc.connector.api.management.contractnegotiation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
@@ -25,8 +26,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.ContractAgreementDto;
 import org.eclipse.edc.connector.api.management.contractnegotiation.model.ContractNegotiationDto;
@@ -42,9 +45,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -58,24 +59,26 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
     private final Monitor monitor;
     private final ContractNegotiationService service;
     private final DtoTransformerRegistry transformerRegistry;
+    private final ObjectMapper mapper;
 
-    public ContractNegotiationApiController(Monitor monitor, ContractNegotiationService service, DtoTransformerRegistry transformerRegistry) {
+    public ContractNegotiationApiController(Monitor monitor, ContractNegotiationService service, DtoTransformerRegistry transformerRegistry, ObjectMapper mapper) {
         this.monitor = monitor;
         this.service = service;
         this.transformerRegistry = transformerRegistry;
+        this.mapper = mapper;
     }
 
     @GET
     @Override
     @Deprecated
-    public List<ContractNegotiationDto> getNegotiations(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getNegotiations(@Valid @BeanParam QuerySpecDto querySpecDto) {
         return queryContractNegotiations(querySpecDto);
     }
 
     @POST
     @Path("/request")
     @Override
-    public List<ContractNegotiationDto> queryNegotiations(@Valid QuerySpecDto querySpecDto) {
+    public Response queryNegotiations(@Valid QuerySpecDto querySpecDto) {
         return queryContractNegotiations(ofNullable(querySpecDto).orElse(QuerySpecDto.Builder.newInstance().build()));
     }
 
@@ -153,23 +156,27 @@ public class ContractNegotiationApiController implements ContractNegotiationApi
         monitor.debug(format("Contract negotiation declined %s", result.getId()));
     }
 
-    private List<ContractNegotiationDto> queryContractNegotiations(QuerySpecDto querySpecDto) {
+    private Response queryContractNegotiations(QuerySpecDto querySpecDto) {
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             throw new InvalidRequestException(result.getFailureMessages());
         }
 
-        var spec = result.getContent();
+        var spec = querySpecDto.isPaged() ? StreamingQueryResponse.pagedQuerySpec(result.getContent(), "id") : result.getContent();
 
         monitor.debug(format("Get all contract definitions %s", spec));
 
-        try (var stream = service.query(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, ContractNegotiationDto.class))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(Collectors.toList());
-        }
+        var negotiations = service.query(spec).orElseThrow(exceptionMapper(ContractDefinition.class, null));
+
+        return StreamingQueryResponse.Builder.<ContractNegotiation>newInstance()
+                .stream(negotiations)
+                .querySpec(result.getContent())
+                .mapper(mapper)
+                .transformer(it -> transformerRegistry.transform(it, ContractNegotiationDto.class))
+                .id(ContractNegotiation::getId)
+                .paged(querySpecDto.isPaged())
+                .build()
+                .toResponse();
     }
 
 }
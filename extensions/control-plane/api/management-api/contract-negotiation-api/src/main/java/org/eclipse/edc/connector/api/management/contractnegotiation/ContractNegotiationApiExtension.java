@@ -61,7 +61,7 @@ public class ContractNegotiationApiExtension implements ServiceExtension {
 
         var monitor = context.getMonitor();
 
-        var controller = new ContractNegotiationApiController(monitor, service, transformerRegistry);
+        var controller = new ContractNegotiationApiController(monitor, service, transformerRegistry, context.getTypeManager().getMapper());
         webService.registerResource(config.getContextAlias(), controller);
     }
 }
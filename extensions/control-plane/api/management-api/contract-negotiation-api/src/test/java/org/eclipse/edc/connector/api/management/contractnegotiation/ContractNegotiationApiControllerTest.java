@@ -16,6 +16,7 @@
 
 package org.eclipse.edc.connector.api.management.contractnegotiation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
@@ -32,6 +33,7 @@ import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectConflictException;
@@ -50,6 +52,8 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.content;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.json;
 import static org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates.CONSUMER_REQUESTED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -63,12 +67,13 @@ import static org.mockito.Mockito.when;
 class ContractNegotiationApiControllerTest {
     private final ContractNegotiationService service = mock(ContractNegotiationService.class);
     private final DtoTransformerRegistry transformerRegistry = mock(DtoTransformerRegistry.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
     private ContractNegotiationApiController controller;
 
     @BeforeEach
     void setup() {
         var monitor = mock(Monitor.class);
-        controller = new ContractNegotiationApiController(monitor, service, transformerRegistry);
+        controller = new ContractNegotiationApiController(monitor, service, transformerRegistry, mapper);
     }
 
     @Test
@@ -81,9 +86,9 @@ class ContractNegotiationApiControllerTest {
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var negotiations = controller.getNegotiations(querySpec);
+        var negotiations = content(controller.getNegotiations(querySpec));
 
-        assertThat(negotiations).hasSize(1).first().matches(d -> d.getId().equals(contractNegotiation.getId()));
+        assertThat(negotiations).containsExactly(json(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(contractNegotiation, ContractNegotiationDto.class);
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
@@ -98,7 +103,7 @@ class ContractNegotiationApiControllerTest {
         when(transformerRegistry.transform(isA(QuerySpecDto.class), eq(QuerySpec.class)))
                 .thenReturn(Result.success(QuerySpec.Builder.newInstance().offset(10).build()));
 
-        var negotiations = controller.getNegotiations(QuerySpecDto.Builder.newInstance().build());
+        var negotiations = content(controller.getNegotiations(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(negotiations).hasSize(0);
         verify(transformerRegistry).transform(contractNegotiation, ContractNegotiationDto.class);
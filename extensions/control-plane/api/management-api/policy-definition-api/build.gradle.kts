@@ -34,6 +34,7 @@ dependencies {
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":extensions:common:transaction:transaction-local"))
     testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":extensions:common:api:api-core")))
     testImplementation(libs.awaitility)
     testImplementation(libs.restAssured)
 }
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.api.management.policy;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
@@ -26,8 +27,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.policy.model.PolicyDefinitionRequestDto;
 import org.eclipse.edc.connector.api.management.policy.model.PolicyDefinitionResponseDto;
@@ -42,9 +45,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -58,24 +59,26 @@ public class PolicyDefinitionApiController implements PolicyDefinitionApi {
     private final Monitor monitor;
     private final PolicyDefinitionService policyDefinitionService;
     private final DtoTransformerRegistry transformerRegistry;
+    private final ObjectMapper mapper;
 
-    public PolicyDefinitionApiController(Monitor monitor, PolicyDefinitionService policyDefinitionService, DtoTransformerRegistry transformerRegistry) {
+    public PolicyDefinitionApiController(Monitor monitor, PolicyDefinitionService policyDefinitionService, DtoTransformerRegistry transformerRegistry, ObjectMapper mapper) {
         this.monitor = monitor;
         this.policyDefinitionService = policyDefinitionService;
         this.transformerRegistry = transformerRegistry;
+        this.mapper = mapper;
     }
 
     @POST
     @Path("/request")
     @Override
-    public List<PolicyDefinitionResponseDto> queryAllPolicies(@Valid QuerySpecDto querySpecDto) {
+    public Response queryAllPolicies(@Valid QuerySpecDto querySpecDto) {
         return queryPolicies(ofNullable(querySpecDto).orElse(QuerySpecDto.Builder.newInstance().build()));
     }
 
     @GET
     @Override
     @Deprecated
-    public List<PolicyDefinitionResponseDto> getAllPolicies(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllPolicies(@Valid @BeanParam QuerySpecDto querySpecDto) {
         return queryPolicies(querySpecDto);
     }
 
@@ -138,23 +141,27 @@ public class PolicyDefinitionApiController implements PolicyDefinitionApi {
                 .orElseThrow(exceptionMapper(PolicyDefinition.class, policyId));
     }
 
-    private List<PolicyDefinitionResponseDto> queryPolicies(QuerySpecDto querySpecDto) {
+    private Response queryPolicies(QuerySpecDto querySpecDto) {
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             throw new InvalidRequestException(result.getFailureMessages());
         }
 
-        var spec = result.getContent();
+        var spec = querySpecDto.isPaged() ? StreamingQueryResponse.pagedQuerySpec(result.getContent(), "id") : result.getContent();
 
         monitor.debug(format("get all policies %s", spec));
 
-        try (var stream = policyDefinitionService.query(spec).orElseThrow(exceptionMapper(PolicyDefinition.class, null))) {
-            return stream
-                    .map(it -> transformerRegistry.transform(it, PolicyDefinitionResponseDto.class))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(Collectors.toList());
-        }
+        var policyDefinitions = policyDefinitionService.query(spec).orElseThrow(exceptionMapper(PolicyDefinition.class, null));
+
+        return StreamingQueryResponse.Builder.<PolicyDefinition>newInstance()
+                .stream(policyDefinitions)
+                .querySpec(result.getContent())
+                .mapper(mapper)
+                .transformer(it -> transformerRegistry.transform(it, PolicyDefinitionResponseDto.class))
+                .id(PolicyDefinition::getUid)
+                .paged(querySpecDto.isPaged())
+                .build()
+                .toResponse();
     }
 
 }
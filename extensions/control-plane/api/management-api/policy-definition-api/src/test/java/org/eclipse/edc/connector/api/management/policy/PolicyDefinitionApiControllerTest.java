@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.api.management.policy;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
@@ -28,6 +29,7 @@ import org.eclipse.edc.service.spi.result.ServiceResult;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectConflictException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
@@ -39,6 +41,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.content;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -52,12 +55,13 @@ class PolicyDefinitionApiControllerTest {
 
     private final PolicyDefinitionService service = mock(PolicyDefinitionService.class);
     private final DtoTransformerRegistry transformerRegistry = mock(DtoTransformerRegistry.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
     private PolicyDefinitionApiController controller;
 
     @BeforeEach
     void setup() {
         var monitor = mock(Monitor.class);
-        controller = new PolicyDefinitionApiController(monitor, service, transformerRegistry);
+        controller = new PolicyDefinitionApiController(monitor, service, transformerRegistry, mapper);
     }
 
     @Test
@@ -99,7 +103,7 @@ class PolicyDefinitionApiControllerTest {
                 .thenReturn(Result.success(responseDto));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allPolicies = controller.getAllPolicies(querySpec);
+        var allPolicies = content(controller.getAllPolicies(querySpec));
 
         assertThat(allPolicies).hasSize(1);
         verify(service).query(argThat(s -> s.getOffset() == 10));
@@ -116,7 +120,7 @@ class PolicyDefinitionApiControllerTest {
         when(transformerRegistry.transform(isA(PolicyDefinition.class), eq(PolicyDefinitionResponseDto.class)))
                 .thenReturn(Result.failure("failure"));
 
-        var allPolicyDefinitions = controller.getAllPolicies(QuerySpecDto.Builder.newInstance().build());
+        var allPolicyDefinitions = content(controller.getAllPolicies(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allPolicyDefinitions).hasSize(0);
         verify(transformerRegistry).transform(policyDefinition, PolicyDefinitionResponseDto.class);
@@ -140,7 +144,7 @@ class PolicyDefinitionApiControllerTest {
                 .thenReturn(Result.success(responseDto));
         var querySpec = QuerySpecDto.Builder.newInstance().build();
 
-        var allPolicies = controller.queryAllPolicies(querySpec);
+        var allPolicies = content(controller.queryAllPolicies(querySpec));
 
         assertThat(allPolicies).hasSize(1);
         verify(service).query(argThat(s -> s.getOffset() == 10));
@@ -157,7 +161,7 @@ class PolicyDefinitionApiControllerTest {
         when(transformerRegistry.transform(isA(PolicyDefinition.class), eq(PolicyDefinitionResponseDto.class)))
                 .thenReturn(Result.failure("failure"));
 
-        var allPolicyDefinitions = controller.queryAllPolicies(QuerySpecDto.Builder.newInstance().build());
+        var allPolicyDefinitions = content(controller.queryAllPolicies(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(allPolicyDefinitions).hasSize(0);
         verify(transformerRegistry).transform(policyDefinition, PolicyDefinitionResponseDto.class);
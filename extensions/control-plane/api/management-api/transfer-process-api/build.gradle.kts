@@ -29,6 +29,7 @@ dependencies {
     testImplementation(project(":core:control-plane:control-plane-core"))
     testImplementation(project(":extensions:common:http"))
     testImplementation(project(":core:common:junit"))
+    testImplementation(testFixtures(project(":extensions:common:api:api-core")))
 
     testImplementation(libs.restAssured)
     testImplementation(libs.awaitility)
@@ -24,6 +24,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
@@ -32,8 +33,6 @@ import org.eclipse.edc.connector.api.management.transferprocess.model.TransferRe
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferState;
 import org.eclipse.edc.web.spi.ApiErrorDetail;
 
-import java.util.List;
-
 @OpenAPIDefinition
 @Tag(name = "Transfer Process")
 public interface TransferProcessApi {
@@ -44,7 +43,7 @@ public interface TransferProcessApi {
                     @ApiResponse(responseCode = "400", description = "Request was malformed",
                             content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiErrorDetail.class)))) }
     )
-    List<TransferProcessDto> queryAllTransferProcesses(@Valid QuerySpecDto querySpecDto);
+    Response queryAllTransferProcesses(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Returns all transfer process according to a query",
             responses = {
@@ -55,7 +54,7 @@ public interface TransferProcessApi {
             deprecated = true
     )
     @Deprecated(since = "milestone8")
-    List<TransferProcessDto> getAllTransferProcesses(@Valid QuerySpecDto querySpecDto);
+    Response getAllTransferProcesses(@Valid QuerySpecDto querySpecDto);
 
     @Operation(description = "Gets an transfer process with the given ID",
             responses = {
@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.api.management.transferprocess;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.Consumes;
@@ -24,8 +25,10 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
+import org.eclipse.edc.api.query.StreamingQueryResponse;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TerminateTransferDto;
 import org.eclipse.edc.connector.api.management.transferprocess.model.TransferProcessDto;
@@ -41,9 +44,7 @@ import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectNotFoundException;
 
 import java.time.Clock;
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
@@ -56,24 +57,26 @@ public class TransferProcessApiController implements TransferProcessApi {
     private final Monitor monitor;
     private final TransferProcessService service;
     private final DtoTransformerRegistry transformerRegistry;
+    private final ObjectMapper mapper;
 
-    public TransferProcessApiController(Monitor monitor, TransferProcessService service, DtoTransformerRegistry transformerRegistry) {
+    public TransferProcessApiController(Monitor monitor, TransferProcessService service, DtoTransformerRegistry transformerRegistry, ObjectMapper mapper) {
         this.monitor = monitor;
         this.service = service;
         this.transformerRegistry = transformerRegistry;
+        this.mapper = mapper;
     }
 
     @POST
     @Path("/request")
     @Override
-    public List<TransferProcessDto> queryAllTransferProcesses(@Valid QuerySpecDto querySpecDto) {
+    public Response queryAllTransferProcesses(@Valid QuerySpecDto querySpecDto) {
         return queryTransferProcesses(ofNullable(querySpecDto).orElse(QuerySpecDto.Builder.newInstance().build()));
     }
 
     @GET
     @Deprecated
     @Override
-    public List<TransferProcessDto> getAllTransferProcesses(@Valid @BeanParam QuerySpecDto querySpecDto) {
+    public Response getAllTransferProcesses(@Valid @BeanParam QuerySpecDto querySpecDto) {
         return queryTransferProcesses(querySpecDto);
     }
 
@@ -144,21 +147,25 @@ public class TransferProcessApiController implements TransferProcessApi {
                 .build();
     }
 
-    private List<TransferProcessDto> queryTransferProcesses(QuerySpecDto querySpecDto) {
+    private Response queryTransferProcesses(QuerySpecDto querySpecDto) {
         var result = transformerRegistry.transform(querySpecDto, QuerySpec.class);
         if (result.failed()) {
             throw new InvalidRequestException(result.getFailureMessages());
         }
 
-        var spec = result.getContent();
+        var spec = querySpecDto.isPaged() ? StreamingQueryResponse.pagedQuerySpec(result.getContent(), "id") : result.getContent();
 
-        try (var stream = service.query(spec).orElseThrow(exceptionMapper(TransferProcess.class, null))) {
-            return stream
-                    .map(tp -> transformerRegistry.transform(tp, TransferProcessDto.class))
-                    .filter(Result::succeeded)
-                    .map(Result::getContent)
-                    .collect(Collectors.toList());
-        }
+        var transferProcesses = service.query(spec).orElseThrow(exceptionMapper(TransferProcess.class, null));
+
+        return StreamingQueryResponse.Builder.<TransferProcess>newInstance()
+                .stream(transferProcesses)
+                .querySpec(result.getContent())
+                .mapper(mapper)
+                .transformer(it -> transformerRegistry.transform(it, TransferProcessDto.class))
+                .id(TransferProcess::getId)
+                .paged(querySpecDto.isPaged())
+                .build()
+                .toResponse();
     }
 
 
@@ -48,7 +48,7 @@ public class TransferProcessApiExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var controller = new TransferProcessApiController(context.getMonitor(), service, transformerRegistry);
+        var controller = new TransferProcessApiController(context.getMonitor(), service, transformerRegistry, context.getTypeManager().getMapper());
         webService.registerResource(configuration.getContextAlias(), controller);
 
         transformerRegistry.register(new DataRequestToDataRequestDtoTransformer());
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.api.management.transferprocess;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.api.model.IdResponseDto;
 import org.eclipse.edc.api.query.QuerySpecDto;
 import org.eclipse.edc.api.transformer.DtoTransformerRegistry;
@@ -28,6 +29,7 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.InvalidRequestException;
 import org.eclipse.edc.web.spi.exception.ObjectConflictException;
@@ -47,6 +49,8 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.content;
+import static org.eclipse.edc.api.query.StreamingQueryResponseTestFunctions.json;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -58,12 +62,13 @@ import static org.mockito.Mockito.when;
 class TransferProcessApiControllerTest {
     private final TransferProcessService service = mock(TransferProcessService.class);
     private final DtoTransformerRegistry transformerRegistry = mock(DtoTransformerRegistry.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
     private TransferProcessApiController controller;
 
     @BeforeEach
     void setup() {
         var monitor = mock(Monitor.class);
-        controller = new TransferProcessApiController(monitor, service, transformerRegistry);
+        controller = new TransferProcessApiController(monitor, service, transformerRegistry, mapper);
     }
 
     @Test
@@ -76,9 +81,9 @@ class TransferProcessApiControllerTest {
         var querySpec = QuerySpecDto.Builder.newInstance().build();
         when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
 
-        var transferProcesses = controller.getAllTransferProcesses(querySpec);
+        var transferProcesses = content(controller.getAllTransferProcesses(querySpec));
 
-        assertThat(transferProcesses).containsExactly(dto);
+        assertThat(transferProcesses).containsExactly(json(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
@@ -91,7 +96,7 @@ class TransferProcessApiControllerTest {
         when(transformerRegistry.transform(isA(TransferProcess.class), eq(TransferProcessDto.class))).thenReturn(Result.failure("failure"));
         when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
 
-        var transferProcesses = controller.getAllTransferProcesses(QuerySpecDto.Builder.newInstance().build());
+        var transferProcesses = content(controller.getAllTransferProcesses(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(transferProcesses).isEmpty();
     }
@@ -114,9 +119,9 @@ class TransferProcessApiControllerTest {
         var querySpec = QuerySpecDto.Builder.newInstance().build();
         when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
 
-        var transferProcesses = controller.queryAllTransferProcesses(querySpec);
+        var transferProcesses = content(controller.queryAllTransferProcesses(querySpec));
 
-        assertThat(transferProcesses).containsExactly(dto);
+        assertThat(transferProcesses).containsExactly(json(dto));
         verify(service).query(argThat(s -> s.getOffset() == 10));
         verify(transformerRegistry).transform(isA(QuerySpecDto.class), eq(QuerySpec.class));
     }
@@ -129,7 +134,7 @@ class TransferProcessApiControllerTest {
         when(transformerRegistry.transform(isA(TransferProcess.class), eq(TransferProcessDto.class))).thenReturn(Result.failure("failure"));
         when(service.query(any())).thenReturn(ServiceResult.success(Stream.of(transferProcess)));
 
-        var transferProcesses = controller.queryAllTransferProcesses(QuerySpecDto.Builder.newInstance().build());
+        var transferProcesses = content(controller.queryAllTransferProcesses(QuerySpecDto.Builder.newInstance().build()));
 
         assertThat(transferProcesses).isEmpty();
     }
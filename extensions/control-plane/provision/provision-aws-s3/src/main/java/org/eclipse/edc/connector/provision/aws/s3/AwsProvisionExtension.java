@@ -25,11 +25,15 @@ import org.eclipse.edc.connector.transfer.spi.status.StatusCheckerRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
+import software.amazon.awssdk.regions.Region;
+
+import static java.lang.String.format;
 
 /**
  * Provides data transfer {@link Provisioner}s backed by AWS services.
@@ -42,6 +46,12 @@ public class AwsProvisionExtension implements ServiceExtension {
     private static final String PROVISION_MAX_RETRY = "edc.aws.provision.retry.retries.max";
     @Setting
     private static final String PROVISION_MAX_ROLE_SESSION_DURATION = "edc.aws.provision.role.duration.session.max";
+    @Setting(value = "If valued, transfers are provisioned as a key prefix in this pre-existing bucket instead of a bucket of their own")
+    private static final String PROVISION_SHARED_BUCKET = "edc.aws.provision.shared.bucket";
+    @Setting(value = "The region of the shared bucket")
+    private static final String PROVISION_SHARED_BUCKET_REGION = "edc.aws.provision.shared.region";
+    @Setting(value = "The ARN of the long-lived role that is assumed, restricted to the key prefix of a transfer, to access the shared bucket")
+    private static final String PROVISION_SHARED_ROLE_ARN = "edc.aws.provision.shared.role.arn";
     @Inject
     private Vault vault;
     @Inject
@@ -67,7 +77,18 @@ public class AwsProvisionExtension implements ServiceExtension {
 
         int maxRetries = context.getSetting(PROVISION_MAX_RETRY, 10);
         int roleMaxSessionDuration = context.getSetting(PROVISION_MAX_ROLE_SESSION_DURATION, 3600);
-        var provisionerConfiguration = new S3BucketProvisionerConfiguration(maxRetries, roleMaxSessionDuration);
+        var sharedBucket = context.getSetting(PROVISION_SHARED_BUCKET, null);
+        S3BucketProvisionerConfiguration provisionerConfiguration;
+        if (sharedBucket != null) {
+            var sharedBucketRegion = context.getSetting(PROVISION_SHARED_BUCKET_REGION, Region.US_EAST_1.id());
+            var sharedRoleArn = context.getSetting(PROVISION_SHARED_ROLE_ARN, null);
+            if (sharedRoleArn == null) {
+                throw new EdcException(format("%s is mandatory when %s is set", PROVISION_SHARED_ROLE_ARN, PROVISION_SHARED_BUCKET));
+            }
+            provisionerConfiguration = new S3BucketProvisionerConfiguration(maxRetries, roleMaxSessionDuration, sharedBucket, sharedBucketRegion, sharedRoleArn);
+        } else {
+            provisionerConfiguration = new S3BucketProvisionerConfiguration(maxRetries, roleMaxSessionDuration);
+        }
         var s3BucketProvisioner = new S3BucketProvisioner(clientProvider, monitor, retryPolicy, provisionerConfiguration);
         provisionManager.register(s3BucketProvisioner);
 
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.provision.aws.s3;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import org.eclipse.edc.aws.s3.AwsClientProvider;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Resolves the ARN of the IAM user the connector runs as. The identity does not change during the lifetime of the
+ * runtime, so it is looked up once and shared by all provisioning operations. A failed lookup is not cached.
+ */
+class CallerIdentityCache {
+
+    private final AwsClientProvider clientProvider;
+    private final RetryPolicy<Object> retryPolicy;
+    private final Monitor monitor;
+    private final AtomicReference<CompletableFuture<String>> userArn = new AtomicReference<>();
+
+    CallerIdentityCache(AwsClientProvider clientProvider, RetryPolicy<Object> retryPolicy, Monitor monitor) {
+        this.clientProvider = clientProvider;
+        this.retryPolicy = retryPolicy;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the ARN of the caller.
+     */
+    CompletableFuture<String> userArn() {
+        var cached = userArn.get();
+        if (cached != null && !cached.isCompletedExceptionally()) {
+            return cached;
+        }
+
+        var lookup = new CompletableFuture<String>();
+        if (!userArn.compareAndSet(cached, lookup)) {
+            return userArn();
+        }
+
+        Failsafe.with(retryPolicy)
+                .getStageAsync(() -> {
+                    monitor.debug("S3ProvisionPipeline: get user");
+                    return clientProvider.iamAsyncClient().getUser();
+                })
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        lookup.completeExceptionally(throwable);
+                    } else {
+                        lookup.complete(response.user().arn());
+                    }
+                });
+        return lookup;
+    }
+}
@@ -22,11 +22,13 @@ import org.eclipse.edc.aws.s3.S3BucketSchema;
 import org.eclipse.edc.connector.transfer.spi.types.ProvisionedDataDestinationResource;
 
 import static org.eclipse.edc.aws.s3.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.S3BucketSchema.KEY_PREFIX;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.REGION;
 
 
 /**
- * A provisioned S3 bucket and credentials associated with a transfer process.
+ * A provisioned S3 bucket and credentials associated with a transfer process. If a key prefix is set, the transfer
+ * process got a prefix in a shared bucket rather than a bucket of its own.
  */
 @JsonDeserialize(builder = S3BucketProvisionedResource.Builder.class)
 @JsonTypeName("dataspaceconnector:s3bucketprovisionedresource")
@@ -41,6 +43,10 @@ public class S3BucketProvisionedResource extends ProvisionedDataDestinationResou
         return getDataAddress().getProperty(BUCKET_NAME);
     }
 
+    public String getKeyPrefix() {
+        return getDataAddress().getProperty(KEY_PREFIX);
+    }
+
     @Override
     public String getResourceName() {
         return dataAddress.getProperty(BUCKET_NAME);
@@ -56,6 +62,8 @@ public class S3BucketProvisionedResource extends ProvisionedDataDestinationResou
 
     @JsonPOJOBuilder(withPrefix = "")
     public static class Builder extends ProvisionedDataDestinationResource.Builder<S3BucketProvisionedResource, Builder> {
+        private String bucketName;
+        private String keyPrefix;
 
         private Builder() {
             super(new S3BucketProvisionedResource());
@@ -73,8 +81,18 @@ public class S3BucketProvisionedResource extends ProvisionedDataDestinationResou
         }
 
         public Builder bucketName(String bucketName) {
+            this.bucketName = bucketName;
             dataAddressBuilder.property(BUCKET_NAME, bucketName);
-            dataAddressBuilder.keyName("s3-temp-" + bucketName);
+            dataAddressBuilder.keyName(keyName());
+            return this;
+        }
+
+        public Builder keyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+            if (keyPrefix != null) {
+                dataAddressBuilder.property(KEY_PREFIX, keyPrefix);
+                dataAddressBuilder.keyName(keyName());
+            }
             return this;
         }
 
@@ -82,6 +100,18 @@ public class S3BucketProvisionedResource extends ProvisionedDataDestinationResou
             provisionedResource.role = arn;
             return this;
         }
+
+        /**
+         * The key name must be unique per transfer process, as it is also the name of the secret that holds the
+         * temporary credentials. A shared bucket is therefore not sufficient to tell transfer processes apart.
+         */
+        private String keyName() {
+            var keyName = "s3-temp-" + bucketName;
+            if (keyPrefix != null) {
+                keyName += "-" + keyPrefix.replace("/", "");
+            }
+            return keyName;
+        }
     }
 
 }
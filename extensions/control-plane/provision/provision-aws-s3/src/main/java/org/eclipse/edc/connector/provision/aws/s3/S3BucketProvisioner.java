@@ -32,7 +32,8 @@ import software.amazon.awssdk.services.sts.model.Credentials;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * Asynchronously provisions S3 buckets.
+ * Asynchronously provisions S3 buckets. If a shared bucket is configured, a key prefix in that bucket is provisioned
+ * instead of a bucket per transfer process.
  */
 public class S3BucketProvisioner implements Provisioner<S3BucketResourceDefinition, S3BucketProvisionedResource> {
 
@@ -40,6 +41,7 @@ public class S3BucketProvisioner implements Provisioner<S3BucketResourceDefiniti
     private final Monitor monitor;
     private final RetryPolicy<Object> retryPolicy;
     private final S3BucketProvisionerConfiguration configuration;
+    private final CallerIdentityCache callerIdentity;
 
     public S3BucketProvisioner(AwsClientProvider clientProvider, Monitor monitor, RetryPolicy<Object> retryPolicy, S3BucketProvisionerConfiguration configuration) {
         this.clientProvider = clientProvider;
@@ -49,6 +51,7 @@ public class S3BucketProvisioner implements Provisioner<S3BucketResourceDefiniti
                 .withMaxRetries(configuration.getMaxRetries())
                 .handle(AwsServiceException.class)
                 .build();
+        this.callerIdentity = new CallerIdentityCache(clientProvider, this.retryPolicy, monitor);
     }
 
     @Override
@@ -63,9 +66,22 @@ public class S3BucketProvisioner implements Provisioner<S3BucketResourceDefiniti
 
     @Override
     public CompletableFuture<StatusResult<ProvisionResponse>> provision(S3BucketResourceDefinition resourceDefinition, Policy policy) {
+        if (configuration.isSharedBucket()) {
+            return S3SharedBucketProvisionPipeline.Builder.newInstance(retryPolicy)
+                    .clientProvider(clientProvider)
+                    .bucketName(configuration.getSharedBucketName())
+                    .region(configuration.getSharedBucketRegion())
+                    .roleArn(configuration.getSharedRoleArn())
+                    .monitor(monitor)
+                    .build()
+                    .provision(resourceDefinition)
+                    .thenApply(credentials -> sharedBucketProvisionSucceeded(resourceDefinition, credentials));
+        }
+
         return S3ProvisionPipeline.Builder.newInstance(retryPolicy)
                 .clientProvider(clientProvider)
                 .roleMaxSessionDuration(configuration.getRoleMaxSessionDuration())
+                .callerIdentity(callerIdentity)
                 .monitor(monitor)
                 .build()
                 .provision(resourceDefinition)
@@ -94,13 +110,34 @@ public class S3BucketProvisioner implements Provisioner<S3BucketResourceDefiniti
                 .resourceName(resourceDefinition.getBucketName())
                 .build();
 
-        var secretToken = new AwsTemporarySecretToken(credentials.accessKeyId(), credentials.secretAccessKey(), credentials.sessionToken(), credentials.expiration().toEpochMilli());
-
         monitor.debug("S3BucketProvisioner: Bucket request submitted: " + resourceDefinition.getBucketName());
-        var response = ProvisionResponse.Builder.newInstance().resource(resource).secretToken(secretToken).build();
+        var response = ProvisionResponse.Builder.newInstance().resource(resource).secretToken(secretToken(credentials)).build();
         return StatusResult.success(response);
     }
 
+    private StatusResult<ProvisionResponse> sharedBucketProvisionSucceeded(S3BucketResourceDefinition resourceDefinition, Credentials credentials) {
+        var bucketName = configuration.getSharedBucketName();
+        var keyPrefix = S3SharedBucketProvisionPipeline.keyPrefix(resourceDefinition);
+        var resource = S3BucketProvisionedResource.Builder.newInstance()
+                .id(bucketName + "/" + keyPrefix)
+                .resourceDefinitionId(resourceDefinition.getId())
+                .hasToken(true)
+                .region(configuration.getSharedBucketRegion())
+                .bucketName(bucketName)
+                .keyPrefix(keyPrefix)
+                .transferProcessId(resourceDefinition.getTransferProcessId())
+                .resourceName(bucketName + "/" + keyPrefix)
+                .build();
+
+        monitor.debug("S3BucketProvisioner: Prefix provisioned: " + keyPrefix + " in bucket " + bucketName);
+        var response = ProvisionResponse.Builder.newInstance().resource(resource).secretToken(secretToken(credentials)).build();
+        return StatusResult.success(response);
+    }
+
+    private AwsTemporarySecretToken secretToken(Credentials credentials) {
+        return new AwsTemporarySecretToken(credentials.accessKeyId(), credentials.secretAccessKey(), credentials.sessionToken(), credentials.expiration().toEpochMilli());
+    }
+
 }
 
 
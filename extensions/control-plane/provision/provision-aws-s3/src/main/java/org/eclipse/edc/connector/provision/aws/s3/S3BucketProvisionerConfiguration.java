@@ -18,10 +18,24 @@ public class S3BucketProvisionerConfiguration {
 
     private final int maxRetries;
     private final int roleMaxSessionDuration;
+    private final String sharedBucketName;
+    private final String sharedBucketRegion;
+    private final String sharedRoleArn;
 
     public S3BucketProvisionerConfiguration(int maxRetries, int roleMaxSessionDuration) {
+        this(maxRetries, roleMaxSessionDuration, null, null, null);
+    }
+
+    /**
+     * Configuration for provisioning into a pre-existing, shared bucket: every transfer gets its own key prefix in that
+     * bucket and credentials of a session of the given role, restricted to that prefix.
+     */
+    public S3BucketProvisionerConfiguration(int maxRetries, int roleMaxSessionDuration, String sharedBucketName, String sharedBucketRegion, String sharedRoleArn) {
         this.maxRetries = maxRetries;
         this.roleMaxSessionDuration = roleMaxSessionDuration;
+        this.sharedBucketName = sharedBucketName;
+        this.sharedBucketRegion = sharedBucketRegion;
+        this.sharedRoleArn = sharedRoleArn;
     }
 
     public int getMaxRetries() {
@@ -32,4 +46,20 @@ public class S3BucketProvisionerConfiguration {
         return roleMaxSessionDuration;
     }
 
+    public String getSharedBucketName() {
+        return sharedBucketName;
+    }
+
+    public String getSharedBucketRegion() {
+        return sharedBucketRegion;
+    }
+
+    public String getSharedRoleArn() {
+        return sharedRoleArn;
+    }
+
+    public boolean isSharedBucket() {
+        return sharedBucketName != null;
+    }
+
 }
@@ -53,9 +53,14 @@ public class S3DeprovisionPipeline {
     }
 
     /**
-     * Performs a non-blocking deprovisioning operation.
+     * Performs a non-blocking deprovisioning operation. For a key prefix in a shared bucket, only the objects under that
+     * prefix are deleted, the bucket and the role are left untouched.
      */
     public CompletableFuture<?> deprovision(S3BucketProvisionedResource resource) {
+        if (resource.getKeyPrefix() != null) {
+            return deprovisionPrefix(resource);
+        }
+
         var s3Client = clientProvider.s3AsyncClient(resource.getRegion());
         var iamClient = clientProvider.iamAsyncClient();
 
@@ -72,6 +77,30 @@ public class S3DeprovisionPipeline {
                 .thenApply(response -> DeprovisionedResource.Builder.newInstance().provisionedResourceId(resource.getId()).build());
     }
 
+    private CompletableFuture<?> deprovisionPrefix(S3BucketProvisionedResource resource) {
+        var s3Client = clientProvider.s3AsyncClient(resource.getRegion());
+        monitor.debug("S3DeprovisionPipeline: list objects with prefix " + resource.getKeyPrefix());
+        return deletePrefix(s3Client, resource.getBucketName(), resource.getKeyPrefix(), null)
+                .thenApply(response -> DeprovisionedResource.Builder.newInstance().provisionedResourceId(resource.getId()).build());
+    }
+
+    /**
+     * Deletes the objects under the prefix one listing page at a time, following the continuation token until the
+     * listing is no longer truncated.
+     */
+    private CompletableFuture<Void> deletePrefix(S3AsyncClient s3Client, String bucketName, String prefix, String continuationToken) {
+        var listObjectsRequest = ListObjectsV2Request.builder().bucket(bucketName).prefix(prefix).continuationToken(continuationToken).build();
+        return s3Client.listObjectsV2(listObjectsRequest)
+                .thenCompose(listObjectsResponse -> {
+                    var deleted = listObjectsResponse.contents().isEmpty()
+                            ? CompletableFuture.<DeleteObjectsResponse>completedFuture(null)
+                            : deleteObjects(s3Client, bucketName, listObjectsResponse);
+                    return deleted.thenCompose(response -> Boolean.TRUE.equals(listObjectsResponse.isTruncated())
+                            ? deletePrefix(s3Client, bucketName, prefix, listObjectsResponse.nextContinuationToken())
+                            : CompletableFuture.<Void>completedFuture(null));
+                });
+    }
+
     private CompletableFuture<DeleteRoleResponse> deleteRole(IamAsyncClient iamClient, String role) {
         return Failsafe.with(retryPolicy).getStageAsync(() -> {
             monitor.debug("S3DeprovisionPipeline: delete role");
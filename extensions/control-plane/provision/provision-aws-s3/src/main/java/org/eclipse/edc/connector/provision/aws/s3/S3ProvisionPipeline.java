@@ -21,7 +21,6 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import software.amazon.awssdk.services.iam.IamAsyncClient;
 import software.amazon.awssdk.services.iam.model.CreateRoleRequest;
 import software.amazon.awssdk.services.iam.model.CreateRoleResponse;
-import software.amazon.awssdk.services.iam.model.GetUserResponse;
 import software.amazon.awssdk.services.iam.model.PutRolePolicyRequest;
 import software.amazon.awssdk.services.iam.model.Role;
 import software.amazon.awssdk.services.iam.model.Tag;
@@ -67,13 +66,15 @@ public class S3ProvisionPipeline {
     private final AwsClientProvider clientProvider;
     private final Monitor monitor;
     private final int roleMaxSessionDuration;
+    private final CallerIdentityCache callerIdentity;
 
     private S3ProvisionPipeline(RetryPolicy<Object> retryPolicy, AwsClientProvider clientProvider,
-                                Monitor monitor, int roleMaxSessionDuration) {
+                                Monitor monitor, int roleMaxSessionDuration, CallerIdentityCache callerIdentity) {
         this.retryPolicy = retryPolicy;
         this.clientProvider = clientProvider;
         this.monitor = monitor;
         this.roleMaxSessionDuration = roleMaxSessionDuration;
+        this.callerIdentity = callerIdentity;
     }
 
     /**
@@ -91,8 +92,8 @@ public class S3ProvisionPipeline {
 
         monitor.debug("S3ProvisionPipeline: create bucket " + resourceDefinition.getBucketName());
         return s3AsyncClient.createBucket(request)
-                .thenCompose(r -> getUser(iamClient))
-                .thenCompose(response -> createRole(iamClient, resourceDefinition, response))
+                .thenCompose(r -> callerIdentity.userArn())
+                .thenCompose(userArn -> createRole(iamClient, resourceDefinition, userArn))
                 .thenCompose(response -> createRolePolicy(iamClient, resourceDefinition, response))
                 .thenCompose(role -> assumeRole(stsClient, role));
     }
@@ -112,9 +113,8 @@ public class S3ProvisionPipeline {
         });
     }
 
-    private CompletableFuture<CreateRoleResponse> createRole(IamAsyncClient iamClient, S3BucketResourceDefinition resourceDefinition, GetUserResponse response) {
+    private CompletableFuture<CreateRoleResponse> createRole(IamAsyncClient iamClient, S3BucketResourceDefinition resourceDefinition, String userArn) {
         return Failsafe.with(retryPolicy).getStageAsync(() -> {
-            String userArn = response.user().arn();
             Tag tag = Tag.builder().key("dataspaceconnector:process").value(resourceDefinition.getTransferProcessId()).build();
 
             monitor.debug("S3ProvisionPipeline: create role for user" + userArn);
@@ -129,13 +129,6 @@ public class S3ProvisionPipeline {
         });
     }
 
-    private CompletableFuture<GetUserResponse> getUser(IamAsyncClient iamAsyncClient) {
-        return Failsafe.with(retryPolicy).getStageAsync(() -> {
-            monitor.debug("S3ProvisionPipeline: get user");
-            return iamAsyncClient.getUser();
-        });
-    }
-
     private CompletableFuture<S3ProvisionResponse> assumeRole(StsAsyncClient stsClient, Role role) {
         return Failsafe.with(retryPolicy).getStageAsync(() -> {
             monitor.debug("S3ProvisionPipeline: attempting to assume the role");
@@ -155,6 +148,7 @@ public class S3ProvisionPipeline {
         private int roleMaxSessionDuration;
         private Monitor monitor;
         private AwsClientProvider clientProvider;
+        private CallerIdentityCache callerIdentity;
 
         private Builder(RetryPolicy<Object> retryPolicy) {
             this.retryPolicy = retryPolicy;
@@ -179,11 +173,19 @@ public class S3ProvisionPipeline {
             return this;
         }
 
+        public Builder callerIdentity(CallerIdentityCache callerIdentity) {
+            this.callerIdentity = callerIdentity;
+            return this;
+        }
+
         public S3ProvisionPipeline build() {
             Objects.requireNonNull(retryPolicy);
             Objects.requireNonNull(clientProvider);
             Objects.requireNonNull(monitor);
-            return new S3ProvisionPipeline(retryPolicy, clientProvider, monitor, roleMaxSessionDuration);
+            if (callerIdentity == null) {
+                callerIdentity = new CallerIdentityCache(clientProvider, retryPolicy, monitor);
+            }
+            return new S3ProvisionPipeline(retryPolicy, clientProvider, monitor, roleMaxSessionDuration, callerIdentity);
         }
     }
 
@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.provision.aws.s3;
+
+import dev.failsafe.Failsafe;
+import dev.failsafe.RetryPolicy;
+import org.eclipse.edc.aws.s3.AwsClientProvider;
+import org.eclipse.edc.spi.monitor.Monitor;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
+import software.amazon.awssdk.services.sts.model.Credentials;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static java.lang.String.format;
+
+/**
+ * Provisions a key prefix in a pre-existing bucket. Instead of creating a bucket and a role per transfer process, a
+ * long-lived role is assumed with an inline session policy that only grants access to the prefix of the transfer
+ * process. No IAM resources are created, so provisioning is not subject to IAM eventual consistency or to the limit of
+ * roles per account.
+ */
+public class S3SharedBucketProvisionPipeline {
+
+    // Do not modify this session policy, the effective permissions are the intersection with the role policy
+    private static final String SESSION_POLICY = "{" +
+            "    \"Version\": \"2012-10-17\"," +
+            "    \"Statement\": [" +
+            "        {" +
+            "            \"Sid\": \"TemporaryAccess\", " +
+            "            \"Effect\": \"Allow\"," +
+            "            \"Action\": \"s3:PutObject\"," +
+            "            \"Resource\": \"arn:aws:s3:::%s/%s*\"" +
+            "        }" +
+            "    ]" +
+            "}";
+    private static final int MAX_SESSION_NAME_LENGTH = 64;
+
+    private final RetryPolicy<Object> retryPolicy;
+    private final AwsClientProvider clientProvider;
+    private final Monitor monitor;
+    private final String bucketName;
+    private final String region;
+    private final String roleArn;
+
+    private S3SharedBucketProvisionPipeline(RetryPolicy<Object> retryPolicy, AwsClientProvider clientProvider, Monitor monitor,
+                                            String bucketName, String region, String roleArn) {
+        this.retryPolicy = retryPolicy;
+        this.clientProvider = clientProvider;
+        this.monitor = monitor;
+        this.bucketName = bucketName;
+        this.region = region;
+        this.roleArn = roleArn;
+    }
+
+    /**
+     * Returns the key prefix that is provisioned for a transfer process.
+     */
+    public static String keyPrefix(S3BucketResourceDefinition resourceDefinition) {
+        return resourceDefinition.getTransferProcessId() + "/";
+    }
+
+    /**
+     * Performs a non-blocking provisioning operation.
+     */
+    public CompletableFuture<Credentials> provision(S3BucketResourceDefinition resourceDefinition) {
+        var stsClient = clientProvider.stsAsyncClient(region);
+        var keyPrefix = keyPrefix(resourceDefinition);
+
+        return Failsafe.with(retryPolicy).getStageAsync(() -> {
+            monitor.debug(format("S3SharedBucketProvisionPipeline: assume role %s for prefix %s of bucket %s", roleArn, keyPrefix, bucketName));
+            var roleRequest = AssumeRoleRequest.builder()
+                    .roleArn(roleArn)
+                    .roleSessionName(sessionName(resourceDefinition.getTransferProcessId()))
+                    .policy(format(SESSION_POLICY, bucketName, keyPrefix))
+                    .build();
+
+            return stsClient.assumeRole(roleRequest)
+                    .thenApply(AssumeRoleResponse::credentials);
+        });
+    }
+
+    /**
+     * Session names are restricted to 64 characters out of letters, digits and {@code +=,.@-}.
+     */
+    private String sessionName(String transferProcessId) {
+        var name = "edc-" + transferProcessId.replaceAll("[^\\w+=,.@-]", "-");
+        return name.length() > MAX_SESSION_NAME_LENGTH ? name.substring(0, MAX_SESSION_NAME_LENGTH) : name;
+    }
+
+    static class Builder {
+        private final RetryPolicy<Object> retryPolicy;
+        private Monitor monitor;
+        private AwsClientProvider clientProvider;
+        private String bucketName;
+        private String region;
+        private String roleArn;
+
+        private Builder(RetryPolicy<Object> retryPolicy) {
+            this.retryPolicy = retryPolicy;
+        }
+
+        public static Builder newInstance(RetryPolicy<Object> policy) {
+            return new Builder(policy);
+        }
+
+        public Builder monitor(Monitor monitor) {
+            this.monitor = monitor;
+            return this;
+        }
+
+        public Builder clientProvider(AwsClientProvider clientProvider) {
+            this.clientProvider = clientProvider;
+            return this;
+        }
+
+        public Builder bucketName(String bucketName) {
+            this.bucketName = bucketName;
+            return this;
+        }
+
+        public Builder region(String region) {
+            this.region = region;
+            return this;
+        }
+
+        public Builder roleArn(String roleArn) {
+            this.roleArn = roleArn;
+            return this;
+        }
+
+        public S3SharedBucketProvisionPipeline build() {
+            Objects.requireNonNull(retryPolicy);
+            Objects.requireNonNull(clientProvider);
+            Objects.requireNonNull(monitor);
+            Objects.requireNonNull(bucketName, "bucketName");
+            Objects.requireNonNull(region, "region");
+            Objects.requireNonNull(roleArn, "roleArn");
+            return new S3SharedBucketProvisionPipeline(retryPolicy, clientProvider, monitor, bucketName, region, roleArn);
+        }
+    }
+}
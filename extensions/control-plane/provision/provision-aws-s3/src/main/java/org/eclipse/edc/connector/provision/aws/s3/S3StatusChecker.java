@@ -46,7 +46,7 @@ public class S3StatusChecker implements StatusChecker {
             var destination = transferProcess.getDataRequest().getDataDestination();
             var bucketName = destination.getProperty(S3BucketSchema.BUCKET_NAME);
             var region = destination.getProperty(S3BucketSchema.REGION);
-            return checkBucket(bucketName, region);
+            return checkBucket(bucketName, region, null);
         } else {
             for (var resource : resources) {
                 if (resource instanceof S3BucketProvisionedResource) {
@@ -54,7 +54,7 @@ public class S3StatusChecker implements StatusChecker {
                     try {
                         var bucketName = provisionedResource.getBucketName();
                         var region = provisionedResource.getRegion();
-                        return checkBucket(bucketName, region);
+                        return checkBucket(bucketName, region, provisionedResource.getKeyPrefix());
                     } catch (CompletionException cpe) {
                         if (cpe.getCause() instanceof NoSuchBucketException) {
                             return false;
@@ -71,11 +71,12 @@ public class S3StatusChecker implements StatusChecker {
         throw new EdcException(format("No bucket resource was associated with the transfer process: %s - cannot determine completion.", transferProcess.getId()));
     }
 
-    private boolean checkBucket(String bucketName, String region) {
+    private boolean checkBucket(String bucketName, String region, String keyPrefix) {
         try {
             var s3client = clientProvider.s3AsyncClient(region);
 
-            var rq = ListObjectsRequest.builder().bucket(bucketName).build();
+            // in a shared bucket, only objects of the transfer process' own prefix are relevant
+            var rq = ListObjectsRequest.builder().bucket(bucketName).prefix(keyPrefix).build();
             var response = Failsafe.with(retryPolicy)
                     .getStageAsync(() -> s3client.listObjects(rq))
                     .join();
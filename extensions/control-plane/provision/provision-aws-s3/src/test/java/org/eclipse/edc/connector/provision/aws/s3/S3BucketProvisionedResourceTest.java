@@ -23,6 +23,7 @@ import java.io.StringWriter;
 
 import static java.util.UUID.randomUUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 class S3BucketProvisionedResourceTest {
@@ -43,6 +44,27 @@ class S3BucketProvisionedResourceTest {
         assertEquals("bucket", deserialized.getBucketName());
     }
 
+    @Test
+    void verifyDeserialize_withKeyPrefix() throws IOException {
+        var mapper = new ObjectMapper();
+        var resource = S3BucketProvisionedResource.Builder.newInstance()
+                .id(randomUUID().toString())
+                .transferProcessId("123")
+                .resourceDefinitionId(randomUUID().toString())
+                .resourceName("resource")
+                .region("region")
+                .bucketName("bucket")
+                .keyPrefix("123/")
+                .build();
+
+        var deserialized = mapper.readValue(mapper.writeValueAsString(resource), S3BucketProvisionedResource.class);
+
+        assertEquals("123/", deserialized.getKeyPrefix());
+        assertEquals("bucket", deserialized.getBucketName());
+        assertEquals(resource.getDataAddress().getKeyName(), deserialized.getDataAddress().getKeyName());
+        assertNotEquals(provisionedResource.getDataAddress().getKeyName(), deserialized.getDataAddress().getKeyName());
+    }
+
     @BeforeEach
     void setUp() {
         provisionedResource = S3BucketProvisionedResource.Builder.newInstance()
@@ -21,6 +21,7 @@ import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.iam.IamAsyncClient;
 import software.amazon.awssdk.services.iam.model.CreateRoleRequest;
@@ -33,6 +34,12 @@ import software.amazon.awssdk.services.iam.model.User;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.sts.StsAsyncClient;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
@@ -47,7 +54,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class S3BucketProvisionerTest {
@@ -101,6 +110,81 @@ class S3BucketProvisionerTest {
         verify(iamClient).putRolePolicy(isA(PutRolePolicyRequest.class));
     }
 
+    @Test
+    void provision_shouldLookUpCallerIdentityOnce() {
+        var userResponse = GetUserResponse.builder().user(User.builder().arn("testarn").build()).build();
+        var createRoleResponse = CreateRoleResponse.builder().role(Role.builder().roleName("roleName").arn("testarn").build()).build();
+        when(iamClient.getUser()).thenReturn(completedFuture(userResponse));
+        when(iamClient.createRole(isA(CreateRoleRequest.class))).thenReturn(completedFuture(createRoleResponse));
+        when(iamClient.putRolePolicy(isA(PutRolePolicyRequest.class))).thenReturn(completedFuture(PutRolePolicyResponse.builder().build()));
+        when(stsClient.assumeRole(isA(AssumeRoleRequest.class))).thenReturn(completedFuture(AssumeRoleResponse.builder().credentials(credentials()).build()));
+        when(s3Client.createBucket(isA(CreateBucketRequest.class))).thenReturn(completedFuture(CreateBucketResponse.builder().build()));
+        var policy = Policy.Builder.newInstance().build();
+
+        provisioner.provision(S3BucketResourceDefinition.Builder.newInstance().id("test1").regionId(Region.US_EAST_1.id()).bucketName("test1").transferProcessId("test1").build(), policy).join();
+        provisioner.provision(S3BucketResourceDefinition.Builder.newInstance().id("test2").regionId(Region.US_EAST_1.id()).bucketName("test2").transferProcessId("test2").build(), policy).join();
+
+        verify(iamClient, times(1)).getUser();
+        verify(iamClient, times(2)).createRole(isA(CreateRoleRequest.class));
+    }
+
+    @Test
+    void provision_sharedBucket_shouldAssumeRoleScopedToPrefix() {
+        var configuration = new S3BucketProvisionerConfiguration(2, 3600, "shared-bucket", Region.EU_WEST_1.id(), "arn:aws:iam::123456789012:role/edc-transfer");
+        var sharedBucketProvisioner = new S3BucketProvisioner(clientProvider, mock(Monitor.class), RetryPolicy.ofDefaults(), configuration);
+        when(stsClient.assumeRole(isA(AssumeRoleRequest.class))).thenReturn(completedFuture(AssumeRoleResponse.builder().credentials(credentials()).build()));
+        var definition = S3BucketResourceDefinition.Builder.newInstance().id("test").regionId(Region.US_EAST_1.id()).bucketName("test").transferProcessId("process-id").build();
+
+        var response = sharedBucketProvisioner.provision(definition, Policy.Builder.newInstance().build()).join().getContent();
+
+        assertThat(response.getResource()).isInstanceOfSatisfying(S3BucketProvisionedResource.class, resource -> {
+            assertThat(resource.getBucketName()).isEqualTo("shared-bucket");
+            assertThat(resource.getRegion()).isEqualTo(Region.EU_WEST_1.id());
+            assertThat(resource.getKeyPrefix()).isEqualTo("process-id/");
+            assertThat(resource.getRole()).isNull();
+        });
+        assertThat(response.getSecretToken()).isInstanceOf(AwsTemporarySecretToken.class);
+        var captor = ArgumentCaptor.forClass(AssumeRoleRequest.class);
+        verify(stsClient).assumeRole(captor.capture());
+        assertThat(captor.getValue().roleArn()).isEqualTo("arn:aws:iam::123456789012:role/edc-transfer");
+        assertThat(captor.getValue().policy()).contains("arn:aws:s3:::shared-bucket/process-id/*");
+        verify(clientProvider).stsAsyncClient(Region.EU_WEST_1.id());
+        verifyNoInteractions(s3Client, iamClient);
+    }
+
+    @Test
+    void deprovision_sharedBucket_shouldDeleteAllPages() {
+        var firstPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("process-id/a").build())
+                .isTruncated(true).nextContinuationToken("token")
+                .build();
+        var lastPage = ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key("process-id/b").build())
+                .isTruncated(false)
+                .build();
+        when(s3Client.listObjectsV2(isA(ListObjectsV2Request.class))).thenReturn(completedFuture(firstPage), completedFuture(lastPage));
+        when(s3Client.deleteObjects(isA(DeleteObjectsRequest.class))).thenReturn(completedFuture(DeleteObjectsResponse.builder().build()));
+        var resource = S3BucketProvisionedResource.Builder.newInstance()
+                .id("test").transferProcessId("process-id").resourceDefinitionId("test").resourceName("resource")
+                .region(Region.EU_WEST_1.id()).bucketName("shared-bucket").keyPrefix("process-id/")
+                .build();
+
+        var result = provisioner.deprovision(resource, Policy.Builder.newInstance().build()).join();
+
+        assertThat(result.succeeded()).isTrue();
+        var listCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(s3Client, times(2)).listObjectsV2(listCaptor.capture());
+        assertThat(listCaptor.getAllValues()).extracting(ListObjectsV2Request::continuationToken).containsExactly(null, "token");
+        assertThat(listCaptor.getAllValues()).extracting(ListObjectsV2Request::prefix).containsOnly("process-id/");
+        var deleteCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client, times(2)).deleteObjects(deleteCaptor.capture());
+        assertThat(deleteCaptor.getAllValues())
+                .flatExtracting(request -> request.delete().objects())
+                .extracting(ObjectIdentifier::key)
+                .containsExactly("process-id/a", "process-id/b");
+        verifyNoInteractions(iamClient);
+    }
+
     @Test
     void should_return_failed_future_on_error() {
         when(s3Client.createBucket(isA(CreateBucketRequest.class))).thenReturn(failedFuture(new RuntimeException("any")));
@@ -113,4 +197,9 @@ class S3BucketProvisionerTest {
         assertThat(response).failsWithin(1, SECONDS);
     }
 
+    private Credentials credentials() {
+        return Credentials.builder()
+                .accessKeyId("accessKeyId").secretAccessKey("secretAccessKey").sessionToken("sessionToken")
+                .expiration(Instant.now()).build();
+    }
 }
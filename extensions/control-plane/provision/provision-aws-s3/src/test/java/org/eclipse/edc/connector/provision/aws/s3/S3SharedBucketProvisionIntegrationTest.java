@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.provision.aws.s3;
+
+import dev.failsafe.RetryPolicy;
+import org.eclipse.edc.aws.s3.testfixtures.AbstractS3Test;
+import org.eclipse.edc.aws.s3.testfixtures.annotations.AwsS3IntegrationTest;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Provisions key prefixes in a shared bucket against an S3/STS compatible backend, e.g. MinIO.
+ */
+@AwsS3IntegrationTest
+class S3SharedBucketProvisionIntegrationTest extends AbstractS3Test {
+
+    private static final String ROLE_ARN = "arn:aws:iam::000000000000:role/edc-transfer";
+
+    private S3BucketProvisioner provisioner;
+
+    @BeforeEach
+    void setup() {
+        var configuration = new S3BucketProvisionerConfiguration(3, 3600, bucketName, REGION, ROLE_ARN);
+        provisioner = new S3BucketProvisioner(clientProvider, mock(Monitor.class), RetryPolicy.ofDefaults(), configuration);
+    }
+
+    @Test
+    void provision_shouldGrantAccessToPrefixOnly() {
+        var transferProcessId = UUID.randomUUID().toString();
+
+        var response = provisioner.provision(resourceDefinition(transferProcessId), Policy.Builder.newInstance().build()).join().getContent();
+
+        var client = clientProvider.s3Client(REGION, response.getSecretToken());
+        client.putObject(PutObjectRequest.builder().bucket(bucketName).key(transferProcessId + "/data").build(), RequestBody.fromString("data"));
+        assertThatThrownBy(() -> client.putObject(PutObjectRequest.builder().bucket(bucketName).key("other/data").build(), RequestBody.fromString("data")))
+                .isInstanceOf(S3Exception.class);
+    }
+
+    @Test
+    void deprovision_shouldDeletePrefixOnly() {
+        var transferProcessId = UUID.randomUUID().toString();
+        var response = provisioner.provision(resourceDefinition(transferProcessId), Policy.Builder.newInstance().build()).join().getContent();
+        putStringOnBucket(bucketName, transferProcessId + "/data", "data");
+        putStringOnBucket(bucketName, "other/data", "data");
+
+        provisioner.deprovision((S3BucketProvisionedResource) response.getResource(), Policy.Builder.newInstance().build()).join();
+
+        var keys = s3AsyncClient.listObjectsV2(ListObjectsV2Request.builder().bucket(bucketName).build()).join().contents();
+        assertThat(keys).extracting(S3Object::key).containsExactly("other/data");
+    }
+
+    private S3BucketResourceDefinition resourceDefinition(String transferProcessId) {
+        return S3BucketResourceDefinition.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .regionId(REGION)
+                .bucketName(bucketName)
+                .transferProcessId(transferProcessId)
+                .build();
+    }
+}
@@ -90,7 +90,7 @@ public class CosmosAssetIndex implements AssetIndex {
         var limit = querySpec.getLimit();
         var sortAsc = querySpec.getSortOrder() == SortOrder.ASC;
 
-        var sqlQuery = queryBuilder.from(expr, sortField, sortAsc, limit, querySpec.getOffset());
+        var sqlQuery = queryBuilder.from(expr, sortField, sortAsc, limit, querySpec.getOffset(), querySpec.getContinuationToken());
         var response = with(retryPolicy).get(() -> assetDb.queryItems(sqlQuery));
         return response.map(this::convertObject)
                 .map(AssetDocument::getWrappedAsset);
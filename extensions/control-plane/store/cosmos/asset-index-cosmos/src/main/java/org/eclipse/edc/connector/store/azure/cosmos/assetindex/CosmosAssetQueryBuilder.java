@@ -18,8 +18,10 @@ import com.azure.cosmos.models.SqlQuerySpec;
 import org.eclipse.edc.azure.cosmos.dialect.SqlStatement;
 import org.eclipse.edc.connector.store.azure.cosmos.assetindex.model.AssetDocument;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -28,6 +30,8 @@ import java.util.List;
 
 public class CosmosAssetQueryBuilder {
 
+    private static final String ASSET_ID_PROPERTY = "asset_prop_id";
+
     public CosmosAssetQueryBuilder() {
         // pre-check fields of the AssetDocument class that will be used to build the queries
         assertClassContainsField(AssetDocument.class, "wrappedInstance");
@@ -62,12 +66,17 @@ public class CosmosAssetQueryBuilder {
     }
 
     public SqlQuerySpec from(List<Criterion> criteria, String orderByField, boolean sortAscending, Integer limit, Integer offset) {
+        return from(criteria, orderByField, sortAscending, limit, offset, null);
+    }
+
+    public SqlQuerySpec from(List<Criterion> criteria, String orderByField, boolean sortAscending, Integer limit, Integer offset, @Nullable ContinuationToken continuationToken) {
 
         var stmt = new SqlStatement<>(AssetDocument.class)
                 .where(criteria)
                 .orderBy(orderByField, sortAscending)
                 .offset(offset)
-                .limit(limit);
+                .limit(limit)
+                .continueAfter(continuationToken, ASSET_ID_PROPERTY);
 
         return stmt.getQueryAsSqlQuerySpec();
     }
@@ -184,7 +184,7 @@ class CosmosAssetIndexTest {
     @Test
     void findAll_noQuerySpec() {
         AssetDocument document = createDocument(TEST_ID);
-        var expectedQuery = "SELECT * FROM AssetDocument OFFSET 0 LIMIT 50";
+        var expectedQuery = "SELECT * FROM AssetDocument ORDER BY AssetDocument.wrappedInstance.asset_prop_id ASC OFFSET 0 LIMIT 50";
         when(api.queryItems(argThat(queryMatches(expectedQuery)))).thenReturn(Stream.of(document));
 
         List<Asset> assets = assetIndex.queryAssets(QuerySpec.none()).collect(Collectors.toList());
@@ -197,7 +197,7 @@ class CosmosAssetIndexTest {
     @Test
     void findAll_withPaging_SortingDesc() {
         AssetDocument document = createDocument(TEST_ID);
-        var expectedQuery = "SELECT * FROM AssetDocument ORDER BY AssetDocument.wrappedInstance.anyField DESC OFFSET 5 LIMIT 100";
+        var expectedQuery = "SELECT * FROM AssetDocument ORDER BY AssetDocument.wrappedInstance.anyField DESC, AssetDocument.wrappedInstance.asset_prop_id DESC OFFSET 5 LIMIT 100";
         when(api.queryItems(argThat(queryMatches(expectedQuery)))).thenReturn(Stream.of(document));
 
         List<Asset> assets = assetIndex.queryAssets(QuerySpec.Builder.newInstance()
@@ -216,7 +216,7 @@ class CosmosAssetIndexTest {
     @Test
     void findAll_withPaging_SortingAsc() {
         AssetDocument document = createDocument(TEST_ID);
-        var expectedQuery = "SELECT * FROM AssetDocument ORDER BY AssetDocument.wrappedInstance.anyField ASC OFFSET 5 LIMIT 100";
+        var expectedQuery = "SELECT * FROM AssetDocument ORDER BY AssetDocument.wrappedInstance.anyField ASC, AssetDocument.wrappedInstance.asset_prop_id ASC OFFSET 5 LIMIT 100";
         when(api.queryItems(argThat(queryMatches(expectedQuery)))).thenReturn(Stream.of(document));
 
         List<Asset> assets = assetIndex.queryAssets(QuerySpec.Builder.newInstance()
@@ -235,7 +235,7 @@ class CosmosAssetIndexTest {
     @Test
     void findAll_withFiltering() {
         AssetDocument document = createDocument(TEST_ID);
-        var expectedQuery = "SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.someField = @someField OFFSET 5 LIMIT 100";
+        var expectedQuery = "SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.someField = @someField ORDER BY AssetDocument.wrappedInstance.asset_prop_id ASC OFFSET 5 LIMIT 100";
         when(api.queryItems(argThat(queryMatches(expectedQuery)))).thenReturn(Stream.of(document));
 
         List<Asset> assets = assetIndex.queryAssets(QuerySpec.Builder.newInstance()
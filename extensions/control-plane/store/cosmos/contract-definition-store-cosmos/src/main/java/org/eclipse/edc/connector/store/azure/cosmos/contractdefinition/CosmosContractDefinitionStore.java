@@ -62,6 +62,7 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
                 .offset(spec.getOffset())
                 .limit(spec.getLimit())
                 .orderBy(spec.getSortField(), spec.getSortOrder() == SortOrder.ASC)
+                .continueAfter(spec.getContinuationToken())
                 .getQueryAsSqlQuerySpec();
 
         var objects = with(retryPolicy).get(() -> cosmosDbApi.queryItems(query));
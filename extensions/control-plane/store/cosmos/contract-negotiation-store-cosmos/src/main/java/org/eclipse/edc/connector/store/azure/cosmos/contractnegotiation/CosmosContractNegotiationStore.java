@@ -152,6 +152,7 @@ public class CosmosContractNegotiationStore implements ContractNegotiationStore
                 .offset(querySpec.getOffset())
                 .limit(querySpec.getLimit())
                 .orderBy(querySpec.getSortField(), querySpec.getSortOrder() == SortOrder.ASC)
+                .continueAfter(querySpec.getContinuationToken())
                 .getQueryAsSqlQuerySpec();
 
         var objects = with(retryPolicy).get(() -> cosmosDbApi.queryItems(query));
@@ -171,6 +172,7 @@ public class CosmosContractNegotiationStore implements ContractNegotiationStore
                 .offset(querySpec.getOffset())
                 .limit(querySpec.getLimit())
                 .orderBy(sortField, querySpec.getSortOrder() == SortOrder.ASC)
+                .continueAfter(querySpec.getContinuationToken(), "contractAgreement.id")
                 .getQueryAsSqlQuerySpec();
 
         return with(retryPolicy).get(() -> cosmosDbApi.queryItems(query))
@@ -67,6 +67,7 @@ public class CosmosPolicyDefinitionStore implements PolicyDefinitionStore {
                 .offset(spec.getOffset())
                 .limit(spec.getLimit())
                 .orderBy(spec.getSortField(), spec.getSortOrder() == SortOrder.ASC)
+                .continueAfter(spec.getContinuationToken())
                 .getQueryAsSqlQuerySpec();
 
         var objects = with(retryPolicy).get(() -> cosmosDbApi.queryItems(query));
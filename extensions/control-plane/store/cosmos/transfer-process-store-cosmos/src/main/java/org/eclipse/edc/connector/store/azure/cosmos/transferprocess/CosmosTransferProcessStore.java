@@ -165,6 +165,7 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
                 .offset(querySpec.getOffset())
                 .limit(querySpec.getLimit())
                 .orderBy(querySpec.getSortField(), querySpec.getSortOrder() == SortOrder.ASC)
+                .continueAfter(querySpec.getContinuationToken())
                 .getQueryAsSqlQuerySpec();
 
         var objects = failsafeExecutor.get(() -> cosmosDbApi.queryItems(query));
@@ -71,7 +71,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     public Stream<Asset> queryAssets(QuerySpec querySpec) {
         Objects.requireNonNull(querySpec);
 
-        return transactionContext.execute(() -> {
+        return transactionContext.executeReadOnly(() -> {
             try {
                 var statement = assetStatements.createQuery(querySpec);
 
@@ -89,7 +89,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
 
         try (var connection = getConnection()) {
 
-            return transactionContext.execute(() -> {
+            return transactionContext.executeReadOnly(() -> {
                 if (!existsById(assetId, connection)) {
                     return null;
                 }
@@ -234,7 +234,7 @@ public class SqlAssetIndex extends AbstractSqlStore implements AssetIndex {
     public DataAddress resolveForAsset(String assetId) {
         Objects.requireNonNull(assetId);
 
-        return transactionContext.execute(() -> {
+        return transactionContext.executeReadOnly(() -> {
             var sql = assetStatements.getFindDataAddressByIdTemplate();
             try {
                 return executeQuerySingle(getConnection(), true, this::mapDataAddress, sql, assetId);
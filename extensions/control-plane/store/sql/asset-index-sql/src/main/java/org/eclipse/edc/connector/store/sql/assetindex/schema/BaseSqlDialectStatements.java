@@ -17,11 +17,13 @@ package org.eclipse.edc.connector.store.sql.assetindex.schema;
 
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.sql.dialect.BaseSqlDialect;
 import org.eclipse.edc.sql.translation.SqlConditionExpression;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -124,17 +126,29 @@ public class BaseSqlDialectStatements implements AssetStatements {
             var message = results.stream().flatMap(r -> r.getFailureMessages().stream()).collect(Collectors.joining(", "));
             throw new IllegalArgumentException(message);
         }
-        var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toList());
+        var subSelects = conditions.stream().map(this::toSubSelect).collect(Collectors.toCollection(ArrayList::new));
 
-        var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects);
+        // keyset pagination on the asset id, which is the primary key
+        var token = querySpec.getContinuationToken();
+        var ascending = querySpec.getSortOrder() == SortOrder.ASC;
+        if (token != null) {
+            subSelects.add(format("a.%s %s ?", getAssetIdColumn(), ascending ? ">" : "<"));
+        }
+
+        // always order by id, so that the pages of a query are disjoint, whether they are addressed by offset or by token
+        var query = getSelectAssetTemplate() + " " + concatSubSelects(subSelects) +
+                format(" ORDER BY a.%s %s", getAssetIdColumn(), ascending ? "ASC" : "DESC");
         var stmt = new SqlQueryStatement(query);
 
         conditions.stream()
                 .flatMap(SqlConditionExpression::toStatementParameter)
                 .forEach(stmt::addParameter);
 
+        if (token != null) {
+            stmt.addParameter(token.getId());
+        }
         stmt.addParameter(querySpec.getLimit());
-        stmt.addParameter(querySpec.getOffset());
+        stmt.addParameter(token != null ? 0 : querySpec.getOffset());
         return stmt;
     }
 
@@ -0,0 +1,38 @@
+--
+--  Copyright (c) 2022 Microsoft Corporation
+--
+--  This program and the accompanying materials are made available under the
+--  terms of the Apache License, Version 2.0 which is available at
+--  https://www.apache.org/licenses/LICENSE-2.0
+--
+--  SPDX-License-Identifier: Apache-2.0
+--
+--  Contributors:
+--       Microsoft Corporation - initial API and implementation
+--
+
+-- Statements are designed for and tested with Postgres only!
+
+-- table: edc_command_queue
+CREATE TABLE IF NOT EXISTS edc_command_queue
+(
+    command_id         VARCHAR NOT NULL,
+    queue_name         VARCHAR NOT NULL,
+    command_type       VARCHAR NOT NULL,
+    payload            JSONB   NOT NULL,
+    error_count        INTEGER NOT NULL DEFAULT 0,
+    enqueued_at        BIGINT  NOT NULL,
+    leased_by          VARCHAR,
+    lease_expires_at   BIGINT,
+    dead_letter        BOOLEAN NOT NULL DEFAULT FALSE,
+    dead_letter_reason VARCHAR,
+    PRIMARY KEY (command_id)
+);
+
+COMMENT ON COLUMN edc_command_queue.command_type IS 'Fully qualified class name of the command';
+COMMENT ON COLUMN edc_command_queue.payload IS 'Java Command serialized as JSON';
+COMMENT ON COLUMN edc_command_queue.lease_expires_at IS 'Epoch millis after which a dequeued, but unacknowledged command becomes available again';
+
+-- dequeue only looks at live commands of one queue, in the order they were enqueued
+CREATE INDEX IF NOT EXISTS edc_command_queue_pending_index
+    ON edc_command_queue (queue_name, enqueued_at) WHERE dead_letter = FALSE;
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.commandqueue;
+
+import org.eclipse.edc.connector.store.sql.commandqueue.store.SqlCommandQueue;
+import org.eclipse.edc.connector.store.sql.commandqueue.store.schema.CommandQueueStatements;
+import org.eclipse.edc.connector.store.sql.commandqueue.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.command.Command;
+import org.eclipse.edc.spi.command.CommandQueue;
+import org.eclipse.edc.spi.command.CommandQueueFactory;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+
+@Provides(CommandQueueFactory.class)
+@Extension("SQL command queue")
+public class SqlCommandQueueExtension implements ServiceExtension {
+
+    @Setting(required = true)
+    private static final String DATASOURCE_SETTING_NAME = "edc.datasource.commandqueue.name";
+
+    @Setting(value = "Time in milliseconds after which a dequeued command that was not acknowledged is handed out again", defaultValue = "60000")
+    private static final String LEASE_DURATION_SETTING = "edc.sql.commandqueue.lease.duration.ms";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private CommandQueueStatements statements;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private Clock clock;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getConfig().getString(DATASOURCE_SETTING_NAME);
+        var leaseDuration = context.getSetting(LEASE_DURATION_SETTING, 60_000L);
+        var leaseHolder = context.getConnectorId();
+
+        context.registerService(CommandQueueFactory.class, new CommandQueueFactory() {
+            @Override
+            public <C extends Command> CommandQueue<C> create(String name, Class<C> commandType) {
+                return new SqlCommandQueue<>(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(),
+                        getStatementImpl(), name, commandType, leaseHolder, leaseDuration, clock);
+            }
+        });
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private CommandQueueStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresDialectStatements();
+    }
+}
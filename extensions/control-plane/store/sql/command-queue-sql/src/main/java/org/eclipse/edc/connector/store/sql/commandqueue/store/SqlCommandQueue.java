@@ -0,0 +1,163 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.commandqueue.store;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.store.sql.commandqueue.store.schema.CommandQueueStatements;
+import org.eclipse.edc.spi.command.Command;
+import org.eclipse.edc.spi.command.CommandQueue;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.sql.SqlQueryExecutor.executeQuery;
+
+/**
+ * {@link CommandQueue} that keeps its commands in a database table, so that they survive restarts and can be processed
+ * by any runtime connected to the same database.
+ * <p>
+ * Dequeued commands are not deleted but leased to this runtime. Only {@link #acknowledge(Command)} removes them. If a
+ * runtime stops before acknowledging, the lease expires and another runtime picks the command up. Failed commands that
+ * are enqueued again keep their id and error count and go to the end of the queue, commands that exceeded their retry
+ * limit are kept as dead letters.
+ */
+public class SqlCommandQueue<C extends Command> extends AbstractSqlStore implements CommandQueue<C> {
+
+    private final String queueName;
+    private final Class<C> commandType;
+    private final CommandQueueStatements statements;
+    private final String leaseHolder;
+    private final long leaseDurationMillis;
+    private final Clock clock;
+
+    public SqlCommandQueue(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext, ObjectMapper objectMapper,
+                           CommandQueueStatements statements, String queueName, Class<C> commandType, String leaseHolder, long leaseDurationMillis, Clock clock) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper);
+        this.statements = Objects.requireNonNull(statements);
+        this.queueName = Objects.requireNonNull(queueName);
+        this.commandType = Objects.requireNonNull(commandType);
+        this.leaseHolder = Objects.requireNonNull(leaseHolder);
+        this.leaseDurationMillis = leaseDurationMillis;
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    @Override
+    public void enqueue(C element) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                var updated = executeQuery(connection, statements.getRequeueTemplate(),
+                        toJson(element), element.getErrorCount(), now, element.getCommandId());
+                if (updated == 0) {
+                    executeQuery(connection, statements.getInsertTemplate(),
+                            element.getCommandId(), queueName, element.getClass().getName(), toJson(element), element.getErrorCount(), now);
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public Command dequeue() {
+        var commands = dequeue(1);
+        return commands.isEmpty() ? null : commands.get(0);
+    }
+
+    @Override
+    public List<C> dequeue(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (amount == 0) {
+            return List.of();
+        }
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var now = clock.millis();
+                return selectAvailable(connection, amount, now).stream()
+                        .filter(command -> executeQuery(connection, statements.getLeaseTemplate(), leaseHolder, now + leaseDurationMillis, command.getCommandId(), now) == 1)
+                        .collect(Collectors.toList());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Nullable
+    @Override
+    public C peek() {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var commands = selectAvailable(connection, 1, clock.millis());
+                return commands.isEmpty() ? null : commands.get(0);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void acknowledge(C element) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                executeQuery(connection, statements.getDeleteTemplate(), element.getCommandId());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void deadLetter(C element, String reason) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                executeQuery(connection, statements.getDeadLetterTemplate(), reason, toJson(element), element.getErrorCount(), element.getCommandId());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    private List<C> selectAvailable(Connection connection, int amount, long now) {
+        try (var stream = executeQuery(connection, false, this::mapResultSet, statements.getSelectAvailableTemplate(), queueName, now, amount)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    private C mapResultSet(ResultSet resultSet) throws SQLException {
+        var typeName = resultSet.getString(statements.getCommandTypeColumn());
+        try {
+            var type = Class.forName(typeName, true, commandType.getClassLoader());
+            if (!commandType.isAssignableFrom(type)) {
+                throw new EdcPersistenceException(String.format("Command type %s in queue %s is not a %s", typeName, queueName, commandType.getName()));
+            }
+            return commandType.cast(fromJson(resultSet.getString(statements.getPayloadColumn()), type));
+        } catch (ClassNotFoundException e) {
+            throw new EdcPersistenceException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.commandqueue.store.schema;
+
+import static java.lang.String.format;
+
+public class BaseSqlDialectStatements implements CommandQueueStatements {
+
+    @Override
+    public String getSelectAvailableTemplate() {
+        return format("SELECT %s, %s, %s FROM %s WHERE %s = ? AND %s = FALSE AND (%s IS NULL OR %s < ?) ORDER BY %s ASC LIMIT ? %s",
+                getCommandIdColumn(), getCommandTypeColumn(), getPayloadColumn(), getCommandQueueTable(),
+                getQueueNameColumn(), getDeadLetterColumn(), getLeaseExpiresAtColumn(), getLeaseExpiresAtColumn(),
+                getEnqueuedAtColumn(), getLockClause());
+    }
+
+    @Override
+    public String getLeaseTemplate() {
+        return format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND (%s IS NULL OR %s < ?)",
+                getCommandQueueTable(), getLeasedByColumn(), getLeaseExpiresAtColumn(), getCommandIdColumn(),
+                getLeaseExpiresAtColumn(), getLeaseExpiresAtColumn());
+    }
+
+    @Override
+    public String getInsertTemplate() {
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?%s, ?, ?)",
+                getCommandQueueTable(), getCommandIdColumn(), getQueueNameColumn(), getCommandTypeColumn(), getPayloadColumn(),
+                getErrorCountColumn(), getEnqueuedAtColumn(), getFormatAsJsonOperator());
+    }
+
+    @Override
+    public String getRequeueTemplate() {
+        return format("UPDATE %s SET %s = ?%s, %s = ?, %s = ?, %s = NULL, %s = NULL WHERE %s = ? AND %s = FALSE",
+                getCommandQueueTable(), getPayloadColumn(), getFormatAsJsonOperator(), getErrorCountColumn(), getEnqueuedAtColumn(),
+                getLeasedByColumn(), getLeaseExpiresAtColumn(), getCommandIdColumn(), getDeadLetterColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return format("DELETE FROM %s WHERE %s = ?", getCommandQueueTable(), getCommandIdColumn());
+    }
+
+    @Override
+    public String getDeadLetterTemplate() {
+        return format("UPDATE %s SET %s = TRUE, %s = ?, %s = ?%s, %s = ?, %s = NULL, %s = NULL WHERE %s = ?",
+                getCommandQueueTable(), getDeadLetterColumn(), getDeadLetterReasonColumn(), getPayloadColumn(), getFormatAsJsonOperator(),
+                getErrorCountColumn(), getLeasedByColumn(), getLeaseExpiresAtColumn(), getCommandIdColumn());
+    }
+
+    /**
+     * Row lock taken on the selected commands, so that concurrent runtimes do not lease the same commands.
+     */
+    protected String getLockClause() {
+        return "FOR UPDATE";
+    }
+}
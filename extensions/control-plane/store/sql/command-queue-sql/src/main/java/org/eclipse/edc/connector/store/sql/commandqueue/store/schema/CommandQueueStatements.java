@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.commandqueue.store.schema;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Statement templates and SQL table+column names required for the SQL command queue.
+ */
+@ExtensionPoint
+public interface CommandQueueStatements {
+
+    /**
+     * SELECT statement for commands of one queue that are neither dead-lettered nor leased. Parameters: queue name, now, limit.
+     */
+    String getSelectAvailableTemplate();
+
+    /**
+     * UPDATE statement that leases a command if it is still available. Parameters: lease holder, lease expiry, command id, now.
+     */
+    String getLeaseTemplate();
+
+    /**
+     * INSERT statement for a new command.
+     */
+    String getInsertTemplate();
+
+    /**
+     * UPDATE statement that puts an existing command back into the queue, releasing its lease.
+     */
+    String getRequeueTemplate();
+
+    /**
+     * DELETE statement for an acknowledged command.
+     */
+    String getDeleteTemplate();
+
+    /**
+     * UPDATE statement that moves a command to the dead letters.
+     */
+    String getDeadLetterTemplate();
+
+    default String getCommandQueueTable() {
+        return "edc_command_queue";
+    }
+
+    default String getCommandIdColumn() {
+        return "command_id";
+    }
+
+    default String getQueueNameColumn() {
+        return "queue_name";
+    }
+
+    default String getCommandTypeColumn() {
+        return "command_type";
+    }
+
+    default String getPayloadColumn() {
+        return "payload";
+    }
+
+    default String getErrorCountColumn() {
+        return "error_count";
+    }
+
+    default String getEnqueuedAtColumn() {
+        return "enqueued_at";
+    }
+
+    default String getLeasedByColumn() {
+        return "leased_by";
+    }
+
+    default String getLeaseExpiresAtColumn() {
+        return "lease_expires_at";
+    }
+
+    default String getDeadLetterColumn() {
+        return "dead_letter";
+    }
+
+    default String getDeadLetterReasonColumn() {
+        return "dead_letter_reason";
+    }
+
+    /**
+     * Operator to format an incoming string as JSON. Should return an empty string if the database does not support
+     * this.
+     */
+    default String getFormatAsJsonOperator() {
+        return "";
+    }
+}
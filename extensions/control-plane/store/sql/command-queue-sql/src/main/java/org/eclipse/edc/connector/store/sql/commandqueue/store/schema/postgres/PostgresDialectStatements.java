@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.commandqueue.store.schema.postgres;
+
+import org.eclipse.edc.connector.store.sql.commandqueue.store.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.sql.dialect.PostgresDialect;
+
+/**
+ * Postgres specific statements: payloads are stored as JSONB, and commands locked by another runtime are skipped
+ * instead of waited for.
+ */
+public class PostgresDialectStatements extends BaseSqlDialectStatements {
+
+    @Override
+    public String getFormatAsJsonOperator() {
+        return PostgresDialect.getJsonbCastOperator();
+    }
+
+    @Override
+    protected String getLockClause() {
+        return "FOR UPDATE SKIP LOCKED";
+    }
+}
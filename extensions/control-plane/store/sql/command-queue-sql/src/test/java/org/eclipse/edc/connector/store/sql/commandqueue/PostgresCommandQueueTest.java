@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.commandqueue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.edc.connector.store.sql.commandqueue.store.SqlCommandQueue;
+import org.eclipse.edc.connector.store.sql.commandqueue.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.junit.annotations.PostgresqlDbIntegrationTest;
+import org.eclipse.edc.spi.command.Command;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@PostgresqlDbIntegrationTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresCommandQueueTest {
+
+    private static final long LEASE_DURATION = 10_000;
+
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+    private final Clock clock = mock(Clock.class);
+    private SqlCommandQueue<TestCommand> queue;
+    private SqlCommandQueue<TestCommand> otherReplica;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension) throws IOException {
+        when(clock.millis()).thenReturn(Instant.parse("2022-01-01T00:00:00Z").toEpochMilli());
+        var mapper = new TypeManager().getMapper();
+        queue = new SqlCommandQueue<>(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), mapper,
+                statements, "test", TestCommand.class, "replica-1", LEASE_DURATION, clock);
+        otherReplica = new SqlCommandQueue<>(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(), mapper,
+                statements, "test", TestCommand.class, "replica-2", LEASE_DURATION, clock);
+
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getCommandQueueTable() + " CASCADE");
+    }
+
+    @Test
+    void dequeue_shouldReturnCommandsInOrder_andRestoreThem() {
+        queue.enqueue(new TestCommand("first"));
+        advance(1);
+        queue.enqueue(new TestCommand("second"));
+
+        var commands = queue.dequeue(5);
+
+        assertThat(commands).extracting(TestCommand::getValue).containsExactly("first", "second");
+        assertThat(commands.get(0)).isInstanceOf(TestCommand.class);
+    }
+
+    @Test
+    void dequeue_shouldLeaseCommands_untilAcknowledged() {
+        var command = new TestCommand("value");
+        queue.enqueue(command);
+
+        assertThat(queue.dequeue(5)).hasSize(1);
+        assertThat(otherReplica.dequeue(5)).describedAs("leased by replica-1").isEmpty();
+
+        queue.acknowledge(command);
+        advance(LEASE_DURATION + 1);
+
+        assertThat(otherReplica.dequeue(5)).isEmpty();
+    }
+
+    @Test
+    void dequeue_shouldHandOutCommandAgain_whenLeaseExpired() {
+        queue.enqueue(new TestCommand("value"));
+        assertThat(queue.dequeue(5)).hasSize(1);
+
+        advance(LEASE_DURATION + 1);
+
+        assertThat(otherReplica.dequeue(5)).extracting(TestCommand::getValue).containsExactly("value");
+    }
+
+    @Test
+    void enqueue_shouldRequeueFailedCommand_withErrorCount() {
+        var command = new TestCommand("value");
+        queue.enqueue(command);
+        var dequeued = queue.dequeue(1).get(0);
+
+        dequeued.increaseErrorCount();
+        queue.enqueue(dequeued);
+
+        assertThat(otherReplica.dequeue(5)).hasSize(1).first().satisfies(retry -> {
+            assertThat(retry.getCommandId()).isEqualTo(command.getCommandId());
+            assertThat(retry.getErrorCount()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void deadLetter_shouldRemoveCommandFromQueue() {
+        var command = new TestCommand("value");
+        queue.enqueue(command);
+        queue.dequeue(1);
+
+        queue.deadLetter(command, "failure");
+        advance(LEASE_DURATION + 1);
+
+        assertThat(queue.dequeue(5)).isEmpty();
+        assertThat(queue.peek()).isNull();
+    }
+
+    @Test
+    void queues_shouldBeIsolatedByName(PostgresqlStoreSetupExtension extension) {
+        var other = new SqlCommandQueue<>(extension.getDataSourceRegistry(), extension.getDatasourceName(), extension.getTransactionContext(),
+                new TypeManager().getMapper(), statements, "other", TestCommand.class, "replica-1", LEASE_DURATION, clock);
+        queue.enqueue(new TestCommand("value"));
+
+        assertThat(other.dequeue(5)).isEmpty();
+        assertThat(queue.peek()).isNotNull();
+    }
+
+    private void advance(long millis) {
+        var now = clock.millis();
+        when(clock.millis()).thenReturn(now + millis);
+    }
+
+    static class TestCommand extends Command {
+        private final String value;
+
+        @JsonCreator
+        TestCommand(@JsonProperty("value") String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
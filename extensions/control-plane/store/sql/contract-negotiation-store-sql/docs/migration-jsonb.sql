@@ -0,0 +1,14 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- Migrates an existing schema from JSON to JSONB columns and creates the indexes that serve JSON-path queries.
+-- The conversion rewrites the tables, so it should be run during a maintenance window.
+
+ALTER TABLE edc_contract_agreement
+    ALTER COLUMN policy TYPE JSONB USING policy::JSONB;
+
+ALTER TABLE edc_contract_negotiation
+    ALTER COLUMN contract_offers TYPE JSONB USING contract_offers::JSONB,
+    ALTER COLUMN trace_context TYPE JSONB USING trace_context::JSONB;
+
+CREATE INDEX IF NOT EXISTS contract_agreement_policy_gin_index
+    ON edc_contract_agreement USING GIN (policy jsonb_path_ops);
@@ -0,0 +1,8 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- Adds the column that nextForState uses to skip negotiations that are backing off after a failed attempt.
+
+ALTER TABLE edc_contract_negotiation
+    ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_contract_negotiation.next_attempt_at IS 'posix timestamp before which nextForState skips the negotiation';
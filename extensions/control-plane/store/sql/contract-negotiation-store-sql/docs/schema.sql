@@ -31,7 +31,7 @@ CREATE TABLE IF NOT EXISTS edc_contract_agreement
     start_date        BIGINT,
     end_date          INTEGER,
     asset_id          VARCHAR NOT NULL,
-    policy            JSON
+    policy            JSONB
 );
 
 
@@ -50,12 +50,13 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     state                INTEGER DEFAULT 0                                  NOT NULL,
     state_count          INTEGER DEFAULT 0,
     state_timestamp      BIGINT,
+    next_attempt_at      BIGINT DEFAULT 0                                   NOT NULL,
     error_detail         VARCHAR,
     agreement_id         VARCHAR
         CONSTRAINT contract_negotiation_contract_agreement_id_fk
             REFERENCES edc_contract_agreement,
-    contract_offers      JSON,
-    trace_context        JSON,
+    contract_offers      JSONB,
+    trace_context        JSONB,
     lease_id             VARCHAR
         CONSTRAINT contract_negotiation_lease_lease_id_fk
             REFERENCES edc_lease
@@ -67,6 +68,8 @@ COMMENT ON COLUMN edc_contract_negotiation.agreement_id IS 'ContractAgreement se
 
 COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffer> serialized as JSON';
 
+COMMENT ON COLUMN edc_contract_negotiation.next_attempt_at IS 'posix timestamp before which nextForState skips the negotiation';
+
 COMMENT ON COLUMN edc_contract_negotiation.trace_context IS 'Map<String,String> serialized as JSON';
 
 
@@ -77,4 +80,28 @@ CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
     ON edc_contract_negotiation (id);
 
 CREATE UNIQUE INDEX IF NOT EXISTS contract_agreement_id_uindex
-    ON edc_contract_agreement (agr_id);
\ No newline at end of file
+    ON edc_contract_agreement (agr_id);
+
+-- checked whenever an asset is deleted, see existsAgreementForAsset
+CREATE INDEX IF NOT EXISTS contract_agreement_asset_id_index
+    ON edc_contract_agreement (asset_id);
+
+-- nextForState filters on state and orders by state_timestamp. The index only contains negotiations that the state
+-- machine still works on, so its size does not grow with the number of PROVIDER_FINALIZED (1200) and TERMINATED (1400)
+-- negotiations that are retained.
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_index
+    ON edc_contract_negotiation (state, state_timestamp)
+    WHERE state NOT IN (1200, 1400);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_lease_id_index
+    ON edc_contract_negotiation (lease_id);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_agreement_id_index
+    ON edc_contract_negotiation (agreement_id);
+
+CREATE INDEX IF NOT EXISTS contract_negotiation_counterparty_id_index
+    ON edc_contract_negotiation (counterparty_id);
+
+-- GIN index serves the JSONB containment (@>) conditions generated for equality criteria on the agreement policy
+CREATE INDEX IF NOT EXISTS contract_agreement_policy_gin_index
+    ON edc_contract_agreement USING GIN (policy jsonb_path_ops);
@@ -167,13 +167,39 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         });
     }
 
+    @Override
+    public boolean existsAgreementForAsset(String assetId) {
+        return transactionContext.execute(() -> {
+            var stmt = statements.getExistsAgreementForAssetTemplate();
+            try (var connection = getConnection()) {
+                return Boolean.TRUE.equals(executeQuerySingle(connection, false, resultSet -> resultSet.getBoolean(1), stmt, assetId));
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long countAgreements(QuerySpec querySpec) {
+        return transactionContext.execute(() -> {
+            var statement = statements.createAgreementsQuery(querySpec);
+            try (var connection = getConnection()) {
+                var count = executeQuerySingle(connection, false, resultSet -> resultSet.getLong(1), statement.getCountQueryAsString(), statement.getCountParameters());
+                return count != null ? count : 0L;
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public @NotNull List<ContractNegotiation> nextForState(int state, int max) {
+        var now = clock.millis();
         return transactionContext.execute(() -> {
             var stmt = statements.getNextForStateTemplate();
             try (
                     var connection = getConnection();
-                    var stream = executeQuery(connection, true, this::mapContractNegotiation, stmt, state, clock.millis(), max)
+                    var stream = executeQuery(connection, true, this::mapContractNegotiation, stmt, state, now, now, max)
             ) {
                 var negotiations = stream.collect(Collectors.toList());
                 negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
@@ -200,6 +226,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 updatedValues.getState(),
                 updatedValues.getStateCount(),
                 updatedValues.getStateTimestamp(),
+                updatedValues.getNextAttemptAt(),
                 updatedValues.getErrorDetail(),
                 toJson(updatedValues.getContractOffers()),
                 toJson(updatedValues.getTraceContext()),
@@ -227,6 +254,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getState(),
                 negotiation.getStateCount(),
                 negotiation.getStateTimestamp(),
+                negotiation.getNextAttemptAt(),
                 negotiation.getErrorDetail(),
                 agrId,
                 toJson(negotiation.getContractOffers()),
@@ -313,6 +341,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
                 }))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
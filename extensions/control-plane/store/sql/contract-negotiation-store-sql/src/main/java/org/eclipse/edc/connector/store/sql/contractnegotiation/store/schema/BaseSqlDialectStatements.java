@@ -38,17 +38,17 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getUpdateNegotiationTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?%s, %s=?, %s=? WHERE id = ?;",
-                getContractNegotiationTable(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
+        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?%s, %s=?, %s=? WHERE id = ?;",
+                getContractNegotiationTable(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(), getNextAttemptAtColumn(),
                 getErrorDetailColumn(), getContractOffersColumn(), getFormatJsonOperator(), getTraceContextColumn(), getFormatJsonOperator(), getContractAgreementIdFkColumn(), getUpdatedAtColumn());
     }
 
     @Override
     public String getInsertNegotiationTemplate() {
-        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)\n" +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?%s, ?%s, ?, ?); ",
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s)\n" +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?%s, ?%s, ?, ?); ",
                 getContractNegotiationTable(), getIdColumn(), getCorrelationIdColumn(), getCounterPartyIdColumn(), getCounterPartyAddressColumn(), getTypeColumn(), getProtocolColumn(), getStateColumn(), getStateCountColumn(),
-                getStateTimestampColumn(), getErrorDetailColumn(), getContractAgreementIdFkColumn(), getContractOffersColumn(), getTraceContextColumn(), getCreatedAtColumn(), getUpdatedAtColumn(), getFormatJsonOperator(), getFormatJsonOperator()
+                getStateTimestampColumn(), getNextAttemptAtColumn(), getErrorDetailColumn(), getContractAgreementIdFkColumn(), getContractOffersColumn(), getTraceContextColumn(), getCreatedAtColumn(), getUpdatedAtColumn(), getFormatJsonOperator(), getFormatJsonOperator()
         );
     }
 
@@ -59,10 +59,18 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
 
     @Override
     public String getNextForStateTemplate() {
+        // oldest first, served by the (state, state_timestamp) index; the lease check is a primary key lookup per row.
+        // Negotiations that are backing off after a failed attempt are skipped until they are due
         return format("SELECT * FROM %s\n" +
-                "WHERE %s=?\n" +
-                "  AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))\n" +
-                "LIMIT ?;", getContractNegotiationTable(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn());
+                "WHERE %s.%s=?\n" +
+                "  AND %s.%s <= ?\n" +
+                "  AND (%s.%s IS NULL OR EXISTS (SELECT 1 FROM %s l WHERE l.%s = %s.%s AND (? > (l.%s + l.%s))))\n" +
+                "ORDER BY %s.%s ASC\n" +
+                "LIMIT ?;", getContractNegotiationTable(), getContractNegotiationTable(), getStateColumn(),
+                getContractNegotiationTable(), getNextAttemptAtColumn(),
+                getContractNegotiationTable(), getLeaseIdColumn(), getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getLeaseIdColumn(),
+                getLeasedAtColumn(), getLeaseDurationColumn(),
+                getContractNegotiationTable(), getStateTimestampColumn());
     }
 
     @Override
@@ -90,6 +98,11 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
         return format("SELECT * FROM %s LEFT JOIN %s agr ON %s.%s = agr.%s", getContractNegotiationTable(), getContractAgreementTable(), getContractNegotiationTable(), getContractAgreementIdFkColumn(), getContractAgreementIdColumn());
     }
 
+    @Override
+    public String getExistsAgreementForAssetTemplate() {
+        return format("SELECT EXISTS (SELECT 1 FROM %s WHERE %s = ?);", getContractAgreementTable(), getAssetIdColumn());
+    }
+
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         // for generic SQL, only the limit and offset fields are used!
@@ -43,6 +43,8 @@ public interface ContractNegotiationStatements extends LeaseStatements {
 
     String getSelectNegotiationsTemplate();
 
+    String getExistsAgreementForAssetTemplate();
+
     @Override
     default String getLeasedByColumn() {
         return "leased_by";
@@ -148,6 +150,10 @@ public interface ContractNegotiationStatements extends LeaseStatements {
         return "error_detail";
     }
 
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
     default String getTraceContextColumn() {
         return "trace_context";
     }
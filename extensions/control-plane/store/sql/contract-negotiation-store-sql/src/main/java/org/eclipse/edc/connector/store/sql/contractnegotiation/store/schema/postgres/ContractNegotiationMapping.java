@@ -44,7 +44,8 @@ class ContractNegotiationMapping extends TranslationMapping {
         add(FIELD_COUNTER_PARTY_ID, statements.getCounterPartyIdColumn());
         add(FIELD_COUNTERPARTY_ADDRESS, statements.getCounterPartyAddressColumn());
         add(FIELD_PROTOCOL, statements.getProtocolColumn());
-        add(FIELD_TYPE, statements.getTypeColumn());
+        // the type is stored as ordinal
+        add(FIELD_TYPE, statements.getTypeColumn(), type -> ContractNegotiation.Type.valueOf(type.toString()).ordinal());
         add(FIELD_STATE, statements.getStateColumn());
         add(FIELD_STATECOUNT, statements.getStateCountColumn());
 
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.pos
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.connector.store.sql.contractnegotiation.store.schema.ContractNegotiationStatements;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.dialect.JsonbContainmentConditionProvider;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 import org.eclipse.edc.sql.translation.TranslationMapping;
@@ -33,20 +34,27 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
     @Override
     public SqlQueryStatement createNegotiationsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectNegotiationsTemplate();
-        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this));
+        // the GIN index on the agreement policy serves equality criteria on its properties
+        var jsonbContainment = JsonbContainmentConditionProvider.Builder.newInstance()
+                .document("contractAgreement.policy", getPolicyColumn())
+                .build();
+        return new SqlQueryStatement(selectStmt, querySpec, new ContractNegotiationMapping(this), jsonbContainment);
     }
 
     @Override
     public SqlQueryStatement createAgreementsQuery(QuerySpec querySpec) {
         var selectStmt = getSelectFromAgreementsTemplate();
-        return new SqlQueryStatement(selectStmt, querySpec, new ContractAgreementMapping(this));
+        var jsonbContainment = JsonbContainmentConditionProvider.Builder.newInstance()
+                .document("policy", getPolicyColumn())
+                .build();
+        return new SqlQueryStatement(selectStmt, querySpec, new ContractAgreementMapping(this), jsonbContainment);
     }
 
     /**
-     * Overridable operator to convert strings to JSON. For postgres, this is the "::json" operator
+     * Overridable operator to convert strings to JSON. For postgres, this is the "::jsonb" operator
      */
     @Override
     protected String getFormatJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 }
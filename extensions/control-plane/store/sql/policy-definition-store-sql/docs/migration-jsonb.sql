@@ -0,0 +1,19 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- Migrates an existing schema from JSON to JSONB columns and creates the indexes that serve JSON-path queries.
+-- The conversion rewrites the table, so it should be run during a maintenance window.
+
+ALTER TABLE edc_policydefinitions
+    ALTER COLUMN permissions TYPE JSONB USING permissions::JSONB,
+    ALTER COLUMN prohibitions TYPE JSONB USING prohibitions::JSONB,
+    ALTER COLUMN duties TYPE JSONB USING duties::JSONB,
+    ALTER COLUMN extensible_properties TYPE JSONB USING extensible_properties::JSONB;
+
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_permissions_gin_index
+    ON edc_policydefinitions USING GIN (permissions jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_prohibitions_gin_index
+    ON edc_policydefinitions USING GIN (prohibitions jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_duties_gin_index
+    ON edc_policydefinitions USING GIN (duties jsonb_path_ops);
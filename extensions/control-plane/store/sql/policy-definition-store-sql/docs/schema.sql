@@ -18,10 +18,10 @@ CREATE TABLE IF NOT EXISTS edc_policydefinitions
 (
     policy_id             VARCHAR NOT NULL,
     created_at            BIGINT  NOT NULL,
-    permissions           JSON,
-    prohibitions          JSON,
-    duties                JSON,
-    extensible_properties JSON,
+    permissions           JSONB,
+    prohibitions          JSONB,
+    duties                JSONB,
+    extensible_properties JSONB,
     inherits_from         VARCHAR,
     assigner              VARCHAR,
     assignee              VARCHAR,
@@ -38,3 +38,13 @@ COMMENT ON COLUMN edc_policydefinitions.policy_type IS 'Java PolicyType serializ
 
 CREATE UNIQUE INDEX IF NOT EXISTS edc_policydefinitions_id_uindex
     ON edc_policydefinitions (policy_id);
+
+-- GIN indexes serve the JSONB containment (@>) conditions generated for equality criteria on the rules of a policy
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_permissions_gin_index
+    ON edc_policydefinitions USING GIN (permissions jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_prohibitions_gin_index
+    ON edc_policydefinitions USING GIN (prohibitions jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS edc_policydefinitions_duties_gin_index
+    ON edc_policydefinitions USING GIN (duties jsonb_path_ops);
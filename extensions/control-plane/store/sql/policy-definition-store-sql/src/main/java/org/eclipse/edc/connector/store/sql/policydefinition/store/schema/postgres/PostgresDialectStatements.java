@@ -16,13 +16,15 @@ package org.eclipse.edc.connector.store.sql.policydefinition.store.schema.postgr
 
 import org.eclipse.edc.connector.store.sql.policydefinition.store.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.dialect.JsonbContainmentConditionProvider;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.IndexConditionProvider;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
-import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
+import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonbArrayTemplate;
 
 /**
- * Statements and clauses specific to the Postgres dialect, such as JSON operators and functions.
+ * Statements and clauses specific to the Postgres dialect, such as JSONB operators and functions.
  */
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
     // the aliases MUST be different from the actual column names, to avoid name clashes
@@ -33,26 +35,38 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         if (querySpec.containsAnyLeftOperand("policy.prohibitions")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), getProhibitionsColumn(), PROHIBITIONS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this));
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), getProhibitionsColumn(), PROHIBITIONS_ALIAS);
+            return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this), jsonbContainment());
         } else if (querySpec.containsAnyLeftOperand("policy.permissions")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), getPermissionsColumn(), PERMISSIONS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this));
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), getPermissionsColumn(), PERMISSIONS_ALIAS);
+            return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this), jsonbContainment());
         } else if (querySpec.containsAnyLeftOperand("policy.obligations")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), getDutiesColumn(), OBLIGATIONS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this));
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), getDutiesColumn(), OBLIGATIONS_ALIAS);
+            return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this), jsonbContainment());
         } else if (querySpec.containsAnyLeftOperand("policy.extensibleProperties")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), getExtensiblePropertiesColumn(), EXT_PROPERTIES_ALIAS);
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), getExtensiblePropertiesColumn(), EXT_PROPERTIES_ALIAS);
             return new SqlQueryStatement(select, querySpec, new PolicyDefinitionMapping(this));
         } else {
             return super.createQuery(querySpec);
         }
     }
 
+    /**
+     * Criteria on the elements of a rule array select the rows of the expanded array, the containment condition on the
+     * array column lets the GIN indexes declared in the schema narrow down the policies beforehand.
+     */
+    private IndexConditionProvider jsonbContainment() {
+        return JsonbContainmentConditionProvider.Builder.newInstance()
+                .array("policy.prohibitions", getProhibitionsColumn())
+                .array("policy.permissions", getPermissionsColumn())
+                .array("policy.obligations", getDutiesColumn())
+                .build();
+    }
+
 }
@@ -26,15 +26,23 @@ class PostgresDialectStatementsTest {
 
     @Test
     void getFormatAsJsonOperator() {
-        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::json");
+        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::jsonb");
     }
 
     @Test
     void createQuery_jsonArrayProperty() {
-        assertThat(statements.createQuery(createQuery("policy.permissions.duties.target=foo")).getQueryAsString()).contains("->>", "->", "json_array_elements");
-        assertThat(statements.createQuery(createQuery("policy.prohibitions.action.type=foo")).getQueryAsString()).contains("->>", "->", "json_array_elements");
-        assertThat(statements.createQuery(createQuery("policy.obligations.assignee=foo")).getQueryAsString()).contains("->>", "->", "json_array_elements");
-        assertThat(statements.createQuery(createQuery("policy.extensibleProperties.something=foo")).getQueryAsString()).contains("->>", "->", "json_array_elements");
+        assertThat(statements.createQuery(createQuery("policy.permissions.duties.target=foo")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+        assertThat(statements.createQuery(createQuery("policy.prohibitions.action.type=foo")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+        assertThat(statements.createQuery(createQuery("policy.obligations.assignee=foo")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+        assertThat(statements.createQuery(createQuery("policy.extensibleProperties.something=foo")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+    }
+
+    @Test
+    void createQuery_jsonArrayPropertyEquals_shouldAddContainment() {
+        var statement = statements.createQuery(createQuery("policy.prohibitions.action.type=foo"));
+
+        assertThat(statement.getQueryAsString()).contains("prohibitions @> ?::jsonb", "pro -> 'action' ->> 'type' = ?");
+        assertThat(statement.getParameters()).contains("[{\"action\":{\"type\":\"foo\"}}]", "foo");
     }
 
     @Test
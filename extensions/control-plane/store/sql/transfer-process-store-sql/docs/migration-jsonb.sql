@@ -0,0 +1,29 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- Migrates an existing schema from JSON to JSONB columns and creates the indexes that serve JSON-path queries.
+-- The conversion rewrites the tables, so it should be run during a maintenance window.
+
+ALTER TABLE edc_transfer_process
+    ALTER COLUMN trace_context TYPE JSONB USING trace_context::JSONB,
+    ALTER COLUMN resource_manifest TYPE JSONB USING resource_manifest::JSONB,
+    ALTER COLUMN provisioned_resource_set TYPE JSONB USING provisioned_resource_set::JSONB,
+    ALTER COLUMN content_data_address TYPE JSONB USING content_data_address::JSONB,
+    ALTER COLUMN deprovisioned_resources TYPE JSONB USING deprovisioned_resources::JSONB,
+    ALTER COLUMN transferprocess_properties TYPE JSONB USING transferprocess_properties::JSONB;
+
+ALTER TABLE edc_data_request
+    ALTER COLUMN data_destination TYPE JSONB USING data_destination::JSONB,
+    ALTER COLUMN properties TYPE JSONB USING properties::JSONB,
+    ALTER COLUMN transfer_type TYPE JSONB USING transfer_type::JSONB;
+
+CREATE INDEX IF NOT EXISTS transfer_process_properties_gin_index
+    ON edc_transfer_process USING GIN (transferprocess_properties jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS data_request_properties_gin_index
+    ON edc_data_request USING GIN (properties jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS data_request_data_destination_gin_index
+    ON edc_data_request USING GIN (data_destination jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS data_request_data_destination_type_index
+    ON edc_data_request ((data_destination -> 'properties' ->> 'type') text_pattern_ops);
@@ -0,0 +1,8 @@
+-- Statements are designed for and tested with Postgres only!
+
+-- Adds the column that nextForState uses to skip transfer processes that are backing off after a failed attempt.
+
+ALTER TABLE edc_transfer_process
+    ADD COLUMN IF NOT EXISTS next_attempt_at BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_transfer_process.next_attempt_at IS 'posix timestamp before which nextForState skips the transfer process';
@@ -23,21 +23,24 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     state                      INTEGER           NOT NULL,
     state_count                INTEGER DEFAULT 0 NOT NULL,
     state_time_stamp           BIGINT,
+    next_attempt_at            BIGINT DEFAULT 0 NOT NULL,
     created_at                 BIGINT            NOT NULL,
     updated_at                 BIGINT            NOT NULL,
-    trace_context              JSON,
+    trace_context              JSONB,
     error_detail               VARCHAR,
-    resource_manifest          JSON,
-    provisioned_resource_set   JSON,
-    content_data_address       JSON,
-    deprovisioned_resources    JSON,
-    transferprocess_properties JSON,
+    resource_manifest          JSONB,
+    provisioned_resource_set   JSONB,
+    content_data_address       JSONB,
+    deprovisioned_resources    JSONB,
+    transferprocess_properties JSONB,
     lease_id                   VARCHAR
         CONSTRAINT transfer_process_lease_lease_id_fk
             REFERENCES edc_lease
             ON DELETE SET NULL
 );
 
+COMMENT ON COLUMN edc_transfer_process.next_attempt_at IS 'posix timestamp before which nextForState skips the transfer process';
+
 COMMENT ON COLUMN edc_transfer_process.trace_context IS 'Java Map serialized as JSON';
 
 COMMENT ON COLUMN edc_transfer_process.resource_manifest IS 'java ResourceManifest serialized as JSON';
@@ -63,10 +66,10 @@ CREATE TABLE IF NOT EXISTS edc_data_request
     connector_id        VARCHAR,
     asset_id            VARCHAR NOT NULL,
     contract_id         VARCHAR NOT NULL,
-    data_destination    JSON    NOT NULL,
+    data_destination    JSONB   NOT NULL,
     managed_resources   BOOLEAN DEFAULT TRUE,
-    properties          JSON,
-    transfer_type       JSON,
+    properties          JSONB,
+    transfer_type       JSONB,
     transfer_process_id VARCHAR NOT NULL
         CONSTRAINT data_request_transfer_process_id_fk
             REFERENCES edc_transfer_process
@@ -79,10 +82,40 @@ COMMENT ON COLUMN edc_data_request.properties IS 'java Map serialized as JSON';
 
 COMMENT ON COLUMN edc_data_request.transfer_type IS 'TransferType serialized as JSON';
 
+-- GIN indexes serve the JSONB containment (@>) conditions generated for equality criteria on these columns
+CREATE INDEX IF NOT EXISTS transfer_process_properties_gin_index
+    ON edc_transfer_process USING GIN (transferprocess_properties jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS data_request_properties_gin_index
+    ON edc_data_request USING GIN (properties jsonb_path_ops);
+
+CREATE INDEX IF NOT EXISTS data_request_data_destination_gin_index
+    ON edc_data_request USING GIN (data_destination jsonb_path_ops);
+
+-- expression index for the most commonly queried path that is not an equality, e.g. "dataRequest.dataDestination.properties.type like ..."
+CREATE INDEX IF NOT EXISTS data_request_data_destination_type_index
+    ON edc_data_request ((data_destination -> 'properties' ->> 'type') text_pattern_ops);
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS data_request_id_uindex
     ON edc_data_request (datarequest_id);
 
+-- nextForState filters on state and orders by state_time_stamp. The index only contains transfer processes that
+-- the state machine still works on, so its size does not grow with the number of COMPLETED (800), TERMINATED (850)
+-- and DEPROVISIONED (1000) transfer processes that are retained.
+CREATE INDEX IF NOT EXISTS transfer_process_state_index
+    ON edc_transfer_process (state, state_time_stamp)
+    WHERE state NOT IN (800, 850, 1000);
+
+CREATE INDEX IF NOT EXISTS transfer_process_lease_id_index
+    ON edc_transfer_process (lease_id);
+
+CREATE INDEX IF NOT EXISTS data_request_transfer_process_id_index
+    ON edc_data_request (transfer_process_id);
+
+CREATE INDEX IF NOT EXISTS data_request_process_id_index
+    ON edc_data_request (process_id);
+
 CREATE UNIQUE INDEX IF NOT EXISTS lease_lease_id_uindex
     ON edc_lease (lease_id);
 
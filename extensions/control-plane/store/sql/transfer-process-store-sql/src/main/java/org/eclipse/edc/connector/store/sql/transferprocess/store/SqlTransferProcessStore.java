@@ -38,7 +38,9 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -71,7 +73,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
 
             try (
                     var connection = getConnection();
-                    var stream = SqlQueryExecutor.executeQuery(connection, true, this::mapTransferProcess, stmt, state, now, max)
+                    var stream = SqlQueryExecutor.executeQuery(connection, true, this::mapTransferProcess, stmt, state, now, now, max)
             ) {
                 var transferProcesses = stream.collect(toList());
                 transferProcesses.forEach(t -> leaseContext.by(leaseHolderName).withConnection(connection).acquireLease(t.getId()));
@@ -103,6 +105,18 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         });
     }
 
+    @Override
+    public @Nullable Map<String, String> propertiesForDataRequestId(String dataRequestId) {
+        return transactionContext.execute(() -> {
+            var stmt = statements.getPropertiesForDataRequestIdTemplate();
+            try {
+                return executeQuerySingle(getConnection(), true, this::mapProperties, stmt, dataRequestId);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void save(TransferProcess process) {
         Objects.requireNonNull(process.getId(), "TransferProcesses must have an ID!");
@@ -191,6 +205,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         SqlQueryExecutor.executeQuery(conn, updateStmt, process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
+                process.getNextAttemptAt(),
                 toJson(process.getTraceContext()),
                 process.getErrorDetail(),
                 toJson(process.getResourceManifest()),
@@ -245,6 +260,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getState(),
                 process.getStateCount(),
                 process.getStateTimestamp(),
+                process.getNextAttemptAt(),
                 process.getCreatedAt(),
                 process.getUpdatedAt(),
                 toJson(process.getTraceContext()),
@@ -280,6 +296,11 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 dr.isManagedResources());
     }
 
+    private Map<String, String> mapProperties(ResultSet resultSet) throws SQLException {
+        Map<String, String> properties = fromJson(resultSet.getString(statements.getPropertiesColumn()), getTypeRef());
+        return properties != null ? properties : new HashMap<>();
+    }
+
     private TransferProcess mapTransferProcess(ResultSet resultSet) throws SQLException {
         return TransferProcess.Builder.newInstance()
                 .id(resultSet.getString(statements.getIdColumn()))
@@ -288,6 +309,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .updatedAt(resultSet.getLong(statements.getUpdatedAtColumn()))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .resourceManifest(fromJson(resultSet.getString(statements.getResourceManifestColumn()), ResourceManifest.class))
@@ -51,10 +51,10 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
 
     @Override
     public String getInsertStatement() {
-        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?%s, ?, ?%s, ?%s, ?%s, ?, ?%s, ?%s);",
+        return format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s, %s) VALUES (?, ?, ?, ?, ?, ?, ?, ?%s, ?, ?%s, ?%s, ?%s, ?, ?%s, ?%s);",
                 // keys
                 getTransferProcessTableName(), getIdColumn(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
-                getCreatedAtColumn(), getUpdatedAtColumn(),
+                getNextAttemptAtColumn(), getCreatedAtColumn(), getUpdatedAtColumn(),
                 getTraceContextColumn(), getErrorDetailColumn(), getResourceManifestColumn(),
                 getProvisionedResourcesetColumn(), getContentDataAddressColumn(), getTypeColumn(), getDeprovisionedResourcesColumn(), getPropertiesColumn(),
                 // values
@@ -69,6 +69,13 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getDataRequestTable(), getDataRequestTable(), getDataRequestIdColumn());
     }
 
+    @Override
+    public String getPropertiesForDataRequestIdTemplate() {
+        return format("SELECT tp.%s FROM %s tp JOIN %s dr ON tp.%s = dr.%s WHERE dr.%s = ?;",
+                getPropertiesColumn(), getTransferProcessTableName(), getDataRequestTable(),
+                getIdColumn(), getTransferProcessIdFkColumn(), getDataRequestIdColumn());
+    }
+
     @Override
     public String getDeleteTransferProcessTemplate() {
         return format(DELETE_STATEMENT, getTransferProcessTableName(), getIdColumn());
@@ -76,18 +83,24 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
 
     @Override
     public String getNextForStateTemplate() {
+        // the lease check is a primary key lookup per candidate row instead of a scan over all expired leases, so
+        // that the (state, state_time_stamp) index can serve the ORDER BY ... LIMIT directly. Entities that are backing
+        // off after a failed attempt are skipped until they are due, instead of being leased only to be released again
         return format("SELECT *, dr.%s as edc_data_request_id FROM %s LEFT OUTER JOIN %s dr ON %s.%s = dr.transfer_process_id " +
-                        "WHERE %s=? " +
-                        "AND (%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s)))) " +
-                        "ORDER BY %s ASC LIMIT ? ;",
-                getDataRequestIdColumn(), getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(), getStateColumn(), getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
-                getLeaseTableName(), getLeasedAtColumn(), getLeaseDurationColumn(), getStateTimestampColumn());
+                        "WHERE %s.%s=? AND %s.%s <= ? " +
+                        "AND (%s.%s IS NULL OR EXISTS (SELECT 1 FROM %s l WHERE l.%s = %s.%s AND (? > (l.%s + l.%s)))) " +
+                        "ORDER BY %s.%s ASC LIMIT ? ;",
+                getDataRequestIdColumn(), getTransferProcessTableName(), getDataRequestTable(), getTransferProcessTableName(), getIdColumn(),
+                getTransferProcessTableName(), getStateColumn(), getTransferProcessTableName(), getNextAttemptAtColumn(),
+                getTransferProcessTableName(), getLeaseIdColumn(), getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getLeaseIdColumn(),
+                getLeasedAtColumn(), getLeaseDurationColumn(),
+                getTransferProcessTableName(), getStateTimestampColumn());
     }
 
     @Override
     public String getUpdateTransferProcessTemplate() {
-        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s, %s=?%s, %s=?%s, %s=?%s, %s=? WHERE %s=?",
-                getTransferProcessTableName(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(),
+        return format("UPDATE %s SET %s=?, %s=?, %s=?, %s=?, %s=?%s, %s=?, %s=?%s, %s=?%s, %s=?%s, %s=?%s, %s=? WHERE %s=?",
+                getTransferProcessTableName(), getStateColumn(), getStateCountColumn(), getStateTimestampColumn(), getNextAttemptAtColumn(),
                 getTraceContextColumn(), getFormatAsJsonOperator(), getErrorDetailColumn(),
                 getResourceManifestColumn(), getFormatAsJsonOperator(), getProvisionedResourcesetColumn(), getFormatAsJsonOperator(),
                 getContentDataAddressColumn(), getFormatAsJsonOperator(), getDeprovisionedResourcesColumn(), getFormatAsJsonOperator(), getUpdatedAtColumn(), getIdColumn());
@@ -30,6 +30,8 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
 
     String getProcessIdForTransferIdTemplate();
 
+    String getPropertiesForDataRequestIdTemplate();
+
     String getDeleteTransferProcessTemplate();
 
     String getNextForStateTemplate();
@@ -58,6 +60,10 @@ public interface TransferProcessStoreStatements extends LeaseStatements {
         return "state_time_stamp";
     }
 
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
     default String getTraceContextColumn() {
         return "trace_context";
     }
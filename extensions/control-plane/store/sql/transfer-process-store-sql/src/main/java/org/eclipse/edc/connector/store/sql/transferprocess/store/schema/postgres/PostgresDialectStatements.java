@@ -16,14 +16,16 @@ package org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgre
 
 import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.BaseSqlDialectStatements;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.sql.dialect.JsonbContainmentConditionProvider;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.IndexConditionProvider;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 import static java.lang.String.format;
-import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonArrayTemplate;
+import static org.eclipse.edc.sql.dialect.PostgresDialect.getSelectFromJsonbArrayTemplate;
 
 /**
- * Postgres-specific variations of the SQL statements based on Postgres's ability to use JSON operators and -functions.
+ * Postgres-specific variations of the SQL statements based on Postgres's ability to use JSONB operators and -functions.
  */
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
@@ -33,22 +35,38 @@ public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
     @Override
     public String getFormatAsJsonOperator() {
-        return PostgresDialect.getJsonCastOperator();
+        return PostgresDialect.getJsonbCastOperator();
     }
 
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         // if any criterion targets a JSON array field, we need to slightly adapt the FROM clause
         if (querySpec.containsAnyLeftOperand("resourceManifest.definitions")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getResourceManifestColumn(), "definitions"), DEFINITIONS_ALIAS);
+            return createQuery(select, querySpec);
         } else if (querySpec.containsAnyLeftOperand("provisionedResourceSet.resources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getProvisionedResourcesetColumn(), "resources"), RESOURCES_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), format("%s -> '%s'", getProvisionedResourcesetColumn(), "resources"), RESOURCES_ALIAS);
+            return createQuery(select, querySpec);
         } else if (querySpec.containsAnyLeftOperand("deprovisionedResources")) {
-            var select = getSelectFromJsonArrayTemplate(getSelectTemplate(), format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
-            return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this));
+            var select = getSelectFromJsonbArrayTemplate(getSelectTemplate(), format("%s", getDeprovisionedResourcesColumn()), DEPROVISIONED_RESOURCES_ALIAS);
+            return createQuery(select, querySpec);
         }
-        return super.createQuery(querySpec);
+        return createQuery(getSelectTemplate(), querySpec);
+    }
+
+    private SqlQueryStatement createQuery(String select, QuerySpec querySpec) {
+        return new SqlQueryStatement(select, querySpec, new TransferProcessMapping(this), jsonbContainment());
+    }
+
+    /**
+     * Equality criteria on these documents are accompanied by containment conditions, which are served by the GIN
+     * indexes declared in the schema.
+     */
+    private IndexConditionProvider jsonbContainment() {
+        return JsonbContainmentConditionProvider.Builder.newInstance()
+                .document("properties", getPropertiesColumn())
+                .document("dataRequest.properties", getDataRequestPropertiesColumn())
+                .document("dataRequest.dataDestination", getDataDestinationColumn())
+                .build();
     }
 }
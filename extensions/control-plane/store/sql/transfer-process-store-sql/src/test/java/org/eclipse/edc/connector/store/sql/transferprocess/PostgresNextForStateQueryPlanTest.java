@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.transferprocess;
+
+import org.eclipse.edc.connector.store.sql.transferprocess.store.schema.postgres.PostgresDialectStatements;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
+import org.eclipse.edc.junit.annotations.PostgresqlDbIntegrationTest;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmarks the {@code nextForState} query against a growing number of retained, finished transfer processes. The
+ * query plan and the number of buffers it touches must not depend on the size of the history.
+ */
+@PostgresqlDbIntegrationTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresNextForStateQueryPlanTest {
+
+    private static final int ACTIVE_PROCESSES = 100;
+    private static final int BATCH_SIZE = 5;
+    private static final Pattern BUFFERS = Pattern.compile("Buffers: shared(?: hit=(\\d+))?(?: read=(\\d+))?");
+
+    private final PostgresDialectStatements statements = new PostgresDialectStatements();
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension) throws IOException {
+        var schema = Files.readString(Paths.get("./docs/schema.sql"));
+        extension.runQuery(schema);
+        insertTransferProcesses(extension, "active", ACTIVE_PROCESSES, TransferProcessStates.INITIAL.code(), 0);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getTransferProcessTableName() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getDataRequestTable() + " CASCADE");
+        extension.runQuery("DROP TABLE " + statements.getLeaseTableName() + " CASCADE");
+    }
+
+    @Test
+    void nextForState_costDoesNotGrowWithHistory(PostgresqlStoreSetupExtension extension) throws SQLException {
+        var buffersTouched = new ArrayList<Long>();
+        var retained = 0;
+        for (var historySize : List.of(1_000, 10_000, 100_000)) {
+            insertTransferProcesses(extension, "completed", historySize - retained, TransferProcessStates.COMPLETED.code(), retained);
+            retained = historySize;
+            extension.runQuery("ANALYZE " + statements.getTransferProcessTableName());
+
+            var plan = explain(extension);
+
+            assertThat(plan).contains("transfer_process_state_index")
+                    .doesNotContain("Seq Scan on " + statements.getTransferProcessTableName());
+            buffersTouched.add(buffers(plan));
+        }
+
+        // an index scan touches the same handful of pages, a sequential scan would grow by two orders of magnitude
+        var smallest = buffersTouched.get(0);
+        assertThat(buffersTouched).allSatisfy(touched -> assertThat(touched).isLessThanOrEqualTo(smallest * 2 + 10));
+    }
+
+    private String explain(PostgresqlStoreSetupExtension extension) throws SQLException {
+        var sql = "EXPLAIN (ANALYZE, BUFFERS) " + statements.getNextForStateTemplate();
+        try (var statement = extension.getConnection().prepareStatement(sql)) {
+            statement.setInt(1, TransferProcessStates.INITIAL.code());
+            var now = System.currentTimeMillis();
+            statement.setLong(2, now);
+            statement.setLong(3, now);
+            statement.setInt(4, BATCH_SIZE);
+            var plan = new StringBuilder();
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append("\n");
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * Returns the number of shared buffers touched by the top plan node, which includes all of its children.
+     */
+    private long buffers(String plan) {
+        var matcher = BUFFERS.matcher(plan);
+        assertThat(matcher.find()).describedAs("plan reports buffers: %s", plan).isTrue();
+        var hit = matcher.group(1) != null ? Long.parseLong(matcher.group(1)) : 0;
+        var read = matcher.group(2) != null ? Long.parseLong(matcher.group(2)) : 0;
+        return hit + read;
+    }
+
+    private void insertTransferProcesses(PostgresqlStoreSetupExtension extension, String prefix, int count, int state, int offset) {
+        extension.runQuery(format("INSERT INTO %s (%s, %s, %s, %s, %s, %s, %s) " +
+                        "SELECT '%s-' || g, 'CONSUMER', %d, 1, g, g, g FROM generate_series(%d, %d) AS g",
+                statements.getTransferProcessTableName(), statements.getIdColumn(), statements.getTypeColumn(), statements.getStateColumn(),
+                statements.getStateCountColumn(), statements.getStateTimestampColumn(), statements.getCreatedAtColumn(), statements.getUpdatedAtColumn(),
+                prefix, state, offset + 1, offset + count));
+    }
+}
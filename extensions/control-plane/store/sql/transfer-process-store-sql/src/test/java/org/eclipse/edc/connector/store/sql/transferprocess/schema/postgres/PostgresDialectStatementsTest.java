@@ -33,14 +33,22 @@ class PostgresDialectStatementsTest {
 
     @Test
     void createQuery_isJsonArray() {
-        assertThat(statements.createQuery(query("deprovisionedResources.inProcess=true")).getQueryAsString()).contains("->>", "->", "json_array_elements");
-        assertThat(statements.createQuery(query("provisionedResourceSet.resources.id=something")).getQueryAsString()).contains("->>", "->", "json_array_elements");
-        assertThat(statements.createQuery(query("resourceManifest.definitions.id like %foo")).getQueryAsString()).contains("->>", "->", "json_array_elements");
+        assertThat(statements.createQuery(query("deprovisionedResources.inProcess=true")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+        assertThat(statements.createQuery(query("provisionedResourceSet.resources.id=something")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+        assertThat(statements.createQuery(query("resourceManifest.definitions.id like %foo")).getQueryAsString()).contains("->>", "->", "jsonb_array_elements");
+    }
+
+    @Test
+    void createQuery_jsonbDocumentEquals_shouldAddContainment() {
+        var statement = statements.createQuery(query("dataRequest.dataDestination.properties.type=AzureStorage"));
+
+        assertThat(statement.getQueryAsString()).contains("data_destination @> ?::jsonb", "data_destination -> 'properties' ->> 'type' = ?");
+        assertThat(statement.getParameters()).contains("{\"properties\":{\"type\":\"AzureStorage\"}}", "AzureStorage");
     }
 
     @Test
     void getFormatAsJsonOperator() {
-        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::json");
+        assertThat(statements.getFormatAsJsonOperator()).isEqualTo("::jsonb");
     }
 
     private QuerySpec query(String filter) {
@@ -18,26 +18,36 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.Curve;
 import com.nimbusds.jose.jwk.KeyUse;
 import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
-import org.eclipse.edc.connector.transfer.dataplane.security.ConsumerPullTransferKeyPair;
-import org.eclipse.edc.connector.transfer.dataplane.security.PublicKeyParser;
+import org.eclipse.edc.connector.transfer.dataplane.security.ConsumerPullTransferKeyLoader;
+import org.eclipse.edc.connector.transfer.dataplane.security.ConsumerPullTransferKeyRing;
 import org.eclipse.edc.connector.transfer.dataplane.spi.security.KeyPairWrapper;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
-import org.jetbrains.annotations.NotNull;
 
 import java.security.KeyPair;
-import java.security.PrivateKey;
-import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.DEFAULT_TOKEN_KEYS_REFRESH_SECONDS;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.DEFAULT_TOKEN_VALIDITY_SECONDS;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_KEYS_REFRESH_SECONDS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
+import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VALIDITY_SECONDS;
 import static org.eclipse.edc.connector.transfer.dataplane.TransferDataPlaneConfig.TOKEN_VERIFIER_PUBLIC_KEY_ALIAS;
 
 @Extension(value = ConsumerPullTransferProxyResolverExtension.NAME)
@@ -51,40 +61,84 @@ public class ConsumerPullTransferKeyPairExtension implements ServiceExtension {
     @Inject(required = false)
     private Vault vault;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ConsumerPullTransferKeyRing keyRing;
+    private ScheduledExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
     }
 
+    @Provider
+    public SigningKeyRing signingKeyRing(ServiceExtensionContext context) {
+        return keyRing(context);
+    }
+
     @Provider
     public KeyPairWrapper keyPairWrapper(ServiceExtensionContext context) {
+        return keyRing(context);
+    }
+
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private synchronized ConsumerPullTransferKeyRing keyRing(ServiceExtensionContext context) {
+        if (keyRing == null) {
+            keyRing = createKeyRing(context);
+        }
+        return keyRing;
+    }
+
+    private ConsumerPullTransferKeyRing createKeyRing(ServiceExtensionContext context) {
+        // keys that have been rotated out stay available for verification as long as the tokens signed with them are valid
+        var retention = Duration.ofSeconds(context.getSetting(TOKEN_VALIDITY_SECONDS, DEFAULT_TOKEN_VALIDITY_SECONDS));
         var pubKeyAlias = context.getSetting(TOKEN_VERIFIER_PUBLIC_KEY_ALIAS, null);
         var privKeyAlias = context.getSetting(TOKEN_SIGNER_PRIVATE_KEY_ALIAS, null);
         if (pubKeyAlias == null && privKeyAlias == null) {
             context.getMonitor().info(() -> "Either private (n)or public key alias not provided for 'consumer pull' transfer, a random key pair will be generated");
-            return new ConsumerPullTransferKeyPair(randomKeyPair());
+            return new ConsumerPullTransferKeyRing(randomKeyPair(), retention, clock);
         }
         Objects.requireNonNull(privateKeyResolver, "private key resolver");
         Objects.requireNonNull(vault, "vault");
         Objects.requireNonNull(pubKeyAlias, "public key alias");
         Objects.requireNonNull(privKeyAlias, "private key alias");
-        var publicKey = getPublicKey(pubKeyAlias);
-        var privateKey = getPrivateKey(privKeyAlias);
-        return new ConsumerPullTransferKeyPair(new KeyPair(publicKey, privateKey));
-    }
 
-    @NotNull
-    private PublicKey getPublicKey(String alias) {
-        var publicKeyPem = vault.resolveSecret(alias);
-        Objects.requireNonNull(publicKeyPem, "Failed to resolve public key with alias: " + alias + " from vault");
-        return PublicKeyParser.from(publicKeyPem);
+        var loader = new ConsumerPullTransferKeyLoader(vault, privateKeyResolver, pubKeyAlias, privKeyAlias);
+        var ring = new ConsumerPullTransferKeyRing(loader.load(), retention, clock);
+
+        var refreshSeconds = context.getSetting(TOKEN_KEYS_REFRESH_SECONDS, DEFAULT_TOKEN_KEYS_REFRESH_SECONDS);
+        if (refreshSeconds > 0) {
+            refreshExecutor = executorInstrumentation.instrument(
+                    Executors.newSingleThreadScheduledExecutor(r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        thread.setName("consumer-pull-key-refresh");
+                        thread.setDaemon(true);
+                        return thread;
+                    }), "consumer-pull-key-refresh");
+            var monitor = context.getMonitor();
+            refreshExecutor.scheduleWithFixedDelay(() -> refresh(loader, ring, monitor), refreshSeconds, refreshSeconds, TimeUnit.SECONDS);
+        }
+        return ring;
     }
 
-    @NotNull
-    private PrivateKey getPrivateKey(String alias) {
-        var privateKey = privateKeyResolver.resolvePrivateKey(alias, PrivateKey.class);
-        Objects.requireNonNull(privateKey, "Failed to resolve private key with alias: " + alias);
-        return privateKey;
+    private void refresh(ConsumerPullTransferKeyLoader loader, ConsumerPullTransferKeyRing ring, Monitor monitor) {
+        try {
+            if (ring.rotate(loader.load())) {
+                monitor.info(format("Rotated 'consumer pull' token signing key, new key id: %s", ring.getSigningKey().getId()));
+            }
+        } catch (Exception e) {
+            monitor.warning("Failed to refresh 'consumer pull' token keys, keeping the current ones", e);
+        }
     }
 
     private static KeyPair randomKeyPair() {
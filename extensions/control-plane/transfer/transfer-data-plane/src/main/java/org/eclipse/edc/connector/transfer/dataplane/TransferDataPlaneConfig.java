@@ -30,6 +30,10 @@ public interface TransferDataPlaneConfig {
     @Setting(value = "Alias of public key used for verifying the tokens, retrieved from the vault", defaultValue = "A random EC public key")
     String TOKEN_VERIFIER_PUBLIC_KEY_ALIAS = "edc.transfer.proxy.token.verifier.publickey.alias";
 
+    long DEFAULT_TOKEN_KEYS_REFRESH_SECONDS = 300; // 5min
+    @Setting(value = "Interval (in seconds) in which the token keys are re-read from the vault to pick up a rotated key, 0 disables it. Default value: " + DEFAULT_TOKEN_KEYS_REFRESH_SECONDS, type = "long")
+    String TOKEN_KEYS_REFRESH_SECONDS = "edc.transfer.proxy.token.keys.refresh.seconds";
+
     String DEFAULT_DPF_SELECTOR_STRATEGY = "random";
     @Setting(value = "Strategy for Data Plane instance selection", defaultValue = DEFAULT_DPF_SELECTOR_STRATEGY)
     String DPF_SELECTOR_STRATEGY = "edc.transfer.client.selector.strategy";
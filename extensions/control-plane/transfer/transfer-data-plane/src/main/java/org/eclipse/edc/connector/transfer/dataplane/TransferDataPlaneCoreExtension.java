@@ -24,15 +24,15 @@ import org.eclipse.edc.connector.transfer.dataplane.flow.ProviderPushTransferDat
 import org.eclipse.edc.connector.transfer.dataplane.proxy.ConsumerPullTransferEndpointDataReferenceServiceImpl;
 import org.eclipse.edc.connector.transfer.dataplane.proxy.ConsumerPullTransferProxyResolver;
 import org.eclipse.edc.connector.transfer.dataplane.proxy.ConsumerPullTransferProxyTransformer;
+import org.eclipse.edc.connector.transfer.dataplane.security.SigningKeyRingTokenGenerationService;
 import org.eclipse.edc.connector.transfer.dataplane.spi.proxy.ConsumerPullTransferEndpointDataReferenceService;
 import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
-import org.eclipse.edc.connector.transfer.dataplane.spi.security.KeyPairWrapper;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
 import org.eclipse.edc.connector.transfer.dataplane.validation.ContractValidationRule;
 import org.eclipse.edc.connector.transfer.dataplane.validation.ExpirationDateValidationRule;
 import org.eclipse.edc.connector.transfer.spi.callback.ControlPlaneApiUrl;
 import org.eclipse.edc.connector.transfer.spi.edr.EndpointDataReferenceTransformerRegistry;
 import org.eclipse.edc.connector.transfer.spi.flow.DataFlowManager;
-import org.eclipse.edc.jwt.TokenGenerationServiceImpl;
 import org.eclipse.edc.jwt.TokenValidationRulesRegistryImpl;
 import org.eclipse.edc.jwt.TokenValidationServiceImpl;
 import org.eclipse.edc.jwt.spi.TokenValidationService;
@@ -94,7 +94,7 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     private ControlApiConfiguration controlApiConfiguration;
 
     @Inject
-    private KeyPairWrapper keyPairWrapper;
+    private SigningKeyRing signingKeyRing;
 
     @Inject
     private ConsumerPullTransferProxyResolver proxyResolver;
@@ -113,7 +113,7 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var tokenValidationService = createTokenValidationService();
-        webService.registerResource(getApiContext(context), new ConsumerPullTransferTokenValidationApiController(tokenValidationService, dataEncrypter, typeManager));
+        webService.registerResource(getApiContext(context), new ConsumerPullTransferTokenValidationApiController(tokenValidationService, signingKeyRing, dataEncrypter, typeManager));
 
         var proxyReferenceService = createDataProxyReferenceService(context.getConfig(), typeManager);
         dataFlowManager.register(new ConsumerPullTransferDataFlowController(context.getConnectorId(), proxyResolver, proxyReferenceService, dispatcherRegistry));
@@ -143,7 +143,7 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
      */
     private ConsumerPullTransferEndpointDataReferenceService createDataProxyReferenceService(Config config, TypeManager typeManager) {
         var tokenValiditySeconds = config.getLong(TOKEN_VALIDITY_SECONDS, DEFAULT_TOKEN_VALIDITY_SECONDS);
-        var tokenGenerationService = new TokenGenerationServiceImpl(keyPairWrapper.get().getPrivate());
+        var tokenGenerationService = new SigningKeyRingTokenGenerationService(signingKeyRing);
         return new ConsumerPullTransferEndpointDataReferenceServiceImpl(tokenGenerationService, typeManager, tokenValiditySeconds, dataEncrypter, clock);
     }
 
@@ -154,6 +154,6 @@ public class TransferDataPlaneCoreExtension implements ServiceExtension {
         var registry = new TokenValidationRulesRegistryImpl();
         registry.addRule(new ContractValidationRule(contractNegotiationStore, clock));
         registry.addRule(new ExpirationDateValidationRule(clock));
-        return new TokenValidationServiceImpl(id -> keyPairWrapper.get().getPublic(), registry);
+        return new TokenValidationServiceImpl(signingKeyRing, registry);
     }
 }
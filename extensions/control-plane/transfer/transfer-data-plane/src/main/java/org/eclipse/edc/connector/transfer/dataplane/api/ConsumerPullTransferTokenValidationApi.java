@@ -21,6 +21,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotNull;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 
+import java.util.Map;
+
 @OpenAPIDefinition
 @Tag(name = "Consumer Pull Token Validation")
 public interface ConsumerPullTransferTokenValidationApi {
@@ -33,4 +35,11 @@ public interface ConsumerPullTransferTokenValidationApi {
                     @ApiResponse(responseCode = "403", description = "Token is invalid") }
     )
     DataAddress validate(@NotNull(message = "token cannot be null") String token);
+
+    @Operation(description = "Returns the public keys the tokens issued for consumer pull transfers can be verified with, as a JSON Web Key Set. " +
+            "Tokens reference their key through the `kid` header, keys that have been rotated out are listed until the tokens signed with them have expired.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "The JSON Web Key Set") }
+    )
+    Map<String, Object> jwks();
 }
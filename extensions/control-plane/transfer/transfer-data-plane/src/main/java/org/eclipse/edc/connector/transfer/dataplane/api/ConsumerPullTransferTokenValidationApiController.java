@@ -21,11 +21,14 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
 import org.eclipse.edc.jwt.spi.TokenValidationService;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 
+import java.util.Map;
+
 import static java.lang.String.format;
 import static java.lang.String.join;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.DATA_ADDRESS;
@@ -33,11 +36,13 @@ import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlane
 @Path("/token")
 public class ConsumerPullTransferTokenValidationApiController implements ConsumerPullTransferTokenValidationApi {
     private final TokenValidationService service;
+    private final SigningKeyRing signingKeyRing;
     private final DataEncrypter dataEncrypter;
     private final TypeManager typeManager;
 
-    public ConsumerPullTransferTokenValidationApiController(TokenValidationService service, DataEncrypter dataEncrypter, TypeManager typeManager) {
+    public ConsumerPullTransferTokenValidationApiController(TokenValidationService service, SigningKeyRing signingKeyRing, DataEncrypter dataEncrypter, TypeManager typeManager) {
         this.service = service;
+        this.signingKeyRing = signingKeyRing;
         this.dataEncrypter = dataEncrypter;
         this.typeManager = typeManager;
     }
@@ -65,4 +70,16 @@ public class ConsumerPullTransferTokenValidationApiController implements Consume
 
         return typeManager.readValue(dataEncrypter.decrypt((String) obj), DataAddress.class);
     }
+
+    /**
+     * Publish the public keys of the tokens as JSON Web Key Set, so that they can be verified without calling
+     * {@link #validate(String)}.
+     */
+    @GET
+    @Path("/jwks")
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Override
+    public Map<String, Object> jwks() {
+        return signingKeyRing.getJwkSet();
+    }
 }
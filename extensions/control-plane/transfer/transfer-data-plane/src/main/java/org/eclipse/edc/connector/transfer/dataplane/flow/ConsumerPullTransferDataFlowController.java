@@ -28,7 +28,10 @@ import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReferenceMessage;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
 
 public class ConsumerPullTransferDataFlowController implements DataFlowController {
@@ -52,10 +55,10 @@ public class ConsumerPullTransferDataFlowController implements DataFlowControlle
     }
 
     @Override
-    public @NotNull StatusResult<Void> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+    public @NotNull CompletableFuture<StatusResult<Void>> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
         var proxyUrl = proxyResolver.resolveProxyUrl(contentAddress);
         if (proxyUrl.failed()) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Failed to resolve proxy url for data request %s%n %s", dataRequest.getId(), proxyUrl.getFailureDetail()));
+            return completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, format("Failed to resolve proxy url for data request %s%n %s", dataRequest.getId(), proxyUrl.getFailureDetail())));
         }
 
         var proxyCreationRequest = ConsumerPullTransferEndpointDataReferenceCreationRequest.Builder.newInstance()
@@ -67,12 +70,12 @@ public class ConsumerPullTransferDataFlowController implements DataFlowControlle
 
         var proxyCreationResult = proxyReferenceService.createProxyReference(proxyCreationRequest);
         if (proxyCreationResult.failed()) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to generate proxy: " + proxyCreationResult.getFailureDetail());
+            return completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to generate proxy: " + proxyCreationResult.getFailureDetail()));
         }
         return dispatch(proxyCreationResult.getContent(), dataRequest);
     }
 
-    private StatusResult<Void> dispatch(@NotNull EndpointDataReference edr, @NotNull DataRequest dataRequest) {
+    private CompletableFuture<StatusResult<Void>> dispatch(@NotNull EndpointDataReference edr, @NotNull DataRequest dataRequest) {
         var request = EndpointDataReferenceMessage.Builder.newInstance()
                 .connectorId(connectorId)
                 .connectorAddress(dataRequest.getConnectorAddress())
@@ -82,7 +85,6 @@ public class ConsumerPullTransferDataFlowController implements DataFlowControlle
 
         return dispatcherRegistry.send(Object.class, request)
                 .thenApply(o -> StatusResult.success())
-                .exceptionally(throwable -> StatusResult.failure(ResponseStatus.ERROR_RETRY, "Transfer failed: " + throwable.getMessage()))
-                .join();
+                .exceptionally(throwable -> StatusResult.failure(ResponseStatus.ERROR_RETRY, "Transfer failed: " + throwable.getMessage()));
     }
 }
@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
 
@@ -45,13 +46,15 @@ public class ProviderPushTransferDataFlowController implements DataFlowControlle
     }
 
     @Override
-    public @NotNull StatusResult<Void> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
+    public @NotNull CompletableFuture<StatusResult<Void>> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy) {
         var dataFlowRequest = createRequest(dataRequest, contentAddress);
-        var result = dataPlaneClient.transfer(dataFlowRequest);
-        if (result.failed()) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to delegate data transfer to Data Plane: " + result.getFailureDetail());
-        }
-        return StatusResult.success();
+        return dataPlaneClient.transferAsync(dataFlowRequest)
+                .thenApply(result -> {
+                    if (result.failed()) {
+                        return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to delegate data transfer to Data Plane: " + result.getFailureDetail());
+                    }
+                    return StatusResult.success();
+                });
     }
 
     private DataFlowRequest createRequest(DataRequest dataRequest, DataAddress sourceAddress) {
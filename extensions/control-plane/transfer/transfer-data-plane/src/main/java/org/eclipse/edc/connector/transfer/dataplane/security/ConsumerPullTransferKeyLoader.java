@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.security;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.security.Vault;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * Loads the token key pair from the vault. The parsed keys are cached, they are only resolved again once the public
+ * key stored under the alias has changed, which is how a key rotation is detected.
+ * <p>
+ * The public and the private key are stored under separate aliases, so a rotation can be observed halfway. A pair is
+ * only accepted once a probe signed with the private key verifies with the public key. Until then the keys are resolved
+ * again on every attempt, and the caller keeps using the previous pair.
+ */
+public class ConsumerPullTransferKeyLoader {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final Vault vault;
+    private final PrivateKeyResolver privateKeyResolver;
+    private final String publicKeyAlias;
+    private final String privateKeyAlias;
+    private final SecureRandom random = new SecureRandom();
+
+    private String publicKeyPem;
+    private KeyPair keyPair;
+
+    public ConsumerPullTransferKeyLoader(Vault vault, PrivateKeyResolver privateKeyResolver, String publicKeyAlias, String privateKeyAlias) {
+        this.vault = vault;
+        this.privateKeyResolver = privateKeyResolver;
+        this.publicKeyAlias = publicKeyAlias;
+        this.privateKeyAlias = privateKeyAlias;
+    }
+
+    /**
+     * Returns the current key pair.
+     *
+     * @throws EdcException if the private key does not match the public key after {@value #MAX_ATTEMPTS} attempts,
+     *                      e.g. because a rotation of the keys in the vault is still in progress.
+     */
+    public synchronized KeyPair load() {
+        for (var attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            var pem = vault.resolveSecret(publicKeyAlias);
+            Objects.requireNonNull(pem, "Failed to resolve public key with alias: " + publicKeyAlias + " from vault");
+            if (pem.equals(publicKeyPem)) {
+                return keyPair;
+            }
+            var publicKey = PublicKeyParser.from(pem);
+            var privateKey = privateKeyResolver.resolvePrivateKey(privateKeyAlias, PrivateKey.class);
+            Objects.requireNonNull(privateKey, "Failed to resolve private key with alias: " + privateKeyAlias);
+            var candidate = new KeyPair(publicKey, privateKey);
+            if (isConsistent(candidate)) {
+                keyPair = candidate;
+                publicKeyPem = pem;
+                return keyPair;
+            }
+        }
+        throw new EdcException(format("Private key with alias %s does not match public key with alias %s", privateKeyAlias, publicKeyAlias));
+    }
+
+    private boolean isConsistent(KeyPair candidate) {
+        var algorithm = "EC".equals(candidate.getPublic().getAlgorithm()) ? "SHA256withECDSA" : "SHA256withRSA";
+        var probe = new byte[32];
+        random.nextBytes(probe);
+        try {
+            var signer = Signature.getInstance(algorithm);
+            signer.initSign(candidate.getPrivate());
+            signer.update(probe);
+            var signature = signer.sign();
+
+            var verifier = Signature.getInstance(algorithm);
+            verifier.initVerify(candidate.getPublic());
+            verifier.update(probe);
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException e) {
+            // e.g. an RSA private key for an EC public key
+            return false;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.KeyPairWrapper;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKey;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.String.format;
+
+/**
+ * In-memory {@link SigningKeyRing}. Keys are identified by the RFC 7638 thumbprint of their public key, so the same key
+ * always gets the same id. After a rotation the previous public key is kept for the retention period, which should be at
+ * least the validity of the issued tokens.
+ */
+public class ConsumerPullTransferKeyRing implements SigningKeyRing, KeyPairWrapper {
+
+    private final Duration retention;
+    private final Clock clock;
+    private final Map<String, RetiredKey> retired = new ConcurrentHashMap<>();
+    private volatile CurrentKey current;
+
+    public ConsumerPullTransferKeyRing(KeyPair keyPair, Duration retention, Clock clock) {
+        this.retention = retention;
+        this.clock = clock;
+        this.current = new CurrentKey(keyPair);
+    }
+
+    /**
+     * Makes the key pair the current signing key, the previous one stays available for verification for the retention
+     * period.
+     *
+     * @return true if the key pair replaced the current one, false if it already was the current one.
+     */
+    public synchronized boolean rotate(KeyPair keyPair) {
+        var key = new CurrentKey(keyPair);
+        var previous = current;
+        if (key.signingKey.getId().equals(previous.signingKey.getId())) {
+            return false;
+        }
+        var now = clock.instant();
+        retired.put(previous.signingKey.getId(), new RetiredKey(previous.jwk, previous.signingKey.getKeyPair().getPublic(), now.plus(retention)));
+        retired.remove(key.signingKey.getId());
+        retired.values().removeIf(it -> it.isExpired(now));
+        current = key;
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public SigningKey getSigningKey() {
+        return current.signingKey;
+    }
+
+    @NotNull
+    @Override
+    public KeyPair get() {
+        return current.signingKey.getKeyPair();
+    }
+
+    /**
+     * Resolves the public key with the given id. Tokens without key id are verified with the current key.
+     */
+    @Override
+    public @Nullable PublicKey resolveKey(String id) {
+        var key = current;
+        if (id == null || id.equals(key.signingKey.getId())) {
+            return key.signingKey.getKeyPair().getPublic();
+        }
+        var retiredKey = retired.get(id);
+        return retiredKey != null && !retiredKey.isExpired(clock.instant()) ? retiredKey.publicKey : null;
+    }
+
+    @NotNull
+    @Override
+    public Map<String, Object> getJwkSet() {
+        var now = clock.instant();
+        var keys = new ArrayList<JWK>();
+        keys.add(current.jwk);
+        retired.values().stream()
+                .filter(it -> !it.isExpired(now))
+                .map(it -> it.jwk)
+                .forEach(keys::add);
+        return new JWKSet(keys).toJSONObject();
+    }
+
+    private static JWK toJwk(PublicKey publicKey) {
+        try {
+            if (publicKey instanceof RSAPublicKey) {
+                return new RSAKey.Builder((RSAPublicKey) publicKey)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            } else if (publicKey instanceof ECPublicKey) {
+                var ecPublicKey = (ECPublicKey) publicKey;
+                return new ECKey.Builder(Curve.forECParameterSpec(ecPublicKey.getParams()), ecPublicKey)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            } else {
+                throw new EdcException(format("Public key algorithm %s is not supported", publicKey.getAlgorithm()));
+            }
+        } catch (JOSEException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private static class CurrentKey {
+        private final SigningKey signingKey;
+        private final JWK jwk;
+
+        CurrentKey(KeyPair keyPair) {
+            jwk = toJwk(keyPair.getPublic());
+            signingKey = new SigningKey(jwk.getKeyID(), keyPair);
+        }
+    }
+
+    private static class RetiredKey {
+        private final JWK jwk;
+        private final PublicKey publicKey;
+        private final Instant expiresAt;
+
+        RetiredKey(JWK jwk, PublicKey publicKey, Instant expiresAt) {
+            this.jwk = jwk;
+            this.publicKey = publicKey;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.security;
+
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKey;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
+import org.eclipse.edc.jwt.TokenGenerationServiceImpl;
+import org.eclipse.edc.jwt.spi.JwtDecorator;
+import org.eclipse.edc.jwt.spi.TokenGenerationService;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * {@link TokenGenerationService} that signs with the current key of a {@link SigningKeyRing} and sets its id as
+ * {@code kid} header. The signer is created once per key and only re-created after a rotation.
+ */
+public class SigningKeyRingTokenGenerationService implements TokenGenerationService {
+
+    private final SigningKeyRing keyRing;
+    private volatile Signer signer;
+
+    public SigningKeyRingTokenGenerationService(SigningKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @Override
+    public Result<TokenRepresentation> generate(@NotNull JwtDecorator... decorators) {
+        var current = signer();
+        var all = Arrays.copyOf(decorators, decorators.length + 1);
+        all[decorators.length] = current.keyIdDecorator;
+        return current.tokenGenerationService.generate(all);
+    }
+
+    private Signer signer() {
+        var signingKey = keyRing.getSigningKey();
+        var current = signer;
+        if (current == null || current.signingKey != signingKey) {
+            current = new Signer(signingKey);
+            signer = current;
+        }
+        return current;
+    }
+
+    private static class Signer {
+        private final SigningKey signingKey;
+        private final TokenGenerationService tokenGenerationService;
+        private final JwtDecorator keyIdDecorator;
+
+        Signer(SigningKey signingKey) {
+            this.signingKey = signingKey;
+            this.tokenGenerationService = new TokenGenerationServiceImpl(signingKey.getKeyPair().getPrivate());
+            this.keyIdDecorator = new JwtDecorator() {
+                @Override
+                public Map<String, Object> claims() {
+                    return emptyMap();
+                }
+
+                @Override
+                public Map<String, Object> headers() {
+                    return Map.of("kid", signingKey.getId());
+                }
+            };
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.eclipse.edc.spi.system.injection.ObjectFactory;
@@ -38,6 +39,7 @@ import java.security.interfaces.ECPrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
 import java.util.Map;
 import java.util.UUID;
 
@@ -64,6 +66,8 @@ class ConsumerPullTransferKeyPairExtensionTest {
 
         context.registerService(PrivateKeyResolver.class, privateKeyResolver);
         context.registerService(Vault.class, vault);
+        context.registerService(Clock.class, Clock.systemUTC());
+        context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
 
         this.context = spy(context); //used to inject the config
         when(this.context.getMonitor()).thenReturn(monitor);
@@ -113,6 +117,16 @@ class ConsumerPullTransferKeyPairExtensionTest {
                 .isInstanceOf(RSAPublicKey.class);
     }
 
+    @Test
+    void verifySigningKeyRingSharesKeysWithKeyPairWrapper() {
+        var keyRing = extension.signingKeyRing(context);
+        var wrapper = extension.keyPairWrapper(context);
+
+        assertThat(wrapper.get()).isSameAs(keyRing.getSigningKey().getKeyPair());
+        assertThat(keyRing.resolveKey(keyRing.getSigningKey().getId())).isEqualTo(wrapper.get().getPublic());
+        assertThat(keyRing.getJwkSet()).containsKey("keys");
+    }
+
     private String toPemEncoded(Key key) throws IOException {
         var writer = new StringWriter();
         try (var jcaPEMWriter = new JcaPEMWriter(writer)) {
@@ -25,8 +25,9 @@ import org.eclipse.edc.connector.transfer.dataplane.flow.ConsumerPullTransferDat
 import org.eclipse.edc.connector.transfer.dataplane.flow.ProviderPushTransferDataFlowController;
 import org.eclipse.edc.connector.transfer.dataplane.proxy.ConsumerPullTransferProxyResolver;
 import org.eclipse.edc.connector.transfer.dataplane.proxy.ConsumerPullTransferProxyTransformer;
+import org.eclipse.edc.connector.transfer.dataplane.security.ConsumerPullTransferKeyRing;
 import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
-import org.eclipse.edc.connector.transfer.dataplane.spi.security.KeyPairWrapper;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
 import org.eclipse.edc.connector.transfer.spi.edr.EndpointDataReferenceTransformerRegistry;
 import org.eclipse.edc.connector.transfer.spi.flow.DataFlowManager;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
@@ -43,6 +44,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 
@@ -81,10 +84,7 @@ class TransferDataPlaneCoreExtensionTest {
         context.registerService(DataFlowManager.class, dataFlowManagerMock);
         context.registerService(DataEncrypter.class, mock(DataEncrypter.class));
         context.registerService(ControlApiConfiguration.class, controlApiConfigurationMock);
-        var keyPair = generateRandomKeyPair();
-        var keyPairWrapper = mock(KeyPairWrapper.class);
-        when(keyPairWrapper.get()).thenReturn(keyPair);
-        context.registerService(KeyPairWrapper.class, keyPairWrapper);
+        context.registerService(SigningKeyRing.class, new ConsumerPullTransferKeyRing(generateRandomKeyPair(), Duration.ofMinutes(10), Clock.systemUTC()));
         context.registerService(EndpointDataReferenceTransformerRegistry.class, endpointDataReferenceTransformerRegistryMock);
         context.registerService(DataPlaneClient.class, mock(DataPlaneClient.class));
         context.registerService(ConsumerPullTransferProxyResolver.class, mock(ConsumerPullTransferProxyResolver.class));
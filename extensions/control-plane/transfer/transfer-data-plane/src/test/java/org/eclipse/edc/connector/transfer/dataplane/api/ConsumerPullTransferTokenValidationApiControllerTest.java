@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.transfer.dataplane.api;
 
 import org.eclipse.edc.connector.transfer.dataplane.spi.security.DataEncrypter;
+import org.eclipse.edc.connector.transfer.dataplane.spi.security.SigningKeyRing;
 import org.eclipse.edc.jwt.spi.TokenValidationService;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.result.Result;
@@ -24,6 +25,7 @@ import org.eclipse.edc.web.spi.exception.NotAuthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -42,12 +44,21 @@ class ConsumerPullTransferTokenValidationApiControllerTest {
 
     private final DataEncrypter encrypterMock = mock(DataEncrypter.class);
     private final TokenValidationService tokenValidationServiceMock = mock(TokenValidationService.class);
+    private final SigningKeyRing signingKeyRingMock = mock(SigningKeyRing.class);
 
     private ConsumerPullTransferTokenValidationApiController controller;
 
     @BeforeEach
     void setUp() {
-        controller = new ConsumerPullTransferTokenValidationApiController(tokenValidationServiceMock, encrypterMock, TYPE_MANAGER);
+        controller = new ConsumerPullTransferTokenValidationApiController(tokenValidationServiceMock, signingKeyRingMock, encrypterMock, TYPE_MANAGER);
+    }
+
+    @Test
+    void verifyJwksReturnsKeySet() {
+        var jwks = Map.<String, Object>of("keys", List.of(Map.of("kid", "key-id")));
+        when(signingKeyRingMock.getJwkSet()).thenReturn(jwks);
+
+        assertThat(controller.jwks()).isEqualTo(jwks);
     }
 
     @Test
@@ -19,7 +19,9 @@ import org.eclipse.edc.connector.transfer.dataplane.spi.proxy.ConsumerPullTransf
 import org.eclipse.edc.connector.transfer.dataplane.spi.proxy.ConsumerPullTransferEndpointDataReferenceService;
 import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
 import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
@@ -78,7 +80,7 @@ class ConsumerPullTransferDataFlowControllerTest {
         when(proxyReferenceServiceMock.createProxyReference(any())).thenReturn(Result.success(edr));
         when(proxyResolverMock.resolveProxyUrl(dataAddress)).thenReturn(Result.success(proxyUrl));
 
-        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build());
+        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build()).join();
 
         verify(proxyReferenceServiceMock).createProxyReference(proxyCreationRequestCaptor.capture());
         verify(dispatcherRegistryMock).send(eq(Object.class), edrRequestCaptor.capture());
@@ -107,7 +109,7 @@ class ConsumerPullTransferDataFlowControllerTest {
 
         when(proxyResolverMock.resolveProxyUrl(dataAddress)).thenReturn(Result.failure(errorMsg));
 
-        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build());
+        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build()).join();
 
         verify(dispatcherRegistryMock, never()).send(any(), any());
         verify(proxyResolverMock).resolveProxyUrl(any());
@@ -126,7 +128,7 @@ class ConsumerPullTransferDataFlowControllerTest {
         when(proxyResolverMock.resolveProxyUrl(dataAddress)).thenReturn(Result.success(proxyUrl));
         when(proxyReferenceServiceMock.createProxyReference(any())).thenReturn(Result.failure(errorMsg));
 
-        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build());
+        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build()).join();
 
         verify(proxyResolverMock).resolveProxyUrl(any());
 
@@ -134,6 +136,24 @@ class ConsumerPullTransferDataFlowControllerTest {
         assertThat(result.getFailureMessages()).allSatisfy(s -> assertThat(s).contains(errorMsg));
     }
 
+    @Test
+    void verifyDoesNotWaitForDispatch() {
+        var request = createDataRequest();
+        var dataAddress = testDataAddress();
+        var dispatch = new CompletableFuture<>();
+
+        when(dispatcherRegistryMock.send(any(), any())).thenReturn(dispatch);
+        when(proxyReferenceServiceMock.createProxyReference(any())).thenReturn(Result.success(createEndpointDataReference()));
+        when(proxyResolverMock.resolveProxyUrl(dataAddress)).thenReturn(Result.success("proxy.test.url"));
+
+        var result = flowController.initiateFlow(request, dataAddress, Policy.Builder.newInstance().build());
+
+        assertThat(result).isNotDone();
+        dispatch.completeExceptionally(new EdcException("unreachable"));
+        assertThat(result.join().failed()).isTrue();
+        assertThat(result.join().getFailure().status()).isEqualTo(ResponseStatus.ERROR_RETRY);
+    }
+
     private static EndpointDataReference createEndpointDataReference() {
         return EndpointDataReference.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
@@ -31,6 +31,7 @@ import java.net.URL;
 import java.util.Map;
 import java.util.UUID;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.transfer.dataplane.spi.TransferDataPlaneConstants.HTTP_PROXY;
 import static org.mockito.ArgumentMatchers.any;
@@ -64,11 +65,11 @@ class ProviderPushTransferDataFlowControllerTest {
         var errorMsg = "error";
         var request = createDataRequest();
 
-        when(dataPlaneClientMock.transfer(any())).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR, errorMsg));
+        when(dataPlaneClientMock.transferAsync(any())).thenReturn(completedFuture(StatusResult.failure(ResponseStatus.FATAL_ERROR, errorMsg)));
 
-        var result = flowController.initiateFlow(request, testDataAddress(), Policy.Builder.newInstance().build());
+        var result = flowController.initiateFlow(request, testDataAddress(), Policy.Builder.newInstance().build()).join();
 
-        verify(dataPlaneClientMock).transfer(any());
+        verify(dataPlaneClientMock).transferAsync(any());
 
         assertThat(result.failed()).isTrue();
         assertThat(result.getFailureMessages()).allSatisfy(s -> assertThat(s).contains(errorMsg));
@@ -79,13 +80,13 @@ class ProviderPushTransferDataFlowControllerTest {
         var request = createDataRequest();
         var source = testDataAddress();
 
-        when(dataPlaneClientMock.transfer(any(DataFlowRequest.class))).thenReturn(StatusResult.success());
+        when(dataPlaneClientMock.transferAsync(any(DataFlowRequest.class))).thenReturn(completedFuture(StatusResult.success()));
 
-        var result = flowController.initiateFlow(request, source, Policy.Builder.newInstance().build());
+        var result = flowController.initiateFlow(request, source, Policy.Builder.newInstance().build()).join();
 
         assertThat(result.succeeded()).isTrue();
         var captor = ArgumentCaptor.forClass(DataFlowRequest.class);
-        verify(dataPlaneClientMock).transfer(captor.capture());
+        verify(dataPlaneClientMock).transferAsync(captor.capture());
         var captured = captor.getValue();
         assertThat(captured.isTrackable()).isTrue();
         assertThat(captured.getProcessId()).isEqualTo(request.getProcessId());
@@ -101,13 +102,13 @@ class ProviderPushTransferDataFlowControllerTest {
         var request = createDataRequest("test", properties);
         var source = testDataAddress();
 
-        when(dataPlaneClientMock.transfer(any(DataFlowRequest.class))).thenReturn(StatusResult.success());
+        when(dataPlaneClientMock.transferAsync(any(DataFlowRequest.class))).thenReturn(completedFuture(StatusResult.success()));
 
-        var result = flowController.initiateFlow(request, source, Policy.Builder.newInstance().build());
+        var result = flowController.initiateFlow(request, source, Policy.Builder.newInstance().build()).join();
 
         assertThat(result.succeeded()).isTrue();
         var captor = ArgumentCaptor.forClass(DataFlowRequest.class);
-        verify(dataPlaneClientMock).transfer(captor.capture());
+        verify(dataPlaneClientMock).transferAsync(captor.capture());
         var captured = captor.getValue();
         assertThat(captured.isTrackable()).isTrue();
         assertThat(captured.getProcessId()).isEqualTo(request.getProcessId());
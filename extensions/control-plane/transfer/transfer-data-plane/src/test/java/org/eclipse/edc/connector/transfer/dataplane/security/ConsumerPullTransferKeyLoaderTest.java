@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.security;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.security.Vault;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConsumerPullTransferKeyLoaderTest {
+
+    private static final String PUBLIC_KEY_ALIAS = "pub-key";
+    private static final String PRIVATE_KEY_ALIAS = "priv-key";
+
+    private final Vault vault = mock(Vault.class);
+    private final PrivateKeyResolver privateKeyResolver = mock(PrivateKeyResolver.class);
+    private final ConsumerPullTransferKeyLoader loader = new ConsumerPullTransferKeyLoader(vault, privateKeyResolver, PUBLIC_KEY_ALIAS, PRIVATE_KEY_ALIAS);
+
+    @Test
+    void load_shouldCacheKeysWhilePublicKeyUnchanged() throws NoSuchAlgorithmException {
+        var keyPair = keyPair("EC");
+        when(vault.resolveSecret(PUBLIC_KEY_ALIAS)).thenReturn(pem(keyPair));
+        when(privateKeyResolver.resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class)).thenReturn(keyPair.getPrivate());
+
+        var first = loader.load();
+        var second = loader.load();
+
+        assertThat(second).isSameAs(first);
+        verify(privateKeyResolver, times(1)).resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class);
+    }
+
+    @Test
+    void load_shouldReloadKeysWhenPublicKeyChanged() throws NoSuchAlgorithmException {
+        var ecKeyPair = keyPair("EC");
+        var rsaKeyPair = keyPair("RSA");
+        when(vault.resolveSecret(PUBLIC_KEY_ALIAS)).thenReturn(pem(ecKeyPair), pem(rsaKeyPair));
+        when(privateKeyResolver.resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class)).thenReturn(ecKeyPair.getPrivate(), rsaKeyPair.getPrivate());
+
+        var first = loader.load();
+        var second = loader.load();
+
+        assertThat(first.getPublic().getAlgorithm()).isEqualTo("EC");
+        assertThat(second.getPublic().getAlgorithm()).isEqualTo("RSA");
+        assertThat(second.getPrivate()).isSameAs(rsaKeyPair.getPrivate());
+        verify(privateKeyResolver, times(2)).resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class);
+    }
+
+    @Test
+    void load_shouldRetryWhenPrivateKeyDoesNotMatch() throws NoSuchAlgorithmException {
+        var previous = keyPair("EC");
+        var rotated = keyPair("EC");
+        when(vault.resolveSecret(PUBLIC_KEY_ALIAS)).thenReturn(pem(rotated));
+        when(privateKeyResolver.resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class)).thenReturn(previous.getPrivate(), rotated.getPrivate());
+
+        var keyPair = loader.load();
+
+        assertThat(keyPair.getPrivate()).isSameAs(rotated.getPrivate());
+        verify(privateKeyResolver, times(2)).resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class);
+    }
+
+    @Test
+    void load_shouldFailAndNotCacheWhenPrivateKeyKeepsMismatching() throws NoSuchAlgorithmException {
+        var previous = keyPair("EC");
+        var rotated = keyPair("EC");
+        when(vault.resolveSecret(PUBLIC_KEY_ALIAS)).thenReturn(pem(previous), pem(rotated));
+        when(privateKeyResolver.resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class)).thenReturn(previous.getPrivate());
+
+        var first = loader.load();
+        assertThatThrownBy(loader::load).isInstanceOf(EdcException.class).hasMessageContaining(PRIVATE_KEY_ALIAS);
+
+        when(privateKeyResolver.resolvePrivateKey(PRIVATE_KEY_ALIAS, PrivateKey.class)).thenReturn(rotated.getPrivate());
+        var second = loader.load();
+
+        assertThat(first.getPrivate()).isSameAs(previous.getPrivate());
+        assertThat(second.getPrivate()).isSameAs(rotated.getPrivate());
+    }
+
+    @Test
+    void load_shouldFailWhenPublicKeyMissing() {
+        assertThatThrownBy(loader::load).isInstanceOf(NullPointerException.class).hasMessageContaining(PUBLIC_KEY_ALIAS);
+    }
+
+    private static KeyPair keyPair(String algorithm) throws NoSuchAlgorithmException {
+        var generator = KeyPairGenerator.getInstance(algorithm);
+        generator.initialize("EC".equals(algorithm) ? 256 : 2048);
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(KeyPair keyPair) {
+        return "-----BEGIN PUBLIC KEY-----\n" +
+                Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(keyPair.getPublic().getEncoded()) +
+                "\n-----END PUBLIC KEY-----\n";
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConsumerPullTransferKeyRingTest {
+
+    private static final Duration RETENTION = Duration.ofMinutes(10);
+
+    private final Clock clock = mock(Clock.class);
+    private final Instant now = Instant.now();
+    private KeyPair initialKeyPair;
+    private ConsumerPullTransferKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        when(clock.instant()).thenReturn(now);
+        initialKeyPair = randomKeyPair();
+        keyRing = new ConsumerPullTransferKeyRing(initialKeyPair, RETENTION, clock);
+    }
+
+    @Test
+    void resolveKey_currentKey() {
+        var keyId = keyRing.getSigningKey().getId();
+
+        assertThat(keyRing.resolveKey(keyId)).isEqualTo(initialKeyPair.getPublic());
+        assertThat(keyRing.resolveKey(null)).isEqualTo(initialKeyPair.getPublic());
+        assertThat(keyRing.resolveKey("unknown")).isNull();
+    }
+
+    @Test
+    void rotate_sameKey_shouldNotChangeAnything() {
+        var keyId = keyRing.getSigningKey().getId();
+
+        assertThat(keyRing.rotate(initialKeyPair)).isFalse();
+        assertThat(keyRing.getSigningKey().getId()).isEqualTo(keyId);
+        assertThat(keys(keyRing.getJwkSet())).hasSize(1);
+    }
+
+    @Test
+    void rotate_shouldKeepPreviousKeyUntilRetentionExpired() throws JOSEException {
+        var previousKeyId = keyRing.getSigningKey().getId();
+        var newKeyPair = randomKeyPair();
+
+        assertThat(keyRing.rotate(newKeyPair)).isTrue();
+
+        assertThat(keyRing.get()).isSameAs(newKeyPair);
+        assertThat(keyRing.getSigningKey().getId()).isNotEqualTo(previousKeyId);
+        assertThat(keyRing.resolveKey(previousKeyId)).isEqualTo(initialKeyPair.getPublic());
+        assertThat(keys(keyRing.getJwkSet())).extracting(key -> key.get("kid"))
+                .containsExactlyInAnyOrder(previousKeyId, keyRing.getSigningKey().getId());
+
+        when(clock.instant()).thenReturn(now.plus(RETENTION));
+
+        assertThat(keyRing.resolveKey(previousKeyId)).isNull();
+        assertThat(keys(keyRing.getJwkSet())).extracting(key -> key.get("kid"))
+                .containsExactly(keyRing.getSigningKey().getId());
+    }
+
+    @Test
+    void getJwkSet_shouldNotExposePrivateKey() {
+        assertThat(keys(keyRing.getJwkSet())).singleElement()
+                .satisfies(key -> assertThat(key).containsEntry("kty", "EC").doesNotContainKey("d"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> keys(Map<String, Object> jwkSet) {
+        return (List<Map<String, Object>>) jwkSet.get("keys");
+    }
+
+    private static KeyPair randomKeyPair() throws JOSEException {
+        return new ECKeyGenerator(Curve.P_256).generate().toKeyPair();
+    }
+}
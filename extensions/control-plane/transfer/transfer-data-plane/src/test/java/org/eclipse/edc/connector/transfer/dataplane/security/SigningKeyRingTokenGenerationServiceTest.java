@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.jwt.spi.JwtDecorator;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SigningKeyRingTokenGenerationServiceTest {
+
+    private final ConsumerPullTransferKeyRing keyRing = new ConsumerPullTransferKeyRing(randomKeyPair(), Duration.ofMinutes(10), Clock.systemUTC());
+    private final SigningKeyRingTokenGenerationService service = new SigningKeyRingTokenGenerationService(keyRing);
+
+    @Test
+    void generate_shouldSignWithCurrentKeyAndSetKeyId() throws ParseException, JOSEException {
+        var first = signedJwt();
+        var firstKeyId = keyRing.getSigningKey().getId();
+
+        assertThat(first.getHeader().getKeyID()).isEqualTo(firstKeyId);
+        assertThat(first.getJWTClaimsSet().getClaim("foo")).isEqualTo("bar");
+        assertThat(first.verify(verifier(firstKeyId))).isTrue();
+
+        keyRing.rotate(randomKeyPair());
+        var second = signedJwt();
+
+        assertThat(second.getHeader().getKeyID()).isEqualTo(keyRing.getSigningKey().getId()).isNotEqualTo(firstKeyId);
+        assertThat(second.verify(verifier(second.getHeader().getKeyID()))).isTrue();
+        assertThat(first.verify(verifier(firstKeyId))).isTrue();
+    }
+
+    private SignedJWT signedJwt() throws ParseException {
+        var result = service.generate(new JwtDecorator() {
+            @Override
+            public Map<String, Object> claims() {
+                return Map.of("foo", "bar");
+            }
+
+            @Override
+            public Map<String, Object> headers() {
+                return emptyMap();
+            }
+        });
+        assertThat(result.succeeded()).isTrue();
+        return SignedJWT.parse(result.getContent().getToken());
+    }
+
+    private JWSVerifier verifier(String keyId) throws JOSEException {
+        return new ECDSAVerifier((ECPublicKey) keyRing.resolveKey(keyId));
+    }
+
+    private static KeyPair randomKeyPair() {
+        try {
+            return new ECKeyGenerator(Curve.P_256).generate().toKeyPair();
+        } catch (JOSEException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -14,66 +14,67 @@
 
 package org.eclipse.edc.connector.receiver.http.dynamic;
 
-import dev.failsafe.RetryPolicy;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.edc.connector.transfer.spi.edr.EndpointDataReferenceReceiver;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
-import static dev.failsafe.Failsafe.with;
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.eclipse.edc.spi.http.FallbackFactories.statusMustBeSuccessful;
 import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
 
 /**
  * Implementation of a {@link EndpointDataReferenceReceiver} that posts
  * the {@link EndpointDataReference} to an existing http endpoint sent by clients when initiating the data transfer.
+ * <p>
+ * The EDR is posted asynchronously, the returned future completes once the endpoint has accepted it or the http client
+ * gave up retrying. At most {@code maxInFlight} EDRs are pending at any time, further ones are rejected until a slot
+ * frees up.
  */
 public class HttpDynamicEndpointDataReferenceReceiver implements EndpointDataReferenceReceiver {
 
-
     public static final String HTTP_RECEIVER_ENDPOINT = "receiver.http.endpoint";
+    public static final int DEFAULT_MAX_IN_FLIGHT = 100;
 
     private static final MediaType JSON = MediaType.get("application/json");
 
     private Monitor monitor;
-    private OkHttpClient httpClient;
+    private EdcHttpClient httpClient;
     private TypeManager typeManager;
-    private RetryPolicy<Object> retryPolicy;
 
     private TransferProcessStore transferProcessStore;
 
     private String authKey;
     private String authToken;
     private String fallbackEndpoint;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private Semaphore inFlight;
 
     private HttpDynamicEndpointDataReferenceReceiver() {
     }
 
     @Override
     public CompletableFuture<Result<Void>> send(@NotNull EndpointDataReference edr) {
+        var properties = transferProcessStore.propertiesForDataRequestId(edr.getId());
 
-        var processId = transferProcessStore.processIdForDataRequestId(edr.getId());
-
-        if (processId == null) {
-            return CompletableFuture.completedFuture(Result.failure(format("Failed to found processId for DataRequestId %s", edr.getId())));
+        if (properties == null) {
+            return completedFuture(Result.failure(format("Failed to found transfer process for DataRequestId %s", edr.getId())));
         }
-        var transferProcess = transferProcessStore.find(processId);
 
-        if (transferProcess == null) {
-            return CompletableFuture.completedFuture(Result.failure(format("Failed to found transfer process for id %s", processId)));
-        }
-
-        var endpoint = transferProcess.getProperties().get(HTTP_RECEIVER_ENDPOINT);
+        var endpoint = properties.get(HTTP_RECEIVER_ENDPOINT);
 
         if (endpoint == null) {
             endpoint = fallbackEndpoint;
@@ -84,28 +85,33 @@ public class HttpDynamicEndpointDataReferenceReceiver implements EndpointDataRef
             return sendEdr(edr, endpoint);
         } else {
             monitor.debug(format("Missing %s property in the transfer process properties or fallback endpoint in configuration", HTTP_RECEIVER_ENDPOINT));
-            return CompletableFuture.completedFuture(Result.success());
+            return completedFuture(Result.success());
         }
-
-
     }
 
     @NotNull
     private CompletableFuture<Result<Void>> sendEdr(@NotNull EndpointDataReference edr, String endpoint) {
-
+        if (!inFlight.tryAcquire()) {
+            return completedFuture(Result.failure(format("Too many endpoint data references in flight, rejecting %s", edr.getId())));
+        }
 
         var requestBody = RequestBody.create(typeManager.writeValueAsString(edr), JSON);
         var requestBuilder = new Request.Builder().url(endpoint).post(requestBody);
         if (!isNullOrBlank(authKey) && !isNullOrBlank(authToken)) {
             requestBuilder.header(authKey, authToken);
         }
-        try (var response = with(retryPolicy).get(() -> httpClient.newCall(requestBuilder.build()).execute())) {
-            if (response.isSuccessful()) {
-                return CompletableFuture.completedFuture(Result.success());
-            } else {
-                return CompletableFuture.completedFuture(Result.failure(format("Received error code %s when transferring endpoint data reference at uri: %s", response.code(), endpoint)));
-            }
-        }
+
+        return httpClient.executeAsync(requestBuilder.build(), List.of(statusMustBeSuccessful()), response -> Result.<Void>success())
+                .handle((result, throwable) -> {
+                    inFlight.release();
+                    if (throwable != null) {
+                        var message = format("Failed to transfer endpoint data reference %s at uri: %s", edr.getId(), endpoint);
+                        monitor.severe(message, throwable);
+                        return Result.failure(message + ": " + throwable.getMessage());
+                    }
+                    monitor.debug(format("Transferred endpoint data reference %s at uri: %s", edr.getId(), endpoint));
+                    return result;
+                });
     }
 
     public static class Builder {
@@ -124,7 +130,7 @@ public class HttpDynamicEndpointDataReferenceReceiver implements EndpointDataRef
             return this;
         }
 
-        public Builder httpClient(OkHttpClient httpClient) {
+        public Builder httpClient(EdcHttpClient httpClient) {
             receiver.httpClient = httpClient;
             return this;
         }
@@ -134,12 +140,6 @@ public class HttpDynamicEndpointDataReferenceReceiver implements EndpointDataRef
             return this;
         }
 
-        public Builder retryPolicy(RetryPolicy<Object> retryPolicy) {
-            receiver.retryPolicy = retryPolicy;
-            return this;
-        }
-
-
         public Builder transferProcessStore(TransferProcessStore transferProcessStore) {
             receiver.transferProcessStore = transferProcessStore;
             return this;
@@ -156,13 +156,20 @@ public class HttpDynamicEndpointDataReferenceReceiver implements EndpointDataRef
             return this;
         }
 
+        public Builder maxInFlight(int maxInFlight) {
+            receiver.maxInFlight = maxInFlight;
+            return this;
+        }
 
         public HttpDynamicEndpointDataReferenceReceiver build() {
             Objects.requireNonNull(receiver.monitor, "monitor");
             Objects.requireNonNull(receiver.httpClient, "httpClient");
             Objects.requireNonNull(receiver.typeManager, "typeManager");
-            Objects.requireNonNull(receiver.retryPolicy, "retryPolicy");
             Objects.requireNonNull(receiver.transferProcessStore, "transferProcessStore");
+            if (receiver.maxInFlight <= 0) {
+                throw new IllegalArgumentException("maxInFlight must be greater than 0");
+            }
+            receiver.inFlight = new Semaphore(receiver.maxInFlight);
             return receiver;
         }
     }
@@ -14,14 +14,13 @@
 
 package org.eclipse.edc.connector.receiver.http.dynamic;
 
-import dev.failsafe.RetryPolicy;
-import okhttp3.OkHttpClient;
 import org.eclipse.edc.connector.transfer.spi.edr.EndpointDataReferenceReceiverRegistry;
 import org.eclipse.edc.connector.transfer.spi.observe.TransferProcessObservable;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -38,16 +37,14 @@ public class HttpDynamicEndpointDataReferenceReceiverExtension implements Servic
     private static final String HTTP_RECEIVER_AUTH_KEY = "edc.receiver.http.dynamic.auth-key";
     @Setting(value = "Header value that will be sent with the EDR")
     private static final String HTTP_RECEIVER_AUTH_CODE = "edc.receiver.http.dynamic.auth-code";
+    @Setting(value = "Maximum number of EDRs that are being delivered at the same time, further ones are rejected", type = "int", defaultValue = HttpDynamicEndpointDataReferenceReceiver.DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String HTTP_RECEIVER_MAX_IN_FLIGHT = "edc.receiver.http.dynamic.max-in-flight";
 
     @Inject
     private EndpointDataReferenceReceiverRegistry receiverRegistry;
 
     @Inject
-    private OkHttpClient httpClient;
-
-    @Inject
-    private RetryPolicy<Object> retryPolicy;
-
+    private EdcHttpClient httpClient;
 
     @Inject
     private TransferProcessStore transferProcessStore;
@@ -68,11 +65,12 @@ public class HttpDynamicEndpointDataReferenceReceiverExtension implements Servic
         var fallbackEndpoint = context.getSetting(HTTP_RECEIVER_ENDPOINT, null);
         var authKey = context.getSetting(HTTP_RECEIVER_AUTH_KEY, null);
         var authCode = context.getSetting(HTTP_RECEIVER_AUTH_CODE, null);
+        var maxInFlight = context.getSetting(HTTP_RECEIVER_MAX_IN_FLIGHT, HttpDynamicEndpointDataReferenceReceiver.DEFAULT_MAX_IN_FLIGHT);
 
         var receiver = HttpDynamicEndpointDataReferenceReceiver.Builder.newInstance()
                 .httpClient(httpClient)
                 .typeManager(typeManager)
-                .retryPolicy(retryPolicy)
+                .maxInFlight(maxInFlight)
                 .fallbackEndpoint(fallbackEndpoint)
                 .authHeader(authKey, authCode)
                 .monitor(context.getMonitor())
@@ -15,11 +15,10 @@
 package org.eclipse.edc.connector.receiver.http.dynamic;
 
 
-import dev.failsafe.RetryPolicy;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
-import okhttp3.OkHttpClient;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
+import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -32,18 +31,20 @@ import org.mockserver.model.HttpResponse;
 import org.mockserver.model.HttpStatusCode;
 import org.mockserver.model.MediaType;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.receiver.http.dynamic.HttpDynamicEndpointDataReferenceReceiver.HTTP_RECEIVER_ENDPOINT;
-import static org.eclipse.edc.connector.receiver.http.dynamic.TestFunctions.createTransferProcess;
 import static org.eclipse.edc.connector.receiver.http.dynamic.TestFunctions.transferProperties;
 import static org.eclipse.edc.connector.receiver.http.dynamic.TestFunctions.transferPropertiesWithAuth;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
-import static org.eclipse.edc.junit.testfixtures.TestUtils.testOkHttpClient;
+import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
@@ -55,20 +56,17 @@ import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
 import static org.mockserver.stop.Stop.stopQuietly;
+import static org.mockserver.verify.VerificationTimes.exactly;
 
 public class HttpDynamicEndpointDataReferenceReceiverTest {
 
-
-    public static final String TRANSFER_ID = "t-id";
     private static final int RECEIVER_ENDPOINT_PORT = getFreePort();
     private static final String RECEIVER_ENDPOINT_PATH = "path";
     private static ClientAndServer receiverEndpointServer;
     private Monitor monitor;
     private HttpDynamicEndpointDataReferenceReceiver receiver;
-    private OkHttpClient httpClient;
+    private EdcHttpClient httpClient;
     private TypeManager typeManager;
-    private RetryPolicy<Object> retryPolicy;
-
 
     private TransferProcessStore transferProcessStore;
 
@@ -78,16 +76,9 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         receiverEndpointServer = startClientAndServer(RECEIVER_ENDPOINT_PORT);
         monitor = mock(Monitor.class);
         transferProcessStore = mock(TransferProcessStore.class);
-        httpClient = spy(testOkHttpClient());
+        httpClient = spy(testHttpClient());
         typeManager = new TypeManager();
-        retryPolicy = RetryPolicy.builder().withMaxRetries(1).build();
-        receiver = HttpDynamicEndpointDataReferenceReceiver.Builder.newInstance()
-                .httpClient(httpClient)
-                .retryPolicy(retryPolicy)
-                .typeManager(typeManager)
-                .transferProcessStore(transferProcessStore)
-                .monitor(monitor)
-                .build();
+        receiver = receiverBuilder().build();
     }
 
     @AfterEach
@@ -97,10 +88,7 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
 
     @Test
     public void send_shouldForwardTheEdr_withReceiverEndpoint() throws ExecutionException, InterruptedException {
-
-
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(TRANSFER_ID);
-        when(transferProcessStore.find(TRANSFER_ID)).thenReturn(createTransferProcess(TRANSFER_ID, transferProperties(receiverUrl())));
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(transferProperties(receiverUrl()));
 
         var edr = createEndpointDataReferenceBuilder()
                 .properties(Map.of(HTTP_RECEIVER_ENDPOINT, receiverUrl()))
@@ -113,7 +101,8 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         receiverEndpointServer.when(request).respond(successfulResponse());
         var result = receiver.send(edr).get();
         assertThat(result).satisfies(Result::success);
-        verify(httpClient, atMostOnce()).newCall(any());
+        receiverEndpointServer.verify(request, exactly(1));
+        verify(transferProcessStore, never()).find(any());
     }
 
     @Test
@@ -121,19 +110,11 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         var authKey = "key";
         var authToken = "token";
 
-        receiver = HttpDynamicEndpointDataReferenceReceiver.Builder.newInstance()
-                .httpClient(httpClient)
-                .retryPolicy(retryPolicy)
-                .typeManager(typeManager)
-                .transferProcessStore(transferProcessStore)
+        receiver = receiverBuilder()
                 .authHeader(authKey, authToken)
-                .monitor(monitor)
                 .build();
 
-
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(TRANSFER_ID);
-        when(transferProcessStore.find(TRANSFER_ID)).thenReturn(createTransferProcess(TRANSFER_ID, transferPropertiesWithAuth(receiverUrl(), authKey, authToken)));
-
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(transferPropertiesWithAuth(receiverUrl(), authKey, authToken));
 
         var edr = createEndpointDataReferenceBuilder()
                 .build();
@@ -146,32 +127,12 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         receiverEndpointServer.when(request).respond(successfulResponse());
         var result = receiver.send(edr).get();
         assertThat(result).satisfies(Result::success);
-        verify(httpClient, atMostOnce()).newCall(any());
-
+        receiverEndpointServer.verify(request, exactly(1));
     }
 
     @Test
     public void send_shouldFailForwardTheEdr_withPathNotFound() throws ExecutionException, InterruptedException {
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(TRANSFER_ID);
-        when(transferProcessStore.find(TRANSFER_ID)).thenReturn(createTransferProcess(TRANSFER_ID, transferProperties(receiverUrl() + "/modified")));
-
-        var edr = createEndpointDataReferenceBuilder()
-                .build();
-
-        var request = request().withPath("/" + RECEIVER_ENDPOINT_PATH)
-                .withMethod(HttpMethod.POST.name())
-                .withBody(typeManager.writeValueAsString(edr));
-
-        receiverEndpointServer.when(request).respond(successfulResponse());
-
-        assertThat(receiver.send(edr).get()).matches(Result::failed);
-        verify(httpClient, atMostOnce()).newCall(any());
-
-    }
-
-    @Test
-    public void send_shouldFailForwardTheEdr_processIdNotFound() throws ExecutionException, InterruptedException {
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(null);
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(transferProperties(receiverUrl() + "/modified"));
 
         var edr = createEndpointDataReferenceBuilder()
                 .build();
@@ -183,33 +144,23 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         receiverEndpointServer.when(request).respond(successfulResponse());
 
         assertThat(receiver.send(edr).get()).matches(Result::failed);
-
+        verify(monitor).severe(anyString(), any(Throwable.class));
     }
 
     @Test
     public void send_shouldFailForwardTheEdr_transferProcessNotFound() throws ExecutionException, InterruptedException {
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(TRANSFER_ID);
-        when(transferProcessStore.find(TRANSFER_ID)).thenReturn(null);
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(null);
 
         var edr = createEndpointDataReferenceBuilder()
                 .build();
 
-        var request = request().withPath("/" + RECEIVER_ENDPOINT_PATH)
-                .withMethod(HttpMethod.POST.name())
-                .withBody(typeManager.writeValueAsString(edr));
-
-        receiverEndpointServer.when(request).respond(successfulResponse());
-
-
         assertThat(receiver.send(edr).get()).matches(Result::failed);
-
+        verify(httpClient, never()).executeAsync(any(), anyList(), any());
     }
 
     @Test
     public void send_shouldNotForwardTheEdr_whenReceiverUrlMissing() throws ExecutionException, InterruptedException {
-
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(TRANSFER_ID);
-        when(transferProcessStore.find(TRANSFER_ID)).thenReturn(createTransferProcess(TRANSFER_ID));
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(new HashMap<>());
 
         var edr = createEndpointDataReferenceBuilder()
                 .build();
@@ -223,23 +174,16 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         assertThat(result).satisfies(Result::success);
 
         verify(monitor, atMostOnce()).debug(anyString());
-        verify(httpClient, never()).newCall(any());
+        verify(httpClient, never()).executeAsync(any(), anyList(), any());
     }
 
     @Test
     public void send_shouldForwardTheEdr_whenReceiverUrlMissingAndFallbackConfigured() throws ExecutionException, InterruptedException {
-
-        receiver = HttpDynamicEndpointDataReferenceReceiver.Builder.newInstance()
-                .httpClient(httpClient)
-                .retryPolicy(retryPolicy)
-                .typeManager(typeManager)
-                .transferProcessStore(transferProcessStore)
+        receiver = receiverBuilder()
                 .fallbackEndpoint(receiverUrl())
-                .monitor(monitor)
                 .build();
 
-        when(transferProcessStore.processIdForDataRequestId(any())).thenReturn(TRANSFER_ID);
-        when(transferProcessStore.find(TRANSFER_ID)).thenReturn(createTransferProcess(TRANSFER_ID));
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(new HashMap<>());
 
         var edr = createEndpointDataReferenceBuilder()
                 .build();
@@ -252,8 +196,29 @@ public class HttpDynamicEndpointDataReferenceReceiverTest {
         var result = receiver.send(edr).get();
         assertThat(result).satisfies(Result::success);
 
-        verify(httpClient, atMostOnce()).newCall(any());
+        receiverEndpointServer.verify(request, exactly(1));
+    }
 
+    @Test
+    public void send_shouldReject_whenMaxInFlightReached() throws ExecutionException, InterruptedException {
+        var pendingClient = mock(EdcHttpClient.class);
+        when(pendingClient.executeAsync(any(), anyList(), any())).thenReturn(new CompletableFuture<>());
+        when(transferProcessStore.propertiesForDataRequestId(any())).thenReturn(transferProperties(receiverUrl()));
+        receiver = receiverBuilder()
+                .httpClient(pendingClient)
+                .maxInFlight(1)
+                .build();
+
+        assertThat(receiver.send(createEndpointDataReferenceBuilder().build())).isNotDone();
+        assertThat(receiver.send(createEndpointDataReferenceBuilder().build()).get()).matches(Result::failed);
+    }
+
+    private HttpDynamicEndpointDataReferenceReceiver.Builder receiverBuilder() {
+        return HttpDynamicEndpointDataReferenceReceiver.Builder.newInstance()
+                .httpClient(httpClient)
+                .typeManager(typeManager)
+                .transferProcessStore(transferProcessStore)
+                .monitor(monitor);
     }
 
     private EndpointDataReference.Builder createEndpointDataReferenceBuilder() {
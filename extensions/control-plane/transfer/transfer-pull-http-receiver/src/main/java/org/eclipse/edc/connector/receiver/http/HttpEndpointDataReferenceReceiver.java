@@ -18,7 +18,6 @@ import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import org.eclipse.edc.connector.transfer.spi.edr.EndpointDataReferenceReceiver;
-import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -26,21 +25,28 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.edr.EndpointDataReference;
 import org.jetbrains.annotations.NotNull;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.eclipse.edc.spi.http.FallbackFactories.statusMustBeSuccessful;
 import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
 
 /**
  * Implementation of a {@link EndpointDataReferenceReceiver} that posts
  * the {@link EndpointDataReference} to an existing http endpoint.
+ * <p>
+ * The EDR is posted asynchronously, the returned future completes once the endpoint has accepted it or the http client
+ * gave up retrying. At most {@code maxInFlight} EDRs are pending at any time, further ones are rejected until a slot
+ * frees up.
  */
 public class HttpEndpointDataReferenceReceiver implements EndpointDataReferenceReceiver {
 
+    public static final int DEFAULT_MAX_IN_FLIGHT = 100;
+
     private static final MediaType JSON = MediaType.get("application/json");
 
     private Monitor monitor;
@@ -49,30 +55,35 @@ public class HttpEndpointDataReferenceReceiver implements EndpointDataReferenceR
     private String endpoint;
     private String authKey;
     private String authToken;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private Semaphore inFlight;
 
     private HttpEndpointDataReferenceReceiver() {
     }
 
     @Override
     public CompletableFuture<Result<Void>> send(@NotNull EndpointDataReference edr) {
+        if (!inFlight.tryAcquire()) {
+            return completedFuture(Result.failure(format("Too many endpoint data references in flight to %s, rejecting %s", endpoint, edr.getId())));
+        }
+
         var requestBody = RequestBody.create(typeManager.writeValueAsString(edr), JSON);
         var requestBuilder = new Request.Builder().url(endpoint).post(requestBody);
         if (!isNullOrBlank(authKey) && !isNullOrBlank(authToken)) {
             requestBuilder.header(authKey, authToken);
         }
-        try (var response = httpClient.execute(requestBuilder.build())) {
-            if (response.isSuccessful()) {
-                var body = response.body();
-                if (body == null) {
-                    throw new EdcException(format("Received empty response body when receiving endpoint data reference at uri: %s", endpoint));
-                }
-                return completedFuture(Result.success());
-            } else {
-                throw new EdcException(format("Received error code %s when transferring endpoint data reference at uri: %s", response.code(), endpoint));
-            }
-        } catch (IOException e) {
-            return failedFuture(e);
-        }
+
+        return httpClient.executeAsync(requestBuilder.build(), List.of(statusMustBeSuccessful()), response -> Result.<Void>success())
+                .handle((result, throwable) -> {
+                    inFlight.release();
+                    if (throwable != null) {
+                        var message = format("Failed to transfer endpoint data reference %s at uri: %s", edr.getId(), endpoint);
+                        monitor.severe(message, throwable);
+                        return Result.failure(message + ": " + throwable.getMessage());
+                    }
+                    monitor.debug(format("Transferred endpoint data reference %s at uri: %s", edr.getId(), endpoint));
+                    return result;
+                });
     }
 
     public static class Builder {
@@ -108,11 +119,20 @@ public class HttpEndpointDataReferenceReceiver implements EndpointDataReferenceR
             return this;
         }
 
+        public Builder maxInFlight(int maxInFlight) {
+            receiver.maxInFlight = maxInFlight;
+            return this;
+        }
+
         public HttpEndpointDataReferenceReceiver build() {
             Objects.requireNonNull(receiver.monitor, "monitor");
             Objects.requireNonNull(receiver.endpoint, "endpoint");
             Objects.requireNonNull(receiver.httpClient, "httpClient");
             Objects.requireNonNull(receiver.typeManager, "typeManager");
+            if (receiver.maxInFlight <= 0) {
+                throw new IllegalArgumentException("maxInFlight must be greater than 0");
+            }
+            receiver.inFlight = new Semaphore(receiver.maxInFlight);
             return receiver;
         }
 
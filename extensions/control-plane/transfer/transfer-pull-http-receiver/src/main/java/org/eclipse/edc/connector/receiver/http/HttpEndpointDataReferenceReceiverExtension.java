@@ -35,6 +35,8 @@ public class HttpEndpointDataReferenceReceiverExtension implements ServiceExtens
     private static final String HTTP_RECEIVER_AUTH_KEY = "edc.receiver.http.auth-key";
     @Setting
     private static final String HTTP_RECEIVER_AUTH_CODE = "edc.receiver.http.auth-code";
+    @Setting(value = "Maximum number of EDRs that are being delivered at the same time, further ones are rejected", type = "int", defaultValue = HttpEndpointDataReferenceReceiver.DEFAULT_MAX_IN_FLIGHT + "")
+    private static final String HTTP_RECEIVER_MAX_IN_FLIGHT = "edc.receiver.http.max-in-flight";
 
     @Inject
     private EndpointDataReferenceReceiverRegistry receiverRegistry;
@@ -58,11 +60,13 @@ public class HttpEndpointDataReferenceReceiverExtension implements ServiceExtens
         }
         var authKey = context.getSetting(HTTP_RECEIVER_AUTH_KEY, null);
         var authCode = context.getSetting(HTTP_RECEIVER_AUTH_CODE, null);
+        var maxInFlight = context.getSetting(HTTP_RECEIVER_MAX_IN_FLIGHT, HttpEndpointDataReferenceReceiver.DEFAULT_MAX_IN_FLIGHT);
         var receiver = HttpEndpointDataReferenceReceiver.Builder.newInstance()
                 .endpoint(endpoint)
                 .authHeader(authKey, authCode)
                 .httpClient(httpClient)
                 .typeManager(typeManager)
+                .maxInFlight(maxInFlight)
                 .monitor(context.getMonitor())
                 .build();
         receiverRegistry.registerReceiver(receiver);
@@ -16,7 +16,6 @@ package org.eclipse.edc.connector.receiver.http;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
-import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
@@ -31,13 +30,18 @@ import org.mockserver.model.HttpStatusCode;
 import org.mockserver.model.MediaType;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockserver.integration.ClientAndServer.startClientAndServer;
 import static org.mockserver.model.HttpRequest.request;
 import static org.mockserver.model.HttpResponse.response;
@@ -99,7 +103,7 @@ public class HttpEndpointDataReferenceReceiverTest {
     }
 
     @Test
-    public void send_shouldFailForwardTheEdr_withPathNotFound() {
+    public void send_shouldFailForwardTheEdr_withPathNotFound() throws ExecutionException, InterruptedException {
         var edr = createEndpointDataReference();
 
         var request = request().withPath("/" + RECEIVER_ENDPOINT_PATH + "/another")
@@ -108,7 +112,21 @@ public class HttpEndpointDataReferenceReceiverTest {
 
         receiverEndpointServer.when(request).respond(successfulResponse());
 
-        assertThrows(EdcException.class, () -> receiver.send(edr));
+        assertThat(receiver.send(edr).get()).matches(Result::failed);
+        verify(monitor).severe(anyString(), any(Throwable.class));
+    }
+
+    @Test
+    public void send_shouldReject_whenMaxInFlightReached() throws ExecutionException, InterruptedException {
+        var pendingClient = mock(EdcHttpClient.class);
+        when(pendingClient.executeAsync(any(), anyList(), any())).thenReturn(new CompletableFuture<>());
+        receiver = receiverBuilder()
+                .httpClient(pendingClient)
+                .maxInFlight(1)
+                .build();
+
+        assertThat(receiver.send(createEndpointDataReference())).isNotDone();
+        assertThat(receiver.send(createEndpointDataReference()).get()).matches(Result::failed);
     }
 
     private HttpEndpointDataReferenceReceiver.Builder receiverBuilder() {
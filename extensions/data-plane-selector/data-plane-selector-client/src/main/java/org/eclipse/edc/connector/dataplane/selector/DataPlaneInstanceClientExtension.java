@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.selector;
 
+import org.eclipse.edc.connector.dataplane.selector.client.CachingDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.EmbeddedDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.RemoteDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
@@ -28,6 +29,8 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.util.string.StringUtils;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
 
 import static java.lang.String.format;
@@ -39,6 +42,11 @@ public class DataPlaneInstanceClientExtension implements ServiceExtension {
     @Setting
     private static final String DPF_SELECTOR_URL_SETTING = "edc.dpf.selector.url";
 
+    @Setting(value = "Time in milliseconds the data plane instances fetched from the selector are cached to select locally, 0 disables the cache. " +
+            "Defaults to 5000 for a remote selector and to 0 for an embedded one")
+    private static final String DPF_SELECTOR_CACHE_TTL_SETTING = "edc.dpf.selector.cache.ttl.ms";
+    private static final long DEFAULT_REMOTE_CACHE_TTL = 5000;
+
     @Inject(required = false)
     private DataPlaneSelectorService selector;
 
@@ -48,6 +56,9 @@ public class DataPlaneInstanceClientExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
 
@@ -55,16 +66,24 @@ public class DataPlaneInstanceClientExtension implements ServiceExtension {
         var monitor = context.getMonitor();
 
         DataPlaneSelectorClient client;
+        long cacheTtl;
         if (StringUtils.isNullOrEmpty(url)) {
             Objects.requireNonNull(selector, format("If [%s] is not specified, a DataPlaneSelectorService instance must be provided", DPF_SELECTOR_URL_SETTING));
             client = new EmbeddedDataPlaneSelectorClient(selector);
+            cacheTtl = context.getSetting(DPF_SELECTOR_CACHE_TTL_SETTING, 0L);
             monitor.debug("Using embedded DPF selector");
         } else {
             Objects.requireNonNull(httpClient, format("If [%s] is specified, an EdcHttpClient instance must be provided", DPF_SELECTOR_URL_SETTING));
             client = new RemoteDataPlaneSelectorClient(httpClient, url, typeManager.getMapper());
+            cacheTtl = context.getSetting(DPF_SELECTOR_CACHE_TTL_SETTING, DEFAULT_REMOTE_CACHE_TTL);
             monitor.debug("Using remote DPF selector");
         }
 
+        if (cacheTtl > 0) {
+            client = new CachingDataPlaneSelectorClient(client, Duration.ofMillis(cacheTtl), clock, monitor);
+            monitor.debug(() -> format("Caching DPF instances for %d ms", cacheTtl));
+        }
+
         context.registerService(DataPlaneSelectorClient.class, client);
     }
 }
@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.client;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.LeastOutstandingTransfersSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.RandomSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.WeightedRoundRobinSelectionStrategy;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * {@link DataPlaneSelectorClient} that keeps a snapshot of all {@link DataPlaneInstance}s fetched from a delegate and
+ * selects locally, instead of asking the delegate for every transfer. Candidates are indexed by source and destination
+ * type. The snapshot is refreshed once it is older than the configured time-to-live, or earlier when no instance can
+ * handle a request, so that newly registered data planes are picked up without waiting for the next refresh.
+ * <p>
+ * The random, least-outstanding-transfers and weighted round-robin strategies run on this client; requests for any
+ * other strategy are passed on to the delegate.
+ */
+public class CachingDataPlaneSelectorClient implements DataPlaneSelectorClient {
+
+    private static final String DEFAULT_STRATEGY = "random";
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMillis(500);
+
+    private final DataPlaneSelectorClient delegate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Map<String, SelectionStrategy> strategies;
+    private volatile Snapshot snapshot;
+
+    public CachingDataPlaneSelectorClient(DataPlaneSelectorClient delegate, Duration ttl, Clock clock, Monitor monitor) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.monitor = monitor;
+        strategies = Stream.of(new RandomSelectionStrategy(), new LeastOutstandingTransfersSelectionStrategy(), new WeightedRoundRobinSelectionStrategy())
+                .collect(Collectors.toMap(SelectionStrategy::getName, s -> s));
+    }
+
+    @Override
+    public List<DataPlaneInstance> getAll() {
+        return snapshot(false).instances;
+    }
+
+    @Override
+    public @Nullable DataPlaneInstance find(DataAddress source, DataAddress destination) {
+        return find(source, destination, DEFAULT_STRATEGY);
+    }
+
+    @Override
+    public @Nullable DataPlaneInstance find(DataAddress source, DataAddress destination, String selectionStrategyName) {
+        var strategy = strategies.get(selectionStrategyName);
+        if (strategy == null) {
+            return delegate.find(source, destination, selectionStrategyName);
+        }
+
+        var candidates = snapshot(false).candidates(source, destination);
+        if (candidates.isEmpty()) {
+            candidates = snapshot(true).candidates(source, destination);
+        }
+        return strategy.apply(candidates);
+    }
+
+    /**
+     * Drops the snapshot, the next request fetches the instances from the delegate.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot snapshot(boolean miss) {
+        var current = snapshot;
+        if (current != null && !current.needsRefresh(miss)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && !current.needsRefresh(miss)) {
+                return current;
+            }
+            try {
+                snapshot = new Snapshot(delegate.getAll(), clock.millis());
+            } catch (RuntimeException e) {
+                if (current == null) {
+                    throw e;
+                }
+                monitor.warning(format("Failed to refresh data plane instances, keep using the %d known instances", current.instances.size()), e);
+                snapshot = new Snapshot(current.instances, clock.millis());
+            }
+            return snapshot;
+        }
+    }
+
+    private final class Snapshot {
+        private final List<DataPlaneInstance> instances;
+        private final long fetchedAt;
+        private final Map<String, List<DataPlaneInstance>> candidates = new ConcurrentHashMap<>();
+
+        Snapshot(List<DataPlaneInstance> instances, long fetchedAt) {
+            this.instances = List.copyOf(instances);
+            this.fetchedAt = fetchedAt;
+        }
+
+        boolean needsRefresh(boolean miss) {
+            var age = clock.millis() - fetchedAt;
+            return age >= (miss ? MIN_REFRESH_INTERVAL : ttl).toMillis();
+        }
+
+        List<DataPlaneInstance> candidates(DataAddress source, DataAddress destination) {
+            return candidates.computeIfAbsent(source.getType() + "\u001f" + destination.getType(), k -> instances.stream()
+                    .filter(instance -> instance.canHandle(source, destination))
+                    .collect(Collectors.toUnmodifiableList()));
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.selector;
 
+import org.eclipse.edc.connector.dataplane.selector.client.CachingDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.EmbeddedDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.client.RemoteDataPlaneSelectorClient;
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
@@ -39,6 +40,7 @@ import static org.mockito.Mockito.when;
 class DataPlaneInstanceClientExtensionTest {
 
     private static final String EDC_DPF_SELECTOR_URL_SETTING = "edc.dpf.selector.url";
+    private static final String EDC_DPF_SELECTOR_CACHE_TTL_SETTING = "edc.dpf.selector.cache.ttl.ms";
     private DataPlaneInstanceClientExtension extension;
     private ServiceExtensionContext context;
 
@@ -80,10 +82,37 @@ class DataPlaneInstanceClientExtensionTest {
 
         extension.initialize(context);
 
+        var client = context.getService(DataPlaneSelectorClient.class);
+        assertThat(client).isInstanceOf(CachingDataPlaneSelectorClient.class);
+    }
+
+    @Test
+    void initialize_withSetting_cacheDisabled(ObjectFactory factory) {
+        var config = ConfigFactory.fromMap(Map.of(EDC_DPF_SELECTOR_URL_SETTING, "http://someurl.com:1234", EDC_DPF_SELECTOR_CACHE_TTL_SETTING, "0"));
+        when(context.getConfig()).thenReturn(config);
+
+        context.registerService(EdcHttpClient.class, mock(EdcHttpClient.class));
+        extension = factory.constructInstance(DataPlaneInstanceClientExtension.class);
+
+        extension.initialize(context);
+
         var client = context.getService(DataPlaneSelectorClient.class);
         assertThat(client).isInstanceOf(RemoteDataPlaneSelectorClient.class);
     }
 
+    @Test
+    void initialize_noSetting_withCache(ObjectFactory factory) {
+        var config = ConfigFactory.fromMap(Map.of(EDC_DPF_SELECTOR_CACHE_TTL_SETTING, "1000"));
+        when(context.getConfig()).thenReturn(config);
+        context.registerService(DataPlaneSelectorService.class, mock(DataPlaneSelectorService.class));
+        extension = factory.constructInstance(DataPlaneInstanceClientExtension.class);
+
+        extension.initialize(context);
+
+        var client = context.getService(DataPlaneSelectorClient.class);
+        assertThat(client).isInstanceOf(CachingDataPlaneSelectorClient.class);
+    }
+
     @Test
     void initialize_withSetting_httpClientMissing(ObjectFactory factory) {
         context.registerService(EdcHttpClient.class, null);
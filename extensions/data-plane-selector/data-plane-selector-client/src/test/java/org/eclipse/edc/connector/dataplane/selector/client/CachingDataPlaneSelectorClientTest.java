@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.client;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDataPlaneSelectorClientTest {
+
+    private static final DataAddress SOURCE = DataAddress.Builder.newInstance().type("source").build();
+    private static final DataAddress DESTINATION = DataAddress.Builder.newInstance().type("destination").build();
+
+    private final DataPlaneSelectorClient delegate = mock(DataPlaneSelectorClient.class);
+    private final Clock clock = mock(Clock.class);
+    private final Monitor monitor = mock(Monitor.class);
+    private CachingDataPlaneSelectorClient client;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.millis()).thenReturn(0L);
+        client = new CachingDataPlaneSelectorClient(delegate, Duration.ofSeconds(5), clock, monitor);
+    }
+
+    @Test
+    void find_selectsLocallyFromCachedInstances() {
+        var instance = instance("matching", "source", "destination");
+        when(delegate.getAll()).thenReturn(List.of(instance, instance("other", "source", "other")));
+
+        assertThat(client.find(SOURCE, DESTINATION)).isSameAs(instance);
+        assertThat(client.find(SOURCE, DESTINATION, "leastOutstandingTransfers")).isSameAs(instance);
+        assertThat(client.find(SOURCE, DESTINATION, "weightedRoundRobin")).isSameAs(instance);
+
+        verify(delegate, times(1)).getAll();
+        verify(delegate, times(0)).find(any(), any(), anyString());
+    }
+
+    @Test
+    void find_refreshesAfterTtl() {
+        when(delegate.getAll()).thenReturn(List.of(instance("matching", "source", "destination")));
+
+        client.find(SOURCE, DESTINATION);
+        when(clock.millis()).thenReturn(4_999L);
+        client.find(SOURCE, DESTINATION);
+        when(clock.millis()).thenReturn(5_000L);
+        client.find(SOURCE, DESTINATION);
+
+        verify(delegate, times(2)).getAll();
+    }
+
+    @Test
+    void find_refreshesEarlyWhenNoInstanceMatches() {
+        var instance = instance("matching", "source", "destination");
+        when(delegate.getAll()).thenReturn(List.of()).thenReturn(List.of(instance));
+
+        assertThat(client.find(SOURCE, DESTINATION)).isNull();
+        when(clock.millis()).thenReturn(100L);
+        assertThat(client.find(SOURCE, DESTINATION)).isNull();
+        when(clock.millis()).thenReturn(500L);
+        assertThat(client.find(SOURCE, DESTINATION)).isSameAs(instance);
+
+        verify(delegate, times(2)).getAll();
+    }
+
+    @Test
+    void find_unknownStrategy_delegates() {
+        var instance = instance("matching", "source", "destination");
+        when(delegate.find(SOURCE, DESTINATION, "custom")).thenReturn(instance);
+
+        assertThat(client.find(SOURCE, DESTINATION, "custom")).isSameAs(instance);
+
+        verify(delegate).find(eq(SOURCE), eq(DESTINATION), eq("custom"));
+        verify(delegate, times(0)).getAll();
+    }
+
+    @Test
+    void find_keepsSnapshotWhenRefreshFails() {
+        var instance = instance("matching", "source", "destination");
+        when(delegate.getAll()).thenReturn(List.of(instance)).thenThrow(new EdcException("unavailable"));
+
+        client.find(SOURCE, DESTINATION);
+        when(clock.millis()).thenReturn(10_000L);
+
+        assertThat(client.find(SOURCE, DESTINATION)).isSameAs(instance);
+        verify(monitor).warning(anyString(), any(EdcException.class));
+    }
+
+    @Test
+    void getAll_failsWithoutSnapshot() {
+        when(delegate.getAll()).thenThrow(new EdcException("unavailable"));
+
+        assertThatThrownBy(() -> client.getAll()).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void invalidate() {
+        when(delegate.getAll()).thenReturn(List.of());
+
+        client.getAll();
+        client.invalidate();
+        client.getAll();
+
+        verify(delegate, times(2)).getAll();
+    }
+
+    private DataPlaneInstance instance(String id, String sourceType, String destinationType) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://" + id + ".com/api")
+                .allowedSourceType(sourceType)
+                .allowedDestType(destinationType)
+                .build();
+    }
+}
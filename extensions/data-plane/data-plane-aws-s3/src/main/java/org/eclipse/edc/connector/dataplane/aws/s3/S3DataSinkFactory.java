@@ -37,6 +37,7 @@ import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.aws.s3.S3BucketSchema.ACCESS_KEY_ID;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.S3BucketSchema.KEY_PREFIX;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.REGION;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.SECRET_ACCESS_KEY;
 
@@ -98,9 +99,12 @@ public class S3DataSinkFactory implements DataSinkFactory {
             client = clientProvider.s3Client(destination.getProperty(REGION));
         }
 
+        var keyPrefix = destination.getProperty(KEY_PREFIX);
+        var keyName = keyPrefix != null ? keyPrefix + destination.getKeyName() : destination.getKeyName();
+
         return S3DataSink.Builder.newInstance()
                 .bucketName(destination.getProperty(BUCKET_NAME))
-                .keyName(destination.getKeyName())
+                .keyName(keyName)
                 .requestId(request.getId())
                 .executorService(executorService)
                 .monitor(monitor)
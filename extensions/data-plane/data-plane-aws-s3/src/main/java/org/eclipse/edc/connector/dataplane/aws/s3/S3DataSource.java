@@ -18,32 +18,55 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 
 import java.io.InputStream;
 import java.util.stream.Stream;
 
+import static java.lang.String.format;
+
+/**
+ * Reads either a single object identified by its key, or all the objects whose key starts with a given prefix.
+ * In the latter case the bucket listing is consumed lazily, page by page, and each object is exposed as a separate part.
+ */
 class S3DataSource implements DataSource {
 
     private String bucketName;
     private String keyName;
+    private String keyPrefix;
+    private int maxKeysPerPage = 1000;
     private S3Client client;
 
     private S3DataSource() { }
 
     @Override
     public Stream<Part> openPartStream() {
-        return Stream.of(new S3Part(client, keyName, bucketName));
+        if (keyPrefix == null) {
+            return Stream.of(new S3Part(client, keyName, bucketName, null));
+        }
+
+        var request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(keyPrefix)
+                .maxKeys(maxKeysPerPage)
+                .build();
+
+        return client.listObjectsV2Paginator(request).contents().stream()
+                .filter(object -> !object.key().endsWith("/"))
+                .map(object -> new S3Part(client, object.key(), bucketName, object.size()));
     }
 
     private static class S3Part implements Part {
         private final S3Client client;
         private final String keyName;
         private final String bucketName;
+        private volatile long size;
 
-        S3Part(S3Client client, String keyName, String bucketName) {
+        S3Part(S3Client client, String keyName, String bucketName, Long size) {
             this.client = client;
             this.keyName = keyName;
             this.bucketName = bucketName;
+            this.size = size == null ? SIZE_UNKNOWN : size;
         }
 
         @Override
@@ -53,8 +76,11 @@ class S3DataSource implements DataSource {
 
         @Override
         public long size() {
-            var request = HeadObjectRequest.builder().key(keyName).bucket(bucketName).build();
-            return client.headObject(request).contentLength();
+            if (size == SIZE_UNKNOWN) {
+                var request = HeadObjectRequest.builder().key(keyName).bucket(bucketName).build();
+                size = client.headObject(request).contentLength();
+            }
+            return size;
         }
 
         @Override
@@ -62,6 +88,27 @@ class S3DataSource implements DataSource {
             var request = GetObjectRequest.builder().key(keyName).bucket(bucketName).build();
             return client.getObject(request);
         }
+
+        @Override
+        public boolean supportsRandomAccess() {
+            return true;
+        }
+
+        /**
+         * Reads a segment of the object through a ranged GET, so that large objects can be fetched in parallel.
+         */
+        @Override
+        public byte[] read(long offset, long bytes) {
+            if (offset < 0 || bytes < 1) {
+                throw new IllegalArgumentException(format("Invalid range: offset %s, bytes %s", offset, bytes));
+            }
+            var request = GetObjectRequest.builder()
+                    .key(keyName)
+                    .bucket(bucketName)
+                    .range(format("bytes=%d-%d", offset, offset + bytes - 1))
+                    .build();
+            return client.getObjectAsBytes(request).asByteArray();
+        }
     }
 
     public static class Builder {
@@ -85,6 +132,16 @@ class S3DataSource implements DataSource {
             return this;
         }
 
+        public Builder keyPrefix(String keyPrefix) {
+            source.keyPrefix = keyPrefix;
+            return this;
+        }
+
+        public Builder maxKeysPerPage(int maxKeysPerPage) {
+            source.maxKeysPerPage = maxKeysPerPage;
+            return this;
+        }
+
         public Builder client(S3Client client) {
             source.client = client;
             return this;
@@ -33,6 +33,7 @@ import software.amazon.awssdk.services.s3.S3Client;
 
 import static org.eclipse.edc.aws.s3.S3BucketSchema.ACCESS_KEY_ID;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.S3BucketSchema.KEY_PREFIX;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.REGION;
 import static org.eclipse.edc.aws.s3.S3BucketSchema.SECRET_ACCESS_KEY;
 
@@ -92,6 +93,7 @@ public class S3DataSourceFactory implements DataSourceFactory {
         return S3DataSource.Builder.newInstance()
                 .bucketName(source.getProperty(BUCKET_NAME))
                 .keyName(source.getKeyName())
+                .keyPrefix(source.getProperty(KEY_PREFIX))
                 .client(client)
                 .build();
     }
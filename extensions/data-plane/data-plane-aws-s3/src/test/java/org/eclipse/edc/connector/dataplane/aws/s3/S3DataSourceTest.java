@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.aws.s3;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3DataSourceTest {
+
+    private static final String BUCKET_NAME = "bucketName";
+
+    private final S3Client client = mock(S3Client.class);
+
+    @Test
+    void openPartStream_singleKey_shouldHeadObjectOnlyOnce() {
+        when(client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().contentLength(42L).build());
+        var source = S3DataSource.Builder.newInstance().client(client).bucketName(BUCKET_NAME).keyName("key").build();
+
+        var part = source.openPartStream().findFirst().orElseThrow();
+
+        assertThat(part.name()).isEqualTo("key");
+        assertThat(part.size()).isEqualTo(42L);
+        assertThat(part.size()).isEqualTo(42L);
+        verify(client, times(1)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void openPartStream_keyPrefix_shouldListAllPages() {
+        when(client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenAnswer(i -> new ListObjectsV2Iterable(client, i.getArgument(0)));
+        when(client.listObjectsV2(argThat((ListObjectsV2Request r) -> r != null && r.continuationToken() == null)))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(object("prefix/1", 10), object("prefix/", 0))
+                        .isTruncated(true).nextContinuationToken("next")
+                        .build());
+        when(client.listObjectsV2(argThat((ListObjectsV2Request r) -> r != null && "next".equals(r.continuationToken()))))
+                .thenReturn(ListObjectsV2Response.builder()
+                        .contents(object("prefix/2", 20))
+                        .isTruncated(false)
+                        .build());
+        var source = S3DataSource.Builder.newInstance().client(client).bucketName(BUCKET_NAME).keyPrefix("prefix/").build();
+
+        var parts = source.openPartStream().collect(toList());
+
+        assertThat(parts).extracting(DataSource.Part::name).containsExactly("prefix/1", "prefix/2");
+        assertThat(parts).extracting(DataSource.Part::size).containsExactly(10L, 20L);
+        verify(client, times(0)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void read_shouldIssueRangedGet() {
+        when(client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), "data".getBytes(UTF_8)));
+        var source = S3DataSource.Builder.newInstance().client(client).bucketName(BUCKET_NAME).keyName("key").build();
+        var part = source.openPartStream().findFirst().orElseThrow();
+
+        var bytes = part.read(100, 4);
+
+        assertThat(part.supportsRandomAccess()).isTrue();
+        assertThat(bytes).isEqualTo("data".getBytes(UTF_8));
+        var captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(client).getObjectAsBytes(captor.capture());
+        assertThat(captor.getValue().range()).isEqualTo("bytes=100-103");
+    }
+
+    private S3Object object(String key, long size) {
+        return S3Object.builder().key(key).size(size).build();
+    }
+}
@@ -23,16 +23,11 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
-import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
-import java.time.Clock;
-import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
 
 /**
@@ -42,46 +37,43 @@ public class AzureDataFactoryTransferManager {
     // Name of the empty blob used to indicate completion. Used by consumer-side status checker.
     private static final String COMPLETE_BLOB_NAME = ".complete";
     private final Monitor monitor;
-    private final Duration maxDuration;
-    private final Clock clock;
     private final DataFactoryClient client;
     private final DataFactoryPipelineFactory pipelineFactory;
     private final BlobStoreApi blobStoreApi;
     private final TypeManager typeManager;
     private final KeyVaultClient keyVaultClient;
-    private final Duration pollDelay;
+    private final DataFactoryRunMonitor runMonitor;
 
     public AzureDataFactoryTransferManager(
             Monitor monitor,
             DataFactoryClient client,
             DataFactoryPipelineFactory pipelineFactory,
-            Duration maxDuration,
-            Clock clock,
             BlobStoreApi blobStoreApi,
             TypeManager typeManager,
             KeyVaultClient keyVaultClient,
-            Duration pollDelay
+            DataFactoryRunMonitor runMonitor
     ) {
         this.monitor = monitor;
         this.client = client;
         this.pipelineFactory = pipelineFactory;
-        this.maxDuration = maxDuration;
-        this.clock = clock;
         this.blobStoreApi = blobStoreApi;
         this.typeManager = typeManager;
         this.keyVaultClient = keyVaultClient;
-        this.pollDelay = pollDelay;
+        this.runMonitor = runMonitor;
     }
 
     /**
      * Transfers data from source to destination.
      *
      * @param request the data flow request.
-     * @return a {@link CompletableFuture} that completes when the data transfer completes.
+     * @param pipeline the pipeline template to run for the request.
+     * @return a {@link CompletableFuture} that completes when the data transfer completes. The calling thread is not
+     *         blocked while the pipeline runs. The destination secret created for the run is deleted once the run
+     *         reaches a terminal state.
      */
-    public CompletableFuture<StatusResult<Void>> transfer(DataFlowRequest request) {
+    public CompletableFuture<StatusResult<Void>> transfer(DataFlowRequest request, PipelineResource pipeline) {
 
-        PipelineResource pipeline = pipelineFactory.createPipeline(request);
+        var parameters = pipelineFactory.createRunParameters(request);
 
         // Destination
         var dataAddress = request.getDestinationDataAddress();
@@ -90,17 +82,25 @@ public class AzureDataFactoryTransferManager {
         var accountName = dataAddress.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME);
         var containerName = dataAddress.getProperty(AzureBlobStoreSchema.CONTAINER_NAME);
 
-        var runId = client.runPipeline(pipeline).runId();
+        var runSecretName = DataFactoryPipelineFactory.destinationSecretName(parameters);
+        String runId;
+        try {
+            runId = client.runPipeline(pipeline, parameters).runId();
+        } catch (RuntimeException e) {
+            deleteRunSecret(runSecretName);
+            throw e;
+        }
 
-        monitor.debug("Created ADF pipeline for " + request.getProcessId() + ". Run id is " + runId);
+        monitor.debug("Started ADF pipeline " + pipeline.name() + " for " + request.getProcessId() + ". Run id is " + runId);
 
-        return awaitRunCompletion(runId)
+        return runMonitor.awaitCompletion(runId)
                 .thenApply(result -> {
                     if (result.succeeded()) {
                         return complete(accountName, containerName, token.getSas());
                     }
                     return result;
                 })
+                .whenComplete((result, throwable) -> deleteRunSecret(runSecretName))
                 .exceptionally(throwable -> {
                     var error = "Unhandled exception raised when transferring data";
                     monitor.severe(error, throwable);
@@ -108,41 +108,15 @@ public class AzureDataFactoryTransferManager {
                 });
     }
 
-    @NotNull
-    private CompletableFuture<StatusResult<Void>> awaitRunCompletion(String runId) {
-        monitor.debug("Awaiting ADF pipeline completion for run " + runId);
-
-        var timeout = clock.instant().plus(maxDuration);
-        while (clock.instant().isBefore(timeout)) {
-            var pipelineRun = client.getPipelineRun(runId);
-            var runStatusValue = pipelineRun.status();
-            var message = pipelineRun.message();
-            monitor.debug("ADF run status is " + runStatusValue + " with message [" + message + "] for run " + runId);
-            DataFactoryPipelineRunStates runStatus;
-
-            try {
-                runStatus = DataFactoryPipelineRunStates.valueOf(runStatusValue);
-            } catch (IllegalArgumentException e) {
-                return completedFuture(StatusResult.failure(ERROR_RETRY,
-                        format("ADF run in unexpected state %s with message: %s", runStatusValue, message)));
-            }
-            if (runStatus.succeeded) {
-                return completedFuture(StatusResult.success());
-            }
-            if (runStatus.failed) {
-                return completedFuture(StatusResult.failure(ERROR_RETRY,
-                        format("ADF run in state %s with message: %s", runStatusValue, message)));
-            }
-
-            try {
-                TimeUnit.MILLISECONDS.sleep(pollDelay.toMillis());
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
+    private void deleteRunSecret(String name) {
+        if (name == null) {
+            return;
+        }
+        try {
+            keyVaultClient.deleteSecret(name);
+        } catch (RuntimeException e) {
+            monitor.warning("Failed to delete Key Vault secret " + name, e);
         }
-        client.cancelPipelineRun(runId);
-        return completedFuture(StatusResult.failure(ERROR_RETRY, "ADF run timed out"));
     }
 
     private StatusResult<Void> complete(String accountName, String containerName, String sharedAccessSignature) {
@@ -155,27 +129,4 @@ public class AzureDataFactoryTransferManager {
             return StatusResult.failure(ERROR_RETRY, format("Error creating blob %s on account %s", COMPLETE_BLOB_NAME, accountName));
         }
     }
-
-    /**
-     * States of a pipeline run, as returned from the Data Factory API.
-     *
-     * @see <a href="https://docs.microsoft.com/rest/api/datafactory/pipeline-runs/get#pipelinerun">PipelineRun</a>
-     */
-    @SuppressWarnings("unused")
-    private enum DataFactoryPipelineRunStates {
-        Queued(false, false),
-        InProgress(false, false),
-        Succeeded(true, false),
-        Failed(false, true),
-        Canceling(false, true),
-        Cancelled(false, true);
-
-        final boolean succeeded;
-        final boolean failed;
-
-        DataFactoryPipelineRunStates(boolean succeeded, boolean failed) {
-            this.succeeded = succeeded;
-            this.failed = failed;
-        }
-    }
 }
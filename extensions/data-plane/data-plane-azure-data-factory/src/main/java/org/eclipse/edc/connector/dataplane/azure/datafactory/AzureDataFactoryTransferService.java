@@ -14,23 +14,35 @@
 
 package org.eclipse.edc.connector.dataplane.azure.datafactory;
 
+import com.azure.resourcemanager.datafactory.models.PipelineResource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link TransferService} implementation that performs transfers in Azure Data Factory.
+ * <p>
+ * The pipeline template for a combination of source and destination type is defined in the factory on the first
+ * transfer that needs it and reused by all subsequent transfers. The template is defined outside the map so that the
+ * (slow) Azure Resource Manager calls do not block transfers of other type combinations; as template names are
+ * deterministic, concurrent first transfers merely define the same template twice.
  */
 public class AzureDataFactoryTransferService implements TransferService {
     private final AzureDataFactoryTransferRequestValidator validator;
+    private final DataFactoryPipelineFactory pipelineFactory;
     private final AzureDataFactoryTransferManager transferManager;
+    private final Map<String, PipelineResource> pipelineTemplates = new ConcurrentHashMap<>();
 
-    public AzureDataFactoryTransferService(AzureDataFactoryTransferRequestValidator validator, AzureDataFactoryTransferManager transferManager) {
+    public AzureDataFactoryTransferService(AzureDataFactoryTransferRequestValidator validator, DataFactoryPipelineFactory pipelineFactory,
+                                           AzureDataFactoryTransferManager transferManager) {
         this.validator = validator;
+        this.pipelineFactory = pipelineFactory;
         this.transferManager = transferManager;
     }
 
@@ -46,6 +58,15 @@ public class AzureDataFactoryTransferService implements TransferService {
 
     @Override
     public CompletableFuture<StatusResult<Void>> transfer(DataFlowRequest request) {
-        return transferManager.transfer(request);
+        var sourceType = request.getSourceDataAddress().getType();
+        var destinationType = request.getDestinationDataAddress().getType();
+        var key = sourceType + "|" + destinationType;
+        var pipeline = pipelineTemplates.get(key);
+        if (pipeline == null) {
+            var created = pipelineFactory.createPipelineTemplate(sourceType, destinationType);
+            var existing = pipelineTemplates.putIfAbsent(key, created);
+            pipeline = existing != null ? existing : created;
+        }
+        return transferManager.transfer(request, pipeline);
     }
 }
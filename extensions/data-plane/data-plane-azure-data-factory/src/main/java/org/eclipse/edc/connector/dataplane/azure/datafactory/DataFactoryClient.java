@@ -14,12 +14,23 @@
 
 package org.eclipse.edc.connector.dataplane.azure.datafactory;
 
+import com.azure.core.util.Context;
 import com.azure.resourcemanager.datafactory.DataFactoryManager;
 import com.azure.resourcemanager.datafactory.models.CreateRunResponse;
 import com.azure.resourcemanager.datafactory.models.DatasetResource;
 import com.azure.resourcemanager.datafactory.models.LinkedServiceResource;
 import com.azure.resourcemanager.datafactory.models.PipelineResource;
 import com.azure.resourcemanager.datafactory.models.PipelineRun;
+import com.azure.resourcemanager.datafactory.models.RunFilterParameters;
+import com.azure.resourcemanager.datafactory.models.RunQueryFilter;
+import com.azure.resourcemanager.datafactory.models.RunQueryFilterOperand;
+import com.azure.resourcemanager.datafactory.models.RunQueryFilterOperator;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Client for Azure Data Factory, wrapping the Azure SDK.
@@ -78,23 +89,45 @@ class DataFactoryClient {
      * Runs a pipeline.
      *
      * @param pipeline pipeline to run.
+     * @param parameters values of the pipeline parameters for this run.
      * @return run response.
      */
-    CreateRunResponse runPipeline(PipelineResource pipeline) {
+    CreateRunResponse runPipeline(PipelineResource pipeline, Map<String, Object> parameters) {
         return dataFactoryManager.pipelines()
-                .createRun(resourceGroupName, factoryName, pipeline.name());
+                .createRunWithResponse(resourceGroupName, factoryName, pipeline.name(), null, null, null, null, parameters, Context.NONE)
+                .getValue();
     }
 
     /**
-     * Gets a pipeline run.
+     * Gets several pipeline runs with a single query. Runs that have not been updated within the given time window are
+     * not returned.
      *
-     * @param runId pipeline run identifier.
-     * @return run representation.
+     * @param runIds        pipeline run identifiers.
+     * @param updatedAfter  start of the time window.
+     * @param updatedBefore end of the time window.
+     * @return run representations.
      */
-    PipelineRun getPipelineRun(String runId) {
-        return dataFactoryManager
-                .pipelineRuns()
-                .get(resourceGroupName, factoryName, runId);
+    List<PipelineRun> queryPipelineRuns(Collection<String> runIds, OffsetDateTime updatedAfter, OffsetDateTime updatedBefore) {
+        var filter = new RunQueryFilter()
+                .withOperand(RunQueryFilterOperand.RUN_ID)
+                .withOperator(RunQueryFilterOperator.IN)
+                .withValues(new ArrayList<>(runIds));
+        var parameters = new RunFilterParameters()
+                .withLastUpdatedAfter(updatedAfter)
+                .withLastUpdatedBefore(updatedBefore)
+                .withFilters(List.of(filter));
+
+        var runs = new ArrayList<PipelineRun>();
+        String continuationToken;
+        do {
+            var response = dataFactoryManager
+                    .pipelineRuns()
+                    .queryByFactory(resourceGroupName, factoryName, parameters);
+            runs.addAll(response.value());
+            continuationToken = response.continuationToken();
+            parameters.withContinuationToken(continuationToken);
+        } while (continuationToken != null);
+        return runs;
     }
 
     /**
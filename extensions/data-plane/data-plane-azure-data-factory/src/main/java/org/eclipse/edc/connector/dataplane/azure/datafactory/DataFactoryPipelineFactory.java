@@ -25,6 +25,8 @@ import com.azure.resourcemanager.datafactory.models.DatasetReference;
 import com.azure.resourcemanager.datafactory.models.DatasetResource;
 import com.azure.resourcemanager.datafactory.models.LinkedServiceReference;
 import com.azure.resourcemanager.datafactory.models.LinkedServiceResource;
+import com.azure.resourcemanager.datafactory.models.ParameterSpecification;
+import com.azure.resourcemanager.datafactory.models.ParameterType;
 import com.azure.resourcemanager.datafactory.models.PipelineResource;
 import org.eclipse.edc.azure.blob.AzureBlobStoreSchema;
 import org.eclipse.edc.azure.blob.AzureSasToken;
@@ -32,18 +34,33 @@ import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
-import static java.lang.String.format;
 import static org.eclipse.edc.spi.types.domain.DataAddress.KEY_NAME;
 
 /**
  * Factory class for Azure Data Factory object definitions, such as pipelines and datasets.
+ * <p>
+ * Linked services, datasets and pipelines are parameterized templates that are defined once per combination of source
+ * type, destination type and key vault linked service. Their names are deterministic, so defining a template that
+ * already exists in the factory overwrites it with an identical definition. A transfer only supplies the run
+ * parameters of a template, see {@link #createRunParameters(DataFlowRequest)}.
  */
 class DataFactoryPipelineFactory {
     private static final String ADF_RESOURCE_NAME_PREFIX = "EDC-DPF-";
-    private static final String BLOB_STORE_ENDPOINT_TEMPLATE = "https://%s.blob.core.windows.net/";
+    private static final String ADF_TEMPLATE_NAME_PREFIX = "EDC-DPF-TPL-";
+
+    private static final String ACCOUNT_NAME = "accountName";
+    private static final String SECRET_NAME = "secretName";
+    private static final String CONTAINER_NAME = "containerName";
+    private static final String BLOB_NAME = "blobName";
+    private static final List<String> LOCATION_PARAMETERS = List.of(ACCOUNT_NAME, SECRET_NAME, CONTAINER_NAME, BLOB_NAME);
+    private static final String SOURCE = "source";
+    private static final String DESTINATION = "destination";
 
     private final String keyVaultLinkedService;
     private final KeyVaultClient keyVaultClient;
@@ -58,88 +75,163 @@ class DataFactoryPipelineFactory {
     }
 
     /**
-     * Create a Data Factory pipeline for a transfer request.
+     * Defines the parameterized copy pipeline, together with its datasets and linked services, for a combination of
+     * source and destination type.
+     *
+     * @param sourceType the type of the source data address.
+     * @param destinationType the type of the destination data address.
+     * @return the pipeline resource.
+     */
+    PipelineResource createPipelineTemplate(String sourceType, String destinationType) {
+        var baseName = ADF_TEMPLATE_NAME_PREFIX + sanitize(sourceType) + "-" + sanitize(destinationType) + "-" + sanitize(keyVaultLinkedService);
+
+        var sourceDataset = createDatasetTemplate(baseName + "-src", createSourceLinkedServiceTemplate(baseName + "-src"));
+        var destinationDataset = createDatasetTemplate(baseName + "-dst", createDestinationLinkedServiceTemplate(baseName + "-dst"));
+
+        return createCopyPipelineTemplate(baseName, sourceDataset, destinationDataset);
+    }
+
+    /**
+     * Creates the parameters of a run of a pipeline template for a transfer request. The SAS token of the destination
+     * is stored as a dedicated key vault secret that is referenced by the run.
      *
      * @param request the transfer request.
-     * @return the created pipeline resource.
+     * @return the pipeline run parameters.
      */
-    PipelineResource createPipeline(DataFlowRequest request) {
-        var baseName = ADF_RESOURCE_NAME_PREFIX + UUID.randomUUID();
+    Map<String, Object> createRunParameters(DataFlowRequest request) {
+        var source = request.getSourceDataAddress();
+        var destination = request.getDestinationDataAddress();
+
+        var secret = keyVaultClient.getSecret(destination.getProperty(KEY_NAME));
+        var token = typeManager.readValue(secret.getValue(), AzureSasToken.class);
+        var sasTokenSecret = keyVaultClient.setSecret(ADF_RESOURCE_NAME_PREFIX + UUID.randomUUID() + "-dst", token.getSas());
 
-        var sourceDataset = createSourceDataset(baseName + "-src", request.getSourceDataAddress());
-        var destinationDataset = createDestinationDataset(baseName + "-dst", request.getDestinationDataAddress());
+        var parameters = new HashMap<String, Object>();
+        putLocationParameters(parameters, SOURCE, source, source.getProperty(KEY_NAME));
+        putLocationParameters(parameters, DESTINATION, destination, sasTokenSecret.getName());
+        return parameters;
+    }
 
-        return createCopyPipeline(baseName, sourceDataset, destinationDataset);
+    private void putLocationParameters(Map<String, Object> parameters, String prefix, DataAddress dataAddress, String secretName) {
+        parameters.put(pipelineParameter(prefix, ACCOUNT_NAME), dataAddress.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME));
+        parameters.put(pipelineParameter(prefix, SECRET_NAME), secretName);
+        parameters.put(pipelineParameter(prefix, CONTAINER_NAME), dataAddress.getProperty(AzureBlobStoreSchema.CONTAINER_NAME));
+        parameters.put(pipelineParameter(prefix, BLOB_NAME), dataAddress.getProperty(AzureBlobStoreSchema.BLOB_NAME));
     }
 
-    private PipelineResource createCopyPipeline(String baseName, DatasetResource sourceDataset, DatasetResource destinationDataset) {
+    private PipelineResource createCopyPipelineTemplate(String baseName, DatasetResource sourceDataset, DatasetResource destinationDataset) {
+        var parameters = new HashMap<String, ParameterSpecification>();
+        parameters.putAll(pipelineParameters(SOURCE));
+        parameters.putAll(pipelineParameters(DESTINATION));
+
         return client.definePipeline(baseName)
+                .withParameters(parameters)
                 .withActivities(List.of(new CopyActivity()
                         .withName("CopyActivity")
-                        .withInputs(List.of(new DatasetReference().withReferenceName(sourceDataset.name())))
-                        .withOutputs(List.of(new DatasetReference().withReferenceName(destinationDataset.name())))
+                        .withInputs(List.of(datasetReference(sourceDataset, SOURCE)))
+                        .withOutputs(List.of(datasetReference(destinationDataset, DESTINATION)))
                         .withSource(new BlobSource())
                         .withSink(new BlobSink())
                         .withValidateDataConsistency(false)))
                 .create();
     }
 
-    private DatasetResource createSourceDataset(String name, DataAddress sourceDataAddress) {
-        var linkedService = createSourceLinkedService(name, sourceDataAddress);
-        return createDatasetResource(name, linkedService, sourceDataAddress);
+    private DatasetReference datasetReference(DatasetResource dataset, String prefix) {
+        var parameters = new HashMap<String, Object>();
+        LOCATION_PARAMETERS.forEach(name -> parameters.put(name, expression("@pipeline().parameters." + pipelineParameter(prefix, name))));
+        return new DatasetReference()
+                .withReferenceName(dataset.name())
+                .withParameters(parameters);
     }
 
-    private DatasetResource createDestinationDataset(String name, DataAddress sourceDataAddress) {
-        var linkedService = createDestinationLinkedService(name, sourceDataAddress);
-        return createDatasetResource(name, linkedService, sourceDataAddress);
-    }
-
-    private LinkedServiceResource createSourceLinkedService(String name, DataAddress dataAddress) {
-        var accountName = dataAddress.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME);
-
+    private LinkedServiceResource createSourceLinkedServiceTemplate(String name) {
         return client.defineLinkedService(name)
                 .withProperties(new AzureStorageLinkedService()
-                        .withConnectionString(String.format("DefaultEndpointsProtocol=https;AccountName=%s;", accountName))
-                        .withAccountKey(
-                                new AzureKeyVaultSecretReference()
-                                        .withSecretName(dataAddress.getProperty(KEY_NAME))
-                                        .withStore(new LinkedServiceReference()
-                                                .withReferenceName(keyVaultLinkedService)
-                                        ))
+                        .withConnectionString("DefaultEndpointsProtocol=https;AccountName=@{linkedService().accountName};")
+                        .withAccountKey(keyVaultSecretReference())
+                        .withParameters(linkedServiceParameters())
                 )
                 .create();
     }
 
-    private LinkedServiceResource createDestinationLinkedService(String name, DataAddress dataAddress) {
-        var accountName = dataAddress.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME);
-        var secret = keyVaultClient.getSecret(dataAddress.getProperty(KEY_NAME));
-        var token = typeManager.readValue(secret.getValue(), AzureSasToken.class);
-        var sasTokenSecret = keyVaultClient.setSecret(name, token.getSas());
-
+    private LinkedServiceResource createDestinationLinkedServiceTemplate(String name) {
         return client.defineLinkedService(name)
                 .withProperties(
                         new AzureStorageLinkedService()
-                                .withSasUri(format(BLOB_STORE_ENDPOINT_TEMPLATE, accountName))
-                                .withSasToken(
-                                        new AzureKeyVaultSecretReference()
-                                                .withSecretName(sasTokenSecret.getName())
-                                                .withStore(new LinkedServiceReference()
-                                                        .withReferenceName(keyVaultLinkedService)
-                                                ))
+                                .withSasUri("https://@{linkedService().accountName}.blob.core.windows.net/")
+                                .withSasToken(keyVaultSecretReference())
+                                .withParameters(linkedServiceParameters())
                 )
                 .create();
     }
 
-    private DatasetResource createDatasetResource(String name, LinkedServiceResource linkedService, DataAddress dataAddress) {
+    private DatasetResource createDatasetTemplate(String name, LinkedServiceResource linkedService) {
         return client.defineDataset(name)
                 .withProperties(
                         new BinaryDataset()
-                                .withLinkedServiceName(new LinkedServiceReference().withReferenceName(linkedService.name()))
+                                .withParameters(stringParameters(LOCATION_PARAMETERS))
+                                .withLinkedServiceName(new LinkedServiceReference()
+                                        .withReferenceName(linkedService.name())
+                                        .withParameters(Map.<String, Object>of(
+                                                ACCOUNT_NAME, expression("@dataset()." + ACCOUNT_NAME),
+                                                SECRET_NAME, expression("@dataset()." + SECRET_NAME))))
                                 .withLocation(new AzureBlobStorageLocation()
-                                        .withFileName(dataAddress.getProperty(AzureBlobStoreSchema.BLOB_NAME))
-                                        .withContainer(dataAddress.getProperty(AzureBlobStoreSchema.CONTAINER_NAME))
+                                        .withFileName(expression("@dataset()." + BLOB_NAME))
+                                        .withContainer(expression("@dataset()." + CONTAINER_NAME))
                                 )
                 )
                 .create();
     }
-}
\ No newline at end of file
+
+    private AzureKeyVaultSecretReference keyVaultSecretReference() {
+        return new AzureKeyVaultSecretReference()
+                .withSecretName(expression("@linkedService()." + SECRET_NAME))
+                .withStore(new LinkedServiceReference()
+                        .withReferenceName(keyVaultLinkedService)
+                );
+    }
+
+    private Map<String, ParameterSpecification> linkedServiceParameters() {
+        return stringParameters(List.of(ACCOUNT_NAME, SECRET_NAME));
+    }
+
+    private Map<String, ParameterSpecification> pipelineParameters(String prefix) {
+        var parameters = new HashMap<String, ParameterSpecification>();
+        LOCATION_PARAMETERS.forEach(name -> parameters.put(pipelineParameter(prefix, name), new ParameterSpecification().withType(ParameterType.STRING)));
+        return parameters;
+    }
+
+    private Map<String, ParameterSpecification> stringParameters(List<String> names) {
+        var parameters = new HashMap<String, ParameterSpecification>();
+        names.forEach(name -> parameters.put(name, new ParameterSpecification().withType(ParameterType.STRING)));
+        return parameters;
+    }
+
+    /**
+     * Returns the name of the destination secret created by {@link #createRunParameters(DataFlowRequest)}.
+     *
+     * @param parameters the run parameters.
+     * @return the secret name, or {@code null} if the parameters do not reference one.
+     */
+    static String destinationSecretName(Map<String, Object> parameters) {
+        return (String) parameters.get(pipelineParameter(DESTINATION, SECRET_NAME));
+    }
+
+    private static String pipelineParameter(String prefix, String name) {
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Data Factory evaluates a property at run time if its value is an expression object rather than a literal.
+     */
+    private static Map<String, String> expression(String value) {
+        return Map.of("value", value, "type", "Expression");
+    }
+
+    /**
+     * Data Factory resource names may only contain letters, digits, hyphens and underscores.
+     */
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9_-]", "_").toLowerCase(Locale.ROOT);
+    }
+}
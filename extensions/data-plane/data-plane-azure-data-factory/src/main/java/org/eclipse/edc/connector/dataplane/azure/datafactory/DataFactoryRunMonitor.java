@@ -0,0 +1,226 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.azure.datafactory;
+
+import com.azure.resourcemanager.datafactory.models.PipelineRun;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+
+/**
+ * Tracks active Data Factory pipeline runs and completes their futures when the runs finish. The status of all active
+ * runs is fetched with a single query per poll on a shared scheduler, so that waiting for a run does not occupy a
+ * data plane worker thread. Runs that do not finish within the maximum duration are cancelled. Runs that are still
+ * tracked when the monitor is shut down, or when the scheduler rejects a poll, complete with {@code ERROR_RETRY}.
+ */
+class DataFactoryRunMonitor {
+    // runs are created right before they are tracked, the margin covers clock skew between the connector and Azure
+    private static final Duration QUERY_WINDOW_MARGIN = Duration.ofMinutes(5);
+
+    private final DataFactoryClient client;
+    private final ScheduledExecutorService executor;
+    private final Duration pollDelay;
+    private final Duration maxDuration;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final Map<String, ActiveRun> activeRuns = new ConcurrentHashMap<>();
+    private final AtomicBoolean pollScheduled = new AtomicBoolean();
+    private volatile boolean stopped;
+
+    DataFactoryRunMonitor(DataFactoryClient client, ScheduledExecutorService executor, Duration pollDelay, Duration maxDuration, Clock clock, Monitor monitor) {
+        this.client = client;
+        this.executor = executor;
+        this.pollDelay = pollDelay;
+        this.maxDuration = maxDuration;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Starts tracking a pipeline run.
+     *
+     * @param runId pipeline run identifier.
+     * @return a {@link CompletableFuture} that completes when the run has finished, failed or timed out.
+     */
+    CompletableFuture<StatusResult<Void>> awaitCompletion(String runId) {
+        monitor.debug("Awaiting ADF pipeline completion for run " + runId);
+        var run = new ActiveRun(clock.instant());
+        activeRuns.put(runId, run);
+        if (stopped) {
+            // also covers a shutdown that happened while the run was being added
+            complete(runId, StatusResult.failure(ERROR_RETRY, "ADF run monitor is shut down"));
+        } else {
+            schedulePoll();
+        }
+        return run.future;
+    }
+
+    /**
+     * Stops tracking runs. The futures of all tracked runs complete with {@code ERROR_RETRY}, the runs themselves are
+     * not cancelled.
+     */
+    void shutdown() {
+        stopped = true;
+        completeAll("ADF run monitor is shut down");
+    }
+
+    /**
+     * Number of runs that are currently tracked.
+     */
+    int activeRuns() {
+        return activeRuns.size();
+    }
+
+    private void schedulePoll() {
+        if (pollScheduled.compareAndSet(false, true)) {
+            try {
+                executor.schedule(this::poll, pollDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                pollScheduled.set(false);
+                monitor.severe("Failed to schedule polling of ADF pipeline runs", e);
+                completeAll("ADF pipeline runs cannot be polled: " + e.getMessage());
+            }
+        }
+    }
+
+    private void poll() {
+        try {
+            checkRuns();
+        } catch (Exception e) {
+            monitor.severe("Error polling ADF pipeline runs", e);
+        } finally {
+            pollScheduled.set(false);
+            if (!stopped && !activeRuns.isEmpty()) {
+                schedulePoll();
+            }
+        }
+    }
+
+    private void checkRuns() {
+        var runIds = new ArrayList<>(activeRuns.keySet());
+        if (runIds.isEmpty()) {
+            return;
+        }
+
+        var now = clock.instant();
+        var earliest = activeRuns.values().stream().map(r -> r.trackedSince).min(Comparator.naturalOrder()).orElse(now);
+        var runs = client.queryPipelineRuns(runIds, toOffsetDateTime(earliest.minus(QUERY_WINDOW_MARGIN)), toOffsetDateTime(now.plus(QUERY_WINDOW_MARGIN)));
+
+        for (var run : runs) {
+            var result = toResult(run);
+            if (result != null) {
+                complete(run.runId(), result);
+            }
+        }
+
+        // runs that are not returned by the query yet are checked again on the next poll until they time out
+        activeRuns.forEach((runId, run) -> {
+            if (!now.isBefore(run.trackedSince.plus(maxDuration))) {
+                client.cancelPipelineRun(runId);
+                complete(runId, StatusResult.failure(ERROR_RETRY, "ADF run timed out"));
+            }
+        });
+    }
+
+    /**
+     * Maps the run status to a result, or null if the run has not finished yet.
+     */
+    @Nullable
+    private StatusResult<Void> toResult(PipelineRun pipelineRun) {
+        var runStatusValue = pipelineRun.status();
+        var message = pipelineRun.message();
+        monitor.debug("ADF run status is " + runStatusValue + " with message [" + message + "] for run " + pipelineRun.runId());
+
+        DataFactoryPipelineRunStates runStatus;
+        try {
+            runStatus = DataFactoryPipelineRunStates.valueOf(runStatusValue);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return StatusResult.failure(ERROR_RETRY, format("ADF run in unexpected state %s with message: %s", runStatusValue, message));
+        }
+        if (runStatus.succeeded) {
+            return StatusResult.success();
+        }
+        if (runStatus.failed) {
+            return StatusResult.failure(ERROR_RETRY, format("ADF run in state %s with message: %s", runStatusValue, message));
+        }
+        return null;
+    }
+
+    private void complete(String runId, StatusResult<Void> result) {
+        var run = activeRuns.remove(runId);
+        if (run != null) {
+            run.future.complete(result);
+        }
+    }
+
+    private void completeAll(String message) {
+        new ArrayList<>(activeRuns.keySet()).forEach(runId -> complete(runId, StatusResult.failure(ERROR_RETRY, message)));
+    }
+
+    private OffsetDateTime toOffsetDateTime(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static class ActiveRun {
+        private final Instant trackedSince;
+        private final CompletableFuture<StatusResult<Void>> future = new CompletableFuture<>();
+
+        ActiveRun(Instant trackedSince) {
+            this.trackedSince = trackedSince;
+        }
+    }
+
+    /**
+     * States of a pipeline run, as returned from the Data Factory API.
+     *
+     * @see <a href="https://docs.microsoft.com/rest/api/datafactory/pipeline-runs/get#pipelinerun">PipelineRun</a>
+     */
+    @SuppressWarnings("unused")
+    private enum DataFactoryPipelineRunStates {
+        Queued(false, false),
+        InProgress(false, false),
+        Succeeded(true, false),
+        Failed(false, true),
+        Canceling(false, true),
+        Cancelled(false, true);
+
+        final boolean succeeded;
+        final boolean failed;
+
+        DataFactoryPipelineRunStates(boolean succeeded, boolean failed) {
+            this.succeeded = succeeded;
+            this.failed = failed;
+        }
+    }
+}
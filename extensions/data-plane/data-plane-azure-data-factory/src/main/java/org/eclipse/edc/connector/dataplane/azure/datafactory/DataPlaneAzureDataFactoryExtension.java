@@ -26,6 +26,7 @@ import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.SettingResolver;
@@ -34,6 +35,8 @@ import org.eclipse.edc.spi.types.TypeManager;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * Registers a {@link TransferService} for performing data transfers with Azure Data Factory.
@@ -70,6 +73,12 @@ public class DataPlaneAzureDataFactoryExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ScheduledExecutorService runMonitorExecutor;
+    private DataFactoryRunMonitor runMonitor;
+
     @Override
     public String name() {
         return NAME;
@@ -102,22 +111,40 @@ public class DataPlaneAzureDataFactoryExtension implements ServiceExtension {
                 dataFactoryClient,
                 typeManager);
         var pollDelay = Duration.ofMillis(context.getSetting(DATA_FACTORY_POLL_DELAY, 5000L));
+        // a single thread polls the status of all active pipeline runs, data plane workers are not blocked
+        runMonitorExecutor = executorInstrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("adf-run-monitor");
+                    thread.setDaemon(true);
+                    return thread;
+                }), "adf-run-monitor");
+        runMonitor = new DataFactoryRunMonitor(dataFactoryClient, runMonitorExecutor, pollDelay, maxDuration, clock, monitor);
         var transferManager = new AzureDataFactoryTransferManager(
                 monitor,
                 dataFactoryClient,
                 pipelineFactory,
-                maxDuration,
-                clock,
                 blobStoreApi,
                 typeManager,
                 keyVaultClient,
-                pollDelay);
+                runMonitor);
         var transferService = new AzureDataFactoryTransferService(
                 validator,
+                pipelineFactory,
                 transferManager);
         registry.registerTransferService(transferService);
     }
 
+    @Override
+    public void shutdown() {
+        if (runMonitor != null) {
+            runMonitor.shutdown();
+        }
+        if (runMonitorExecutor != null) {
+            runMonitorExecutor.shutdownNow();
+        }
+    }
+
     private String requiredSetting(SettingResolver context, String s) {
         return Objects.requireNonNull(context.getSetting(s, null), s);
     }
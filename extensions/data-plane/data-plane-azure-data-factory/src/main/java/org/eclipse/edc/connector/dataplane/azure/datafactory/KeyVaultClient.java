@@ -47,4 +47,13 @@ class KeyVaultClient {
     KeyVaultSecret getSecret(String name) {
         return secretClient.getSecret(name);
     }
-}
\ No newline at end of file
+
+    /**
+     * Deletes a Key Vault secret. The deletion is started but not awaited.
+     *
+     * @param name secret name.
+     */
+    void deleteSecret(String name) {
+        secretClient.beginDeleteSecret(name);
+    }
+}
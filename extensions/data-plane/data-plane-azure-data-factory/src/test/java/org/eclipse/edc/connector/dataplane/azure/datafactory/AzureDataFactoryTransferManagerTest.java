@@ -29,6 +29,7 @@ import org.eclipse.edc.spi.response.ResponseStatus;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -40,14 +41,21 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,22 +73,22 @@ class AzureDataFactoryTransferManagerTest {
     private final BlobAdapter blobAdapter = mock(BlobAdapter.class);
     private final DataFlowRequest request = TestFunctions.createFlowRequest();
     private final PipelineResource pipeline = mock(PipelineResource.class);
+    private final Map<String, Object> parameters = Map.of("sourceBlobName", "test-blob", "destinationSecretName", "run-secret");
     private final CreateRunResponse runResponse = mock(CreateRunResponse.class);
     private final String runId = UUID.randomUUID().toString();
     private final PipelineRun run = mock(PipelineRun.class);
     private final Random random = new Random();
     private final AzureSasToken sasToken = new AzureSasToken("test-wo-sas", random.nextLong());
     private final Duration maxDuration = Duration.ofMillis(1 + random.nextInt(11));
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
     private final AzureDataFactoryTransferManager transferManager = new AzureDataFactoryTransferManager(
             monitor,
             client,
             pipelineFactory,
-            maxDuration,
-            clock,
             blobStoreApi,
             typeManager,
             keyVaultClient,
-            Duration.ofMillis(0));
+            new DataFactoryRunMonitor(client, executor, Duration.ofMillis(0), maxDuration, clock, monitor));
 
     static Stream<Arguments> successStates() {
         return Stream.of(
@@ -103,9 +111,9 @@ class AzureDataFactoryTransferManagerTest {
     void setUp() {
         when(clock.instant())
                 .thenReturn(fixedInstant);
-        when(pipelineFactory.createPipeline(request))
-                .thenReturn(pipeline);
-        when(client.runPipeline(pipeline))
+        when(pipelineFactory.createRunParameters(request))
+                .thenReturn(parameters);
+        when(client.runPipeline(pipeline, parameters))
                 .thenReturn(runResponse);
         when(keyVaultClient.getSecret(any()))
                 .thenReturn(keyVaultSecret);
@@ -117,7 +125,13 @@ class AzureDataFactoryTransferManagerTest {
                 .thenReturn(new ByteArrayOutputStream());
         when(runResponse.runId())
                 .thenReturn(runId);
-        when(client.getPipelineRun(runId)).thenReturn(run);
+        when(run.runId()).thenReturn(runId);
+        when(client.queryPipelineRuns(anyCollection(), any(), any())).thenReturn(List.of(run));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
     }
 
     @ParameterizedTest
@@ -129,6 +143,7 @@ class AzureDataFactoryTransferManagerTest {
         // Act & Assert
         assertThatTransferResult()
                 .matches(StatusResult::succeeded, "is succeeded");
+        verify(keyVaultClient).deleteSecret("run-secret");
     }
 
     @ParameterizedTest
@@ -140,6 +155,25 @@ class AzureDataFactoryTransferManagerTest {
         // Act & Assert
         assertThatTransferResult()
                 .matches(StatusResult::failed);
+        verify(keyVaultClient).deleteSecret("run-secret");
+    }
+
+    @Test
+    void transfer_shouldDeleteRunSecret_whenRunCannotBeStarted() {
+        when(client.runPipeline(pipeline, parameters)).thenThrow(new RuntimeException("test"));
+
+        assertThatThrownBy(() -> transferManager.transfer(request, pipeline)).isInstanceOf(RuntimeException.class);
+
+        verify(keyVaultClient).deleteSecret("run-secret");
+    }
+
+    @Test
+    void transfer_shouldComplete_whenRunSecretCannotBeDeleted() {
+        when(run.status()).thenReturn("Succeeded");
+        doThrow(new RuntimeException("test")).when(keyVaultClient).deleteSecret(any());
+
+        assertThatTransferResult()
+                .matches(StatusResult::succeeded, "is succeeded");
     }
 
     @Test
@@ -171,8 +205,19 @@ class AzureDataFactoryTransferManagerTest {
         verify(client).cancelPipelineRun(runId);
     }
 
+    @Test
+    void transfer_shouldNotBlockCallingThread() {
+        when(run.status()).thenReturn("InProgress");
+        when(clock.instant()).thenReturn(fixedInstant);
+
+        var future = transferManager.transfer(request, pipeline);
+
+        assertThat(future).isNotDone();
+        verify(keyVaultClient, never()).deleteSecret(any());
+    }
+
     ObjectAssert<StatusResult<Void>> assertThatTransferResult() {
-        return assertThat(transferManager.transfer(request))
+        return assertThat(transferManager.transfer(request, pipeline))
                 .succeedsWithin(Duration.ofMinutes(1));
     }
 }
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.azure.datafactory;
 
+import com.azure.resourcemanager.datafactory.models.PipelineResource;
 import org.eclipse.edc.azure.blob.AzureBlobStoreSchema;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.result.Result;
@@ -26,18 +27,25 @@ import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.azure.blob.testfixtures.AzureStorageTestFixtures.createRequest;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AzureDataFactoryTransferServiceTest {
 
     private final AzureDataFactoryTransferRequestValidator validator = mock(AzureDataFactoryTransferRequestValidator.class);
+    private final DataFactoryPipelineFactory pipelineFactory = mock(DataFactoryPipelineFactory.class);
     private final AzureDataFactoryTransferManager transferManager = mock(AzureDataFactoryTransferManager.class);
     private final AzureDataFactoryTransferService transferService = new AzureDataFactoryTransferService(
             validator,
+            pipelineFactory,
             transferManager);
 
     private final DataFlowRequest.Builder request = createRequest(AzureBlobStoreSchema.TYPE);
+    private final PipelineResource pipeline = mock(PipelineResource.class);
     private final Result<Boolean> failure = Result.failure("Test Failure");
     private final Result<Boolean> success = Result.success(true);
     @SuppressWarnings("unchecked")
@@ -71,8 +79,23 @@ class AzureDataFactoryTransferServiceTest {
     @Test
     void transfer() {
         // Arrange
-        when(transferManager.transfer(request.build())).thenReturn(result);
+        var flowRequest = TestFunctions.createFlowRequest();
+        when(pipelineFactory.createPipelineTemplate(AzureBlobStoreSchema.TYPE, AzureBlobStoreSchema.TYPE)).thenReturn(pipeline);
+        when(transferManager.transfer(flowRequest, pipeline)).thenReturn(result);
         // Act & Assert
-        assertThat(transferService.transfer(request.build())).isSameAs(result);
+        assertThat(transferService.transfer(flowRequest)).isSameAs(result);
+    }
+
+    @Test
+    void transfer_shouldReusePipelineTemplate() {
+        // Arrange
+        when(pipelineFactory.createPipelineTemplate(AzureBlobStoreSchema.TYPE, AzureBlobStoreSchema.TYPE)).thenReturn(pipeline);
+        when(transferManager.transfer(any(), eq(pipeline))).thenReturn(result);
+        // Act
+        transferService.transfer(TestFunctions.createFlowRequest());
+        transferService.transfer(TestFunctions.createFlowRequest());
+        // Assert
+        verify(pipelineFactory, times(1)).createPipelineTemplate(any(), any());
+        verify(transferManager, times(2)).transfer(any(), eq(pipeline));
     }
 }
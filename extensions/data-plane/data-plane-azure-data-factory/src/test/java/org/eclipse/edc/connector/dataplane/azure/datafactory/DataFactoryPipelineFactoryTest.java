@@ -15,19 +15,23 @@
 package org.eclipse.edc.connector.dataplane.azure.datafactory;
 
 import com.azure.security.keyvault.secrets.models.KeyVaultSecret;
+import org.eclipse.edc.azure.blob.AzureBlobStoreSchema;
 import org.eclipse.edc.azure.blob.AzureSasToken;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Random;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -46,18 +50,50 @@ class DataFactoryPipelineFactoryTest {
     private final DataFactoryPipelineFactory factory = new DataFactoryPipelineFactory(keyVaultLinkedService, keyVaultClient, client, typeManager);
 
     @Test
-    void createPipeline() {
+    void createPipelineTemplate() {
+        factory.createPipelineTemplate(AzureBlobStoreSchema.TYPE, AzureBlobStoreSchema.TYPE);
+
+        verify(client).definePipeline(any());
+        verify(client, times(2)).defineDataset(any());
+        verify(client, times(2)).defineLinkedService(any());
+        verifyNoMoreInteractions(client);
+
+        verifyNoInteractions(keyVaultClient);
+    }
+
+    @Test
+    void createPipelineTemplate_shouldUseDeterministicNames() {
+        var names = ArgumentCaptor.forClass(String.class);
+
+        factory.createPipelineTemplate(AzureBlobStoreSchema.TYPE, AzureBlobStoreSchema.TYPE);
+        factory.createPipelineTemplate(AzureBlobStoreSchema.TYPE, AzureBlobStoreSchema.TYPE);
+
+        verify(client, times(2)).definePipeline(names.capture());
+        assertThat(names.getAllValues()).hasSize(2).containsOnly(names.getValue())
+                .allSatisfy(name -> assertThat(name).doesNotContain(".").contains(keyVaultLinkedService));
+    }
+
+    @Test
+    void createRunParameters() {
         when(keyVaultClient.getSecret(request.getDestinationDataAddress().getKeyName()))
                 .thenReturn(writeOnlySasSecret);
         when(keyVaultClient.setSecret(any(), eq(azureSasToken.getSas())))
                 .thenReturn(destinationSecret);
 
-        factory.createPipeline(request);
+        var parameters = factory.createRunParameters(request);
 
-        verify(client).definePipeline(any());
-        verify(client, times(2)).defineDataset(any());
-        verify(client, times(2)).defineLinkedService(any());
-        verifyNoMoreInteractions(client);
+        var source = request.getSourceDataAddress();
+        var destination = request.getDestinationDataAddress();
+        assertThat(parameters)
+                .containsEntry("sourceAccountName", source.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME))
+                .containsEntry("sourceSecretName", source.getKeyName())
+                .containsEntry("sourceContainerName", source.getProperty(AzureBlobStoreSchema.CONTAINER_NAME))
+                .containsEntry("sourceBlobName", source.getProperty(AzureBlobStoreSchema.BLOB_NAME))
+                .containsEntry("destinationAccountName", destination.getProperty(AzureBlobStoreSchema.ACCOUNT_NAME))
+                .containsEntry("destinationSecretName", destinationSecret.getName())
+                .containsEntry("destinationContainerName", destination.getProperty(AzureBlobStoreSchema.CONTAINER_NAME));
+        assertThat(DataFactoryPipelineFactory.destinationSecretName(parameters)).isEqualTo(destinationSecret.getName());
+        verifyNoInteractions(client);
 
         verify(keyVaultClient, times(1)).getSecret(any());
         verify(keyVaultClient, times(1)).setSecret(any(), any());
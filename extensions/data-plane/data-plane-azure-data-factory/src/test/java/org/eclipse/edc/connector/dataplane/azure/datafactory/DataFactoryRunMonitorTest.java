@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.azure.datafactory;
+
+import com.azure.resourcemanager.datafactory.models.PipelineRun;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataFactoryRunMonitorTest {
+
+    private final DataFactoryClient client = mock(DataFactoryClient.class);
+    private final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+    private final Clock clock = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+    private final DataFactoryRunMonitor runMonitor = new DataFactoryRunMonitor(client, executor, Duration.ofSeconds(5), Duration.ofHours(1), clock, mock(Monitor.class));
+
+    @Test
+    void awaitCompletion_shouldQueryAllActiveRunsAtOnce() {
+        when(client.queryPipelineRuns(anyCollection(), any(), any())).thenReturn(List.of(run("run-1", "Succeeded"), run("run-2", "InProgress")));
+
+        var first = runMonitor.awaitCompletion("run-1");
+        var second = runMonitor.awaitCompletion("run-2");
+        poll();
+
+        ArgumentCaptor<Collection<String>> runIds = ArgumentCaptor.forClass(Collection.class);
+        verify(client).queryPipelineRuns(runIds.capture(), any(), any());
+        assertThat(runIds.getValue()).containsExactlyInAnyOrder("run-1", "run-2");
+        assertThat(first).isCompletedWithValueMatching(StatusResult::succeeded);
+        assertThat(second).isNotDone();
+        assertThat(runMonitor.activeRuns()).isEqualTo(1);
+    }
+
+    @Test
+    void awaitCompletion_shouldScheduleSinglePollForAllRuns() {
+        runMonitor.awaitCompletion("run-1");
+        runMonitor.awaitCompletion("run-2");
+
+        verify(executor, times(1)).schedule(any(Runnable.class), eq(5000L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void awaitCompletion_shouldKeepPolling_whenRunIsNotReturnedYet() {
+        when(client.queryPipelineRuns(anyCollection(), any(), any())).thenReturn(List.of());
+
+        var future = runMonitor.awaitCompletion("run-1");
+        poll();
+
+        assertThat(future).isNotDone();
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void shutdown_shouldCompletePendingRunsWithRetry() {
+        var pending = runMonitor.awaitCompletion("run-1");
+
+        runMonitor.shutdown();
+        var afterShutdown = runMonitor.awaitCompletion("run-2");
+
+        assertThat(pending).isCompletedWithValueMatching(result -> result.getFailure().status() == ERROR_RETRY);
+        assertThat(afterShutdown).isCompletedWithValueMatching(result -> result.getFailure().status() == ERROR_RETRY);
+        assertThat(runMonitor.activeRuns()).isZero();
+        verify(executor, times(1)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    void awaitCompletion_shouldCompleteWithRetry_whenPollIsRejected() {
+        when(executor.schedule(any(Runnable.class), anyLong(), any())).thenThrow(new RejectedExecutionException("shut down"));
+
+        var future = runMonitor.awaitCompletion("run-1");
+
+        assertThat(future).isCompletedWithValueMatching(result -> result.getFailure().status() == ERROR_RETRY);
+        assertThat(runMonitor.activeRuns()).isZero();
+    }
+
+    private void poll() {
+        var task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(task.capture(), anyLong(), any());
+        task.getValue().run();
+    }
+
+    private PipelineRun run(String runId, String status) {
+        var run = mock(PipelineRun.class);
+        when(run.runId()).thenReturn(runId);
+        when(run.status()).thenReturn(status);
+        return run;
+    }
+}
@@ -23,6 +23,7 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.selector.spi.client.DataPlaneSelectorClient;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.spi.client.DataPlaneClient;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.response.TransferErrorResponse;
@@ -35,6 +36,7 @@ import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static java.lang.String.format;
 
@@ -60,22 +62,40 @@ public class RemoteDataPlaneClient implements DataPlaneClient {
     public StatusResult<Void> transfer(DataFlowRequest request) {
         var instance = selectorClient.find(request.getSourceDataAddress(), request.getDestinationDataAddress(), selectorStrategy);
         if (instance == null) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to find data plane instance supporting request: " + request.getId());
+            return noInstanceFound(request);
         }
 
+        try (var response = httpClient.execute(createRequest(instance, request))) {
+            return handleResponse(response, request.getId());
+        } catch (IOException e) {
+            return StatusResult.failure(ResponseStatus.FATAL_ERROR, e.getMessage());
+        }
+    }
+
+    @WithSpan
+    @Override
+    public CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest request) {
+        var instance = selectorClient.find(request.getSourceDataAddress(), request.getDestinationDataAddress(), selectorStrategy);
+        if (instance == null) {
+            return CompletableFuture.completedFuture(noInstanceFound(request));
+        }
+
+        return httpClient.executeAsync(createRequest(instance, request), response -> handleResponse(response, request.getId()))
+                .exceptionally(throwable -> StatusResult.failure(ResponseStatus.FATAL_ERROR, throwable.getMessage()));
+    }
+
+    private Request createRequest(DataPlaneInstance instance, DataFlowRequest request) {
         RequestBody body;
         try {
             body = RequestBody.create(mapper.writeValueAsString(request), TYPE_JSON);
         } catch (JsonProcessingException e) {
             throw new EdcException(e);
         }
-        var rq = new Request.Builder().post(body).url(instance.getUrl()).build();
+        return new Request.Builder().post(body).url(instance.getUrl()).build();
+    }
 
-        try (var response = httpClient.execute(rq)) {
-            return handleResponse(response, request.getId());
-        } catch (IOException e) {
-            return StatusResult.failure(ResponseStatus.FATAL_ERROR, e.getMessage());
-        }
+    private StatusResult<Void> noInstanceFound(DataFlowRequest request) {
+        return StatusResult.failure(ResponseStatus.FATAL_ERROR, "Failed to find data plane instance supporting request: " + request.getId());
     }
 
     private StatusResult<Void> handleResponse(Response response, String requestId) {
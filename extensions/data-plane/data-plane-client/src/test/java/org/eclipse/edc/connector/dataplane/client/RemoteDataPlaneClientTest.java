@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.getFreePort;
@@ -190,6 +191,44 @@ class RemoteDataPlaneClientTest {
         assertThat(result.succeeded()).isTrue();
     }
 
+    @Test
+    void verifyTransferAsyncSuccess() throws JsonProcessingException, MalformedURLException {
+        var flowRequest = createDataFlowRequest();
+
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(response().withStatusCode(HttpStatusCode.OK_200.code()));
+
+        var result = dataPlaneClient.transferAsync(flowRequest);
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(r -> assertThat(r.succeeded()).isTrue());
+        dataPlaneClientAndServer.verify(httpRequest, VerificationTimes.once());
+    }
+
+    @Test
+    void verifyTransferAsyncReturnsFatalErrorIfReceiveErrorInResponse() throws JsonProcessingException, MalformedURLException {
+        var flowRequest = createDataFlowRequest();
+
+        var instance = mock(DataPlaneInstance.class);
+        when(instance.getUrl()).thenReturn(new URL(DATA_PLANE_API_URI));
+        when(selectorClientMock.find(any(), any(), any())).thenReturn(instance);
+
+        var httpRequest = new HttpRequest().withPath(DATA_PLANE_PATH).withBody(MAPPER.writeValueAsString(flowRequest));
+        var errorMsg = UUID.randomUUID().toString();
+        dataPlaneClientAndServer.when(httpRequest, once()).respond(withResponse(errorMsg));
+
+        var result = dataPlaneClient.transferAsync(flowRequest);
+
+        assertThat(result).succeedsWithin(5, SECONDS).satisfies(r -> {
+            assertThat(r.failed()).isTrue();
+            assertThat(r.getFailure().status()).isEqualTo(ResponseStatus.FATAL_ERROR);
+            assertThat(r.getFailureDetail()).contains(errorMsg);
+        });
+    }
+
     private static HttpResponse withResponse(String errorMsg) throws JsonProcessingException {
         return response().withStatusCode(HttpStatusCode.BAD_REQUEST_400.code())
                 .withBody(MAPPER.writeValueAsString(new TransferErrorResponse(List.of(errorMsg))), MediaType.APPLICATION_JSON);
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
@@ -33,6 +34,18 @@ import java.time.Clock;
 public class DataPlaneHttpOauth2Extension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP OAuth2";
 
+    @Setting(value = "Seconds before the end of its lifetime at which a cached OAuth2 token is refreshed", defaultValue = "30")
+    public static final String TOKEN_EXPIRY_MARGIN = "edc.dataplane.http.oauth2.token.expiry.margin.seconds";
+
+    @Setting(value = "Seconds a token is cached if the authorization server does not report its lifetime. 0 disables caching of such tokens", defaultValue = "60")
+    public static final String TOKEN_DEFAULT_TTL = "edc.dataplane.http.oauth2.token.default.ttl.seconds";
+
+    @Setting(value = "Whether OAuth2 tokens are shared between requests to the same token endpoint, client, scope and resource", defaultValue = "true")
+    public static final String TOKEN_CACHE_ENABLED = "edc.dataplane.http.oauth2.token.cache.enabled";
+
+    @Setting(value = "Seconds a client secret resolved from the vault is kept in memory. 0 resolves it on every token request", defaultValue = "300")
+    public static final String SECRET_CACHE_TTL = "edc.dataplane.http.oauth2.secret.cache.ttl.seconds";
+
     @Inject
     private Clock clock;
 
@@ -55,8 +68,11 @@ public class DataPlaneHttpOauth2Extension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var requestFactory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, context.getMonitor());
-        var oauth2ParamsDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, oauth2Client);
+        var requestFactory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, context.getMonitor(), context.getSetting(SECRET_CACHE_TTL, 300L));
+        var tokenCache = context.getSetting(TOKEN_CACHE_ENABLED, true)
+                ? new Oauth2TokenCache(clock, context.getSetting(TOKEN_EXPIRY_MARGIN, 30L), context.getSetting(TOKEN_DEFAULT_TTL, 60L))
+                : null;
+        var oauth2ParamsDecorator = new Oauth2HttpRequestParamsDecorator(requestFactory, oauth2Client, tokenCache);
 
         paramsProvider.registerSinkDecorator(oauth2ParamsDecorator);
         paramsProvider.registerSourceDecorator(oauth2ParamsDecorator);
@@ -30,13 +30,16 @@ import org.jetbrains.annotations.Nullable;
 
 import java.security.PrivateKey;
 import java.time.Clock;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_ID;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET_KEY;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.PRIVATE_KEY_NAME;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.RESOURCE;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.SCOPE;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.VALIDITY;
@@ -52,12 +55,23 @@ public class Oauth2CredentialsRequestFactory {
     private final Clock clock;
     private final Vault vault;
     private final Monitor monitor;
+    private final long secretCacheTtlMillis;
+    private final Map<String, CachedSecret> secrets = new ConcurrentHashMap<>();
 
     public Oauth2CredentialsRequestFactory(PrivateKeyResolver privateKeyResolver, Clock clock, Vault vault, Monitor monitor) {
+        this(privateKeyResolver, clock, vault, monitor, 0);
+    }
+
+    /**
+     * Creates a factory that keeps client secrets resolved from the vault for {@code secretCacheTtlSeconds}. A value
+     * of 0 resolves the secret on every request.
+     */
+    public Oauth2CredentialsRequestFactory(PrivateKeyResolver privateKeyResolver, Clock clock, Vault vault, Monitor monitor, long secretCacheTtlSeconds) {
         this.privateKeyResolver = privateKeyResolver;
         this.clock = clock;
         this.vault = vault;
         this.monitor = monitor;
+        this.secretCacheTtlMillis = TimeUnit.SECONDS.toMillis(secretCacheTtlSeconds);
     }
 
     /**
@@ -81,6 +95,7 @@ public class Oauth2CredentialsRequestFactory {
                         .url(dataAddress.getProperty(TOKEN_URL))
                         .grantType(GRANT_CLIENT_CREDENTIALS)
                         .scope(dataAddress.getProperty(SCOPE))
+                        .resource(dataAddress.getProperty(RESOURCE))
                         .build());
     }
 
@@ -88,7 +103,7 @@ public class Oauth2CredentialsRequestFactory {
     private Result<Oauth2CredentialsRequest> createSharedSecretRequest(DataAddress dataAddress) {
         var clientSecret = Optional.of(dataAddress)
                 .map(a -> a.getProperty(CLIENT_SECRET_KEY))
-                .map(vault::resolveSecret)
+                .map(this::resolveSecret)
                 .orElseGet(() -> {
                     monitor.warning("data-plane-http-oauth2: storing the client_secret into the DataAddress " +
                             "oauth2:clientSecret property has been deprecated, please store it in the Vault and use the " +
@@ -106,9 +121,29 @@ public class Oauth2CredentialsRequestFactory {
                 .clientId(dataAddress.getProperty(CLIENT_ID))
                 .clientSecret(clientSecret)
                 .scope(dataAddress.getProperty(SCOPE))
+                .resource(dataAddress.getProperty(RESOURCE))
                 .build());
     }
 
+    @Nullable
+    private String resolveSecret(String key) {
+        if (secretCacheTtlMillis <= 0) {
+            return vault.resolveSecret(key);
+        }
+        var now = clock.millis();
+        var cached = secrets.get(key);
+        if (cached != null && now < cached.expiresAt) {
+            return cached.value;
+        }
+        var value = vault.resolveSecret(key);
+        if (value != null) {
+            secrets.put(key, new CachedSecret(value, now + secretCacheTtlMillis));
+        } else {
+            secrets.remove(key);
+        }
+        return value;
+    }
+
     @NotNull
     private Result<TokenRepresentation> createAssertion(String pkSecret, DataAddress dataAddress) {
         var privateKey = privateKeyResolver.resolvePrivateKey(pkSecret, PrivateKey.class);
@@ -132,4 +167,14 @@ public class Oauth2CredentialsRequestFactory {
             return null;
         }
     }
+
+    private static final class CachedSecret {
+        private final String value;
+        private final long expiresAt;
+
+        private CachedSecret(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
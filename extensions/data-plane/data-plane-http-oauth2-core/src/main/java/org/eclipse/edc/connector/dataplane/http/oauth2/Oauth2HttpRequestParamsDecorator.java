@@ -19,32 +19,46 @@ import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressValidator;
 import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.HttpDataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Requests the OAuth2 token if configured in the DataAddress
+ * Requests the OAuth2 token if configured in the DataAddress. If a {@link Oauth2TokenCache} is given, tokens are reused
+ * until they are about to expire.
  */
 public class Oauth2HttpRequestParamsDecorator implements HttpParamsDecorator {
 
     private final Oauth2CredentialsRequestFactory requestFactory;
     private final Oauth2Client client;
     private final Oauth2DataAddressValidator validator = new Oauth2DataAddressValidator();
+    private final Oauth2TokenCache tokenCache;
 
     public Oauth2HttpRequestParamsDecorator(Oauth2CredentialsRequestFactory requestFactory, Oauth2Client client) {
+        this(requestFactory, client, null);
+    }
+
+    public Oauth2HttpRequestParamsDecorator(Oauth2CredentialsRequestFactory requestFactory, Oauth2Client client, @Nullable Oauth2TokenCache tokenCache) {
         this.requestFactory = requestFactory;
         this.client = client;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     public HttpRequestParams.Builder decorate(DataFlowRequest request, HttpDataAddress address, HttpRequestParams.Builder params) {
         if (validator.test(address)) {
-            return requestFactory.create(address)
-                    .compose(client::requestToken)
+            var token = tokenCache != null ? tokenCache.get(address, () -> requestToken(address)) : requestToken(address);
+            return token
                     .map(tokenRepresentation -> params.header("Authorization", "Bearer " + tokenRepresentation.getToken()))
                     .orElseThrow(failure -> new EdcException("Cannot authenticate through OAuth2: " + failure.getFailureDetail()));
         } else {
             return params;
         }
     }
+
+    private Result<TokenRepresentation> requestToken(HttpDataAddress address) {
+        return requestFactory.create(address).compose(client::requestToken);
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.oauth2;
+
+import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_ID;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET_KEY;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.PRIVATE_KEY_NAME;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.RESOURCE;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.SCOPE;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
+
+/**
+ * Caches OAuth2 access tokens per token URL, client, scope and resource, so that transfers to the same endpoint share
+ * a token instead of requesting a new one each.
+ * <p>
+ * A token is refreshed {@code expiryMargin} seconds before the lifetime reported by the authorization server ends, or
+ * half way through it for short-lived tokens. Tokens without a reported lifetime are kept for {@code defaultTtl}
+ * seconds. Concurrent requests for a missing or expired token wait for a single fetch.
+ */
+public class Oauth2TokenCache {
+
+    private static final int EVICTION_THRESHOLD = 1000;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Result<TokenRepresentation>>> inFlight = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long expiryMarginMillis;
+    private final long defaultTtlMillis;
+
+    public Oauth2TokenCache(Clock clock, long expiryMarginSeconds, long defaultTtlSeconds) {
+        this.clock = clock;
+        this.expiryMarginMillis = expiryMarginSeconds * 1000;
+        this.defaultTtlMillis = defaultTtlSeconds * 1000;
+    }
+
+    /**
+     * Returns the cached token for the address, or obtains one from the supplier. Failed fetches are not cached.
+     */
+    public Result<TokenRepresentation> get(DataAddress address, Supplier<Result<TokenRepresentation>> fetch) {
+        var key = Key.of(address);
+        var cached = entries.get(key);
+        if (cached != null && cached.isValid(clock.millis())) {
+            return Result.success(cached.token);
+        }
+
+        var flight = new CompletableFuture<Result<TokenRepresentation>>();
+        var running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            var result = fetch.get();
+            if (result.succeeded()) {
+                put(key, result.getContent());
+            }
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void put(Key key, TokenRepresentation token) {
+        var now = clock.millis();
+        entries.put(key, new Entry(token, now + lifetime(token)));
+        if (entries.size() > EVICTION_THRESHOLD) {
+            entries.values().removeIf(entry -> !entry.isValid(now));
+        }
+    }
+
+    private long lifetime(TokenRepresentation token) {
+        var expiresIn = token.getAdditional() != null ? token.getAdditional().get(Oauth2Client.EXPIRES_IN) : null;
+        if (!(expiresIn instanceof Number)) {
+            return defaultTtlMillis;
+        }
+        var lifetime = ((Number) expiresIn).longValue() * 1000;
+        return Math.max(lifetime - expiryMarginMillis, lifetime / 2);
+    }
+
+    private Result<TokenRepresentation> await(CompletableFuture<Result<TokenRepresentation>> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private final TokenRepresentation token;
+        private final long refreshAt;
+
+        private Entry(TokenRepresentation token, long refreshAt) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+        }
+
+        private boolean isValid(long now) {
+            return now < refreshAt;
+        }
+    }
+
+    private static final class Key {
+        private final String tokenUrl;
+        private final String clientId;
+        private final String scope;
+        private final String resource;
+        private final String credential;
+
+        private Key(String tokenUrl, String clientId, String scope, String resource, String credential) {
+            this.tokenUrl = tokenUrl;
+            this.clientId = clientId;
+            this.scope = scope;
+            this.resource = resource;
+            this.credential = credential;
+        }
+
+        /**
+         * The credential reference is part of the key, so that addresses with the same client but different secrets or
+         * keys never share a token.
+         */
+        static Key of(DataAddress address) {
+            String credential;
+            if (address.getProperty(PRIVATE_KEY_NAME) != null) {
+                credential = "key:" + address.getProperty(PRIVATE_KEY_NAME);
+            } else if (address.getProperty(CLIENT_SECRET_KEY) != null) {
+                credential = "secret:" + address.getProperty(CLIENT_SECRET_KEY);
+            } else {
+                credential = "inline:" + address.getProperty(CLIENT_SECRET);
+            }
+            return new Key(address.getProperty(TOKEN_URL), address.getProperty(CLIENT_ID), address.getProperty(SCOPE), address.getProperty(RESOURCE), credential);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var key = (Key) o;
+            return Objects.equals(tokenUrl, key.tokenUrl) && Objects.equals(clientId, key.clientId) && Objects.equals(scope, key.scope) &&
+                    Objects.equals(resource, key.resource) && Objects.equals(credential, key.credential);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tokenUrl, clientId, scope, resource, credential);
+        }
+    }
+}
@@ -49,6 +49,7 @@ import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
 import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.VALIDITY;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -62,6 +63,21 @@ class Oauth2CredentialsRequestFactoryTest {
     private final Monitor monitor = mock(Monitor.class);
     private final Oauth2CredentialsRequestFactory factory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, monitor);
 
+    @Test
+    void shouldCacheResolvedSecret_whenSecretCacheEnabled() {
+        var cachingFactory = new Oauth2CredentialsRequestFactory(privateKeyResolver, clock, vault, monitor, 60);
+        when(vault.resolveSecret("clientSecretKey")).thenReturn("clientSecret");
+        var address = defaultAddress().property(CLIENT_SECRET_KEY, "clientSecretKey").build();
+
+        cachingFactory.create(address);
+        var result = cachingFactory.create(address);
+
+        assertThat(result).matches(Result::succeeded).extracting(Result::getContent)
+                .asInstanceOf(type(SharedSecretOauth2CredentialsRequest.class))
+                .satisfies(request -> assertThat(request.getClientSecret()).isEqualTo("clientSecret"));
+        verify(vault, times(1)).resolveSecret("clientSecretKey");
+    }
+
     @Test
     void shouldCreateSharedSecretRequestWithKey_whenPrivateKeyNameIsAbsent() {
         when(vault.resolveSecret("clientSecretKey")).thenReturn("clientSecret");
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.oauth2;
+
+import org.eclipse.edc.iam.oauth2.spi.client.Oauth2Client;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.HttpDataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_ID;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.CLIENT_SECRET_KEY;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.SCOPE;
+import static org.eclipse.edc.iam.oauth2.spi.Oauth2DataAddressSchema.TOKEN_URL;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class Oauth2TokenCacheTest {
+
+    private final Clock clock = mock(Clock.class);
+    private final Oauth2TokenCache cache = new Oauth2TokenCache(clock, 30, 60);
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    void get_shouldReuseToken_untilShortlyBeforeExpiry() {
+        when(clock.millis()).thenReturn(0L);
+        var address = address("scope");
+
+        assertThat(cache.get(address, fetch(300)).getContent().getToken()).isEqualTo("token-1");
+        when(clock.millis()).thenReturn(269_000L);
+        assertThat(cache.get(address, fetch(300)).getContent().getToken()).isEqualTo("token-1");
+        when(clock.millis()).thenReturn(270_000L);
+        assertThat(cache.get(address, fetch(300)).getContent().getToken()).isEqualTo("token-2");
+    }
+
+    @Test
+    void get_shouldUseDefaultTtl_whenNoLifetimeReported() {
+        when(clock.millis()).thenReturn(0L);
+        var address = address("scope");
+
+        cache.get(address, fetch(null));
+        when(clock.millis()).thenReturn(59_000L);
+        cache.get(address, fetch(null));
+        when(clock.millis()).thenReturn(60_000L);
+        cache.get(address, fetch(null));
+
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotShareTokens_betweenScopes() {
+        when(clock.millis()).thenReturn(0L);
+
+        cache.get(address("read"), fetch(300));
+        cache.get(address("write"), fetch(300));
+
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        when(clock.millis()).thenReturn(0L);
+        var address = address("scope");
+
+        var failure = cache.get(address, () -> Result.failure("unavailable"));
+        var success = cache.get(address, fetch(300));
+
+        assertThat(failure.failed()).isTrue();
+        assertThat(success.succeeded()).isTrue();
+    }
+
+    @Test
+    void get_shouldFetchOnce_forConcurrentRequests() throws InterruptedException {
+        when(clock.millis()).thenReturn(0L);
+        var address = address("scope");
+        var release = new CountDownLatch(1);
+        var done = new CountDownLatch(5);
+        Supplier<Result<TokenRepresentation>> slowFetch = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fetch(300).get();
+        };
+        var executor = Executors.newFixedThreadPool(5);
+
+        for (var i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                cache.get(address, slowFetch);
+                done.countDown();
+            });
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fetches).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    private Supplier<Result<TokenRepresentation>> fetch(Integer expiresIn) {
+        return () -> {
+            var additional = expiresIn != null ? Map.<String, Object>of(Oauth2Client.EXPIRES_IN, expiresIn.longValue()) : Map.<String, Object>of();
+            return Result.success(TokenRepresentation.Builder.newInstance()
+                    .token("token-" + fetches.incrementAndGet())
+                    .additional(additional)
+                    .build());
+        };
+    }
+
+    private HttpDataAddress address(String scope) {
+        return HttpDataAddress.Builder.newInstance()
+                .property(TOKEN_URL, "http://token")
+                .property(CLIENT_ID, "client")
+                .property(CLIENT_SECRET_KEY, "secret")
+                .property(SCOPE, scope)
+                .build();
+    }
+}
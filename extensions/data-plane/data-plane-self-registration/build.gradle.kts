@@ -0,0 +1,27 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi:common:http-spi"))
+    api(project(":spi:data-plane:data-plane-spi"))
+    api(project(":spi:data-plane-selector:data-plane-selector-spi"))
+    implementation(project(":core:common:util"))
+
+    testImplementation(project(":core:common:junit"))
+}
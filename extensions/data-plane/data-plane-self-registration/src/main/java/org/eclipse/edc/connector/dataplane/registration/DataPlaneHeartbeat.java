@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.registration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Registers the data plane with the data plane selector and keeps the registration alive by sending it again at a fixed
+ * interval. Every heartbeat carries the current load reported by the {@link DataPlaneManager}: the transfers in
+ * progress and waiting in the queue, which the selector routes on, and the throughput since the previous heartbeat. The
+ * selector stops selecting the instance once its heartbeats stop.
+ */
+public class DataPlaneHeartbeat {
+    public static final String ACTIVE_TRANSFERS = "activeTransfers";
+    public static final String QUEUED_TRANSFERS = "queuedTransfers";
+    public static final String BYTES_PER_SECOND = "bytesPerSecond";
+
+    private static final MediaType TYPE_JSON = MediaType.parse("application/json");
+    private static final String NAME = "data-plane-heartbeat";
+
+    private EdcHttpClient httpClient;
+    private ObjectMapper mapper;
+    private DataPlaneManager dataPlaneManager;
+    private Monitor monitor;
+    private String selectorUrl;
+    private Supplier<DataPlaneInstance.Builder> instance;
+    private ExecutorInstrumentation instrumentation = ExecutorInstrumentation.noop();
+    private Clock clock = Clock.systemUTC();
+    private long intervalMillis = 10_000;
+    private ScheduledExecutorService executor;
+    private boolean registered;
+    private long lastBytes = -1;
+    private long lastMillis;
+
+    private DataPlaneHeartbeat() {
+    }
+
+    public void start() {
+        executor = instrumentation.instrument(
+                Executors.newSingleThreadScheduledExecutor(r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName(NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                }), NAME);
+        executor.scheduleAtFixedRate(this::beatSafely, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Sends a single heartbeat to the selector.
+     *
+     * @return true if the selector accepted the heartbeat.
+     */
+    public boolean beat() {
+        var heartbeat = heartbeat();
+        RequestBody body;
+        try {
+            body = RequestBody.create(mapper.writeValueAsString(heartbeat), TYPE_JSON);
+        } catch (JsonProcessingException e) {
+            throw new EdcException(e);
+        }
+
+        var request = new Request.Builder().post(body).url(selectorUrl).build();
+        try (var response = httpClient.execute(request)) {
+            if (!response.isSuccessful()) {
+                monitor.warning(format("Data plane selector rejected the heartbeat of instance %s with HTTP status %d", heartbeat.getId(), response.code()));
+                return false;
+            }
+        } catch (IOException e) {
+            monitor.warning(format("Failed to send the heartbeat of instance %s to the data plane selector at %s", heartbeat.getId(), selectorUrl), e);
+            return false;
+        }
+
+        if (!registered) {
+            registered = true;
+            monitor.info(format("Data plane instance %s registered with the data plane selector at %s", heartbeat.getId(), selectorUrl));
+        }
+        return true;
+    }
+
+    private void beatSafely() {
+        try {
+            beat();
+        } catch (Exception e) {
+            monitor.severe("Error sending data plane heartbeat", e);
+        }
+    }
+
+    private DataPlaneInstance heartbeat() {
+        var now = clock.millis();
+        var active = dataPlaneManager.activeTransfers();
+        var queued = dataPlaneManager.queuedTransfers();
+        return instance.get()
+                .lastActive(now)
+                .heartbeatInterval(intervalMillis)
+                .outstandingTransfers(active + queued)
+                .property(ACTIVE_TRANSFERS, active)
+                .property(QUEUED_TRANSFERS, queued)
+                .property(BYTES_PER_SECOND, bytesPerSecond(now))
+                .build();
+    }
+
+    /**
+     * Returns the throughput since the previous heartbeat, 0 for the first one.
+     */
+    private long bytesPerSecond(long now) {
+        var bytes = dataPlaneManager.transferredBytes();
+        var rate = lastBytes < 0 || now <= lastMillis ? 0 : (bytes - lastBytes) * 1000 / (now - lastMillis);
+        lastBytes = bytes;
+        lastMillis = now;
+        return rate;
+    }
+
+    public static class Builder {
+        private final DataPlaneHeartbeat heartbeat;
+
+        private Builder() {
+            heartbeat = new DataPlaneHeartbeat();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder httpClient(EdcHttpClient httpClient) {
+            heartbeat.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder mapper(ObjectMapper mapper) {
+            heartbeat.mapper = mapper;
+            return this;
+        }
+
+        public Builder dataPlaneManager(DataPlaneManager dataPlaneManager) {
+            heartbeat.dataPlaneManager = dataPlaneManager;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            heartbeat.monitor = monitor;
+            return this;
+        }
+
+        /**
+         * The URL of the instances resource of the data plane selector API.
+         */
+        public Builder selectorUrl(String selectorUrl) {
+            heartbeat.selectorUrl = selectorUrl;
+            return this;
+        }
+
+        /**
+         * Provides a builder pre-populated with the static attributes of the instance (id, url, types, weight), the
+         * heartbeat adds the load information.
+         */
+        public Builder instance(Supplier<DataPlaneInstance.Builder> instance) {
+            heartbeat.instance = instance;
+            return this;
+        }
+
+        public Builder instrumentation(ExecutorInstrumentation instrumentation) {
+            heartbeat.instrumentation = instrumentation;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            heartbeat.clock = clock;
+            return this;
+        }
+
+        public Builder intervalMillis(long intervalMillis) {
+            heartbeat.intervalMillis = intervalMillis;
+            return this;
+        }
+
+        public DataPlaneHeartbeat build() {
+            Objects.requireNonNull(heartbeat.httpClient, "httpClient");
+            Objects.requireNonNull(heartbeat.mapper, "mapper");
+            Objects.requireNonNull(heartbeat.dataPlaneManager, "dataPlaneManager");
+            Objects.requireNonNull(heartbeat.monitor, "monitor");
+            Objects.requireNonNull(heartbeat.selectorUrl, "selectorUrl");
+            Objects.requireNonNull(heartbeat.instance, "instance");
+            if (heartbeat.intervalMillis <= 0) {
+                throw new IllegalArgumentException("Heartbeat interval must be greater than zero");
+            }
+            return heartbeat;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.registration;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.util.string.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Registers the data plane with a remote data plane selector and sends periodic heartbeats with its current load, so
+ * that data plane runtimes can be added and removed without registering them externally.
+ */
+@Extension(value = DataPlaneSelfRegistrationExtension.NAME)
+public class DataPlaneSelfRegistrationExtension implements ServiceExtension {
+    public static final String NAME = "Data Plane Self Registration";
+
+    @Setting(value = "URL of the instances resource of the data plane selector API, e.g. http://selector:8181/api/instances. Self-registration is disabled if not set")
+    private static final String SELECTOR_URL = "edc.dataplane.registration.selector.url";
+
+    @Setting(value = "Id the data plane registers with. If not set, the id is derived from the registration URL, so that a restarted data plane replaces its previous registration")
+    private static final String INSTANCE_ID = "edc.dataplane.registration.id";
+
+    @Setting(value = "URL of the transfer endpoint of the data plane control API the selector hands out, required for self-registration")
+    private static final String INSTANCE_URL = "edc.dataplane.registration.url";
+
+    @Setting(value = "Comma-separated list of the data source types the data plane can handle")
+    private static final String SOURCE_TYPES = "edc.dataplane.registration.source.types";
+
+    @Setting(value = "Comma-separated list of the data destination types the data plane can handle")
+    private static final String DESTINATION_TYPES = "edc.dataplane.registration.destination.types";
+
+    @Setting(value = "Capacity of the data plane relative to the other data planes, used by the load-aware selection strategies", defaultValue = "1")
+    private static final String WEIGHT = "edc.dataplane.registration.weight";
+
+    @Setting(value = "Interval in milliseconds at which the data plane sends heartbeats to the selector", defaultValue = "10000")
+    private static final String HEARTBEAT_INTERVAL = "edc.dataplane.registration.heartbeat.interval.ms";
+    private static final long DEFAULT_HEARTBEAT_INTERVAL = 10_000;
+
+    @Inject
+    private DataPlaneManager dataPlaneManager;
+
+    @Inject
+    private EdcHttpClient httpClient;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private DataPlaneHeartbeat heartbeat;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var monitor = context.getMonitor();
+        var selectorUrl = context.getSetting(SELECTOR_URL, null);
+        if (StringUtils.isNullOrEmpty(selectorUrl)) {
+            monitor.info(format("Data plane self-registration is disabled, [%s] is not set", SELECTOR_URL));
+            return;
+        }
+
+        var url = context.getSetting(INSTANCE_URL, null);
+        if (StringUtils.isNullOrEmpty(url)) {
+            throw new EdcException(format("[%s] is required when [%s] is set", INSTANCE_URL, SELECTOR_URL));
+        }
+        var id = context.getSetting(INSTANCE_ID, UUID.nameUUIDFromBytes(url.getBytes(StandardCharsets.UTF_8)).toString());
+        var sourceTypes = types(context.getSetting(SOURCE_TYPES, ""));
+        var destinationTypes = types(context.getSetting(DESTINATION_TYPES, ""));
+        var weight = context.getSetting(WEIGHT, 1);
+
+        heartbeat = DataPlaneHeartbeat.Builder.newInstance()
+                .httpClient(httpClient)
+                .mapper(typeManager.getMapper())
+                .dataPlaneManager(dataPlaneManager)
+                .monitor(monitor)
+                .selectorUrl(selectorUrl)
+                .instance(() -> {
+                    var builder = DataPlaneInstance.Builder.newInstance().id(id).url(url).weight(weight);
+                    sourceTypes.forEach(builder::allowedSourceType);
+                    destinationTypes.forEach(builder::allowedDestType);
+                    return builder;
+                })
+                .instrumentation(executorInstrumentation)
+                .clock(clock)
+                .intervalMillis(context.getSetting(HEARTBEAT_INTERVAL, DEFAULT_HEARTBEAT_INTERVAL))
+                .build();
+    }
+
+    @Override
+    public void start() {
+        if (heartbeat != null) {
+            heartbeat.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (heartbeat != null) {
+            heartbeat.stop();
+        }
+    }
+
+    private List<String> types(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
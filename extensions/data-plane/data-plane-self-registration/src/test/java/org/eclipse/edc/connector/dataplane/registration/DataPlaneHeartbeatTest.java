@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.registration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okio.Buffer;
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneHeartbeatTest {
+
+    private static final String SELECTOR_URL = "http://selector/api/instances";
+
+    private final EdcHttpClient httpClient = mock(EdcHttpClient.class);
+    private final DataPlaneManager dataPlaneManager = mock(DataPlaneManager.class);
+    private final Monitor monitor = mock(Monitor.class);
+    private final Clock clock = mock(Clock.class);
+    private final ObjectMapper mapper = new TypeManager().getMapper();
+    private DataPlaneHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        heartbeat = DataPlaneHeartbeat.Builder.newInstance()
+                .httpClient(httpClient)
+                .mapper(mapper)
+                .dataPlaneManager(dataPlaneManager)
+                .monitor(monitor)
+                .selectorUrl(SELECTOR_URL)
+                .instance(() -> DataPlaneInstance.Builder.newInstance().id("dp-1").url("http://dp-1/control/transfer")
+                        .allowedSourceType("HttpData").allowedDestType("HttpProxy").weight(2))
+                .clock(clock)
+                .intervalMillis(5000)
+                .build();
+    }
+
+    @Test
+    void beat_sendsInstanceWithLoad() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 204));
+        when(dataPlaneManager.activeTransfers()).thenReturn(2);
+        when(dataPlaneManager.queuedTransfers()).thenReturn(3);
+        when(dataPlaneManager.transferredBytes()).thenReturn(0L, 5000L);
+        when(clock.millis()).thenReturn(1000L, 3000L);
+
+        assertThat(heartbeat.beat()).isTrue();
+        assertThat(heartbeat.beat()).isTrue();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        var request = captor.getValue();
+        assertThat(request.url().toString()).isEqualTo(SELECTOR_URL);
+        assertThat(request.method()).isEqualTo("POST");
+
+        var instance = mapper.readValue(body(request), DataPlaneInstance.class);
+        assertThat(instance.getId()).isEqualTo("dp-1");
+        assertThat(instance.getAllowedSourceTypes()).containsExactly("HttpData");
+        assertThat(instance.getWeight()).isEqualTo(2);
+        assertThat(instance.getLastActive()).isEqualTo(3000L);
+        assertThat(instance.getHeartbeatInterval()).isEqualTo(5000L);
+        assertThat(instance.getOutstandingTransfers()).isEqualTo(5);
+        assertThat(instance.getProperties())
+                .containsEntry(DataPlaneHeartbeat.ACTIVE_TRANSFERS, 2)
+                .containsEntry(DataPlaneHeartbeat.QUEUED_TRANSFERS, 3)
+                .containsEntry(DataPlaneHeartbeat.BYTES_PER_SECOND, 2500);
+    }
+
+    @Test
+    void beat_rejectedBySelector() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(i.getArgument(0), 500));
+
+        assertThat(heartbeat.beat()).isFalse();
+
+        verify(monitor).warning(anyString());
+    }
+
+    @Test
+    void beat_selectorUnreachable() throws IOException {
+        when(httpClient.execute(any())).thenThrow(new IOException("connection refused"));
+
+        assertThat(heartbeat.beat()).isFalse();
+
+        verify(monitor).warning(anyString(), any(IOException.class));
+    }
+
+    private Response response(Request request, int code) {
+        return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(code).message("").build();
+    }
+
+    private String body(Request request) throws IOException {
+        var buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
@@ -28,6 +28,7 @@ dependencies {
     implementation(project(":extensions:data-plane:data-plane-http"))
     implementation(project(":extensions:data-plane:data-plane-azure-storage"))
     implementation(project(":extensions:data-plane:data-plane-api"))
+    implementation(project(":extensions:data-plane:data-plane-self-registration"))
 }
 
 application {
@@ -41,6 +41,11 @@ dependencyResolutionManagement {
             from("org.eclipse.edc:edc-versions:0.0.1-SNAPSHOT")
             // this is not part of the published EDC Version Catalog, so we'll just "amend" it
             library("dnsOverHttps", "com.squareup.okhttp3", "okhttp-dnsoverhttps").versionRef("okhttp")
+            library("jetty-http2-server", "org.eclipse.jetty.http2", "http2-server").versionRef("jetty")
+            library("jetty-alpn-server", "org.eclipse.jetty", "jetty-alpn-java-server").versionRef("jetty")
+            version("jmh", "1.36")
+            library("jmh-core", "org.openjdk.jmh", "jmh-core").versionRef("jmh")
+            library("jmh-generator", "org.openjdk.jmh", "jmh-generator-annprocess").versionRef("jmh")
         }
     }
 }
@@ -53,6 +58,7 @@ include(":core:common:policy-engine")
 include(":core:common:policy-evaluator")
 include(":core:common:state-machine")
 include(":core:common:util")
+include(":core:common:vault-core")
 include(":core:common:junit")
 
 include(":core:control-plane:contract-core")
@@ -109,6 +115,7 @@ include(":extensions:common:iam:oauth2:oauth2-client")
 include(":extensions:common:iam:oauth2:oauth2-service")
 include(":extensions:common:metrics:micrometer-core")
 include(":extensions:common:monitor:monitor-jdk-logger")
+include(":extensions:common:monitor:monitor-structured")
 include(":extensions:common:sql:sql-core")
 include(":extensions:common:sql:sql-lease")
 include(":extensions:common:sql:sql-pool:sql-pool-apache-commons")
@@ -149,6 +156,7 @@ include(":extensions:control-plane:store:cosmos:control-plane-cosmos")
 include(":extensions:control-plane:store:cosmos:policy-definition-store-cosmos")
 include(":extensions:control-plane:store:cosmos:transfer-process-store-cosmos")
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:command-queue-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -164,6 +172,7 @@ include(":extensions:data-plane:data-plane-http-oauth2")
 include(":extensions:data-plane:data-plane-http-oauth2-core")
 include(":extensions:data-plane:data-plane-aws-s3")
 include(":extensions:data-plane:data-plane-google-storage")
+include(":extensions:data-plane:data-plane-self-registration")
 include(":extensions:data-plane:data-plane-integration-tests")
 include(":extensions:data-plane:store:sql:data-plane-store-sql")
 include(":extensions:data-plane:store:cosmos:data-plane-store-cosmos")
@@ -210,6 +219,7 @@ include(":spi:data-plane-selector:data-plane-selector-spi")
 // modules for system tests ------------------------------------------------------------------------
 include(":system-tests:azure-data-factory-tests")
 include(":system-tests:azure-tests")
+include(":system-tests:benchmarks")
 include(":system-tests:e2e-transfer-test:backend-service")
 include(":system-tests:e2e-transfer-test:control-plane")
 include(":system-tests:e2e-transfer-test:control-plane-cosmosdb")
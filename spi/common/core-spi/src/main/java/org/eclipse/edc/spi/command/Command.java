@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.spi.command;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import java.util.UUID;
 
 /**
@@ -29,7 +31,9 @@ import java.util.UUID;
  * </ul>
  */
 public abstract class Command {
+    @JsonProperty
     private final String commandId;
+    @JsonProperty
     private int errorCount = 0;
 
     /**
@@ -50,6 +54,10 @@ public abstract class Command {
         return commandId;
     }
 
+    public int getErrorCount() {
+        return errorCount;
+    }
+
     public void increaseErrorCount() {
         errorCount++;
     }
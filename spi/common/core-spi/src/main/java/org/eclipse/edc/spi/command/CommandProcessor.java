@@ -37,7 +37,7 @@ public class CommandProcessor<C extends Command> {
 
     /**
      * Processes the given command using a {@link CommandRunner}. If processing the command fails,
-     * it is enqueued in the {@link CommandQueue} again.
+     * it is enqueued in the {@link CommandQueue} again, or dead-lettered once it cannot be retried anymore.
      *
      * @param command the Command to process.
      * @return true, if the command has successfully been processed; false otherwise.
@@ -50,9 +50,11 @@ public class CommandProcessor<C extends Command> {
                 commandQueue.enqueue(command);
             } else {
                 monitor.severe(String.format("Could not process command [%s], it has exceeded its retry limit, will discard now. Error: %s", command.getClass(), commandResult.getFailureMessages()));
+                commandQueue.deadLetter(command, commandResult.getFailureDetail());
             }
             return false;
         } else {
+            commandQueue.acknowledge(command);
             monitor.debug(format("Successfully processed command [%s]", command.getClass()));
             return true;
         }
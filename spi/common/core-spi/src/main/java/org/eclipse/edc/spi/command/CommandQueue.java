@@ -55,4 +55,23 @@ public interface CommandQueue<C extends Command> {
      */
     @Nullable
     C peek();
+
+    /**
+     * Confirms that a command obtained through {@link #dequeue(int)} has been processed. Queues that hand out commands
+     * under a lease remove them permanently only now, so that commands held by a crashed runtime become available again.
+     *
+     * @param element the processed command
+     */
+    default void acknowledge(C element) {
+    }
+
+    /**
+     * Removes a command that has exceeded its retry limit from the queue. Durable queues keep it aside for inspection
+     * instead of deleting it.
+     *
+     * @param element the command that could not be processed
+     * @param reason the last failure
+     */
+    default void deadLetter(C element, String reason) {
+    }
 }
@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.command;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+/**
+ * Creates the {@link CommandQueue}s used by the state machines. Replace the default, in-memory implementation with a
+ * durable one to keep commands across restarts and share them between several runtimes.
+ */
+@ExtensionPoint
+public interface CommandQueueFactory {
+
+    /**
+     * Creates a queue for one kind of command.
+     *
+     * @param name unique name of the queue, e.g. {@code transfer-process}. Durable queues use it to tell apart commands of different state machines.
+     * @param commandType base type of the commands in the queue
+     */
+    <C extends Command> CommandQueue<C> create(String name, Class<C> commandType);
+}
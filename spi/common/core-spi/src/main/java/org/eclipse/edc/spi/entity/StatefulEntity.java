@@ -33,6 +33,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected int state;
     protected int stateCount;
     protected long stateTimestamp;
+    protected long nextAttemptAt;
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
 
@@ -51,6 +52,18 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
         return stateTimestamp;
     }
 
+    /**
+     * The point in time before which the entity should not be processed again, used by stores to skip entities that
+     * are backing off after a failed attempt. A value of 0 means the entity is due immediately.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(long nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     @Override
     public Map<String, String> getTraceContext() {
         return Collections.unmodifiableMap(traceContext);
@@ -78,6 +91,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected void transitionTo(int targetState) {
         stateCount = state == targetState ? stateCount + 1 : 1;
         state = targetState;
+        nextAttemptAt = 0;
         updateStateTimestamp();
         setModified();
     }
@@ -89,6 +103,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .state(state)
                 .stateCount(stateCount)
                 .stateTimestamp(stateTimestamp)
+                .nextAttemptAt(nextAttemptAt)
                 .updatedAt(updatedAt)
                 .traceContext(traceContext)
                 .errorDetail(errorDetail)
@@ -124,6 +139,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B nextAttemptAt(long value) {
+            entity.nextAttemptAt = value;
+            return self();
+        }
+
         public B errorDetail(String errorDetail) {
             entity.errorDetail = errorDetail;
             return self();
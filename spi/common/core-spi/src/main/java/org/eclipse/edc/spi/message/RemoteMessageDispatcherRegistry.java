@@ -17,6 +17,7 @@ package org.eclipse.edc.spi.message;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -41,4 +42,16 @@ public interface RemoteMessageDispatcherRegistry {
      */
     <T> CompletableFuture<T> send(Class<T> responseType, RemoteMessage message);
 
+    /**
+     * Returns for how long messages to the given counter-party should be deferred, because it is considered unavailable
+     * after a series of failed messages. Callers that can retry later should not attempt to send in the meantime, as
+     * the message would be rejected anyway.
+     *
+     * @param connectorAddress the address of the counter-party
+     * @return the remaining time, {@link Duration#ZERO} if messages can be sent right away
+     */
+    default Duration unavailableFor(String connectorAddress) {
+        return Duration.ZERO;
+    }
+
 }
@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Opaque cursor for keyset pagination. A token captures the sort value and the id of the last element of a page, the
+ * next page then starts strictly after that position instead of skipping {@link QuerySpec#getOffset()} rows. This keeps
+ * the cost of a page constant regardless of how deep into the result set it is, and results stay stable when entries
+ * are inserted or removed in between requests.
+ * <p>
+ * Values are normalized so that they survive the round trip through {@link #encode()} and {@link #decode(String)}:
+ * integral numbers become {@link Long}, other numbers {@link Double}, enums their name and anything else its string
+ * representation. Stores convert the sort value back into the representation of their column where it differs, e.g.
+ * an enum stored as ordinal.
+ * <p>
+ * Stores order by the sort field and then by id, also when no sort field is given, so that pages are disjoint. {@code null}
+ * sort values come first in ascending and last in descending order, consistent with {@link #compareValues}.
+ * <p>
+ * A token also records the sort field and sort order of the query it was issued for, as its position is meaningless in
+ * any other ordering. Clients have to check {@link #matches(String, SortOrder)} before continuing a query.
+ */
+public final class ContinuationToken {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(DeserializationFeature.USE_LONG_FOR_INTS);
+    private static final String SORT_FIELD = "f";
+    private static final String SORT_ORDER = "o";
+    private static final String SORT_VALUE = "s";
+    private static final String ID = "i";
+
+    private final String sortField;
+    private final SortOrder sortOrder;
+    private final Object sortValue;
+    private final Object id;
+
+    private ContinuationToken(@Nullable String sortField, @Nullable SortOrder sortOrder, Object sortValue, Object id) {
+        this.sortField = sortField;
+        this.sortOrder = sortOrder != null ? sortOrder : SortOrder.ASC;
+        this.sortValue = normalize(sortValue);
+        this.id = normalize(Objects.requireNonNull(id, "id"));
+    }
+
+    /**
+     * Creates a token positioned after the element with the given sort value and id, for a query without a sort field
+     * in ascending order.
+     *
+     * @param sortValue the value of the sort field of the last element, can be null when no sort field is used.
+     * @param id the id of the last element
+     */
+    public static ContinuationToken of(@Nullable Object sortValue, Object id) {
+        return of(null, SortOrder.ASC, sortValue, id);
+    }
+
+    /**
+     * Creates a token positioned after the element with the given sort value and id.
+     *
+     * @param sortField the sort field of the query, can be null when no sort field is used.
+     * @param sortOrder the sort order of the query.
+     * @param sortValue the value of the sort field of the last element, can be null when no sort field is used.
+     * @param id the id of the last element
+     */
+    public static ContinuationToken of(@Nullable String sortField, SortOrder sortOrder, @Nullable Object sortValue, Object id) {
+        return new ContinuationToken(sortField, sortOrder, sortValue, id);
+    }
+
+    /**
+     * Parses a token that was previously created with {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed.
+     */
+    public static ContinuationToken decode(String token) {
+        try {
+            var json = Base64.getUrlDecoder().decode(token);
+            var map = MAPPER.readValue(json, Map.class);
+            if (map == null || map.get(ID) == null) {
+                throw new IllegalArgumentException("Invalid continuation token: no id");
+            }
+            var sortField = map.get(SORT_FIELD);
+            var sortOrder = map.get(SORT_ORDER);
+            return new ContinuationToken(sortField != null ? sortField.toString() : null,
+                    sortOrder != null ? SortOrder.valueOf(sortOrder.toString()) : null, map.get(SORT_VALUE), map.get(ID));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+    }
+
+    /**
+     * Compares two normalized key values. Integral numbers compare numerically, other numbers as doubles, all other
+     * values by their natural order, or their string representation if they are of different types. {@code null} sorts
+     * first.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static int compareValues(@Nullable Object left, @Nullable Object right) {
+        var l = normalize(left);
+        var r = normalize(right);
+        if (l == null || r == null) {
+            return l == r ? 0 : (l == null ? -1 : 1);
+        }
+        if (l instanceof Long && r instanceof Long) {
+            return Long.compare((Long) l, (Long) r);
+        }
+        if (l instanceof Number && r instanceof Number) {
+            return Double.compare(((Number) l).doubleValue(), ((Number) r).doubleValue());
+        }
+        if (l.getClass() == r.getClass() && l instanceof Comparable) {
+            return ((Comparable) l).compareTo(r);
+        }
+        return l.toString().compareTo(r.toString());
+    }
+
+    /**
+     * Normalizes a key value to one of the types that survive serialization.
+     */
+    @Nullable
+    public static Object normalize(@Nullable Object value) {
+        if (value == null || value instanceof Long || value instanceof Double || value instanceof Boolean || value instanceof String) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        return value.toString();
+    }
+
+    @Nullable
+    public String getSortField() {
+        return sortField;
+    }
+
+    public SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    @Nullable
+    public Object getSortValue() {
+        return sortValue;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    /**
+     * Whether the token was issued for a query with the given sort field and sort order.
+     */
+    public boolean matches(@Nullable String sortField, @Nullable SortOrder sortOrder) {
+        return Objects.equals(this.sortField, sortField) && this.sortOrder == (sortOrder != null ? sortOrder : SortOrder.ASC);
+    }
+
+    /**
+     * Serializes the token into a URL-safe string.
+     */
+    public String encode() {
+        var map = new HashMap<String, Object>();
+        map.put(SORT_FIELD, sortField);
+        map.put(SORT_ORDER, sortOrder.name());
+        map.put(SORT_VALUE, sortValue);
+        map.put(ID, id);
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsString(map).getBytes(UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, sortOrder, sortValue, id);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (ContinuationToken) o;
+        return Objects.equals(sortField, that.sortField) && sortOrder == that.sortOrder && Objects.equals(sortValue, that.sortValue) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public String toString() {
+        return "ContinuationToken{" +
+                "sortField=" + sortField +
+                ", sortOrder=" + sortOrder +
+                ", sortValue=" + sortValue +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -37,6 +37,7 @@ public class QuerySpec {
     private List<Criterion> filterExpression = new ArrayList<>();
     private SortOrder sortOrder = SortOrder.ASC;
     private String sortField;
+    private ContinuationToken continuationToken;
 
     public static QuerySpec none() {
         return new QuerySpec();
@@ -53,9 +54,17 @@ public class QuerySpec {
         return sortField;
     }
 
+    /**
+     * The position after which the result page starts. If set, stores apply keyset pagination and ignore the
+     * {@link #getOffset()}.
+     */
+    public ContinuationToken getContinuationToken() {
+        return continuationToken;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField);
+        return Objects.hash(offset, limit, filterExpression, sortOrder, sortField, continuationToken);
     }
 
     @Override
@@ -67,7 +76,7 @@ public class QuerySpec {
             return false;
         }
         QuerySpec querySpec = (QuerySpec) o;
-        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField);
+        return offset == querySpec.offset && limit == querySpec.limit && Objects.equals(filterExpression, querySpec.filterExpression) && sortOrder == querySpec.sortOrder && Objects.equals(sortField, querySpec.sortField) && Objects.equals(continuationToken, querySpec.continuationToken);
     }
 
     @Override
@@ -78,6 +87,7 @@ public class QuerySpec {
                 ", filterExpression=" + filterExpression +
                 ", sortOrder=" + sortOrder +
                 ", sortField=" + sortField +
+                ", continuationToken=" + continuationToken +
                 '}';
     }
 
@@ -152,6 +162,11 @@ public class QuerySpec {
             return this;
         }
 
+        public Builder continuationToken(ContinuationToken continuationToken) {
+            querySpec.continuationToken = continuationToken;
+            return this;
+        }
+
         public Builder equalsAsContains(boolean equalsAsContains) {
             this.equalsAsContains = equalsAsContains;
             return this;
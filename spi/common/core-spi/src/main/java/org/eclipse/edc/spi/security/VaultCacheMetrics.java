@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.security;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.time.Duration;
+
+/**
+ * Receives the cache statistics of the caching decorator of remote vaults, to collect metrics when available.
+ * <p>
+ * The default implementation does not record anything. Extension modules can provide implementations, such as for
+ * reporting the hit ratio and the latency of the remote vault.
+ */
+@ExtensionPoint
+public interface VaultCacheMetrics {
+
+    /**
+     * Default implementation that does not record anything.
+     *
+     * @return a default {@link VaultCacheMetrics} implementation.
+     */
+    static VaultCacheMetrics noop() {
+        return new VaultCacheMetrics() {
+        };
+    }
+
+    /**
+     * A secret was served from the cache and was still fresh.
+     */
+    default void hit() {
+    }
+
+    /**
+     * A secret was served from the cache after it expired, while it is refreshed in the background.
+     */
+    default void staleHit() {
+    }
+
+    /**
+     * A secret was not in the cache, or had expired beyond the stale window, and had to be resolved remotely.
+     */
+    default void miss() {
+    }
+
+    /**
+     * The delegate vault was called to resolve a secret.
+     *
+     * @param latency how long the call took.
+     * @param found   whether the delegate returned a value.
+     */
+    default void remoteCall(Duration latency, boolean found) {
+    }
+}
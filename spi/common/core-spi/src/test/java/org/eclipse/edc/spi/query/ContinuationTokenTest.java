@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.query;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContinuationTokenTest {
+
+    @Test
+    void encodeDecode_roundTrip() {
+        var token = ContinuationToken.of(1234, "some-id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+        assertThat(decoded.getSortValue()).isEqualTo(1234L);
+        assertThat(decoded.getId()).isEqualTo("some-id");
+    }
+
+    @Test
+    void encodeDecode_withoutSortValue() {
+        var token = ContinuationToken.of(null, "some-id");
+
+        assertThat(ContinuationToken.decode(token.encode())).isEqualTo(token);
+    }
+
+    @Test
+    void encodeDecode_withSortFieldAndOrder() {
+        var token = ContinuationToken.of("createdAt", SortOrder.DESC, 1234, "some-id");
+
+        var decoded = ContinuationToken.decode(token.encode());
+
+        assertThat(decoded).isEqualTo(token);
+        assertThat(decoded.getSortField()).isEqualTo("createdAt");
+        assertThat(decoded.getSortOrder()).isEqualTo(SortOrder.DESC);
+    }
+
+    @Test
+    void matches() {
+        var token = ContinuationToken.of("createdAt", SortOrder.DESC, 1234, "some-id");
+
+        assertThat(token.matches("createdAt", SortOrder.DESC)).isTrue();
+        assertThat(token.matches("createdAt", SortOrder.ASC)).isFalse();
+        assertThat(token.matches("id", SortOrder.DESC)).isFalse();
+        assertThat(token.matches(null, SortOrder.DESC)).isFalse();
+        assertThat(ContinuationToken.of(null, "some-id").matches(null, SortOrder.ASC)).isTrue();
+    }
+
+    @Test
+    void of_normalizesEnums() {
+        assertThat(ContinuationToken.of(SortOrder.DESC, "id").getSortValue()).isEqualTo("DESC");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "not-a-token", "e30" })
+    void decode_invalidToken_throws(String token) {
+        assertThatThrownBy(() -> ContinuationToken.decode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compareValues() {
+        assertThat(ContinuationToken.compareValues(1, 2L)).isNegative();
+        assertThat(ContinuationToken.compareValues(2.5, 2)).isPositive();
+        assertThat(ContinuationToken.compareValues("a", "b")).isNegative();
+        assertThat(ContinuationToken.compareValues(null, "a")).isNegative();
+        assertThat(ContinuationToken.compareValues(null, null)).isZero();
+    }
+}
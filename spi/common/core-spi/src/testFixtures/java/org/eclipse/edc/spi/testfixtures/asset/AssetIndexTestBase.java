@@ -18,6 +18,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.asset.AssetSelectorExpression;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -316,6 +317,21 @@ public abstract class AssetIndexTestBase {
         assertThat(assetsFound).isNotNull().hasSize(3);
     }
 
+    @Test
+    @DisplayName("Query two consecutive pages without a sort field")
+    void queryAsset_continuationToken_withoutSortField() {
+        var ids = range(0, 10).mapToObj(i -> "id" + i).collect(Collectors.toList());
+        Collections.shuffle(ids);
+        ids.forEach(id -> getAssetIndex().accept(getAsset(id), getDataAddress()));
+
+        var firstPage = getAssetIndex().queryAssets(QuerySpec.Builder.newInstance().limit(4).build());
+        assertThat(firstPage).extracting(Asset::getId).containsExactly("id0", "id1", "id2", "id3");
+
+        var secondPage = getAssetIndex().queryAssets(QuerySpec.Builder.newInstance().limit(4)
+                .continuationToken(ContinuationToken.of(null, "id3")).build());
+        assertThat(secondPage).extracting(Asset::getId).containsExactly("id4", "id5", "id6", "id7");
+    }
+
     @Test
     @DisplayName("Query assets with query spec where the property (=leftOperand) does not exist")
     void queryAsset_querySpec_nonExistProperty() {
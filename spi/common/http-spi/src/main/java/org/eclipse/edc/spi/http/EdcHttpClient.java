@@ -66,6 +66,18 @@ public interface EdcHttpClient {
      */
     <T> CompletableFuture<T> executeAsync(Request request, Function<Response, T> mappingFunction);
 
+    /**
+     * Executes the specified request asynchronously, maps the response with the mappingFunction.
+     * Accepts a list of {@link FallbackFactories} that could apply retry in particular occasions.
+     *
+     * @param request the {@link Request}.
+     * @param fallbacks the fallbacks that will be composed with the retry policy.
+     * @param mappingFunction the function that will be applied to the {@link Response}.
+     * @return a {@link CompletableFuture} containing the result value.
+     * @param <T> the result value.
+     */
+    <T> CompletableFuture<T> executeAsync(Request request, List<FallbackFactory> fallbacks, Function<Response, T> mappingFunction);
+
     /**
      * Returns a new client instance with a custom dns server set.
      *
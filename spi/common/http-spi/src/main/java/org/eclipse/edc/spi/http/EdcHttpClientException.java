@@ -18,7 +18,26 @@ import org.eclipse.edc.spi.EdcException;
 
 public class EdcHttpClientException extends EdcException {
 
+    private final int statusCode;
+
     public EdcHttpClientException(String message) {
+        this(message, 0);
+    }
+
+    public EdcHttpClientException(String message, int statusCode) {
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    public EdcHttpClientException(String message, Throwable cause) {
+        super(message, cause);
+        statusCode = 0;
+    }
+
+    /**
+     * The HTTP status of the response, 0 if no response was received.
+     */
+    public int getStatusCode() {
+        return statusCode;
     }
 }
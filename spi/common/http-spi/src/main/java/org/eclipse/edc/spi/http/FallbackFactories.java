@@ -36,9 +36,9 @@ public interface FallbackFactories {
             CheckedFunction<ExecutionAttemptedEvent<? extends Response>, Exception> exceptionSupplier = event -> {
                 var response = event.getLastResult();
                 if (response == null) {
-                    return new EdcHttpClientException(event.getLastException().getMessage());
+                    return new EdcHttpClientException(event.getLastException().getMessage(), event.getLastException());
                 } else {
-                    return new EdcHttpClientException(format("Server response to %s was not successful but was %s: %s", request, response.code(), response.body().string()));
+                    return new EdcHttpClientException(format("Server response to %s was not successful but was %s: %s", request, response.code(), response.body().string()), response.code());
                 }
             };
             return Fallback.builderOfException(exceptionSupplier)
@@ -57,9 +57,9 @@ public interface FallbackFactories {
             CheckedFunction<ExecutionAttemptedEvent<? extends Response>, Exception> exceptionSupplier = event -> {
                 var response = event.getLastResult();
                 if (response == null) {
-                    return new EdcHttpClientException(event.getLastException().getMessage());
+                    return new EdcHttpClientException(event.getLastException().getMessage(), event.getLastException());
                 } else {
-                    return new EdcHttpClientException(format("Server response to %s was not %s but was %s: %s", request, status, response.code(), response.body().string()));
+                    return new EdcHttpClientException(format("Server response to %s was not %s but was %s: %s", request, status, response.code(), response.body().string()), response.code());
                 }
             };
             return Fallback.builderOfException(exceptionSupplier)
@@ -21,6 +21,7 @@ public interface Oauth2DataAddressSchema {
     String VALIDITY = "oauth2:validity";
     String PRIVATE_KEY_NAME = "oauth2:privateKeyName";
     String SCOPE = "oauth2:scope";
+    String RESOURCE = "oauth2:resource";
 
     /**
      * The client secret shouldn't be stored in the data address anymore, please store the key and then put the value
@@ -21,5 +21,12 @@ import org.eclipse.edc.spi.result.Result;
 @ExtensionPoint
 @FunctionalInterface
 public interface Oauth2Client {
+
+    /**
+     * Key of the {@link TokenRepresentation#getAdditional()} entry that holds the lifetime of the token in seconds, if
+     * the authorization server provided one.
+     */
+    String EXPIRES_IN = "expires_in";
+
     Result<TokenRepresentation> requestToken(Oauth2CredentialsRequest request);
 }
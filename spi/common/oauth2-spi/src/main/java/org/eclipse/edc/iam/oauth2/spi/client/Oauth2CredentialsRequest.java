@@ -25,6 +25,7 @@ public abstract class Oauth2CredentialsRequest {
 
     private static final String GRANT_TYPE = "grant_type";
     private static final String SCOPE = "scope";
+    private static final String RESOURCE = "resource";
 
     protected String url;
     protected final Map<String, String> params = new HashMap<>();
@@ -39,6 +40,11 @@ public abstract class Oauth2CredentialsRequest {
         return params.get(SCOPE);
     }
 
+    @Nullable
+    public String getResource() {
+        return params.get(RESOURCE);
+    }
+
     @NotNull
     public String getGrantType() {
         return params.get(GRANT_TYPE);
@@ -70,6 +76,14 @@ public abstract class Oauth2CredentialsRequest {
             return self();
         }
 
+        /**
+         * Resource indicator as defined by RFC 8707.
+         */
+        public B resource(String resource) {
+            param(RESOURCE, resource);
+            return self();
+        }
+
         public B param(String key, String value) {
             request.params.put(key, value);
             return self();
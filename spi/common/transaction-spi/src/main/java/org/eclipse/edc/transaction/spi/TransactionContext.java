@@ -39,6 +39,15 @@ public interface TransactionContext {
      */
     <T> T execute(ResultTransactionBlock<T> block);
 
+    /**
+     * Executes code that only reads within a transaction producing a result. This is a hint that allows
+     * implementations to skip committing the transaction. A read-only transaction that is joined by a block started
+     * through {@link #execute} becomes a read-write transaction.
+     */
+    default <T> T executeReadOnly(ResultTransactionBlock<T> block) {
+        return execute(block);
+    }
+
     /**
      * Registers a synchronization that will be called before a transaction commits or is rolled back.
      */
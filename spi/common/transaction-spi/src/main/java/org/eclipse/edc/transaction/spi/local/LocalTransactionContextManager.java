@@ -20,8 +20,22 @@ package org.eclipse.edc.transaction.spi.local;
 public interface LocalTransactionContextManager {
 
     /**
-     * Registers the resource.
+     * Registers the resource. Registered resources take part in every transaction, whether they are used or not.
      */
     void registerResource(LocalTransactionResource resource);
 
+    /**
+     * Enlists the resource in the transaction that is active on the calling thread, starting it if it is not enlisted
+     * yet. Resources that enlist themselves on first use should not be registered through {@link #registerResource}.
+     *
+     * @return true if a transaction is active and the resource is enlisted in it, false if no transaction is active.
+     */
+    boolean enlistResource(LocalTransactionResource resource);
+
+    /**
+     * Returns true if the transaction that is active on the calling thread only reads, i.e. resources can skip
+     * committing it.
+     */
+    boolean isReadOnly();
+
 }
@@ -34,4 +34,11 @@ public interface LocalTransactionResource {
      */
     void rollback();
 
+    /**
+     * Signals a read-only transaction has been joined by a block that writes, i.e. the resource has to be committed or
+     * rolled back from now on.
+     */
+    default void readWrite() {
+    }
+
 }
@@ -19,10 +19,12 @@ import org.eclipse.edc.connector.contract.spi.types.agreement.ContractAgreement;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -87,4 +89,38 @@ public interface ContractNegotiationStore extends StateEntityStore<ContractNegot
      */
     @NotNull
     Stream<ContractAgreement> queryAgreements(QuerySpec querySpec);
+
+    /**
+     * Returns whether at least one contract agreement for the given asset exists. Implementations should answer this
+     * from an index rather than by materializing agreements, as it is checked e.g. whenever an asset is deleted.
+     *
+     * @param assetId the id of the asset.
+     * @return true if an agreement references the asset, false otherwise.
+     */
+    default boolean existsAgreementForAsset(String assetId) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("assetId", "=", assetId)))
+                .limit(1)
+                .build();
+        try (var agreements = queryAgreements(query)) {
+            return agreements.findAny().isPresent();
+        }
+    }
+
+    /**
+     * Counts all contract agreements that match the filter of a {@link QuerySpec}. Paging, sorting and the
+     * continuation token of the query spec are ignored.
+     *
+     * @param querySpec The query spec, only the filter expression is considered.
+     * @return the number of matching agreements.
+     */
+    default long countAgreements(QuerySpec querySpec) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(querySpec.getFilterExpression())
+                .limit(Integer.MAX_VALUE)
+                .build();
+        try (var agreements = queryAgreements(query)) {
+            return agreements.count();
+        }
+    }
 }
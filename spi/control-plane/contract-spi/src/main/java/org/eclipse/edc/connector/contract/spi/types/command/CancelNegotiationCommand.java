@@ -14,11 +14,15 @@
 
 package org.eclipse.edc.connector.contract.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Command for cancelling a specific ContractNegotiation.
  */
 public class CancelNegotiationCommand extends SingleContractNegotiationCommand {
-    public CancelNegotiationCommand(String negotiationId) {
+    @JsonCreator
+    public CancelNegotiationCommand(@JsonProperty("negotiationId") String negotiationId) {
         super(negotiationId);
     }
 }
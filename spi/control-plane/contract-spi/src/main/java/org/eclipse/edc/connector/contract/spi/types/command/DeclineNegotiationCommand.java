@@ -14,11 +14,15 @@
 
 package org.eclipse.edc.connector.contract.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Command for declining a specific ContractNegotiation.
  */
 public class DeclineNegotiationCommand extends SingleContractNegotiationCommand {
-    public DeclineNegotiationCommand(String negotiationId) {
+    @JsonCreator
+    public DeclineNegotiationCommand(@JsonProperty("negotiationId") String negotiationId) {
         super(negotiationId);
     }
 }
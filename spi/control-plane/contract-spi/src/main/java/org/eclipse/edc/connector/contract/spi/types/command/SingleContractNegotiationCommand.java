@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.connector.contract.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.command.ContractNegotiationCommand;
 
 /**
@@ -24,7 +26,8 @@ public class SingleContractNegotiationCommand extends ContractNegotiationCommand
 
     protected final String negotiationId;
 
-    public SingleContractNegotiationCommand(String negotiationId) {
+    @JsonCreator
+    public SingleContractNegotiationCommand(@JsonProperty("negotiationId") String negotiationId) {
         super();
         this.negotiationId = negotiationId;
     }
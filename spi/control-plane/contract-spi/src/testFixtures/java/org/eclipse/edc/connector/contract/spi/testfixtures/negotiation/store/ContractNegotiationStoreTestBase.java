@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.contract.spi.ContractId;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -378,6 +380,20 @@ public abstract class ContractNegotiationStoreTestBase {
                 .isSorted();
     }
 
+    @Test
+    void queryNegotiations_continuationToken_withoutSortField() {
+        var ids = IntStream.range(0, 10).mapToObj(i -> "id" + i).collect(Collectors.toList());
+        Collections.shuffle(ids);
+        ids.forEach(id -> getContractNegotiationStore().save(createNegotiation(id)));
+
+        var firstPage = getContractNegotiationStore().queryNegotiations(QuerySpec.Builder.newInstance().limit(4).build());
+        assertThat(firstPage).extracting(ContractNegotiation::getId).containsExactly("id0", "id1", "id2", "id3");
+
+        var secondPage = getContractNegotiationStore().queryNegotiations(QuerySpec.Builder.newInstance().limit(4)
+                .continuationToken(ContinuationToken.of(null, "id3")).build());
+        assertThat(secondPage).extracting(ContractNegotiation::getId).containsExactly("id4", "id5", "id6", "id7");
+    }
+
     @Test
     void getNegotiationsWithAgreementOnAsset_negotiationWithAgreement() {
         var agreement = createContract("contract1");
@@ -431,6 +447,46 @@ public abstract class ContractNegotiationStoreTestBase {
 
     }
 
+    @Test
+    void existsAgreementForAsset() {
+        var assetId = UUID.randomUUID().toString();
+        getContractNegotiationStore().save(createNegotiation("negotiation1", createContractBuilder("contract1").assetId(assetId).build()));
+        getContractNegotiationStore().save(createNegotiation("negotiation2"));
+
+        assertThat(getContractNegotiationStore().existsAgreementForAsset(assetId)).isTrue();
+        assertThat(getContractNegotiationStore().existsAgreementForAsset("unknown-asset")).isFalse();
+    }
+
+    @Test
+    void countAgreements_ignoresPaging() {
+        var assetId = UUID.randomUUID().toString();
+        IntStream.range(0, 10)
+                .mapToObj(i -> createNegotiation("negotiation" + i, createContractBuilder("contract" + i).assetId(i % 2 == 0 ? assetId : "other-asset").build()))
+                .forEach(negotiation -> getContractNegotiationStore().save(negotiation));
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("assetId", "=", assetId)))
+                .limit(2)
+                .build();
+
+        assertThat(getContractNegotiationStore().countAgreements(query)).isEqualTo(5);
+        assertThat(getContractNegotiationStore().countAgreements(QuerySpec.none())).isEqualTo(10);
+    }
+
+    @Test
+    void queryNegotiations_byCounterPartyId() {
+        getContractNegotiationStore().save(createNegotiationBuilder("negotiation1").counterPartyId("party1").build());
+        getContractNegotiationStore().save(createNegotiationBuilder("negotiation2").counterPartyId("party2").build());
+        getContractNegotiationStore().save(createNegotiationBuilder("negotiation3").counterPartyId("party1").build());
+
+        var query = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("counterPartyId", "=", "party1")))
+                .build();
+        var result = getContractNegotiationStore().queryNegotiations(query);
+
+        assertThat(result).extracting(ContractNegotiation::getId).containsExactlyInAnyOrder("negotiation1", "negotiation3");
+    }
+
     @Test
     @DisplayName("Verify that paging is used (with ContractAgreement)")
     void queryNegotiations_withAgreement() {
@@ -498,6 +554,24 @@ public abstract class ContractNegotiationStoreTestBase {
                 .allMatch(i -> i >= 5);
     }
 
+    @Test
+    @DisplayName("nextForState: verify that entities that are backing off are not returned before they are due")
+    void nextForState_withEntityNotDueYet() {
+        var negotiations = IntStream
+                .range(0, 10)
+                .mapToObj(i -> createNegotiation(String.valueOf(i)))
+                .collect(Collectors.toList());
+        negotiations.stream().skip(5).forEach(n -> n.setNextAttemptAt(System.currentTimeMillis() + 60_000));
+        negotiations.forEach(getContractNegotiationStore()::save);
+
+        var batch = getContractNegotiationStore().nextForState(ContractNegotiationStates.CONSUMER_REQUESTED.code(), 10);
+        Assertions.assertThat(batch)
+                .hasSize(5)
+                .extracting(ContractNegotiation::getId)
+                .map(Integer::parseInt)
+                .allMatch(i -> i < 5);
+    }
+
     @Test
     @DisplayName("nextForState: verify that an expired lease is re-acquired")
     void nextForState_withLeasedEntity_expiredLease() throws InterruptedException {
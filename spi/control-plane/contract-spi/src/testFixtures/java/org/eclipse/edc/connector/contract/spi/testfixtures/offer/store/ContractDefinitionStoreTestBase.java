@@ -23,6 +23,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -338,6 +340,20 @@ public abstract class ContractDefinitionStoreTestBase {
         assertThat(getContractDefinitionStore().findAll(QuerySpec.Builder.newInstance().offset(5).limit(100).build())).hasSize(5);
     }
 
+    @Test
+    void findAll_continuationToken_withoutSortField() {
+        var ids = IntStream.range(0, 10).mapToObj(i -> "id" + i).collect(Collectors.toList());
+        Collections.shuffle(ids);
+        ids.forEach(id -> getContractDefinitionStore().save(createContractDefinition(id)));
+
+        var firstPage = getContractDefinitionStore().findAll(QuerySpec.Builder.newInstance().limit(4).build());
+        assertThat(firstPage).extracting(ContractDefinition::getId).containsExactly("id0", "id1", "id2", "id3");
+
+        var secondPage = getContractDefinitionStore().findAll(QuerySpec.Builder.newInstance().limit(4)
+                .continuationToken(ContinuationToken.of(null, "id3")).build());
+        assertThat(secondPage).extracting(ContractDefinition::getId).containsExactly("id4", "id5", "id6", "id7");
+    }
+
     @Test
     void findAll_verifyFiltering() {
         IntStream.range(0, 10).mapToObj(i -> createContractDefinition("id" + i)).forEach(getContractDefinitionStore()::save);
@@ -39,6 +39,14 @@ public interface AssetService {
      */
     ServiceResult<Stream<Asset>> query(QuerySpec query);
 
+    /**
+     * Count the assets that match the filter of a query, paging and sorting are ignored.
+     *
+     * @param query request
+     * @return the number of assets that match the query
+     */
+    ServiceResult<Long> count(QuerySpec query);
+
     /**
      * Create an asset with its related data address
      *
@@ -41,4 +41,12 @@ public interface ContractAgreementService {
      */
     ServiceResult<Stream<ContractAgreement>> query(QuerySpec query);
 
+    /**
+     * Count the contract agreements that match the filter of a query, paging and sorting are ignored.
+     *
+     * @param query request
+     * @return the number of contract agreements that match the query
+     */
+    ServiceResult<Long> count(QuerySpec query);
+
 }
@@ -23,6 +23,7 @@ import org.eclipse.edc.policy.model.Duty;
 import org.eclipse.edc.policy.model.Permission;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.Prohibition;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.result.StoreResult;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
+import java.util.Collections;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -561,6 +563,20 @@ public abstract class PolicyDefinitionStoreTestBase {
         Assertions.assertThat(list).hasSize(2).usingRecursiveFieldByFieldElementComparator().isSubsetOf(policy1, policy2, policy3);
     }
 
+    @Test
+    void findAll_continuationToken_withoutSortField() {
+        var ids = IntStream.range(0, 10).mapToObj(i -> "id" + i).collect(Collectors.toList());
+        Collections.shuffle(ids);
+        ids.forEach(id -> getPolicyDefinitionStore().create(createPolicy(id)));
+
+        var firstPage = getPolicyDefinitionStore().findAll(QuerySpec.Builder.newInstance().limit(4).build());
+        assertThat(firstPage).extracting(PolicyDefinition::getUid).containsExactly("id0", "id1", "id2", "id3");
+
+        var secondPage = getPolicyDefinitionStore().findAll(QuerySpec.Builder.newInstance().limit(4)
+                .continuationToken(ContinuationToken.of(null, "id3")).build());
+        assertThat(secondPage).extracting(PolicyDefinition::getUid).containsExactly("id4", "id5", "id6", "id7");
+    }
+
     @Test
     void findAll_whenEqualFilter() {
         var policy1 = createPolicy(getRandomId());
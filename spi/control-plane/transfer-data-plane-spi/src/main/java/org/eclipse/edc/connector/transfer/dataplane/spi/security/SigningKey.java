@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.spi.security;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.security.KeyPair;
+import java.util.Objects;
+
+/**
+ * A key pair used for signing tokens together with the id tokens signed with it are issued under.
+ */
+public final class SigningKey {
+
+    private final String id;
+    private final KeyPair keyPair;
+
+    public SigningKey(@NotNull String id, @NotNull KeyPair keyPair) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.keyPair = Objects.requireNonNull(keyPair, "keyPair");
+    }
+
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    @NotNull
+    public KeyPair getKeyPair() {
+        return keyPair;
+    }
+}
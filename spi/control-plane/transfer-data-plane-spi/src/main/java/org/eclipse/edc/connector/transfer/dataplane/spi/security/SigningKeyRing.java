@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.transfer.dataplane.spi.security;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+import org.eclipse.edc.spi.iam.PublicKeyResolver;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * Keys used for signing and verifying consumer pull tokens. The signing key can be rotated at runtime: tokens carry
+ * the id of the key they were signed with in their {@code kid} header, and the public keys of previous signing keys
+ * stay resolvable until the tokens signed with them have expired.
+ */
+@ExtensionPoint
+public interface SigningKeyRing extends PublicKeyResolver {
+
+    /**
+     * Returns the current signing key.
+     */
+    @NotNull
+    SigningKey getSigningKey();
+
+    /**
+     * Returns the public keys tokens can currently be verified with, as a JSON Web Key Set (RFC 7517) object.
+     */
+    @NotNull
+    Map<String, Object> getJwkSet();
+}
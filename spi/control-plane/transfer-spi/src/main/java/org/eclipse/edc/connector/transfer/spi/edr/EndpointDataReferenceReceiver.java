@@ -25,5 +25,14 @@ import java.util.concurrent.CompletableFuture;
  */
 @FunctionalInterface
 public interface EndpointDataReferenceReceiver {
+
+    /**
+     * Sends the {@link EndpointDataReference} to its destination. A receiver that rejects the EDR, e.g. because it cannot
+     * take any more, returns an already completed future, so that the rejection can be reported to the sender. The
+     * future of an accepted EDR completes once it has been delivered.
+     *
+     * @param edr the endpoint data reference.
+     * @return the result of the delivery.
+     */
     CompletableFuture<Result<Void>> send(@NotNull EndpointDataReference edr);
 }
@@ -21,6 +21,8 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Handles a data flow.
  */
@@ -40,11 +42,14 @@ public interface DataFlowController {
      * <p>Implementations should not throw exceptions. If an unexpected exception occurs and the flow should be re-attempted, set {@link ResponseStatus#ERROR_RETRY} in the
      * response. If an exception occurs and re-tries should not be re-attempted, set {@link ResponseStatus#FATAL_ERROR} in the response. </p>
      *
+     * <p>The call is made from the transfer process state machine, implementations must not block on remote calls but return a future that completes when the
+     * remote party has answered. </p>
+     *
      * @param dataRequest    the request
      * @param contentAddress the address to resolve the asset contents. This may be the original asset address or an address resolving to generated content.
      * @param policy         the contract agreement usage policy for the asset being transferred
      */
     @NotNull
-    StatusResult<Void> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy);
+    CompletableFuture<StatusResult<Void>> initiateFlow(DataRequest dataRequest, DataAddress contentAddress, Policy policy);
 
 }
@@ -21,6 +21,8 @@ import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages data flows and dispatches to {@link DataFlowController}s.
  */
@@ -33,12 +35,13 @@ public interface DataFlowManager {
     void register(DataFlowController controller);
 
     /**
-     * Initiates a data flow.
+     * Initiates a data flow. The returned future completes when the {@link DataFlowController} has initiated the flow, it
+     * never completes exceptionally, failures are reported in the {@link StatusResult}.
      *
      * @param dataRequest    the data to transfer
      * @param contentAddress the address to resolve the asset contents. This may be the original asset address or an address resolving to generated content.
      * @param policy         the contract agreement usage policy for the asset being transferred
      */
     @NotNull
-    StatusResult<Void> initiate(DataRequest dataRequest, DataAddress contentAddress, Policy policy);
+    CompletableFuture<StatusResult<Void>> initiate(DataRequest dataRequest, DataAddress contentAddress, Policy policy);
 }
@@ -20,6 +20,7 @@ import org.eclipse.edc.spi.persistence.StateEntityStore;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +41,20 @@ public interface TransferProcessStore extends StateEntityStore<TransferProcess>
     @Nullable
     String processIdForDataRequestId(String id);
 
+    /**
+     * Returns the properties of the transfer process for the data request id or null if not found. Implementations
+     * should resolve them in a single lookup instead of loading the whole transfer process.
+     */
+    @Nullable
+    default Map<String, String> propertiesForDataRequestId(String dataRequestId) {
+        var processId = processIdForDataRequestId(dataRequestId);
+        if (processId == null) {
+            return null;
+        }
+        var process = find(processId);
+        return process != null ? process.getProperties() : null;
+    }
+
     /**
      * Persists a transfer process. This follows UPSERT semantics, so if the object didn't exit before, it's
      * created.
@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.connector.transfer.spi.types.ProvisionResponse;
 
 /**
@@ -29,7 +31,8 @@ import org.eclipse.edc.connector.transfer.spi.types.ProvisionResponse;
 public class AddProvisionedResourceCommand extends SingleTransferProcessCommand {
     private final ProvisionResponse provisionResponse;
 
-    public AddProvisionedResourceCommand(String transferProcessId, ProvisionResponse provisionedResource) {
+    @JsonCreator
+    public AddProvisionedResourceCommand(@JsonProperty("transferProcessId") String transferProcessId, @JsonProperty("provisionResponse") ProvisionResponse provisionedResource) {
         super(transferProcessId);
         provisionResponse = provisionedResource;
     }
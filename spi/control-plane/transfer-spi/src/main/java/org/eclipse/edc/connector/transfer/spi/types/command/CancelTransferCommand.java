@@ -15,12 +15,16 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Cancels a transfer process by sending it to the TERMINATED state
  */
 public class CancelTransferCommand extends SingleTransferProcessCommand {
 
-    public CancelTransferCommand(String transferProcessId) {
+    @JsonCreator
+    public CancelTransferCommand(@JsonProperty("transferProcessId") String transferProcessId) {
         super(transferProcessId);
     }
 
@@ -15,6 +15,8 @@
 
 package org.eclipse.edc.spi.types.domain.transfer.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.connector.transfer.spi.types.command.SingleTransferProcessCommand;
 
 /**
@@ -22,7 +24,8 @@ import org.eclipse.edc.connector.transfer.spi.types.command.SingleTransferProces
  */
 public class CompleteTransferCommand extends SingleTransferProcessCommand {
 
-    public CompleteTransferCommand(String transferProcessId) {
+    @JsonCreator
+    public CompleteTransferCommand(@JsonProperty("transferProcessId") String transferProcessId) {
         super(transferProcessId);
     }
 
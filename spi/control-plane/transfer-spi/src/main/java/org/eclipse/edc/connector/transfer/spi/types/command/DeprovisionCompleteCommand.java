@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.connector.transfer.spi.types.DeprovisionedResource;
 
 /**
@@ -22,7 +24,8 @@ import org.eclipse.edc.connector.transfer.spi.types.DeprovisionedResource;
 public class DeprovisionCompleteCommand extends SingleTransferProcessCommand {
     private final DeprovisionedResource resource;
 
-    public DeprovisionCompleteCommand(String transferProcessId, DeprovisionedResource resource) {
+    @JsonCreator
+    public DeprovisionCompleteCommand(@JsonProperty("transferProcessId") String transferProcessId, @JsonProperty("resource") DeprovisionedResource resource) {
         super(transferProcessId);
         this.resource = resource;
     }
@@ -15,6 +15,8 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
 
 /**
@@ -23,7 +25,8 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
  */
 public class DeprovisionRequest extends SingleTransferProcessCommand {
 
-    public DeprovisionRequest(String transferProcessId) {
+    @JsonCreator
+    public DeprovisionRequest(@JsonProperty("transferProcessId") String transferProcessId) {
         super(transferProcessId);
     }
 }
@@ -14,12 +14,16 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Notifies that a Transfer has been started on the counter-party side
  */
 public class NotifyStartedTransferCommand extends SingleTransferProcessCommand {
 
-    public NotifyStartedTransferCommand(String transferProcessId) {
+    @JsonCreator
+    public NotifyStartedTransferCommand(@JsonProperty("transferProcessId") String transferProcessId) {
         super(transferProcessId);
     }
 }
@@ -15,6 +15,8 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.spi.command.Command;
 
@@ -26,7 +28,8 @@ import org.eclipse.edc.spi.command.Command;
 public class SingleTransferProcessCommand extends TransferProcessCommand {
     protected final String transferProcessId;
 
-    public SingleTransferProcessCommand(String transferProcessId) {
+    @JsonCreator
+    public SingleTransferProcessCommand(@JsonProperty("transferProcessId") String transferProcessId) {
         super();
         this.transferProcessId = transferProcessId;
     }
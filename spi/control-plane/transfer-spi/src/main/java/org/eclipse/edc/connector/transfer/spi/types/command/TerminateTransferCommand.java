@@ -14,6 +14,9 @@
 
 package org.eclipse.edc.connector.transfer.spi.types.command;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Terminates a transfer process by sending it to the TERMINATED state
  */
@@ -21,7 +24,8 @@ public class TerminateTransferCommand extends SingleTransferProcessCommand {
 
     private final String reason;
 
-    public TerminateTransferCommand(String transferProcessId, String reason) {
+    @JsonCreator
+    public TerminateTransferCommand(@JsonProperty("transferProcessId") String transferProcessId, @JsonProperty("reason") String reason) {
         super(transferProcessId);
         this.reason = reason;
     }
@@ -21,6 +21,7 @@ import org.eclipse.edc.connector.transfer.spi.types.ProvisionedResourceSet;
 import org.eclipse.edc.connector.transfer.spi.types.ResourceManifest;
 import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
 import org.eclipse.edc.connector.transfer.spi.types.TransferType;
+import org.eclipse.edc.spi.query.ContinuationToken;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -120,6 +122,23 @@ public abstract class TransferProcessStoreTestBase {
                 .doesNotContainAnyElementsOf(leasedTp);
     }
 
+    @Test
+    void nextForState_shouldNotReturnItemsThatAreNotDueYet() {
+        var state = STARTED;
+        var all = IntStream.range(0, 10)
+                .mapToObj(i -> TestFunctions.createTransferProcess("id" + i, state))
+                .collect(Collectors.toList());
+
+        // a few are backing off after a failed attempt
+        var backingOff = all.stream().skip(5).peek(tp -> tp.setNextAttemptAt(System.currentTimeMillis() + 60_000)).collect(Collectors.toList());
+        all.forEach(getTransferProcessStore()::save);
+
+        assertThat(getTransferProcessStore().nextForState(state.code(), 10))
+                .hasSize(5)
+                .extracting(TransferProcess::getId)
+                .doesNotContainAnyElementsOf(backingOff.stream().map(TransferProcess::getId).collect(Collectors.toList()));
+    }
+
     @Test
     void nextForState_noFreeItem_shouldReturnEmpty() {
         var state = STARTED;
@@ -250,6 +269,24 @@ public abstract class TransferProcessStoreTestBase {
         assertThat(getTransferProcessStore().processIdForDataRequestId("not-exist")).isNull();
     }
 
+    @Test
+    void propertiesForDataRequestId() {
+        var dr = TestFunctions.createDataRequest("process-id1");
+        var t = TestFunctions.createTransferProcessBuilder("transfer-id1")
+                .dataRequest(dr)
+                .properties(Map.of("key", "value"))
+                .build();
+
+        getTransferProcessStore().save(t);
+
+        assertThat(getTransferProcessStore().propertiesForDataRequestId(dr.getId())).containsExactlyEntriesOf(Map.of("key", "value"));
+    }
+
+    @Test
+    void propertiesForDataRequestId_notExist() {
+        assertThat(getTransferProcessStore().propertiesForDataRequestId("not-exist")).isNull();
+    }
+
     @Test
     void update_shouldPersistDataRequest() {
         var t1 = TestFunctions.createTransferProcess("id1", STARTED);
@@ -408,6 +445,20 @@ public abstract class TransferProcessStoreTestBase {
 
     }
 
+    @Test
+    void findAll_continuationToken_withoutSortField() {
+        var ids = IntStream.range(0, 10).mapToObj(i -> "id" + i).collect(Collectors.toList());
+        Collections.shuffle(ids);
+        ids.forEach(id -> getTransferProcessStore().save(createTransferProcess(id)));
+
+        var firstPage = getTransferProcessStore().findAll(QuerySpec.Builder.newInstance().limit(4).build());
+        assertThat(firstPage).extracting(TransferProcess::getId).containsExactly("id0", "id1", "id2", "id3");
+
+        var secondPage = getTransferProcessStore().findAll(QuerySpec.Builder.newInstance().limit(4)
+                .continuationToken(ContinuationToken.of(null, "id3")).build());
+        assertThat(secondPage).extracting(TransferProcess::getId).containsExactly("id4", "id5", "id6", "id7");
+    }
+
     @Test
     void update_dataRequestWithNewId_replacesOld() {
         var bldr = TestFunctions.createTransferProcessBuilder("id1").state(STARTED.code());
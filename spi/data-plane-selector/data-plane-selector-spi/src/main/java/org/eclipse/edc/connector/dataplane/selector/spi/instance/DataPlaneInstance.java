@@ -32,7 +32,10 @@ import java.util.UUID;
 
 /**
  * Representations of a data plane instance. Every DPF has an ID and a URL as well as a number, how often it was selected,
- * and a timestamp of its last selection time. In addition, there are extensible properties to hold specific properties.
+ * and a timestamp of its last activity. Load-aware selection strategies use the number of outstanding transfers the
+ * instance last reported and its relative weight. Instances that register themselves report a heartbeat interval and
+ * are no longer selected once their heartbeats stop. In addition, there are extensible properties to hold specific
+ * properties.
  */
 public class DataPlaneInstance {
 
@@ -46,6 +49,12 @@ public class DataPlaneInstance {
 
     private long lastActive;
 
+    private int outstandingTransfers;
+
+    private int weight;
+
+    private long heartbeatInterval;
+
     private URL url;
 
     private String id;
@@ -53,6 +62,8 @@ public class DataPlaneInstance {
     protected DataPlaneInstance() {
         turnCount = 0;
         lastActive = Instant.now().toEpochMilli();
+        outstandingTransfers = 0;
+        weight = 1;
         properties = new HashMap<>();
         url = null;
 
@@ -90,6 +101,28 @@ public class DataPlaneInstance {
         return lastActive;
     }
 
+    /**
+     * The number of transfers the instance reported as queued or in progress, as of {@link #getLastActive()}.
+     */
+    public int getOutstandingTransfers() {
+        return outstandingTransfers;
+    }
+
+    /**
+     * The capacity of the instance relative to the other instances, always greater than zero.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * The interval in milliseconds at which the instance sends heartbeats, updating {@link #getLastActive()}, or 0 if the
+     * instance was registered statically and does not send any.
+     */
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
     public Map<String, Object> getProperties() {
         return Collections.unmodifiableMap(properties);
     }
@@ -102,6 +135,20 @@ public class DataPlaneInstance {
         return Collections.unmodifiableSet(allowedDestTypes);
     }
 
+    public Builder toBuilder() {
+        return Builder.newInstance()
+                .id(id)
+                .url(url)
+                .turnCount(turnCount)
+                .lastActive(lastActive)
+                .outstandingTransfers(outstandingTransfers)
+                .weight(weight)
+                .heartbeatInterval(heartbeatInterval)
+                .allowedSourceTypes(new HashSet<>(allowedSourceTypes))
+                .allowedDestTypes(new HashSet<>(allowedDestTypes))
+                .properties(new HashMap<>(properties));
+    }
+
 
     @JsonPOJOBuilder(withPrefix = "")
     public static final class Builder {
@@ -126,6 +173,21 @@ public class DataPlaneInstance {
             return this;
         }
 
+        public DataPlaneInstance.Builder outstandingTransfers(int outstandingTransfers) {
+            instance.outstandingTransfers = outstandingTransfers;
+            return this;
+        }
+
+        public DataPlaneInstance.Builder weight(int weight) {
+            instance.weight = weight;
+            return this;
+        }
+
+        public DataPlaneInstance.Builder heartbeatInterval(long heartbeatInterval) {
+            instance.heartbeatInterval = heartbeatInterval;
+            return this;
+        }
+
         public DataPlaneInstance.Builder id(String id) {
             instance.id = id;
             return this;
@@ -160,6 +222,9 @@ public class DataPlaneInstance {
                 instance.id = UUID.randomUUID().toString();
             }
             Objects.requireNonNull(instance.url, "DataPlaneInstance must have an URL");
+            if (instance.weight <= 0) {
+                throw new IllegalArgumentException("DataPlaneInstance weight must be greater than zero");
+            }
 
             return instance;
         }
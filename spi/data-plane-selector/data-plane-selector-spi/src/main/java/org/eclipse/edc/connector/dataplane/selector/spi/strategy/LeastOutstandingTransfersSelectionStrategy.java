@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Selects the {@link DataPlaneInstance} with the fewest outstanding transfers relative to its weight. The load of an
+ * instance is the number of transfers it reported with its last heartbeat plus the number of times this strategy has
+ * selected it since then, so that bursts of selections between two heartbeats are spread instead of all landing on the
+ * instance that was idle when it last reported. Ties are broken at random.
+ */
+public class LeastOutstandingTransfersSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "leastOutstandingTransfers";
+
+    private final Map<String, Assignments> assignments = new HashMap<>();
+
+    @Override
+    public synchronized DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneInstance selected = null;
+        var selectedLoad = Double.MAX_VALUE;
+        var ties = 0;
+        for (var instance : instances) {
+            var load = (instance.getOutstandingTransfers() + assignmentsOf(instance).count + 1.0) / instance.getWeight();
+            if (load < selectedLoad) {
+                selected = instance;
+                selectedLoad = load;
+                ties = 1;
+            } else if (load == selectedLoad && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+                selected = instance;
+            }
+        }
+
+        assignmentsOf(selected).count++;
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Returns the selections made since the last heartbeat of the instance, which is recognized by a change of
+     * {@link DataPlaneInstance#getLastActive()}.
+     */
+    private Assignments assignmentsOf(DataPlaneInstance instance) {
+        var current = assignments.get(instance.getId());
+        if (current == null || current.reportedAt != instance.getLastActive()) {
+            current = new Assignments(instance.getLastActive());
+            assignments.put(instance.getId(), current);
+        }
+        return current;
+    }
+
+    private static class Assignments {
+        private final long reportedAt;
+        private int count;
+
+        Assignments(long reportedAt) {
+            this.reportedAt = reportedAt;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Distributes selections over the {@link DataPlaneInstance}s in proportion to their {@link DataPlaneInstance#getWeight()}
+ * using smooth weighted round-robin: every selection adds each candidate's weight to its running score, picks the
+ * highest score and subtracts the total weight from it. Selections are interleaved instead of sent to the same
+ * instance in bursts, e.g. weights 5, 1, 1 yield a, a, b, a, c, a, a.
+ */
+public class WeightedRoundRobinSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "weightedRoundRobin";
+
+    private final Map<String, Long> scores = new HashMap<>();
+
+    @Override
+    public synchronized DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        DataPlaneInstance selected = null;
+        var selectedScore = Long.MIN_VALUE;
+        var totalWeight = 0L;
+        for (var instance : instances) {
+            var score = scores.merge(instance.getId(), (long) instance.getWeight(), Long::sum);
+            totalWeight += instance.getWeight();
+            if (score > selectedScore) {
+                selected = instance;
+                selectedScore = score;
+            }
+        }
+
+        scores.put(selected.getId(), selectedScore - totalWeight);
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
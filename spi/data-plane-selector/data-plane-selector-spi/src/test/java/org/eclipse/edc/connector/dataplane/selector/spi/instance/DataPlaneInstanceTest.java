@@ -50,6 +50,9 @@ class DataPlaneInstanceTest {
                 .allowedSourceType("allowedSrc2")
                 .allowedDestType("allowedDest1")
                 .allowedDestType("allowedDest2")
+                .outstandingTransfers(4)
+                .weight(3)
+                .heartbeatInterval(10_000)
                 .build();
 
         var json = mapper.writeValueAsString(inst);
@@ -66,6 +69,26 @@ class DataPlaneInstanceTest {
         assertThat(deserializedItf).usingRecursiveComparison().isEqualTo(inst);
     }
 
+    @Test
+    void verifyToBuilder() {
+        var inst = DataPlaneInstance.Builder.newInstance()
+                .id("test-id")
+                .url("http://localhost:8234/some/path")
+                .property("someprop", "someval")
+                .allowedSourceType("allowedSrc")
+                .allowedDestType("allowedDest")
+                .outstandingTransfers(4)
+                .weight(3)
+                .heartbeatInterval(10_000)
+                .build();
+
+        var copy = inst.toBuilder().lastActive(42).build();
+
+        assertThat(copy).usingRecursiveComparison().ignoringFields("lastActive").isEqualTo(inst);
+        assertThat(copy.getLastActive()).isEqualTo(42);
+        assertThat(inst.getLastActive()).isNotEqualTo(42);
+    }
+
     @Test
     void verifyCanHandle() throws MalformedURLException {
         var srcType1 = "srcType1";
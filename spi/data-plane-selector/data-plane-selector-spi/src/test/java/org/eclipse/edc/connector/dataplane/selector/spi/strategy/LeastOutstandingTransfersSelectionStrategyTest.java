@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeastOutstandingTransfersSelectionStrategyTest {
+
+    private final LeastOutstandingTransfersSelectionStrategy strategy = new LeastOutstandingTransfersSelectionStrategy();
+
+    @Test
+    void apply_emptyList() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_selectsLeastLoaded() {
+        var busy = instance("busy", 10, 1, 1L);
+        var idle = instance("idle", 0, 1, 1L);
+
+        assertThat(strategy.apply(List.of(busy, idle))).isSameAs(idle);
+    }
+
+    @Test
+    void apply_countsSelectionsSinceLastHeartbeat() {
+        var first = instance("first", 2, 1, 1L);
+        var second = instance("second", 0, 1, 1L);
+
+        var selected = IntStream.range(0, 6).mapToObj(i -> strategy.apply(List.of(first, second))).map(DataPlaneInstance::getId).collect(Collectors.toList());
+
+        assertThat(selected).filteredOn("second"::equals).hasSize(4);
+        assertThat(selected).filteredOn("first"::equals).hasSize(2);
+    }
+
+    @Test
+    void apply_resetsSelectionsOnHeartbeat() {
+        var first = instance("first", 0, 1, 1L);
+        var second = instance("second", 1, 1, 1L);
+        strategy.apply(List.of(first));
+        strategy.apply(List.of(first));
+
+        assertThat(strategy.apply(List.of(first, second))).isSameAs(second);
+
+        var reported = instance("first", 0, 1, 2L);
+        assertThat(strategy.apply(List.of(reported, second))).isSameAs(reported);
+    }
+
+    @Test
+    void apply_weighsLoad() {
+        var small = instance("small", 2, 1, 1L);
+        var large = instance("large", 4, 4, 1L);
+
+        assertThat(strategy.apply(List.of(small, large))).isSameAs(large);
+    }
+
+    @Test
+    void apply_breaksTiesAtRandom() {
+        var first = instance("first", 0, 1, 1L);
+        var second = instance("second", 0, 1, 1L);
+
+        var selected = new ArrayList<String>();
+        for (var i = 0; i < 200; i++) {
+            var fresh = new LeastOutstandingTransfersSelectionStrategy();
+            selected.add(fresh.apply(List.of(first, second)).getId());
+        }
+
+        assertThat(selected).contains("first", "second");
+    }
+
+    private DataPlaneInstance instance(String id, int outstandingTransfers, int weight, long lastActive) {
+        return DataPlaneInstance.Builder.newInstance()
+                .id(id)
+                .url("http://" + id + ".com/api")
+                .outstandingTransfers(outstandingTransfers)
+                .weight(weight)
+                .lastActive(lastActive)
+                .build();
+    }
+}
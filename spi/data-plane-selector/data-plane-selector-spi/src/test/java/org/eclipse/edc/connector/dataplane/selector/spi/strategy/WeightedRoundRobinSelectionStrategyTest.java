@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.selector.spi.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeightedRoundRobinSelectionStrategyTest {
+
+    private final WeightedRoundRobinSelectionStrategy strategy = new WeightedRoundRobinSelectionStrategy();
+
+    @Test
+    void apply_emptyList() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_interleavesByWeight() {
+        var instances = List.of(instance("a", 5), instance("b", 1), instance("c", 1));
+
+        var selected = IntStream.range(0, 14).mapToObj(i -> strategy.apply(instances)).map(DataPlaneInstance::getId).collect(Collectors.toList());
+
+        assertThat(selected).containsExactly("a", "a", "b", "a", "c", "a", "a", "a", "a", "b", "a", "c", "a", "a");
+    }
+
+    @Test
+    void apply_equalWeights_roundRobin() {
+        var instances = List.of(instance("a", 1), instance("b", 1));
+
+        var selected = IntStream.range(0, 4).mapToObj(i -> strategy.apply(instances)).map(DataPlaneInstance::getId).collect(Collectors.toList());
+
+        assertThat(selected).containsExactly("a", "b", "a", "b");
+    }
+
+    private DataPlaneInstance instance(String id, int weight) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://" + id + ".com/api").weight(weight).build();
+    }
+}
@@ -18,6 +18,8 @@ import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
 import org.eclipse.edc.spi.response.StatusResult;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowRequest;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Main interaction interface for an EDC runtime (=control plane) to communicate with the DPF.
  */
@@ -28,4 +30,12 @@ public interface DataPlaneClient {
      * Delegates data transfer to the Data Plane.
      */
     StatusResult<Void> transfer(DataFlowRequest request);
+
+    /**
+     * Delegates data transfer to the Data Plane without blocking the caller. Implementations that call a remote Data
+     * Plane should override this, the default completes synchronously.
+     */
+    default CompletableFuture<StatusResult<Void>> transferAsync(DataFlowRequest request) {
+        return CompletableFuture.completedFuture(transfer(request));
+    }
 }
@@ -54,4 +54,25 @@ public interface DataPlaneManager {
      * Provides transfer state.
      */
     State transferState(String processId);
+
+    /**
+     * Returns the number of transfer requests that were accepted but are not processed yet.
+     */
+    default int queuedTransfers() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of transfers in progress.
+     */
+    default int activeTransfers() {
+        return 0;
+    }
+
+    /**
+     * Returns the total number of bytes read from data sources since the runtime started.
+     */
+    default long transferredBytes() {
+        return 0;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+plugins {
+    java
+}
+
+dependencies {
+    implementation(project(":core:common:connector-core"))
+    implementation(project(":core:common:policy-engine"))
+    implementation(project(":core:common:state-machine"))
+    implementation(project(":core:control-plane:contract-core"))
+    implementation(project(":core:control-plane:control-plane-core"))
+    implementation(project(":data-protocols:ids:ids-core"))
+    implementation(project(":data-protocols:ids:ids-transform-v1"))
+    implementation(project(":extensions:common:sql:sql-pool:sql-pool-apache-commons"))
+    implementation(project(":extensions:control-plane:store:sql:asset-index-sql"))
+    implementation(project(":extensions:control-plane:store:sql:contract-definition-store-sql"))
+    implementation(project(":extensions:control-plane:store:sql:policy-definition-store-sql"))
+
+    implementation(libs.postgres)
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator)
+}
+
+edcBuild {
+    publish.set(false)
+}
+
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+
+// runs all benchmarks, or the ones selected with -PjmhInclude="<regex> [jmh options]", and writes the results as JSON
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks"
+    dependsOn(tasks.classes)
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    workingDir = rootDir
+    outputs.file(jmhResults)
+    doFirst {
+        jmhResults.get().asFile.parentFile.mkdirs()
+    }
+    args = (project.findProperty("jmhInclude")?.toString()?.split(" ") ?: emptyList()) +
+            listOf("-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    systemProperties(System.getProperties().filterKeys { it.toString().startsWith("edc.benchmark.") }.mapKeys { it.key.toString() })
+}
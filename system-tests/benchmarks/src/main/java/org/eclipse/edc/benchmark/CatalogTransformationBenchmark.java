@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmark;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractOffer;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.ids.spi.transform.IdsTransformerRegistry;
+import org.eclipse.edc.protocol.ids.transform.IdsTransformerRegistryImpl;
+import org.eclipse.edc.protocol.ids.transform.type.asset.AssetToIdsArtifactTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.asset.AssetToIdsRepresentationTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.asset.OfferedAssetToIdsResourceTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.connector.CatalogToIdsResourceCatalogTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.contract.ContractOfferToIdsContractOfferTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.ActionToIdsActionTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.ConstraintToIdsConstraintTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.DutyToIdsDutyTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.ExpressionToIdsLeftOperandTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.ExpressionToIdsRdfResourceTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.OperatorToIdsBinaryOperatorTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.PermissionToIdsPermissionTransformer;
+import org.eclipse.edc.protocol.ids.transform.type.policy.ProhibitionToIdsProhibitionTransformer;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the transformation of a catalog into an IDS {@link ResourceCatalog}, which is what a provider does for every
+ * catalog request it answers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogTransformationBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int offers;
+
+    private IdsTransformerRegistry registry;
+    private Catalog catalog;
+
+    @Setup
+    public void setUp() {
+        registry = new IdsTransformerRegistryImpl();
+        List.of(
+                new ActionToIdsActionTransformer(),
+                new AssetToIdsArtifactTransformer(),
+                new AssetToIdsRepresentationTransformer(),
+                new CatalogToIdsResourceCatalogTransformer(),
+                new ConstraintToIdsConstraintTransformer(),
+                new ContractOfferToIdsContractOfferTransformer(),
+                new DutyToIdsDutyTransformer(),
+                new ExpressionToIdsLeftOperandTransformer(),
+                new ExpressionToIdsRdfResourceTransformer(),
+                new OfferedAssetToIdsResourceTransformer(),
+                new OperatorToIdsBinaryOperatorTransformer(),
+                new PermissionToIdsPermissionTransformer(),
+                new ProhibitionToIdsProhibitionTransformer()
+        ).forEach(registry::register);
+
+        var constraint = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("region"))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("eu"))
+                .build();
+        var contractOffers = new ArrayList<ContractOffer>();
+        for (var i = 0; i < offers; i++) {
+            var asset = Asset.Builder.newInstance().id("asset-" + i).property("asset:prop:contenttype", "application/json").build();
+            var policy = Policy.Builder.newInstance()
+                    .permission(Permission.Builder.newInstance()
+                            .action(Action.Builder.newInstance().type("USE").build())
+                            .constraint(constraint)
+                            .build())
+                    .build()
+                    .withTarget(asset.getId());
+            contractOffers.add(ContractOffer.Builder.newInstance()
+                    .id("definition:" + i)
+                    .asset(asset)
+                    .policy(policy)
+                    .provider(URI.create("urn:connector:provider"))
+                    .consumer(URI.create("urn:connector:consumer"))
+                    .contractStart(ZonedDateTime.now())
+                    .contractEnd(ZonedDateTime.now().plusDays(1))
+                    .build());
+        }
+        catalog = Catalog.Builder.newInstance().id("catalog").contractOffers(contractOffers).build();
+    }
+
+    @Benchmark
+    public Result<ResourceCatalog> transform() {
+        return registry.transform(catalog, ResourceCatalog.class);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmark;
+
+import org.eclipse.edc.connector.contract.offer.ContractDefinitionServiceImpl;
+import org.eclipse.edc.connector.contract.offer.ContractOfferResolverImpl;
+import org.eclipse.edc.connector.contract.spi.offer.ContractOfferQuery;
+import org.eclipse.edc.connector.contract.spi.offer.ContractOfferResolver;
+import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractOffer;
+import org.eclipse.edc.connector.core.base.agent.ParticipantAgentServiceImpl;
+import org.eclipse.edc.connector.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.defaults.storage.contractdefinition.InMemoryContractDefinitionStore;
+import org.eclipse.edc.connector.defaults.storage.policydefinition.InMemoryPolicyDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.connector.store.sql.assetindex.SqlAssetIndex;
+import org.eclipse.edc.connector.store.sql.contractdefinition.SqlContractDefinitionStore;
+import org.eclipse.edc.connector.store.sql.policydefinition.store.SqlPolicyDefinitionStore;
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.asset.AssetSelectorExpression;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.message.Range;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.spi.types.domain.asset.AssetEntry;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.benchmark.PostgresqlBenchmarkDatabase.DATASOURCE_NAME;
+
+/**
+ * Measures how long it takes to resolve a page of contract offers with
+ * {@link ContractOfferResolverImpl#queryContractOffers(ContractOfferQuery)}, backed by either the in-memory or the SQL
+ * stores. Assets are spread evenly across the contract definitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContractOfferResolverBenchmark {
+
+    private static final String GROUP_PROPERTY = "benchmark:group";
+    private static final int DEFINITIONS = 10;
+
+    @Param({ "memory", "postgresql" })
+    private String store;
+
+    @Param({ "100", "10000" })
+    private int assets;
+
+    @Param({ "50" })
+    private int pageSize;
+
+    private PostgresqlBenchmarkDatabase database;
+    private ContractOfferResolver resolver;
+    private ContractOfferQuery query;
+
+    @Setup
+    public void setUp() {
+        var monitor = new ConsoleMonitor();
+        AssetIndex assetIndex;
+        ContractDefinitionStore definitionStore;
+        PolicyDefinitionStore policyStore;
+
+        if ("postgresql".equals(store)) {
+            database = new PostgresqlBenchmarkDatabase();
+            dropTables();
+            database.createSchema("extensions/control-plane/store/sql/asset-index-sql/docs/schema.sql");
+            database.createSchema("extensions/control-plane/store/sql/contract-definition-store-sql/docs/schema.sql");
+            database.createSchema("extensions/control-plane/store/sql/policy-definition-store-sql/docs/schema.sql");
+
+            var typeManager = new TypeManager();
+            typeManager.registerTypes(PolicyRegistrationTypes.TYPES.toArray(Class<?>[]::new));
+            var registry = database.getDataSourceRegistry();
+            var transactionContext = new NoopTransactionContext();
+            assetIndex = new SqlAssetIndex(registry, DATASOURCE_NAME, transactionContext, typeManager.getMapper(),
+                    new org.eclipse.edc.connector.store.sql.assetindex.schema.postgres.PostgresDialectStatements());
+            definitionStore = new SqlContractDefinitionStore(registry, DATASOURCE_NAME, transactionContext,
+                    new org.eclipse.edc.connector.store.sql.contractdefinition.schema.postgres.PostgresDialectStatements(), typeManager.getMapper());
+            policyStore = new SqlPolicyDefinitionStore(registry, DATASOURCE_NAME, transactionContext, typeManager.getMapper(),
+                    new org.eclipse.edc.connector.store.sql.policydefinition.store.schema.postgres.PostgresDialectStatements());
+        } else {
+            assetIndex = new InMemoryAssetIndex();
+            definitionStore = new InMemoryContractDefinitionStore();
+            policyStore = new InMemoryPolicyDefinitionStore(new LockManager(new ReentrantReadWriteLock(true)));
+        }
+
+        policyStore.create(PolicyDefinition.Builder.newInstance().id("policy").policy(Policy.Builder.newInstance().build()).build());
+        for (var i = 0; i < DEFINITIONS; i++) {
+            definitionStore.save(ContractDefinition.Builder.newInstance()
+                    .id("definition-" + i)
+                    .accessPolicyId("policy")
+                    .contractPolicyId("policy")
+                    .selectorExpression(AssetSelectorExpression.Builder.newInstance().whenEquals(GROUP_PROPERTY, "group-" + i).build())
+                    .validity(3600)
+                    .build());
+        }
+        for (var i = 0; i < assets; i++) {
+            var asset = Asset.Builder.newInstance().id("asset-" + i).property(GROUP_PROPERTY, "group-" + (i % DEFINITIONS)).build();
+            assetIndex.accept(new AssetEntry(asset, DataAddress.Builder.newInstance().type("benchmark").build()));
+        }
+
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        var policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+        var definitionService = new ContractDefinitionServiceImpl(monitor, definitionStore, policyEngine, policyStore);
+        resolver = new ContractOfferResolverImpl(new ParticipantAgentServiceImpl(), definitionService, assetIndex, policyStore, Clock.systemUTC(), monitor);
+
+        query = ContractOfferQuery.Builder.newInstance()
+                .claimToken(ClaimToken.Builder.newInstance().build())
+                .provider(URI.create("urn:connector:provider"))
+                .consumer(URI.create("urn:connector:consumer"))
+                .range(new Range(0, pageSize))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (database != null) {
+            dropTables();
+            database.close();
+        }
+    }
+
+    @Benchmark
+    public List<ContractOffer> queryContractOffers() {
+        return resolver.queryContractOffers(query).collect(Collectors.toList());
+    }
+
+    private void dropTables() {
+        database.dropTables("edc_asset_property", "edc_asset_dataaddress", "edc_asset", "edc_contract_definitions", "edc_policydefinitions");
+    }
+}
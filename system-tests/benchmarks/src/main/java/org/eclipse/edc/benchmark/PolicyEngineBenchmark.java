@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmark;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
+
+/**
+ * Measures {@link PolicyEngineImpl#evaluate(String, Policy, ParticipantAgent)} for policies with a growing number of
+ * permissions, each of them carrying a constraint that is evaluated by a registered function.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark";
+    private static final String KEY = "region";
+
+    @Param({ "1", "10", "50" })
+    private int permissions;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+    private ParticipantAgent agent;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        bindingRegistry.bind("USE", ALL_SCOPES);
+        bindingRegistry.bind(KEY, ALL_SCOPES);
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+        policyEngine.registerFunction(ALL_SCOPES, Permission.class, KEY,
+                (operator, rightValue, permission, context) -> rightValue.equals(context.getParticipantAgent().getClaims().get(KEY)));
+
+        var builder = Policy.Builder.newInstance();
+        for (var i = 0; i < permissions; i++) {
+            var constraint = AtomicConstraint.Builder.newInstance()
+                    .leftExpression(new LiteralExpression(KEY))
+                    .operator(Operator.EQ)
+                    .rightExpression(new LiteralExpression("eu"))
+                    .build();
+            builder.permission(Permission.Builder.newInstance()
+                    .action(Action.Builder.newInstance().type("USE").build())
+                    .constraint(constraint)
+                    .build());
+        }
+        policy = builder.build();
+        agent = new ParticipantAgent(Map.of(KEY, "eu"), Map.of());
+    }
+
+    @Benchmark
+    public Result<Policy> evaluate() {
+        return policyEngine.evaluate(SCOPE, policy, agent);
+    }
+}
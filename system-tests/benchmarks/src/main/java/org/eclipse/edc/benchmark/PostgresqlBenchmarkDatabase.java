@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmark;
+
+import org.eclipse.edc.sql.datasource.ConnectionPoolDataSource;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPool;
+import org.eclipse.edc.sql.pool.commons.CommonsConnectionPoolConfig;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.datasource.spi.DefaultDataSourceRegistry;
+import org.postgresql.ds.PGSimpleDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+
+/**
+ * Pooled connection to the PostgreSQL database the SQL store benchmarks run against. The connection is configured with
+ * the {@code edc.benchmark.jdbc.url}, {@code edc.benchmark.jdbc.user} and {@code edc.benchmark.jdbc.password} system
+ * properties, which default to the local instance used by the {@code PostgresqlDbIntegrationTest}s.
+ */
+public class PostgresqlBenchmarkDatabase implements AutoCloseable {
+
+    public static final String DATASOURCE_NAME = "benchmark";
+
+    private static final String URL_PROPERTY = "edc.benchmark.jdbc.url";
+    private static final String USER_PROPERTY = "edc.benchmark.jdbc.user";
+    private static final String PASSWORD_PROPERTY = "edc.benchmark.jdbc.password";
+
+    private final CommonsConnectionPool connectionPool;
+    private final DataSourceRegistry dataSourceRegistry = new DefaultDataSourceRegistry();
+
+    public PostgresqlBenchmarkDatabase() {
+        var dataSource = new PGSimpleDataSource();
+        dataSource.setUrl(System.getProperty(URL_PROPERTY, "jdbc:postgresql://localhost:5432/itest"));
+        dataSource.setUser(System.getProperty(USER_PROPERTY, "postgres"));
+        dataSource.setPassword(System.getProperty(PASSWORD_PROPERTY, "password"));
+
+        var config = CommonsConnectionPoolConfig.Builder.newInstance().maxTotalConnections(8).build();
+        connectionPool = new CommonsConnectionPool(dataSource, config);
+        dataSourceRegistry.register(DATASOURCE_NAME, new ConnectionPoolDataSource(connectionPool));
+    }
+
+    public DataSourceRegistry getDataSourceRegistry() {
+        return dataSourceRegistry;
+    }
+
+    /**
+     * Runs the schema file of a SQL store, paths are relative to the project root.
+     */
+    public void createSchema(String schemaFile) {
+        try {
+            execute(Files.readString(Paths.get(schemaFile)));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read schema " + schemaFile + ", benchmarks must run from the project root", e);
+        }
+    }
+
+    public void dropTables(String... tables) {
+        for (var table : tables) {
+            execute("DROP TABLE IF EXISTS " + table + " CASCADE");
+        }
+    }
+
+    public void execute(String sql) {
+        try (var connection = dataSourceRegistry.resolve(DATASOURCE_NAME).getConnection();
+             var statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        connectionPool.close();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmark;
+
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.defaults.storage.ReflectionBasedQueryResolver;
+import org.eclipse.edc.spi.asset.AssetSelectorExpression;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link ReflectionBasedQueryResolver#query} as used by the in-memory stores: a filtered, sorted page over all
+ * entries of a store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryResolverBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int entries;
+
+    private QueryResolver<ContractDefinition> resolver;
+    private List<ContractDefinition> definitions;
+    private QuerySpec querySpec;
+
+    @Setup
+    public void setUp() {
+        resolver = new ReflectionBasedQueryResolver<>(ContractDefinition.class);
+        definitions = new ArrayList<>();
+        for (var i = 0; i < entries; i++) {
+            definitions.add(ContractDefinition.Builder.newInstance()
+                    .id("definition-" + i)
+                    .accessPolicyId("access-" + (i % 10))
+                    .contractPolicyId("contract-" + (i % 100))
+                    .selectorExpression(AssetSelectorExpression.SELECT_ALL)
+                    .createdAt(entries - i)
+                    .build());
+        }
+        querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(new Criterion("accessPolicyId", "=", "access-1")))
+                .sortField("createdAt")
+                .sortOrder(SortOrder.ASC)
+                .offset(10)
+                .limit(50)
+                .build();
+    }
+
+    @Benchmark
+    public List<ContractDefinition> query() {
+        return resolver.query(definitions.stream(), querySpec).collect(Collectors.toList());
+    }
+}
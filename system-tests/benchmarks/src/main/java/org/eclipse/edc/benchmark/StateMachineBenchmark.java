@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmark;
+
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.statemachine.StateProcessorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many entities per second a {@link StateMachineManager} loop gets through. Entities are handed out in
+ * batches by the state processor, as the stores do with {@code nextForState}, and processing each of them burns a
+ * configurable amount of CPU.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StateMachineBenchmark {
+
+    private static final int ENTITIES = 1000;
+
+    @Param({ "1", "20" })
+    private int batchSize;
+
+    @Param({ "0", "1000" })
+    private long workTokens;
+
+    private final Queue<Integer> pending = new ConcurrentLinkedQueue<>();
+    private volatile CountDownLatch processed;
+    private StateMachineManager stateMachine;
+
+    @Setup
+    public void setUp() {
+        stateMachine = StateMachineManager.Builder.newInstance("benchmark", new ConsoleMonitor(), ExecutorInstrumentation.noop(), () -> 1L)
+                .processor(new StateProcessorImpl<>(this::nextBatch, this::process))
+                .shutdownTimeout(1)
+                .build();
+        stateMachine.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        stateMachine.stop().join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void processEntities() throws InterruptedException {
+        processed = new CountDownLatch(ENTITIES);
+        for (var i = 0; i < ENTITIES; i++) {
+            pending.add(i);
+        }
+        processed.await();
+    }
+
+    private Collection<Integer> nextBatch() {
+        var batch = new ArrayList<Integer>(batchSize);
+        Integer entity;
+        while (batch.size() < batchSize && (entity = pending.poll()) != null) {
+            batch.add(entity);
+        }
+        return batch;
+    }
+
+    private Boolean process(Integer entity) {
+        Blackhole.consumeCPU(workTokens);
+        processed.countDown();
+        return true;
+    }
+}